@@ -430,6 +430,11 @@ public interface MessagingService extends Service {
          */
         REDIS,
 
+        /**
+         * Redis Streams messaging with consumer groups.
+         */
+        REDIS_STREAMS,
+
         /**
          * RabbitMQ messaging.
          */
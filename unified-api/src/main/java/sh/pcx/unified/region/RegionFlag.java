@@ -10,6 +10,7 @@ import org.jetbrains.annotations.Nullable;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 /**
  * Represents a typed flag that can be set on regions to control behavior.
@@ -56,6 +57,12 @@ import java.util.concurrent.ConcurrentHashMap;
  * int maxPlayers = regions.queryFlag(location, MAX_PLAYERS, -1);
  * }</pre>
  *
+ * <h2>Persistence</h2>
+ * <p>Flag values are stored through the flag's {@link Codec}. Strings,
+ * booleans, numbers and enums have a built-in codec; flags of any other type
+ * (collections, for example) must be created with
+ * {@link #of(String, Class, Object, Codec)} to be persisted.
+ *
  * <h2>Thread Safety</h2>
  * <p>RegionFlag instances are immutable and thread-safe. Flag registration
  * is handled by a concurrent registry.
@@ -195,6 +202,7 @@ public final class RegionFlag<T> {
     private final String name;
     private final Class<T> type;
     private final T defaultValue;
+    private final Codec<T> codec;
 
     /**
      * Creates a new region flag.
@@ -202,11 +210,18 @@ public final class RegionFlag<T> {
      * @param name         the unique flag name
      * @param type         the value type class
      * @param defaultValue the default value when not set
+     * @param codec        the codec for stored values, or null if values cannot be stored
      */
-    private RegionFlag(@NotNull String name, @NotNull Class<T> type, @Nullable T defaultValue) {
+    private RegionFlag(
+            @NotNull String name,
+            @NotNull Class<T> type,
+            @Nullable T defaultValue,
+            @Nullable Codec<T> codec
+    ) {
         this.name = Objects.requireNonNull(name, "name cannot be null");
         this.type = Objects.requireNonNull(type, "type cannot be null");
         this.defaultValue = defaultValue;
+        this.codec = codec;
     }
 
     /**
@@ -228,7 +243,37 @@ public final class RegionFlag<T> {
             @NotNull Class<T> type,
             @Nullable T defaultValue
     ) {
-        var flag = new RegionFlag<>(name, type, defaultValue);
+        return register(new RegionFlag<>(name, type, defaultValue, defaultCodec(type)));
+    }
+
+    /**
+     * Creates and registers a new region flag with a custom codec.
+     *
+     * <p>Use this for flags whose values are not strings, booleans, numbers
+     * or enums, so that their values can be persisted.
+     *
+     * @param name         the unique flag name
+     * @param type         the value type class
+     * @param defaultValue the default value when not set
+     * @param codec        converts values to and from their stored form
+     * @param <T>          the value type
+     * @return the created flag
+     * @throws IllegalArgumentException if a flag with the name already exists
+     * @since 1.0.0
+     */
+    @NotNull
+    public static <T> RegionFlag<T> of(
+            @NotNull String name,
+            @NotNull Class<T> type,
+            @Nullable T defaultValue,
+            @NotNull Codec<T> codec
+    ) {
+        Objects.requireNonNull(codec, "codec cannot be null");
+        return register(new RegionFlag<>(name, type, defaultValue, codec));
+    }
+
+    private static <T> RegionFlag<T> register(RegionFlag<T> flag) {
+        String name = flag.name;
         var existing = REGISTRY.putIfAbsent(name.toLowerCase(), flag);
         if (existing != null && existing != flag) {
             throw new IllegalArgumentException("Flag already registered: " + name);
@@ -343,6 +388,77 @@ public final class RegionFlag<T> {
         return defaultValue;
     }
 
+    /**
+     * Converts a value of this flag to its stored form.
+     *
+     * @param value the value
+     * @return the encoded value
+     * @throws IllegalStateException if this flag has no codec for its type
+     * @since 1.0.0
+     */
+    @NotNull
+    public String encode(@NotNull T value) {
+        Objects.requireNonNull(value, "value cannot be null");
+        return requireCodec().encode(value);
+    }
+
+    /**
+     * Converts a stored value back to a value of this flag.
+     *
+     * @param value the encoded value
+     * @return the decoded value, or null if it cannot be decoded
+     * @throws IllegalStateException if this flag has no codec for its type
+     * @since 1.0.0
+     */
+    @Nullable
+    public T decode(@NotNull String value) {
+        Objects.requireNonNull(value, "value cannot be null");
+        return requireCodec().decode(value);
+    }
+
+    private Codec<T> requireCodec() {
+        if (codec == null) {
+            throw new IllegalStateException("Flag " + name + " of type " + type.getName()
+                + " has no codec; create it with RegionFlag.of(name, type, defaultValue, codec)");
+        }
+        return codec;
+    }
+
+    @Nullable
+    @SuppressWarnings("unchecked")
+    private static <T> Codec<T> defaultCodec(Class<T> type) {
+        if (type == String.class) {
+            return (Codec<T>) Codec.of(String::toString, String::toString);
+        }
+        if (type == Boolean.class) {
+            return (Codec<T>) Codec.of(String::valueOf, Boolean::valueOf);
+        }
+        if (type == Integer.class) {
+            return (Codec<T>) Codec.of(String::valueOf, Integer::valueOf);
+        }
+        if (type == Long.class) {
+            return (Codec<T>) Codec.of(String::valueOf, Long::valueOf);
+        }
+        if (type == Double.class) {
+            return (Codec<T>) Codec.of(String::valueOf, Double::valueOf);
+        }
+        if (type == Float.class) {
+            return (Codec<T>) Codec.of(String::valueOf, Float::valueOf);
+        }
+        if (type.isEnum()) {
+            T[] constants = type.getEnumConstants();
+            return Codec.of(value -> ((Enum<?>) value).name(), value -> {
+                for (T constant : constants) {
+                    if (((Enum<?>) constant).name().equals(value)) {
+                        return constant;
+                    }
+                }
+                return null;
+            });
+        }
+        return null;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -359,4 +475,66 @@ public final class RegionFlag<T> {
     public String toString() {
         return "RegionFlag[" + name + ", type=" + type.getSimpleName() + ", default=" + defaultValue + "]";
     }
+
+    /**
+     * Converts flag values to and from the string form used for storage.
+     *
+     * @param <T> the value type
+     * @since 1.0.0
+     */
+    public interface Codec<T> {
+
+        /**
+         * Encodes a value.
+         *
+         * @param value the value
+         * @return the stored form
+         */
+        @NotNull
+        String encode(@NotNull T value);
+
+        /**
+         * Decodes a stored value.
+         *
+         * @param value the stored form
+         * @return the value, or null if the stored form is invalid
+         */
+        @Nullable
+        T decode(@NotNull String value);
+
+        /**
+         * Creates a codec from two functions.
+         *
+         * <p>Exceptions thrown by the decoder are treated as invalid input.
+         *
+         * @param encoder converts a value to its stored form
+         * @param decoder converts a stored form back to a value
+         * @param <T>     the value type
+         * @return the codec
+         * @since 1.0.0
+         */
+        @NotNull
+        static <T> Codec<T> of(
+                @NotNull Function<? super T, String> encoder,
+                @NotNull Function<String, ? extends T> decoder
+        ) {
+            Objects.requireNonNull(encoder, "encoder cannot be null");
+            Objects.requireNonNull(decoder, "decoder cannot be null");
+            return new Codec<>() {
+                @Override
+                public @NotNull String encode(@NotNull T value) {
+                    return encoder.apply(value);
+                }
+
+                @Override
+                public @Nullable T decode(@NotNull String value) {
+                    try {
+                        return decoder.apply(value);
+                    } catch (IllegalArgumentException e) {
+                        return null;
+                    }
+                }
+            };
+        }
+    }
 }
@@ -0,0 +1,550 @@
+/*
+ * Copyright (c) 2025 Supatuck. All rights reserved.
+ * Licensed under the MIT License.
+ */
+package sh.pcx.unified.data.backup;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import sh.pcx.unified.data.serialization.JsonReader;
+import sh.pcx.unified.data.serialization.JsonWriter;
+import sh.pcx.unified.data.serialization.SerializationContext.CompressionType;
+import sh.pcx.unified.data.serialization.SerializationException;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.StampedLock;
+import java.util.stream.Stream;
+
+/**
+ * Incremental, deduplicating backups of SQL tables, MongoDB collections and
+ * Redis namespaces.
+ *
+ * <p>Each {@link BackupSource} is streamed on its own worker thread, split
+ * into content-defined chunks and written to a content-addressed archive.
+ * A chunk whose content is already in the archive is never written again,
+ * so an incremental run only costs the chunks that changed since any earlier
+ * run, while every snapshot stays a complete backup on its own.
+ *
+ * <h2>Archive Layout</h2>
+ * <pre>
+ * backups/
+ *   chunks/ab/ab12...   compressed chunk, named by SHA-256 of its content
+ *   snapshots/*.json    one manifest per run
+ * </pre>
+ *
+ * <h2>Example Usage</h2>
+ * <pre>{@code
+ * BackupEngine engine = BackupEngine.builder(dataFolder.resolve("backups"))
+ *     .compression(CompressionType.LZ4)
+ *     .parallelism(4)
+ *     .build();
+ *
+ * List<BackupSource> sources = List.of(
+ *     BackupSource.sqlTable(database, "player_data"),
+ *     BackupSource.mongoCollection(mongo, "guilds"),
+ *     BackupSource.redisNamespace(redis, "economy"));
+ *
+ * BackupSnapshot snapshot = engine.backup(sources).join();
+ * logger.info("Backed up {} bytes, wrote {}", snapshot.getTotalSize(), snapshot.getWrittenBytes());
+ *
+ * // Later: restore everything from that snapshot
+ * engine.restore(snapshot.getId(), sources).join();
+ *
+ * // Keep the last 7 snapshots and drop chunks nothing refers to any more
+ * engine.prune(7);
+ * }</pre>
+ *
+ * <h2>Thread Safety</h2>
+ * <p>BackupEngine is thread-safe. Backups and restores may run concurrently;
+ * {@link #prune(int)} and {@link #collectGarbage()} wait for them to finish.
+ *
+ * @since 1.0.0
+ * @author Supatuck
+ * @see BackupSource
+ * @see BackupSnapshot
+ */
+public final class BackupEngine implements AutoCloseable {
+
+    private static final int STREAM_BUFFER_SIZE = 64 * 1024;
+    private static final String MANIFEST_SUFFIX = ".json";
+    private static final DateTimeFormatter ID_FORMAT =
+            DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss.SSS'Z'").withZone(ZoneOffset.UTC);
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+    private final Path snapshotDirectory;
+    private final ChunkStore store;
+    private final Executor executor;
+    private final ExecutorService ownedExecutor;
+
+    // Backups and restores share the lock; garbage collection takes it exclusively
+    private final StampedLock lock = new StampedLock();
+
+    private BackupEngine(Builder builder) {
+        this.snapshotDirectory = builder.directory.resolve("snapshots");
+        this.store = new ChunkStore(builder.directory.resolve("chunks"), builder.compression);
+        if (builder.executor != null) {
+            this.executor = builder.executor;
+            this.ownedExecutor = null;
+        } else {
+            this.ownedExecutor = Executors.newFixedThreadPool(builder.parallelism, r -> {
+                Thread thread = new Thread(r, "BackupEngine-" + THREAD_COUNTER.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.executor = ownedExecutor;
+        }
+    }
+
+    /**
+     * Creates a builder for an engine storing its archive in a directory.
+     *
+     * @param directory the archive directory
+     * @return a new builder
+     * @since 1.0.0
+     */
+    @NotNull
+    public static Builder builder(@NotNull Path directory) {
+        return new Builder(directory);
+    }
+
+    // ========================================
+    // Backup and Restore
+    // ========================================
+
+    /**
+     * Backs up the given sources into a new snapshot.
+     *
+     * <p>Sources are streamed in parallel. Only chunks not yet in the archive
+     * are written. The snapshot manifest is written once every source has
+     * been backed up; if any source fails, no snapshot is recorded.
+     *
+     * @param sources the sources to back up; names must be unique
+     * @return a future completing with the new snapshot
+     * @throws IllegalArgumentException if two sources share a name
+     * @since 1.0.0
+     */
+    @NotNull
+    public CompletableFuture<BackupSnapshot> backup(@NotNull Collection<? extends BackupSource> sources) {
+        Objects.requireNonNull(sources, "sources cannot be null");
+        checkUniqueNames(sources);
+
+        long stamp = lock.readLock();
+        try {
+            Instant createdAt = Instant.now();
+            List<Path> manifests = manifests();
+            String parentId = manifests.isEmpty() ? null : snapshotId(manifests.get(manifests.size() - 1));
+
+            List<CompletableFuture<BackupSnapshot.Entry>> entries = new ArrayList<>(sources.size());
+            for (BackupSource source : sources) {
+                entries.add(CompletableFuture.supplyAsync(() -> backupSource(source), executor));
+            }
+
+            return CompletableFuture.allOf(entries.toArray(new CompletableFuture<?>[0]))
+                    .thenApply(ignored -> {
+                        List<BackupSnapshot.Entry> completed = new ArrayList<>(entries.size());
+                        for (CompletableFuture<BackupSnapshot.Entry> entry : entries) {
+                            completed.add(entry.join());
+                        }
+                        return writeManifest(parentId, createdAt, completed);
+                    })
+                    .whenComplete((snapshot, error) -> lock.unlockRead(stamp));
+        } catch (RuntimeException e) {
+            lock.unlockRead(stamp);
+            throw e;
+        }
+    }
+
+    /**
+     * Restores the given sources from a snapshot.
+     *
+     * <p>Each source's data is streamed back chunk by chunk, so memory use
+     * does not depend on the size of the table. Sources are restored in
+     * parallel and each replaces its current contents.
+     *
+     * @param snapshotId the snapshot to restore from
+     * @param sources    the sources to restore; each must be part of the snapshot
+     * @return a future completing with the total number of records restored
+     * @throws IllegalArgumentException if the snapshot or a source entry does not exist
+     * @since 1.0.0
+     */
+    @NotNull
+    public CompletableFuture<Long> restore(@NotNull String snapshotId,
+                                           @NotNull Collection<? extends BackupSource> sources) {
+        Objects.requireNonNull(snapshotId, "snapshotId cannot be null");
+        Objects.requireNonNull(sources, "sources cannot be null");
+
+        BackupSnapshot snapshot = getSnapshot(snapshotId)
+                .orElseThrow(() -> new IllegalArgumentException("No such snapshot: " + snapshotId));
+        List<BackupSnapshot.Entry> entries = new ArrayList<>(sources.size());
+        for (BackupSource source : sources) {
+            entries.add(snapshot.getEntry(source.getName()).orElseThrow(() -> new IllegalArgumentException(
+                    "Snapshot " + snapshotId + " does not contain " + source.getName())));
+        }
+
+        long stamp = lock.readLock();
+        try {
+            List<CompletableFuture<Long>> restores = new ArrayList<>(sources.size());
+            int index = 0;
+            for (BackupSource source : sources) {
+                BackupSnapshot.Entry entry = entries.get(index++);
+                restores.add(CompletableFuture.supplyAsync(() -> restoreSource(source, entry), executor));
+            }
+
+            return CompletableFuture.allOf(restores.toArray(new CompletableFuture<?>[0]))
+                    .thenApply(ignored -> {
+                        long total = 0;
+                        for (CompletableFuture<Long> restore : restores) {
+                            total += restore.join();
+                        }
+                        return total;
+                    })
+                    .whenComplete((total, error) -> lock.unlockRead(stamp));
+        } catch (RuntimeException e) {
+            lock.unlockRead(stamp);
+            throw e;
+        }
+    }
+
+    // ========================================
+    // Snapshots
+    // ========================================
+
+    /**
+     * Returns all snapshots, oldest first.
+     *
+     * @return the snapshots
+     * @throws UncheckedIOException if the archive cannot be read
+     * @since 1.0.0
+     */
+    @NotNull
+    public List<BackupSnapshot> listSnapshots() {
+        List<BackupSnapshot> snapshots = new ArrayList<>();
+        for (Path manifest : manifests()) {
+            snapshots.add(readManifest(manifest));
+        }
+        return snapshots;
+    }
+
+    /**
+     * Returns a snapshot by id.
+     *
+     * @param snapshotId the snapshot id
+     * @return the snapshot, or empty if it does not exist
+     * @since 1.0.0
+     */
+    @NotNull
+    public Optional<BackupSnapshot> getSnapshot(@NotNull String snapshotId) {
+        Objects.requireNonNull(snapshotId, "snapshotId cannot be null");
+        Path manifest = manifestPath(snapshotId);
+        return Files.exists(manifest) ? Optional.of(readManifest(manifest)) : Optional.empty();
+    }
+
+    /**
+     * Returns the most recent snapshot.
+     *
+     * @return the latest snapshot, or empty if there are none
+     * @since 1.0.0
+     */
+    @NotNull
+    public Optional<BackupSnapshot> getLatestSnapshot() {
+        List<Path> manifests = manifests();
+        return manifests.isEmpty()
+                ? Optional.empty()
+                : Optional.of(readManifest(manifests.get(manifests.size() - 1)));
+    }
+
+    /**
+     * Deletes a snapshot's manifest.
+     *
+     * <p>Its chunks stay in the archive until {@link #collectGarbage()} runs.
+     *
+     * @param snapshotId the snapshot id
+     * @return true if the snapshot existed
+     * @since 1.0.0
+     */
+    public boolean deleteSnapshot(@NotNull String snapshotId) {
+        Objects.requireNonNull(snapshotId, "snapshotId cannot be null");
+        try {
+            return Files.deleteIfExists(manifestPath(snapshotId));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to delete snapshot " + snapshotId, e);
+        }
+    }
+
+    /**
+     * Keeps only the most recent snapshots and deletes unreferenced chunks.
+     *
+     * @param keepLast the number of snapshots to keep
+     * @return the number of chunks deleted
+     * @since 1.0.0
+     */
+    public int prune(int keepLast) {
+        if (keepLast < 0) {
+            throw new IllegalArgumentException("keepLast cannot be negative");
+        }
+        long stamp = lock.writeLock();
+        try {
+            List<Path> manifests = manifests();
+            for (int i = 0; i < manifests.size() - keepLast; i++) {
+                Files.deleteIfExists(manifests.get(i));
+            }
+            return sweep();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to prune backups", e);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Deletes chunks that no snapshot refers to.
+     *
+     * <p>Waits for running backups and restores to finish first.
+     *
+     * @return the number of chunks deleted
+     * @since 1.0.0
+     */
+    public int collectGarbage() {
+        long stamp = lock.writeLock();
+        try {
+            return sweep();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to collect garbage", e);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Shuts down the engine's own worker threads.
+     *
+     * <p>An executor passed to the builder is left running.
+     *
+     * @since 1.0.0
+     */
+    @Override
+    public void close() {
+        if (ownedExecutor != null) {
+            ownedExecutor.shutdown();
+            try {
+                if (!ownedExecutor.awaitTermination(30, TimeUnit.SECONDS)) {
+                    ownedExecutor.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                ownedExecutor.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    // ========================================
+    // Internal Methods
+    // ========================================
+
+    private BackupSnapshot.Entry backupSource(BackupSource source) {
+        ChunkingOutputStream chunks = new ChunkingOutputStream(store);
+        long records;
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(chunks, STREAM_BUFFER_SIZE))) {
+            records = source.backup(out);
+        } catch (IOException e) {
+            throw new CompletionException(new IOException("Backup of " + source.getName() + " failed", e));
+        }
+        return new BackupSnapshot.Entry(source.getName(), records, chunks.getTotalBytes(),
+                chunks.getChunks(), chunks.getNewChunks(), chunks.getWrittenBytes());
+    }
+
+    private long restoreSource(BackupSource source, BackupSnapshot.Entry entry) {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                new ChunkInputStream(store, entry.chunks()), STREAM_BUFFER_SIZE))) {
+            return source.restore(in);
+        } catch (IOException e) {
+            throw new CompletionException(new IOException("Restore of " + source.getName() + " failed", e));
+        }
+    }
+
+    private synchronized BackupSnapshot writeManifest(@Nullable String parentId, Instant createdAt,
+                                                      List<BackupSnapshot.Entry> entries) {
+        try {
+            Files.createDirectories(snapshotDirectory);
+            String baseId = ID_FORMAT.format(createdAt);
+            String id = baseId;
+            for (int attempt = 1; Files.exists(manifestPath(id)); attempt++) {
+                id = baseId + "-" + attempt;
+            }
+
+            BackupSnapshot snapshot = new BackupSnapshot(id, parentId, createdAt, entries);
+            Path temp = Files.createTempFile(snapshotDirectory, id, ".tmp");
+            try {
+                try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                    snapshot.write(JsonWriter.to(writer, false));
+                }
+                Files.move(temp, manifestPath(id), StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+            return snapshot;
+        } catch (IOException e) {
+            throw new CompletionException(new IOException("Failed to write snapshot manifest", e));
+        }
+    }
+
+    private BackupSnapshot readManifest(Path manifest) {
+        try {
+            return BackupSnapshot.read(JsonReader.of(Files.readString(manifest, StandardCharsets.UTF_8)));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read snapshot manifest " + manifest, e);
+        } catch (SerializationException | IllegalStateException e) {
+            throw new UncheckedIOException(new IOException("Corrupt snapshot manifest " + manifest, e));
+        }
+    }
+
+    private List<Path> manifests() {
+        if (!Files.isDirectory(snapshotDirectory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(snapshotDirectory)) {
+            // Ids sort chronologically
+            return files.filter(path -> path.getFileName().toString().endsWith(MANIFEST_SUFFIX))
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to list snapshots", e);
+        }
+    }
+
+    private static String snapshotId(Path manifest) {
+        String fileName = manifest.getFileName().toString();
+        return fileName.substring(0, fileName.length() - MANIFEST_SUFFIX.length());
+    }
+
+    private Path manifestPath(String snapshotId) {
+        if (snapshotId.isEmpty() || snapshotId.contains("/") || snapshotId.contains("\\")
+                || snapshotId.startsWith(".")) {
+            throw new IllegalArgumentException("Invalid snapshot id: " + snapshotId);
+        }
+        return snapshotDirectory.resolve(snapshotId + MANIFEST_SUFFIX);
+    }
+
+    private int sweep() throws IOException {
+        // Chunks written after this point may belong to a backup still in progress
+        Instant startedAt = Instant.now();
+        Set<String> referenced = new HashSet<>();
+        for (BackupSnapshot snapshot : listSnapshots()) {
+            for (BackupSnapshot.Entry entry : snapshot.getEntries()) {
+                referenced.addAll(entry.chunks());
+            }
+        }
+        return store.retainAll(referenced, startedAt);
+    }
+
+    private static void checkUniqueNames(Collection<? extends BackupSource> sources) {
+        Set<String> names = new HashSet<>();
+        for (BackupSource source : sources) {
+            if (!names.add(source.getName())) {
+                throw new IllegalArgumentException("Duplicate backup source: " + source.getName());
+            }
+        }
+    }
+
+    /**
+     * Builder for {@link BackupEngine}.
+     *
+     * @since 1.0.0
+     */
+    public static final class Builder {
+
+        private final Path directory;
+        private CompressionType compression = CompressionType.LZ4;
+        private int parallelism = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+        private Executor executor;
+
+        private Builder(Path directory) {
+            this.directory = Objects.requireNonNull(directory, "directory cannot be null");
+        }
+
+        /**
+         * Sets the compression for new chunks.
+         *
+         * <p>Chunks record their own compression, so this can be changed for
+         * an existing archive.
+         *
+         * @param compression the compression type
+         * @return this builder
+         * @since 1.0.0
+         */
+        @NotNull
+        public Builder compression(@NotNull CompressionType compression) {
+            this.compression = Objects.requireNonNull(compression, "compression cannot be null");
+            return this;
+        }
+
+        /**
+         * Sets how many sources are backed up or restored at once.
+         *
+         * <p>Ignored when an {@link #executor(Executor) executor} is given.
+         *
+         * @param parallelism the number of worker threads
+         * @return this builder
+         * @since 1.0.0
+         */
+        @NotNull
+        public Builder parallelism(int parallelism) {
+            if (parallelism < 1) {
+                throw new IllegalArgumentException("parallelism must be positive");
+            }
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * Sets the executor that streams sources.
+         *
+         * @param executor the executor, or null for the engine's own threads
+         * @return this builder
+         * @since 1.0.0
+         */
+        @NotNull
+        public Builder executor(@Nullable Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Builds the engine.
+         *
+         * @return the backup engine
+         * @since 1.0.0
+         */
+        @NotNull
+        public BackupEngine build() {
+            return new BackupEngine(this);
+        }
+    }
+}
@@ -0,0 +1,291 @@
+/*
+ * Copyright (c) 2025 Supatuck. All rights reserved.
+ * Licensed under the MIT License.
+ */
+package sh.pcx.unified.data.backup;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import sh.pcx.unified.data.serialization.JsonReader;
+import sh.pcx.unified.data.serialization.JsonWriter;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Manifest of one backup run.
+ *
+ * <p>A snapshot lists, for every source, the chunks that make up its data in
+ * order. Chunks are shared between snapshots, so every snapshot is a
+ * complete, independently restorable backup even though an incremental run
+ * only writes the chunks that changed.
+ *
+ * @since 1.0.0
+ * @author Supatuck
+ * @see BackupEngine
+ */
+public final class BackupSnapshot {
+
+    private final String id;
+    private final String parentId;
+    private final Instant createdAt;
+    private final List<Entry> entries;
+
+    BackupSnapshot(@NotNull String id, @Nullable String parentId, @NotNull Instant createdAt,
+                   @NotNull List<Entry> entries) {
+        this.id = id;
+        this.parentId = parentId;
+        this.createdAt = createdAt;
+        this.entries = List.copyOf(entries);
+    }
+
+    /**
+     * Returns the snapshot id.
+     *
+     * @return the id, which sorts in creation order
+     * @since 1.0.0
+     */
+    @NotNull
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Returns the id of the snapshot that was the latest when this one was taken.
+     *
+     * @return the parent id, or empty for the first snapshot
+     * @since 1.0.0
+     */
+    @NotNull
+    public Optional<String> getParentId() {
+        return Optional.ofNullable(parentId);
+    }
+
+    /**
+     * Returns when the snapshot was taken.
+     *
+     * @return the creation time
+     * @since 1.0.0
+     */
+    @NotNull
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    /**
+     * Returns the entries, one per source.
+     *
+     * @return an unmodifiable list of entries
+     * @since 1.0.0
+     */
+    @NotNull
+    public List<Entry> getEntries() {
+        return entries;
+    }
+
+    /**
+     * Returns the entry for a source.
+     *
+     * @param name the source name
+     * @return the entry, or empty if the source is not part of this snapshot
+     * @since 1.0.0
+     */
+    @NotNull
+    public Optional<Entry> getEntry(@NotNull String name) {
+        Objects.requireNonNull(name, "name cannot be null");
+        for (Entry entry : entries) {
+            if (entry.name().equals(name)) {
+                return Optional.of(entry);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the uncompressed size of all data in this snapshot.
+     *
+     * @return the total size in bytes
+     * @since 1.0.0
+     */
+    public long getTotalSize() {
+        long total = 0;
+        for (Entry entry : entries) {
+            total += entry.size();
+        }
+        return total;
+    }
+
+    /**
+     * Returns the compressed bytes this run added to the archive.
+     *
+     * @return the bytes written for new chunks
+     * @since 1.0.0
+     */
+    public long getWrittenBytes() {
+        long total = 0;
+        for (Entry entry : entries) {
+            total += entry.writtenBytes();
+        }
+        return total;
+    }
+
+    // ========================================
+    // Manifest Format
+    // ========================================
+
+    void write(@NotNull JsonWriter writer) {
+        writer.beginObject()
+                .name("id").value(id)
+                .name("parent").value(parentId)
+                .name("createdAt").value(createdAt.toString())
+                .name("entries").beginArray();
+        for (Entry entry : entries) {
+            writer.beginObject()
+                    .name("name").value(entry.name())
+                    .name("records").value(entry.records())
+                    .name("size").value(entry.size())
+                    .name("newChunks").value(entry.newChunks())
+                    .name("writtenBytes").value(entry.writtenBytes())
+                    .name("chunks").beginArray();
+            for (String chunk : entry.chunks()) {
+                writer.value(chunk);
+            }
+            writer.endArray().endObject();
+        }
+        writer.endArray().endObject();
+        writer.flush();
+    }
+
+    @NotNull
+    static BackupSnapshot read(@NotNull JsonReader reader) {
+        String id = null;
+        String parentId = null;
+        Instant createdAt = null;
+        List<Entry> entries = new ArrayList<>();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "id" -> id = reader.nextString();
+                case "parent" -> {
+                    if (reader.peek() == JsonReader.Token.NULL) {
+                        reader.nextNull();
+                    } else {
+                        parentId = reader.nextString();
+                    }
+                }
+                case "createdAt" -> createdAt = Instant.parse(reader.nextString());
+                case "entries" -> {
+                    reader.beginArray();
+                    while (reader.hasNext()) {
+                        entries.add(readEntry(reader));
+                    }
+                    reader.endArray();
+                }
+                default -> reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        if (id == null || createdAt == null) {
+            throw new IllegalStateException("Snapshot manifest is missing its id or creation time");
+        }
+        return new BackupSnapshot(id, parentId, createdAt, entries);
+    }
+
+    private static Entry readEntry(JsonReader reader) {
+        String name = null;
+        long records = 0;
+        long size = 0;
+        int newChunks = 0;
+        long writtenBytes = 0;
+        List<String> chunks = new ArrayList<>();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "name" -> name = reader.nextString();
+                case "records" -> records = reader.nextLong();
+                case "size" -> size = reader.nextLong();
+                case "newChunks" -> newChunks = reader.nextInt();
+                case "writtenBytes" -> writtenBytes = reader.nextLong();
+                case "chunks" -> {
+                    reader.beginArray();
+                    while (reader.hasNext()) {
+                        chunks.add(reader.nextString());
+                    }
+                    reader.endArray();
+                }
+                default -> reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        if (name == null) {
+            throw new IllegalStateException("Snapshot entry is missing its name");
+        }
+        return new Entry(name, records, size, chunks, newChunks, writtenBytes);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof BackupSnapshot that)) return false;
+        return id.equals(that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return id.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "BackupSnapshot{" +
+                "id='" + id + '\'' +
+                ", parent=" + parentId +
+                ", entries=" + entries.size() +
+                ", size=" + getTotalSize() +
+                ", written=" + getWrittenBytes() +
+                '}';
+    }
+
+    /**
+     * The data of one source within a snapshot.
+     *
+     * @param name         the source name
+     * @param records      the number of records backed up
+     * @param size         the uncompressed size in bytes
+     * @param chunks       the hashes of the chunks holding the data, in order
+     * @param newChunks    the number of chunks this run added to the archive
+     * @param writtenBytes the compressed bytes this run added to the archive
+     * @since 1.0.0
+     */
+    public record Entry(
+            @NotNull String name,
+            long records,
+            long size,
+            @NotNull List<String> chunks,
+            int newChunks,
+            long writtenBytes
+    ) {
+
+        public Entry {
+            Objects.requireNonNull(name, "name cannot be null");
+            chunks = List.copyOf(chunks);
+        }
+
+        /**
+         * Returns the number of chunks reused from earlier snapshots.
+         *
+         * @return the reused chunk count
+         * @since 1.0.0
+         */
+        public int reusedChunks() {
+            return chunks.size() - newChunks;
+        }
+    }
+}
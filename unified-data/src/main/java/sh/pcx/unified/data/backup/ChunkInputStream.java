@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2025 Supatuck. All rights reserved.
+ * Licensed under the MIT License.
+ */
+package sh.pcx.unified.data.backup;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * Reads a sequence of stored chunks back as one continuous stream.
+ *
+ * <p>Only the current chunk is held in memory, so a table of any size can
+ * be restored with constant memory.
+ *
+ * @since 1.0.0
+ * @author Supatuck
+ */
+final class ChunkInputStream extends InputStream {
+
+    private static final byte[] EMPTY = new byte[0];
+
+    private final ChunkStore store;
+    private final List<String> chunks;
+
+    private int nextChunk;
+    private byte[] current = EMPTY;
+    private int position;
+
+    ChunkInputStream(@NotNull ChunkStore store, @NotNull List<String> chunks) {
+        this.store = store;
+        this.chunks = chunks;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!fill()) {
+            return -1;
+        }
+        return current[position++] & 0xFF;
+    }
+
+    @Override
+    public int read(byte @NotNull [] data, int offset, int length) throws IOException {
+        if (length == 0) {
+            return 0;
+        }
+        if (!fill()) {
+            return -1;
+        }
+        int count = Math.min(length, current.length - position);
+        System.arraycopy(current, position, data, offset, count);
+        position += count;
+        return count;
+    }
+
+    @Override
+    public int available() {
+        return current.length - position;
+    }
+
+    private boolean fill() throws IOException {
+        while (position == current.length) {
+            if (nextChunk == chunks.size()) {
+                return false;
+            }
+            current = store.get(chunks.get(nextChunk++));
+            position = 0;
+        }
+        return true;
+    }
+}
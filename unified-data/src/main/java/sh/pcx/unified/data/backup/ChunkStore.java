@@ -0,0 +1,234 @@
+/*
+ * Copyright (c) 2025 Supatuck. All rights reserved.
+ * Licensed under the MIT License.
+ */
+package sh.pcx.unified.data.backup;
+
+import org.jetbrains.annotations.NotNull;
+import sh.pcx.unified.data.serialization.BinaryBuffer;
+import sh.pcx.unified.data.serialization.CompressedSerializer;
+import sh.pcx.unified.data.serialization.SerializationContext;
+import sh.pcx.unified.data.serialization.SerializationException;
+import sh.pcx.unified.data.serialization.Serializer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Content-addressed store of compressed chunks.
+ *
+ * <p>Each chunk is stored once, in a file named after the SHA-256 hash of
+ * its uncompressed content, under a two-character fan-out directory. Writing
+ * a chunk that already exists is a no-op, which is what makes backups
+ * deduplicating and incremental.
+ *
+ * @since 1.0.0
+ * @author Supatuck
+ */
+final class ChunkStore {
+
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final HexFormat HEX = HexFormat.of();
+    private static final SerializationContext CONTEXT = SerializationContext.binary();
+
+    private final Path directory;
+    private final CompressedSerializer<byte[]> codec;
+    private final Set<String> known = ConcurrentHashMap.newKeySet();
+
+    ChunkStore(@NotNull Path directory, @NotNull SerializationContext.CompressionType compression) {
+        this.directory = directory;
+        this.codec = CompressedSerializer.builder(RawBytes.INSTANCE)
+                .compression(compression)
+                .threshold(0)
+                .build();
+    }
+
+    /**
+     * Stores a chunk unless a chunk with the same hash exists.
+     *
+     * @param hash   the hex SHA-256 hash of the content
+     * @param data   the array holding the content
+     * @param length the content length
+     * @return the number of bytes written, 0 if the chunk already existed
+     * @throws IOException if the chunk cannot be written
+     */
+    long put(@NotNull String hash, byte @NotNull [] data, int length) throws IOException {
+        if (contains(hash)) {
+            return 0;
+        }
+        Path target = path(hash);
+        Files.createDirectories(target.getParent());
+
+        byte[] compressed = codec.toBytes(length == data.length ? data : Arrays.copyOf(data, length), CONTEXT);
+        Path temp = Files.createTempFile(target.getParent(), hash, TEMP_SUFFIX);
+        try {
+            Files.write(temp, compressed);
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException e) {
+            // Written concurrently by another backup; the content is identical
+            return 0;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        known.add(hash);
+        return compressed.length;
+    }
+
+    /**
+     * Reads and verifies a chunk.
+     *
+     * @param hash the hex SHA-256 hash of the content
+     * @return the uncompressed content
+     * @throws IOException if the chunk is missing, unreadable or corrupt
+     */
+    byte @NotNull [] get(@NotNull String hash) throws IOException {
+        byte[] content;
+        try {
+            content = codec.fromBytes(Files.readAllBytes(path(hash)), CONTEXT);
+        } catch (SerializationException e) {
+            throw new IOException("Chunk " + hash + " is corrupt", e);
+        }
+        if (!hash.equals(hash(content, content.length))) {
+            throw new IOException("Chunk " + hash + " does not match its content");
+        }
+        return content;
+    }
+
+    /**
+     * Checks whether a chunk is stored.
+     *
+     * @param hash the hex SHA-256 hash
+     * @return true if the chunk exists
+     */
+    boolean contains(@NotNull String hash) {
+        if (known.contains(hash)) {
+            return true;
+        }
+        if (Files.exists(path(hash))) {
+            known.add(hash);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Deletes every chunk not in the given set.
+     *
+     * <p>Temporary files and chunks modified at or after {@code startedAt}
+     * are left alone: they may belong to a backup that is still running and
+     * has not written its manifest yet.
+     *
+     * @param referenced the hashes to keep
+     * @param startedAt  when the collection started
+     * @return the number of chunks deleted
+     * @throws IOException if the store cannot be listed
+     */
+    int retainAll(@NotNull Set<String> referenced, @NotNull Instant startedAt) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return 0;
+        }
+        int deleted = 0;
+        try (Stream<Path> files = Files.walk(directory, 2)) {
+            for (Path file : (Iterable<Path>) files.filter(Files::isRegularFile)::iterator) {
+                String hash = file.getFileName().toString();
+                if (hash.endsWith(TEMP_SUFFIX) || referenced.contains(hash)) {
+                    continue;
+                }
+                FileTime modified;
+                try {
+                    modified = Files.getLastModifiedTime(file);
+                } catch (NoSuchFileException e) {
+                    continue;
+                }
+                if (modified.toInstant().isBefore(startedAt)) {
+                    Files.deleteIfExists(file);
+                    known.remove(hash);
+                    deleted++;
+                }
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return deleted;
+    }
+
+    /**
+     * Computes the hex SHA-256 hash of some content.
+     *
+     * @param data   the array holding the content
+     * @param length the content length
+     * @return the hash
+     */
+    @NotNull
+    static String hash(byte @NotNull [] data, int length) {
+        MessageDigest digest = newDigest();
+        digest.update(data, 0, length);
+        return HEX.formatHex(digest.digest());
+    }
+
+    @NotNull
+    static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private Path path(String hash) {
+        return directory.resolve(hash.substring(0, 2)).resolve(hash);
+    }
+
+    /**
+     * Passes bytes through unchanged so that {@link CompressedSerializer}
+     * can be used for raw chunks.
+     */
+    private static final class RawBytes implements Serializer<byte[]> {
+
+        static final RawBytes INSTANCE = new RawBytes();
+
+        @Override
+        @NotNull
+        public String serialize(byte @NotNull [] value, @NotNull SerializationContext context) {
+            return Base64.getEncoder().encodeToString(value);
+        }
+
+        @Override
+        public byte @NotNull [] deserialize(@NotNull String data, @NotNull SerializationContext context) {
+            return Base64.getDecoder().decode(data);
+        }
+
+        @Override
+        public void toBuffer(byte @NotNull [] value, @NotNull BinaryBuffer buffer,
+                             @NotNull SerializationContext context) {
+            buffer.writeRawBytes(ByteBuffer.wrap(value));
+        }
+
+        @Override
+        public byte @NotNull [] fromBuffer(@NotNull BinaryBuffer buffer, @NotNull SerializationContext context) {
+            return buffer.readRawBytes(buffer.remaining());
+        }
+
+        @Override
+        @NotNull
+        public Class<byte[]> getTargetType() {
+            return byte[].class;
+        }
+    }
+}
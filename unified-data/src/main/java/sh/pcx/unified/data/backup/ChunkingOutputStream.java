@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2025 Supatuck. All rights reserved.
+ * Licensed under the MIT License.
+ */
+package sh.pcx.unified.data.backup;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Splits a byte stream into content-defined chunks and stores them.
+ *
+ * <p>Chunk boundaries are chosen by a rolling gear hash over the content
+ * rather than at fixed offsets, so inserting or removing a record only
+ * changes the chunks around it. Everything before and after still hashes to
+ * chunks that are already stored, which is what keeps incremental backups
+ * small.
+ *
+ * <p>Boundaries use normalized chunking: a stricter condition below the
+ * average size and a looser one above it keep chunk sizes close to the
+ * average.
+ *
+ * @since 1.0.0
+ * @author Supatuck
+ */
+final class ChunkingOutputStream extends OutputStream {
+
+    static final int MIN_SIZE = 16 * 1024;
+    static final int AVERAGE_SIZE = 64 * 1024;
+    static final int MAX_SIZE = 256 * 1024;
+
+    private static final HexFormat HEX = HexFormat.of();
+    private static final long[] GEAR = new long[256];
+    private static final long MASK_SMALL;
+    private static final long MASK_LARGE;
+
+    static {
+        // Fixed seed: boundaries must be identical across runs to deduplicate
+        SplittableRandom random = new SplittableRandom(0x5EEDC0DE1A2B3C4DL);
+        for (int i = 0; i < GEAR.length; i++) {
+            GEAR[i] = random.nextLong();
+        }
+        int bits = Integer.numberOfTrailingZeros(AVERAGE_SIZE);
+        // The high bits of a gear hash depend on the most recent 64 bytes
+        MASK_SMALL = -1L << (64 - (bits + 1));
+        MASK_LARGE = -1L << (64 - (bits - 1));
+    }
+
+    private final ChunkStore store;
+    private final MessageDigest digest = ChunkStore.newDigest();
+    private final byte[] buffer = new byte[MAX_SIZE];
+    private final List<String> chunks = new ArrayList<>();
+
+    private int size;
+    private long hash;
+    private long totalBytes;
+    private long writtenBytes;
+    private int newChunks;
+    private boolean closed;
+
+    ChunkingOutputStream(@NotNull ChunkStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        buffer[size++] = (byte) b;
+        hash = (hash << 1) + GEAR[b & 0xFF];
+        if (isBoundary()) {
+            cut();
+        }
+    }
+
+    @Override
+    public void write(byte @NotNull [] data, int offset, int length) throws IOException {
+        int end = offset + length;
+        for (int i = offset; i < end; i++) {
+            byte b = data[i];
+            buffer[size++] = b;
+            hash = (hash << 1) + GEAR[b & 0xFF];
+            if (isBoundary()) {
+                cut();
+            }
+        }
+    }
+
+    /**
+     * Stores the last partial chunk.
+     *
+     * @throws IOException if the chunk cannot be written
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (size > 0) {
+            cut();
+        }
+    }
+
+    /**
+     * Returns the hashes of the chunks written, in order.
+     *
+     * @return the chunk hashes
+     */
+    @NotNull
+    List<String> getChunks() {
+        return chunks;
+    }
+
+    /**
+     * Returns the total number of bytes written to this stream.
+     *
+     * @return the uncompressed size
+     */
+    long getTotalBytes() {
+        return totalBytes;
+    }
+
+    /**
+     * Returns the number of compressed bytes added to the store.
+     *
+     * @return the bytes stored for chunks that did not exist yet
+     */
+    long getWrittenBytes() {
+        return writtenBytes;
+    }
+
+    /**
+     * Returns the number of chunks that did not exist in the store yet.
+     *
+     * @return the new chunk count
+     */
+    int getNewChunks() {
+        return newChunks;
+    }
+
+    private boolean isBoundary() {
+        if (size < MIN_SIZE) {
+            return false;
+        }
+        if (size >= MAX_SIZE) {
+            return true;
+        }
+        return (hash & (size < AVERAGE_SIZE ? MASK_SMALL : MASK_LARGE)) == 0;
+    }
+
+    private void cut() throws IOException {
+        digest.update(buffer, 0, size);
+        String chunkHash = HEX.formatHex(digest.digest());
+        long written = store.put(chunkHash, buffer, size);
+        if (written > 0) {
+            writtenBytes += written;
+            newChunks++;
+        }
+        chunks.add(chunkHash);
+        totalBytes += size;
+        size = 0;
+        hash = 0;
+    }
+}
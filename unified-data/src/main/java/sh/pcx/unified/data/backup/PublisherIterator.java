@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2025 Supatuck. All rights reserved.
+ * Licensed under the MIT License.
+ */
+package sh.pcx.unified.data.backup;
+
+import org.jetbrains.annotations.NotNull;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Blocking iterator over a reactive publisher with bounded demand.
+ *
+ * <p>At most {@code batchSize} elements are requested at a time and more are
+ * only requested once the consumer has taken them, so a collection of any
+ * size can be iterated without buffering it.
+ *
+ * @param <T> the element type
+ * @since 1.0.0
+ * @author Supatuck
+ */
+final class PublisherIterator<T> implements Iterator<T>, Subscriber<T>, AutoCloseable {
+
+    private static final Object COMPLETE = new Object();
+
+    private final BlockingQueue<Object> queue = new LinkedBlockingQueue<>();
+    private final int batchSize;
+
+    private volatile Subscription subscription;
+    private Object next;
+    private int consumed;
+
+    private PublisherIterator(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Subscribes to a publisher and returns an iterator over its elements.
+     *
+     * @param publisher the publisher
+     * @param batchSize the number of elements requested at a time
+     * @param <T>       the element type
+     * @return the iterator
+     */
+    @NotNull
+    static <T> PublisherIterator<T> of(@NotNull Publisher<T> publisher, int batchSize) {
+        PublisherIterator<T> iterator = new PublisherIterator<>(batchSize);
+        publisher.subscribe(iterator);
+        return iterator;
+    }
+
+    @Override
+    public void onSubscribe(Subscription s) {
+        this.subscription = s;
+        s.request(batchSize);
+    }
+
+    @Override
+    public void onNext(T t) {
+        queue.add(t);
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        queue.add(new Failure(t));
+    }
+
+    @Override
+    public void onComplete() {
+        queue.add(COMPLETE);
+    }
+
+    /**
+     * Waits for the next element.
+     *
+     * @return true if another element is available
+     * @throws CompletionException if the publisher failed or the wait was interrupted
+     */
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            try {
+                next = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                close();
+                throw new CompletionException(e);
+            }
+        }
+        if (next instanceof Failure failure) {
+            throw new CompletionException(failure.error());
+        }
+        return next != COMPLETE;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        T element = (T) next;
+        next = null;
+        if (++consumed == batchSize) {
+            consumed = 0;
+            subscription.request(batchSize);
+        }
+        return element;
+    }
+
+    /**
+     * Cancels the subscription if the publisher has not finished.
+     */
+    @Override
+    public void close() {
+        Subscription s = subscription;
+        if (s != null && next != COMPLETE) {
+            s.cancel();
+        }
+    }
+
+    private record Failure(Throwable error) {}
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2025 Supatuck. All rights reserved.
+ * Licensed under the MIT License.
+ */
+package sh.pcx.unified.data.backup;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Helpers shared by the built-in sources' record formats.
+ *
+ * <p>Records are preceded by a {@code true} marker and the stream ends with
+ * {@code false}, so a restore never needs to know the record count up front.
+ *
+ * @since 1.0.0
+ * @author Supatuck
+ */
+final class RecordIO {
+
+    private static final int MAX_LENGTH = 512 * 1024 * 1024;
+
+    private RecordIO() {}
+
+    /**
+     * Writes a string of any length as UTF-8.
+     *
+     * @param out   the output
+     * @param value the string
+     * @throws IOException if writing fails
+     */
+    static void writeString(@NotNull DataOutput out, @NotNull String value) throws IOException {
+        writeBytes(out, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Reads a string written by {@link #writeString(DataOutput, String)}.
+     *
+     * @param in the input
+     * @return the string
+     * @throws IOException if reading fails
+     */
+    @NotNull
+    static String readString(@NotNull DataInput in) throws IOException {
+        return new String(readBytes(in), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes a length-prefixed byte array.
+     *
+     * @param out   the output
+     * @param value the bytes
+     * @throws IOException if writing fails
+     */
+    static void writeBytes(@NotNull DataOutput out, byte @NotNull [] value) throws IOException {
+        out.writeInt(value.length);
+        out.write(value);
+    }
+
+    /**
+     * Reads a byte array written by {@link #writeBytes(DataOutput, byte[])}.
+     *
+     * @param in the input
+     * @return the bytes
+     * @throws IOException if reading fails or the length is invalid
+     */
+    static byte @NotNull [] readBytes(@NotNull DataInput in) throws IOException {
+        int length = in.readInt();
+        if (length < 0 || length > MAX_LENGTH) {
+            throw new IOException("Invalid record length: " + length);
+        }
+        byte[] value = new byte[length];
+        in.readFully(value);
+        return value;
+    }
+
+    /**
+     * Checks that the stream starts with the expected format header.
+     *
+     * @param in      the input
+     * @param format  the expected format name
+     * @param version the expected version
+     * @throws IOException if the header does not match
+     */
+    static void readHeader(@NotNull DataInput in, @NotNull String format, int version) throws IOException {
+        String actual = in.readUTF();
+        int actualVersion = in.readUnsignedByte();
+        if (!actual.equals(format) || actualVersion != version) {
+            throw new IOException("Unsupported backup format: " + actual + " v" + actualVersion
+                    + ", expected " + format + " v" + version);
+        }
+    }
+
+    /**
+     * Writes a format header.
+     *
+     * @param out     the output
+     * @param format  the format name
+     * @param version the format version
+     * @throws IOException if writing fails
+     */
+    static void writeHeader(@NotNull DataOutput out, @NotNull String format, int version) throws IOException {
+        out.writeUTF(format);
+        out.writeByte(version);
+    }
+}
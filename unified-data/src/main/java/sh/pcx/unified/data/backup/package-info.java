@@ -4,38 +4,42 @@
  */
 
 /**
- * Comprehensive backup and restore system for player data and inventories.
+ * Incremental, deduplicating backups of SQL tables, MongoDB collections and
+ * Redis namespaces.
  *
- * <p>This package provides a complete backup solution including:
+ * <p>This package provides:
  * <ul>
- *   <li><b>Backup Types</b>: Full, incremental, and differential backups</li>
- *   <li><b>Scheduling</b>: Automatic scheduled backups with configurable intervals</li>
- *   <li><b>Versioning</b>: Version chain tracking with rollback support</li>
- *   <li><b>Storage</b>: Local and remote storage backends (S3, FTP)</li>
- *   <li><b>Compression</b>: Multiple compression algorithms (GZIP, LZ4, ZSTD)</li>
- *   <li><b>Retention</b>: Configurable retention policies</li>
- *   <li><b>Death Recovery</b>: Player death item recovery system</li>
+ *   <li><b>Sources</b>: {@link sh.pcx.unified.data.backup.BackupSource} streams a
+ *       table, collection or namespace managed by {@code DatabaseService},
+ *       {@code MongoService} or {@code RedisService}</li>
+ *   <li><b>Deduplication</b>: data is split into content-defined chunks stored
+ *       once by SHA-256, so unchanged data is never written twice</li>
+ *   <li><b>Incremental runs</b>: every run only writes the chunks that changed,
+ *       yet each {@link sh.pcx.unified.data.backup.BackupSnapshot} is a complete backup</li>
+ *   <li><b>Parallelism</b>: sources are backed up and restored concurrently</li>
+ *   <li><b>Compression</b>: chunks are compressed with GZIP, DEFLATE or LZ4</li>
+ *   <li><b>Streaming restore</b>: data is read back chunk by chunk, never a
+ *       whole table at once</li>
+ *   <li><b>Retention</b>: old snapshots are pruned and unreferenced chunks removed</li>
  * </ul>
  *
  * <h2>Quick Start</h2>
  * <pre>{@code
- * // Create backup service
- * BackupStorage storage = new LocalBackupStorage(backupDir);
- * BackupService backupService = BackupService.create(storage);
+ * BackupEngine engine = BackupEngine.builder(dataFolder.resolve("backups")).build();
  *
- * // Create a full backup
- * Backup backup = backupService.createBackup(playerId, BackupType.FULL).join();
+ * List<BackupSource> sources = List.of(
+ *     BackupSource.sqlTable(database, "player_data"),
+ *     BackupSource.mongoCollection(mongo, "guilds"),
+ *     BackupSource.redisNamespace(redis, "economy"));
  *
- * // Schedule automatic backups
- * BackupScheduler scheduler = backupService.getScheduler();
- * scheduler.scheduleDaily(BackupType.INCREMENTAL, LocalTime.of(3, 0));
+ * // Back up; repeated runs only write what changed
+ * BackupSnapshot snapshot = engine.backup(sources).join();
  *
- * // Restore from backup
- * RestoreResult result = backupService.restore(player, backup.id()).join();
+ * // Restore from a snapshot
+ * engine.restore(snapshot.getId(), sources).join();
  *
- * // Death recovery
- * DeathRecovery recovery = backupService.getDeathRecovery();
- * recovery.recoverLastDeath(player).join();
+ * // Keep the last 14 snapshots
+ * engine.prune(14);
  * }</pre>
  *
  * @since 1.0.0
@@ -7,7 +7,14 @@ package sh.pcx.unified.data.cache;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
 import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.Collection;
 import java.util.Objects;
@@ -244,6 +251,8 @@ public final class CacheInvalidation {
             @NotNull Instant timestamp
     ) implements Serializable {
 
+        private static final byte FORMAT_VERSION = 1;
+
         /**
          * Checks if this is a single-key invalidation.
          *
@@ -280,6 +289,90 @@ public final class CacheInvalidation {
         public String key() {
             return keys.isEmpty() ? null : keys.iterator().next();
         }
+
+        /**
+         * Encodes this message for publishing.
+         *
+         * <p>The encoding is a format version byte followed by the fields in
+         * declaration order; it is read back by {@link #fromBytes(byte[])}.
+         *
+         * @return the encoded message
+         * @since 1.0.0
+         */
+        @NotNull
+        public byte[] toBytes() {
+            try {
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + keys.size() * 32);
+                DataOutputStream out = new DataOutputStream(bytes);
+                out.writeByte(FORMAT_VERSION);
+                writeString(out, sourceServer);
+                writeString(out, cacheName);
+                out.writeByte(type.ordinal());
+                out.writeInt(keys.size());
+                for (String key : keys) {
+                    writeString(out, key);
+                }
+                out.writeLong(timestamp.toEpochMilli());
+                out.flush();
+                return bytes.toByteArray();
+            } catch (IOException e) {
+                // ByteArrayOutputStream never throws
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        /**
+         * Decodes a message produced by {@link #toBytes()}.
+         *
+         * @param data the encoded message
+         * @return the message
+         * @throws IllegalArgumentException if the data is not a valid message
+         * @since 1.0.0
+         */
+        @NotNull
+        public static InvalidationMessage fromBytes(@NotNull byte[] data) {
+            Objects.requireNonNull(data, "data cannot be null");
+            try {
+                DataInputStream in = new DataInputStream(new ByteArrayInputStream(data));
+                byte version = in.readByte();
+                if (version != FORMAT_VERSION) {
+                    throw new IllegalArgumentException("Unsupported invalidation message version " + version);
+                }
+                String sourceServer = readString(in);
+                String cacheName = readString(in);
+                InvalidationType[] types = InvalidationType.values();
+                int ordinal = in.readUnsignedByte();
+                if (ordinal >= types.length) {
+                    throw new IllegalArgumentException("Unknown invalidation type " + ordinal);
+                }
+                int count = in.readInt();
+                if (count < 0 || count > data.length) {
+                    throw new IllegalArgumentException("Invalid key count " + count);
+                }
+                Set<String> keys = new java.util.HashSet<>(count * 2);
+                for (int i = 0; i < count; i++) {
+                    keys.add(readString(in));
+                }
+                Instant timestamp = Instant.ofEpochMilli(in.readLong());
+                return new InvalidationMessage(sourceServer, cacheName, types[ordinal], keys, timestamp);
+            } catch (IOException e) {
+                throw new IllegalArgumentException("Malformed invalidation message", e);
+            }
+        }
+
+        private static void writeString(DataOutputStream out, String value) throws IOException {
+            byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(utf8.length);
+            out.write(utf8);
+        }
+
+        private static String readString(DataInputStream in) throws IOException {
+            int length = in.readInt();
+            if (length < 0 || length > in.available()) {
+                throw new IOException("Invalid string length " + length);
+            }
+            return new String(in.readNBytes(length), StandardCharsets.UTF_8);
+        }
     }
 
     /**
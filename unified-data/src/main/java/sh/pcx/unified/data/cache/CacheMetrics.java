@@ -155,6 +155,46 @@ public interface CacheMetrics {
         gauge(name + ".strategy", cacheTags, () -> cache.syncStrategy().ordinal());
     }
 
+    /**
+     * Registers all standard metrics for a write-behind cache.
+     *
+     * <p>In addition to the {@link #registerCache(String, LocalCache) local cache
+     * metrics}, this registers:
+     * <ul>
+     *   <li>{name}.write_behind.pending</li>
+     *   <li>{name}.write_behind.flushes</li>
+     *   <li>{name}.write_behind.written</li>
+     *   <li>{name}.write_behind.failures</li>
+     *   <li>{name}.write_behind.batch_size</li>
+     *   <li>{name}.write_behind.average_batch_size</li>
+     *   <li>{name}.write_behind.flush_lag_millis</li>
+     *   <li>{name}.write_behind.max_flush_lag_millis</li>
+     * </ul>
+     *
+     * @param <K>   the key type
+     * @param <V>   the value type
+     * @param name  the metric prefix
+     * @param cache the cache to monitor
+     * @since 1.0.0
+     */
+    default <K, V> void registerWriteBehindCache(
+            @NotNull String name,
+            @NotNull WriteBehindCache<K, V> cache) {
+        registerCache(name, cache);
+        Tags tags = Tags.of("cache", cache.name(), "type", "write_behind");
+
+        gauge(name + ".write_behind.pending", tags, () -> cache.writeBehindStats().pendingCount());
+        counter(name + ".write_behind.flushes", tags, () -> cache.writeBehindStats().flushCount());
+        counter(name + ".write_behind.written", tags, () -> cache.writeBehindStats().writtenCount());
+        counter(name + ".write_behind.failures", tags, () -> cache.writeBehindStats().failureCount());
+        gauge(name + ".write_behind.batch_size", tags, () -> cache.writeBehindStats().lastBatchSize());
+        gauge(name + ".write_behind.average_batch_size", tags, () -> cache.writeBehindStats().averageBatchSize());
+        gauge(name + ".write_behind.flush_lag_millis", tags,
+                () -> cache.writeBehindStats().lastFlushLag().toMillis());
+        gauge(name + ".write_behind.max_flush_lag_millis", tags,
+                () -> cache.writeBehindStats().maxFlushLag().toMillis());
+    }
+
     /**
      * Removes all metrics for a cache.
      *
@@ -37,6 +37,10 @@ import java.time.Duration;
  * long size = stats.size();
  * long weightedSize = stats.weightedSize();
  *
+ * // Distributed cache metrics
+ * long negativeHits = stats.negativeHitCount();
+ * long earlyRefreshes = stats.earlyRefreshCount();
+ *
  * // Log formatted stats
  * log.info("Cache hit rate: " + String.format("%.2f%%", stats.hitRate() * 100));
  * }</pre>
@@ -50,6 +54,8 @@ import java.time.Duration;
  * @param evictionWeight    the total weight of entries evicted
  * @param size              the current number of entries
  * @param weightedSize      the current weighted size
+ * @param negativeHitCount  the number of lookups answered by a cached absence
+ * @param earlyRefreshCount the number of entries refreshed before they expired
  * @since 1.0.0
  * @author Supatuck
  * @see CacheMetrics
@@ -63,13 +69,15 @@ public record CacheStats(
         long evictionCount,
         long evictionWeight,
         long size,
-        long weightedSize
+        long weightedSize,
+        long negativeHitCount,
+        long earlyRefreshCount
 ) {
 
     /**
      * An empty stats instance with all zero values.
      */
-    public static final CacheStats EMPTY = new CacheStats(0, 0, 0, 0, 0, 0, 0, 0, 0);
+    public static final CacheStats EMPTY = new CacheStats(0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0);
 
     /**
      * Validates the statistics values.
@@ -102,6 +110,40 @@ public record CacheStats(
         if (weightedSize < 0) {
             throw new IllegalArgumentException("weightedSize must be non-negative");
         }
+        if (negativeHitCount < 0) {
+            throw new IllegalArgumentException("negativeHitCount must be non-negative");
+        }
+        if (earlyRefreshCount < 0) {
+            throw new IllegalArgumentException("earlyRefreshCount must be non-negative");
+        }
+    }
+
+    /**
+     * Creates statistics for a cache without negative caching or early refresh.
+     *
+     * @param hitCount         the number of cache hits
+     * @param missCount        the number of cache misses
+     * @param loadSuccessCount the number of successful loads
+     * @param loadFailureCount the number of failed loads
+     * @param totalLoadTime    the total time spent loading values (nanoseconds)
+     * @param evictionCount    the number of entries evicted
+     * @param evictionWeight   the total weight of entries evicted
+     * @param size             the current number of entries
+     * @param weightedSize     the current weighted size
+     * @since 1.0.0
+     */
+    public CacheStats(
+            long hitCount,
+            long missCount,
+            long loadSuccessCount,
+            long loadFailureCount,
+            long totalLoadTime,
+            long evictionCount,
+            long evictionWeight,
+            long size,
+            long weightedSize) {
+        this(hitCount, missCount, loadSuccessCount, loadFailureCount, totalLoadTime,
+                evictionCount, evictionWeight, size, weightedSize, 0, 0);
     }
 
     /**
@@ -211,7 +253,9 @@ public record CacheStats(
                 this.evictionCount + other.evictionCount,
                 this.evictionWeight + other.evictionWeight,
                 this.size + other.size,
-                this.weightedSize + other.weightedSize
+                this.weightedSize + other.weightedSize,
+                this.negativeHitCount + other.negativeHitCount,
+                this.earlyRefreshCount + other.earlyRefreshCount
         );
     }
 
@@ -235,7 +279,9 @@ public record CacheStats(
                 Math.max(0, this.evictionCount - other.evictionCount),
                 Math.max(0, this.evictionWeight - other.evictionWeight),
                 this.size,  // Size is current, not cumulative
-                this.weightedSize
+                this.weightedSize,
+                Math.max(0, this.negativeHitCount - other.negativeHitCount),
+                Math.max(0, this.earlyRefreshCount - other.earlyRefreshCount)
         );
     }
 
@@ -293,6 +339,8 @@ public record CacheStats(
         private long evictionWeight = 0;
         private long size = 0;
         private long weightedSize = 0;
+        private long negativeHitCount = 0;
+        private long earlyRefreshCount = 0;
 
         private Builder() {}
 
@@ -341,6 +389,16 @@ public record CacheStats(
             return this;
         }
 
+        public Builder negativeHitCount(long negativeHitCount) {
+            this.negativeHitCount = negativeHitCount;
+            return this;
+        }
+
+        public Builder earlyRefreshCount(long earlyRefreshCount) {
+            this.earlyRefreshCount = earlyRefreshCount;
+            return this;
+        }
+
         @NotNull
         public CacheStats build() {
             return new CacheStats(
@@ -352,7 +410,9 @@ public record CacheStats(
                     evictionCount,
                     evictionWeight,
                     size,
-                    weightedSize
+                    weightedSize,
+                    negativeHitCount,
+                    earlyRefreshCount
             );
         }
     }
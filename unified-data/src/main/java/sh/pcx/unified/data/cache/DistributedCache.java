@@ -4,17 +4,27 @@
  */
 package sh.pcx.unified.data.cache;
 
+import com.github.benmanes.caffeine.cache.RemovalCause;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 
 /**
@@ -47,10 +57,41 @@ import java.util.function.Function;
  * cache.invalidate(uuid);  // Invalidates on all servers
  * }</pre>
  *
+ * <p>Invalidation messages are published through
+ * {@link RedisOperations#publish(String, byte[])} on the channel
+ * {@code cache:invalidation:<name>}, which every instance of the cache
+ * subscribes to when it has a local or negative cache.
+ *
  * <h2>Serialization</h2>
  * <p>Values must be serializable to be stored in Redis. Provide a custom
  * {@link Serializer} for complex types.
  *
+ * <h2>Request Coalescing</h2>
+ * <p>Concurrent local misses for the same key share a single Redis fetch and
+ * deserialization. {@link #getAll(Set)} and {@link #putAll(Map)} use the bulk
+ * methods of {@link RedisOperations}, costing one round trip per call rather
+ * than one per key.
+ *
+ * <h2>Negative Caching and Early Refresh</h2>
+ * <p>With {@link Builder#negativeTtl(Duration)}, keys found absent in Redis
+ * are remembered locally for a short time, so repeated lookups of missing
+ * keys do not reach Redis. Writes clear the absence locally and, through
+ * {@link CacheInvalidation}, on other servers.
+ *
+ * <p>With {@link Builder#earlyRefreshBeta(double)} and a local TTL, hot local
+ * entries are refreshed asynchronously shortly before they expire, using
+ * probabilistic early expiration: the closer an entry is to its expiry and
+ * the longer it took to fetch, the more likely a read triggers a refresh.
+ * Servers therefore refresh at different times instead of all at once.
+ *
+ * <h2>Generational Invalidation</h2>
+ * <p>By default {@link #invalidateAll()} deletes every key of the cache by
+ * pattern, which scans the whole Redis keyspace. With
+ * {@link Builder#generationalInvalidation(boolean)}, every key embeds the
+ * cache's current generation, stored in a counter key. Clearing the cache
+ * only increments that counter; entries of older generations are no longer
+ * addressed and age out through their TTL.
+ *
  * <h2>Thread Safety</h2>
  * <p>All operations are thread-safe.
  *
@@ -63,9 +104,12 @@ import java.util.function.Function;
  */
 public class DistributedCache<K, V> {
 
+    private static final long GENERATION_RECHECK_NANOS = TimeUnit.SECONDS.toNanos(5);
+
     private final String name;
     private final RedisOperations redisOps;
     private final LocalCache<K, V> localCache;
+    private final LocalKeyIndex<K, V> localKeys;
     private final boolean localCacheEnabled;
     private final Serializer<V> serializer;
     private final Function<K, String> keyMapper;
@@ -75,6 +119,26 @@ public class DistributedCache<K, V> {
     private final Executor executor;
     private final ConflictResolver<V> conflictResolver;
 
+    private final LocalCache<String, Boolean> negativeCache;
+    private final LocalCache<K, Freshness> freshness;
+    private final Duration localTtl;
+    private final double earlyRefreshBeta;
+    private final boolean generational;
+
+    // Generation embedded in Redis keys, re-read when stale or announced as changed
+    private volatile long generation;
+    private volatile long generationReadAt;
+    private volatile boolean generationStale = true;
+
+    // Redis fetches currently in progress, shared by concurrent readers of the same key
+    private final Map<K, CompletableFuture<Optional<V>>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder localHits = new LongAdder();
+    private final LongAdder remoteHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder negativeHits = new LongAdder();
+    private final LongAdder earlyRefreshes = new LongAdder();
+
     /**
      * Creates a new distributed cache.
      */
@@ -82,6 +146,7 @@ public class DistributedCache<K, V> {
             @NotNull String name,
             @NotNull RedisOperations redisOps,
             @Nullable LocalCache<K, V> localCache,
+            @Nullable LocalKeyIndex<K, V> localKeys,
             boolean localCacheEnabled,
             @NotNull Serializer<V> serializer,
             @NotNull Function<K, String> keyMapper,
@@ -89,10 +154,16 @@ public class DistributedCache<K, V> {
             @NotNull CacheSyncStrategy syncStrategy,
             @Nullable CacheInvalidation invalidation,
             @Nullable Executor executor,
-            @Nullable ConflictResolver<V> conflictResolver) {
+            @Nullable ConflictResolver<V> conflictResolver,
+            @Nullable LocalCache<String, Boolean> negativeCache,
+            @Nullable LocalCache<K, Freshness> freshness,
+            @Nullable Duration localTtl,
+            double earlyRefreshBeta,
+            boolean generational) {
         this.name = Objects.requireNonNull(name, "name cannot be null");
         this.redisOps = Objects.requireNonNull(redisOps, "redisOps cannot be null");
         this.localCache = localCache;
+        this.localKeys = localKeys;
         this.localCacheEnabled = localCacheEnabled;
         this.serializer = Objects.requireNonNull(serializer, "serializer cannot be null");
         this.keyMapper = Objects.requireNonNull(keyMapper, "keyMapper cannot be null");
@@ -101,27 +172,43 @@ public class DistributedCache<K, V> {
         this.invalidation = invalidation;
         this.executor = executor != null ? executor : ForkJoinPool.commonPool();
         this.conflictResolver = conflictResolver;
+        this.negativeCache = negativeCache;
+        this.freshness = freshness;
+        this.localTtl = localTtl;
+        this.earlyRefreshBeta = earlyRefreshBeta;
+        this.generational = generational;
 
         // Set up invalidation listener
-        if (invalidation != null && localCache != null) {
+        if (invalidation != null && (localCache != null || negativeCache != null)) {
             invalidation.subscribe(this::handleInvalidation);
         }
     }
 
     /**
      * Handles incoming invalidation messages.
+     *
+     * <p>Message keys are the mapped key strings produced by the key mapper.
      */
     private void handleInvalidation(CacheInvalidation.InvalidationMessage message) {
-        if (localCache == null) {
-            return;
-        }
-
         switch (message.type()) {
-            case ALL -> localCache.invalidateAll();
+            case ALL -> {
+                generationStale = true;
+                forgetAllLocally();
+            }
             case SINGLE, MULTIPLE -> {
-                // Note: We can't directly invalidate by string keys
-                // This would need key deserialization in a real implementation
-                localCache.invalidateAll();
+                Set<String> keys = message.keys();
+                if (negativeCache != null) {
+                    negativeCache.invalidateAll(keys);
+                }
+                inFlight.keySet().removeIf(key -> keys.contains(keyMapper.apply(key)));
+                if (localCache != null && localKeys != null) {
+                    for (String mappedKey : keys) {
+                        K key = localKeys.get(mappedKey);
+                        if (key != null) {
+                            localCache.invalidate(key);
+                        }
+                    }
+                }
             }
         }
     }
@@ -162,13 +249,67 @@ public class DistributedCache<K, V> {
      * Converts a key to its Redis string representation.
      */
     private String toRedisKey(K key) {
+        if (generational) {
+            return name + ":" + generation() + ":" + keyMapper.apply(key);
+        }
         return name + ":" + keyMapper.apply(key);
     }
 
+    /**
+     * Returns the pub/sub channel carrying invalidation messages of a cache.
+     */
+    private static String invalidationChannel(String name) {
+        return "cache:invalidation:" + name;
+    }
+
+    /**
+     * Returns the Redis key holding the generation counter.
+     */
+    private String generationKey() {
+        return name + ":generation";
+    }
+
+    /**
+     * Returns the current generation, re-reading it from Redis when an
+     * invalidation announced a change or the last read is too old.
+     *
+     * <p>The periodic re-read bounds staleness if an invalidation message
+     * is lost.
+     */
+    private long generation() {
+        long now = System.nanoTime();
+        if (generationStale || now - generationReadAt > GENERATION_RECHECK_NANOS) {
+            byte[] data = redisOps.get(generationKey());
+            long current = data == null ? 0 : Long.parseLong(new String(data, StandardCharsets.US_ASCII));
+            long previous = generation;
+            generation = current;
+            generationReadAt = now;
+            generationStale = false;
+            if (current != previous) {
+                // Local entries belong to an older generation
+                forgetAllLocally();
+            }
+        }
+        return generation;
+    }
+
+    /**
+     * Returns whether {@link #invalidateAll()} bumps a generation instead of
+     * deleting keys by pattern.
+     *
+     * @return true if generational invalidation is enabled
+     * @since 1.0.0
+     */
+    public boolean isGenerational() {
+        return generational;
+    }
+
     /**
      * Retrieves a value from the cache.
      *
      * <p>First checks the local cache (if enabled), then falls back to Redis.
+     * If another thread is already fetching the same key from Redis, this call
+     * waits for that fetch instead of issuing its own.
      *
      * @param key the key to look up
      * @return an Optional containing the value if present
@@ -180,25 +321,34 @@ public class DistributedCache<K, V> {
         if (localCache != null) {
             Optional<V> local = localCache.get(key);
             if (local.isPresent()) {
+                localHits.increment();
+                refreshEarlyIfDue(key);
                 return local;
             }
         }
 
-        // Fetch from Redis
-        String redisKey = toRedisKey(key);
-        byte[] data = redisOps.get(redisKey);
-        if (data == null) {
+        // Then the remembered absences
+        if (isKnownAbsent(key)) {
+            negativeHits.increment();
             return Optional.empty();
         }
 
-        V value = serializer.deserialize(data);
-
-        // Populate local cache
-        if (localCache != null && value != null) {
-            localCache.put(key, value);
+        CompletableFuture<Optional<V>> fetch = new CompletableFuture<>();
+        CompletableFuture<Optional<V>> existing = inFlight.putIfAbsent(key, fetch);
+        if (existing != null) {
+            return record(await(existing));
         }
 
-        return Optional.ofNullable(value);
+        // This thread leads the fetch
+        try {
+            long start = System.nanoTime();
+            byte[] data = redisOps.get(toRedisKey(key));
+            return record(complete(key, fetch, data, start));
+        } catch (RuntimeException e) {
+            inFlight.remove(key, fetch);
+            fetch.completeExceptionally(e);
+            throw e;
+        }
     }
 
     /**
@@ -216,21 +366,229 @@ public class DistributedCache<K, V> {
     /**
      * Retrieves multiple values from the cache.
      *
+     * <p>Keys missing from the local cache are fetched from Redis in a single
+     * bulk request. Keys already being fetched by other threads are awaited
+     * rather than fetched again.
+     *
      * @param keys the keys to look up
      * @return a map of present key-value pairs
      * @since 1.0.0
      */
     @NotNull
     public Map<K, V> getAll(@NotNull Set<? extends K> keys) {
-        java.util.HashMap<K, V> result = new java.util.HashMap<>();
+        Map<K, V> result = new HashMap<>();
+        Map<K, CompletableFuture<Optional<V>>> awaited = new HashMap<>();
+        Map<String, K> led = new LinkedHashMap<>();
+        Map<K, CompletableFuture<Optional<V>>> ledFetches = new HashMap<>();
 
         for (K key : keys) {
-            get(key).ifPresent(v -> result.put(key, v));
+            if (localCache != null) {
+                Optional<V> local = localCache.get(key);
+                if (local.isPresent()) {
+                    localHits.increment();
+                    refreshEarlyIfDue(key);
+                    result.put(key, local.get());
+                    continue;
+                }
+            }
+            if (isKnownAbsent(key)) {
+                negativeHits.increment();
+                continue;
+            }
+
+            CompletableFuture<Optional<V>> fetch = new CompletableFuture<>();
+            CompletableFuture<Optional<V>> existing = inFlight.putIfAbsent(key, fetch);
+            if (existing != null) {
+                awaited.put(key, existing);
+            } else {
+                led.put(toRedisKey(key), key);
+                ledFetches.put(key, fetch);
+            }
+        }
+
+        if (!led.isEmpty()) {
+            Map<String, byte[]> data;
+            long start = System.nanoTime();
+            try {
+                data = redisOps.getAll(led.keySet());
+            } catch (RuntimeException e) {
+                ledFetches.forEach((key, fetch) -> {
+                    inFlight.remove(key, fetch);
+                    fetch.completeExceptionally(e);
+                });
+                throw e;
+            }
+
+            for (Map.Entry<String, K> entry : led.entrySet()) {
+                K key = entry.getValue();
+                CompletableFuture<Optional<V>> fetch = ledFetches.get(key);
+                try {
+                    record(complete(key, fetch, data.get(entry.getKey()), start))
+                            .ifPresent(v -> result.put(key, v));
+                } catch (RuntimeException e) {
+                    inFlight.remove(key, fetch);
+                    fetch.completeExceptionally(e);
+                    throw e;
+                }
+            }
+        }
+
+        awaited.forEach((key, fetch) -> record(await(fetch)).ifPresent(v -> result.put(key, v)));
+        return result;
+    }
+
+    /**
+     * Completes a fetch led by the calling thread.
+     *
+     * <p>Local state is only updated if no write or invalidation of the key
+     * happened while the fetch was in progress; those remove the in-flight
+     * entry, so a stale value or absence is never cached locally.
+     */
+    private Optional<V> complete(
+            K key, CompletableFuture<Optional<V>> fetch, byte @Nullable [] data, long startNanos) {
+        V value = data == null ? null : serializer.deserialize(data);
+        Optional<V> result = Optional.ofNullable(value);
+
+        if (inFlight.remove(key, fetch)) {
+            if (value != null) {
+                cacheLocally(key, value);
+                if (freshness != null) {
+                    long now = System.nanoTime();
+                    freshness.put(key, new Freshness(now - startNanos, now + localTtl.toNanos()));
+                }
+            } else {
+                // Drops a stale local copy when an early refresh finds the key gone
+                if (localCache != null) {
+                    localCache.invalidate(key);
+                }
+                if (negativeCache != null) {
+                    negativeCache.put(keyMapper.apply(key), Boolean.TRUE);
+                }
+            }
         }
+        fetch.complete(result);
+        return result;
+    }
 
+    /**
+     * Counts the outcome of a Redis lookup.
+     */
+    private Optional<V> record(Optional<V> result) {
+        if (result.isPresent()) {
+            remoteHits.increment();
+        } else {
+            misses.increment();
+        }
         return result;
     }
 
+    /**
+     * Checks whether a key was recently found absent in Redis.
+     */
+    private boolean isKnownAbsent(K key) {
+        return negativeCache != null && negativeCache.getIfPresent(keyMapper.apply(key)) != null;
+    }
+
+    /**
+     * Refreshes a local entry in the background if its early expiration is due.
+     *
+     * <p>Uses the XFetch rule: refresh when
+     * {@code now - delta * beta * ln(random) >= expiry}, where {@code delta}
+     * is the time the last fetch took.
+     */
+    private void refreshEarlyIfDue(K key) {
+        if (freshness == null) {
+            return;
+        }
+        Freshness entry = freshness.getIfPresent(key);
+        if (entry == null) {
+            return;
+        }
+
+        double random = 1.0 - ThreadLocalRandom.current().nextDouble();
+        double gap = entry.deltaNanos() * earlyRefreshBeta * -Math.log(random);
+        if (System.nanoTime() + gap < entry.expiresAtNanos()) {
+            return;
+        }
+
+        CompletableFuture<Optional<V>> fetch = new CompletableFuture<>();
+        if (inFlight.putIfAbsent(key, fetch) != null) {
+            return;
+        }
+        earlyRefreshes.increment();
+
+        try {
+            executor.execute(() -> {
+                try {
+                    long start = System.nanoTime();
+                    complete(key, fetch, redisOps.get(toRedisKey(key)), start);
+                } catch (RuntimeException e) {
+                    inFlight.remove(key, fetch);
+                    fetch.completeExceptionally(e);
+                }
+            });
+        } catch (RuntimeException e) {
+            // Rejected by the executor; the entry simply expires normally
+            inFlight.remove(key, fetch);
+            fetch.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Stores a value in the local cache and indexes its mapped key.
+     *
+     * <p>The index is updated after the cache, so a concurrent removal of an
+     * older entry for the key cannot drop the index entry of the new one.
+     */
+    private void cacheLocally(K key, V value) {
+        if (localCache != null) {
+            localCache.put(key, value);
+            if (localKeys != null) {
+                localKeys.put(key);
+            }
+        }
+    }
+
+    /**
+     * Drops in-flight fetches and remembered absences of a key.
+     */
+    private void forgetLocally(K key) {
+        inFlight.remove(key);
+        if (negativeCache != null) {
+            negativeCache.invalidate(keyMapper.apply(key));
+        }
+    }
+
+    /**
+     * Drops all local state.
+     */
+    private void forgetAllLocally() {
+        inFlight.clear();
+        if (localCache != null) {
+            localCache.invalidateAll();
+        }
+        if (negativeCache != null) {
+            negativeCache.invalidateAll();
+        }
+        if (freshness != null) {
+            freshness.invalidateAll();
+        }
+    }
+
+    /**
+     * Waits for a fetch led by another thread.
+     */
+    private Optional<V> await(CompletableFuture<Optional<V>> fetch) {
+        try {
+            return fetch.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw e;
+        }
+    }
+
     /**
      * Stores a value in the cache.
      *
@@ -254,16 +612,24 @@ public class DistributedCache<K, V> {
         }
 
         // Update local cache
-        if (localCache != null) {
-            localCache.put(key, valueToStore);
-        }
+        forgetLocally(key);
+        cacheLocally(key, valueToStore);
 
-        // Write to Redis based on strategy
+        // Other servers may hold an old copy or remember this key as absent,
+        // so they are told only once the new value can be read from Redis
         final V finalValue = valueToStore;
+        Runnable notifyPeers = () -> {
+            if (invalidation != null) {
+                invalidation.invalidate(keyMapper.apply(key));
+            }
+        };
+
+        // Write to Redis based on strategy
         if (syncStrategy.isSynchronous()) {
             writeToRedis(key, finalValue);
+            notifyPeers.run();
         } else {
-            CompletableFuture.runAsync(() -> writeToRedis(key, finalValue), executor);
+            CompletableFuture.runAsync(() -> writeToRedis(key, finalValue), executor).thenRun(notifyPeers);
         }
     }
 
@@ -297,11 +663,60 @@ public class DistributedCache<K, V> {
     /**
      * Stores multiple values in the cache.
      *
+     * <p>All values are written to Redis in a single bulk request. If a
+     * conflict resolver is configured, the existing values are first read
+     * with a single bulk request as well.
+     *
      * @param entries the entries to store
      * @since 1.0.0
      */
     public void putAll(@NotNull Map<? extends K, ? extends V> entries) {
-        entries.forEach(this::put);
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        Map<K, V> toStore = new LinkedHashMap<>(entries);
+
+        // Apply conflict resolution if configured
+        if (conflictResolver != null) {
+            Map<K, V> existing = getAll(toStore.keySet());
+            toStore.replaceAll((key, value) -> conflictResolver.resolve(existing.get(key), value));
+            toStore.values().removeIf(Objects::isNull);
+            if (toStore.isEmpty()) {
+                return;
+            }
+        }
+
+        // Update local cache
+        toStore.forEach((key, value) -> {
+            forgetLocally(key);
+            cacheLocally(key, value);
+        });
+
+        // Other servers may hold old copies or remember these keys as absent,
+        // so they are told only once the new values can be read from Redis
+        Runnable notifyPeers = () -> {
+            if (invalidation != null) {
+                invalidation.invalidateAll(toStore.keySet().stream().map(keyMapper).toList());
+            }
+        };
+
+        // Write to Redis based on strategy
+        if (syncStrategy.isSynchronous()) {
+            writeAllToRedis(toStore);
+            notifyPeers.run();
+        } else {
+            CompletableFuture.runAsync(() -> writeAllToRedis(toStore), executor).thenRun(notifyPeers);
+        }
+    }
+
+    /**
+     * Writes multiple values to Redis in one bulk request.
+     */
+    private void writeAllToRedis(Map<K, V> entries) {
+        Map<String, byte[]> data = new LinkedHashMap<>();
+        entries.forEach((key, value) -> data.put(toRedisKey(key), serializer.serialize(value)));
+        redisOps.setAll(data, ttl);
     }
 
     /**
@@ -314,9 +729,13 @@ public class DistributedCache<K, V> {
      */
     public void invalidate(@NotNull K key) {
         // Remove from local cache
+        forgetLocally(key);
         if (localCache != null) {
             localCache.invalidate(key);
         }
+        if (freshness != null) {
+            freshness.invalidate(key);
+        }
 
         // Remove from Redis
         String redisKey = toRedisKey(key);
@@ -324,7 +743,7 @@ public class DistributedCache<K, V> {
 
         // Notify other servers
         if (invalidation != null) {
-            invalidation.invalidate(key);
+            invalidation.invalidate(keyMapper.apply(key));
         }
     }
 
@@ -343,16 +762,25 @@ public class DistributedCache<K, V> {
     /**
      * Invalidates all entries in the cache.
      *
+     * <p>With generational invalidation this is a single counter increment;
+     * otherwise every key with this cache's prefix is deleted by pattern.
+     *
      * @since 1.0.0
      */
     public void invalidateAll() {
-        // Clear local cache
-        if (localCache != null) {
-            localCache.invalidateAll();
-        }
+        if (generational) {
+            // Bump first so concurrent fetches cannot repopulate from the old generation
+            generation = redisOps.increment(generationKey());
+            generationReadAt = System.nanoTime();
+            generationStale = false;
+            forgetAllLocally();
+        } else {
+            // Clear local cache
+            forgetAllLocally();
 
-        // Clear Redis keys with this cache's prefix
-        redisOps.deleteByPattern(name + ":*");
+            // Clear Redis keys with this cache's prefix
+            redisOps.deleteByPattern(name + ":*");
+        }
 
         // Notify other servers
         if (invalidation != null) {
@@ -374,15 +802,31 @@ public class DistributedCache<K, V> {
     /**
      * Returns combined statistics for local and remote caches.
      *
+     * <p>Hits count lookups answered by either tier. Misses count lookups
+     * for absent keys, including those answered by a remembered absence,
+     * which are also counted in {@link CacheStats#negativeHitCount()}.
+     * Load, eviction and size figures come from the local cache.
+     *
      * @return the cache statistics
      * @since 1.0.0
      */
     @NotNull
     public CacheStats stats() {
-        if (localCache != null) {
-            return localCache.stats();
-        }
-        return CacheStats.EMPTY;
+        CacheStats local = localCache != null ? localCache.stats() : CacheStats.EMPTY;
+        long negative = negativeHits.sum();
+        return CacheStats.builder()
+                .hitCount(localHits.sum() + remoteHits.sum())
+                .missCount(misses.sum() + negative)
+                .loadSuccessCount(local.loadSuccessCount())
+                .loadFailureCount(local.loadFailureCount())
+                .totalLoadTime(local.totalLoadTime())
+                .evictionCount(local.evictionCount())
+                .evictionWeight(local.evictionWeight())
+                .size(local.size())
+                .weightedSize(local.weightedSize())
+                .negativeHitCount(negative)
+                .earlyRefreshCount(earlyRefreshes.sum())
+                .build();
     }
 
     /**
@@ -433,6 +877,47 @@ public class DistributedCache<K, V> {
          */
         void set(@NotNull String key, @NotNull byte[] value, @NotNull Duration ttl);
 
+        /**
+         * Gets multiple values from Redis in one request.
+         *
+         * <p>The default implementation calls {@link #get(String)} once per key.
+         * Implementations should override it with {@code MGET}.
+         *
+         * @param keys the keys
+         * @return the value bytes of the keys that were found
+         */
+        @NotNull
+        default Map<String, byte[]> getAll(@NotNull Collection<String> keys) {
+            Map<String, byte[]> result = new HashMap<>();
+            for (String key : keys) {
+                byte[] value = get(key);
+                if (value != null) {
+                    result.put(key, value);
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Sets multiple values in Redis in one request.
+         *
+         * <p>The default implementation calls {@code set} once per entry.
+         * Implementations should override it with {@code MSET}, or with a
+         * pipeline of {@code SET ... PX} commands when a TTL is given.
+         *
+         * @param entries the value bytes by key
+         * @param ttl     the time-to-live, or null for no expiry
+         */
+        default void setAll(@NotNull Map<String, byte[]> entries, @Nullable Duration ttl) {
+            entries.forEach((key, value) -> {
+                if (ttl != null) {
+                    set(key, value, ttl);
+                } else {
+                    set(key, value);
+                }
+            });
+        }
+
         /**
          * Deletes a key from Redis.
          *
@@ -449,6 +934,17 @@ public class DistributedCache<K, V> {
          */
         long deleteByPattern(@NotNull String pattern);
 
+        /**
+         * Atomically increments an integer counter, as {@code INCR} does.
+         *
+         * <p>Used by generational invalidation. The counter is read back
+         * with {@link #get(String)} and must be stored as its decimal string.
+         *
+         * @param key the counter key
+         * @return the value after the increment
+         */
+        long increment(@NotNull String key);
+
         /**
          * Publishes a message to a channel.
          *
@@ -548,6 +1044,9 @@ public class DistributedCache<K, V> {
         private String serverId;
         private Executor executor;
         private ConflictResolver<V> conflictResolver;
+        private Duration negativeTtl;
+        private double earlyRefreshBeta;
+        private boolean generational;
 
         private Builder() {}
 
@@ -659,6 +1158,51 @@ public class DistributedCache<K, V> {
             return this;
         }
 
+        /**
+         * Enables negative caching of keys found absent in Redis.
+         *
+         * <p>Keep this short; it bounds how long a value written by a server
+         * that cannot reach this one through invalidation stays invisible.
+         *
+         * @param ttl how long to remember an absent key, or null to disable
+         */
+        @NotNull
+        public Builder<K, V> negativeTtl(@Nullable Duration ttl) {
+            this.negativeTtl = ttl;
+            return this;
+        }
+
+        /**
+         * Enables probabilistic early refresh of local entries.
+         *
+         * <p>Has no effect without a {@link #localTtl(Duration) local TTL}.
+         * A beta of 1.0 is a good default; larger values refresh earlier.
+         *
+         * @param beta the early refresh aggressiveness, or 0 to disable
+         */
+        @NotNull
+        public Builder<K, V> earlyRefreshBeta(double beta) {
+            if (beta < 0) {
+                throw new IllegalArgumentException("beta must be non-negative");
+            }
+            this.earlyRefreshBeta = beta;
+            return this;
+        }
+
+        /**
+         * Enables generational invalidation.
+         *
+         * <p>Requires a {@link #ttl(Duration) TTL}, so keys of old generations
+         * expire.
+         *
+         * @param enabled whether invalidateAll bumps a generation counter
+         */
+        @NotNull
+        public Builder<K, V> generationalInvalidation(boolean enabled) {
+            this.generational = enabled;
+            return this;
+        }
+
         /**
          * Builds the DistributedCache instance.
          *
@@ -675,8 +1219,12 @@ public class DistributedCache<K, V> {
             if (serializer == null) {
                 throw new IllegalStateException("serializer is required");
             }
+            if (generational && ttl == null) {
+                throw new IllegalStateException("generational invalidation requires a ttl");
+            }
 
             LocalCache<K, V> local = null;
+            LocalKeyIndex<K, V> localKeys = null;
             if (localCacheEnabled) {
                 CacheConfig localConfig = CacheConfig.builder()
                         .name(name + "-local")
@@ -684,28 +1232,104 @@ public class DistributedCache<K, V> {
                         .expireAfterWrite(localTtl)
                         .recordStats(true)
                         .build();
-                local = new LocalCache<>(localConfig);
+                localKeys = new LocalKeyIndex<>(keyMapper);
+                local = new LocalCache<>(localConfig, null, localKeys::onRemoval);
+                localKeys.attach(local);
+            }
+
+            LocalCache<String, Boolean> negative = null;
+            if (negativeTtl != null) {
+                negative = new LocalCache<>(CacheConfig.builder()
+                        .name(name + "-negative")
+                        .maximumSize(localMaxSize)
+                        .expireAfterWrite(negativeTtl)
+                        .build());
+            }
+
+            LocalCache<K, Freshness> freshness = null;
+            if (localCacheEnabled && localTtl != null && earlyRefreshBeta > 0) {
+                freshness = new LocalCache<>(CacheConfig.builder()
+                        .name(name + "-freshness")
+                        .maximumSize(localMaxSize)
+                        .expireAfterWrite(localTtl)
+                        .build());
             }
 
             CacheInvalidation invalidation = null;
-            if (localCacheEnabled) {
+            if (localCacheEnabled || negativeTtl != null) {
+                RedisOperations ops = redisOps;
+                String channel = invalidationChannel(name);
                 invalidation = CacheInvalidation.builder()
                         .cacheName(name)
                         .serverId(serverId != null ? serverId : java.util.UUID.randomUUID().toString())
-                        .publisher(msg -> {
-                            // Serialize and publish the message
-                            // This would need proper serialization in a real implementation
-                        })
+                        .publisher(msg -> ops.publish(channel, msg.toBytes()))
                         .build();
+                CacheInvalidation receiver = invalidation;
+                ops.subscribe(channel, data ->
+                        receiver.handleMessage(CacheInvalidation.InvalidationMessage.fromBytes(data)));
             }
 
             return new DistributedCache<>(
-                    name, redisOps, local, localCacheEnabled, serializer, keyMapper,
-                    ttl, syncStrategy, invalidation, executor, conflictResolver
+                    name, redisOps, local, localKeys, localCacheEnabled, serializer, keyMapper,
+                    ttl, syncStrategy, invalidation, executor, conflictResolver,
+                    negative, freshness, localTtl, earlyRefreshBeta, generational
             );
         }
     }
 
+    /**
+     * Maps the key strings carried by invalidation messages back to local
+     * cache keys, so invalidations do not scan the local cache.
+     *
+     * <p>Entries are added after each local put and dropped when the local
+     * cache removes the key. Removal notifications are asynchronous, so an
+     * entry is only dropped if its key is no longer cached.
+     *
+     * @param <K> the key type
+     * @param <V> the value type
+     */
+    private static final class LocalKeyIndex<K, V> {
+
+        private final Map<String, K> keys = new ConcurrentHashMap<>();
+        private final Function<K, String> keyMapper;
+        private volatile LocalCache<K, V> cache;
+
+        LocalKeyIndex(Function<K, String> keyMapper) {
+            this.keyMapper = keyMapper;
+        }
+
+        void attach(LocalCache<K, V> cache) {
+            this.cache = cache;
+        }
+
+        void put(K key) {
+            keys.put(keyMapper.apply(key), key);
+        }
+
+        @Nullable
+        K get(String mappedKey) {
+            return keys.get(mappedKey);
+        }
+
+        void onRemoval(@Nullable K key, @Nullable V value, RemovalCause cause) {
+            LocalCache<K, V> local = cache;
+            if (key == null || local == null) {
+                return;
+            }
+            keys.computeIfPresent(keyMapper.apply(key),
+                    (mappedKey, indexed) -> local.containsKey(indexed) ? indexed : null);
+        }
+    }
+
+    /**
+     * Fetch timing of a local entry, used for early refresh.
+     *
+     * @param deltaNanos     how long the fetch took
+     * @param expiresAtNanos when the local entry expires, in {@link System#nanoTime()} units
+     */
+    private record Freshness(long deltaNanos, long expiresAtNanos) {
+    }
+
     @Override
     public String toString() {
         return "DistributedCache{name='" + name + "', localEnabled=" + localCacheEnabled +
@@ -8,16 +8,25 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.ReentrantLock;
 
 /**
@@ -54,9 +63,22 @@ import java.util.concurrent.locks.ReentrantLock;
  *   <li><b>Write-Through</b>: Writes are immediately persisted (use CacheWriter directly)</li>
  * </ul>
  *
+ * <h2>Striping</h2>
+ * <p>Pending writes are spread over several stripes by key hash. Each stripe
+ * buffers into its own coalescing map, which a flush swaps for an empty one
+ * atomically, so writers never wait for a flush in progress. Stripes are
+ * flushed in parallel on the flush executor; a single stripe is never
+ * flushed concurrently, which keeps writes to the same key in order.
+ *
+ * <h2>Backpressure</h2>
+ * <p>When more than {@link Builder#maxPendingWrites(long)} writes are pending,
+ * the writing thread flushes every stripe before returning, throttling
+ * producers to the throughput of the {@link CacheWriter}. The limit is
+ * checked against a running count, so writers do not walk the stripes.
+ *
  * <h2>Thread Safety</h2>
  * <p>All operations are thread-safe. The writer is invoked from a background
- * thread, never from the calling thread.
+ * thread, except when backpressure makes a writing thread flush.
  *
  * @param <K> the key type
  * @param <V> the value type
@@ -71,44 +93,87 @@ public class WriteBehindCache<K, V> extends LocalCache<K, V> {
     private final Duration writeDelay;
     private final int batchSize;
     private final boolean coalesceWrites;
+    private final long maxPendingWrites;
 
-    private final Map<K, V> pendingWrites;
-    private final ReentrantLock writeLock;
+    private final Stripe<K, V>[] stripes;
     private final ScheduledExecutorService scheduler;
+    private final Executor flushExecutor;
+    private final ExecutorService ownedFlushExecutor;
     private final AtomicBoolean shutdown;
 
+    // Entries drained from a stripe but not yet written
+    private final AtomicLong flushingCount = new AtomicLong();
+
+    // Entries in stripe buffers; races with a buffer swap can skew it
+    // slightly, so every scheduled flush recounts it
+    private final AtomicLong queuedCount = new AtomicLong();
+
+    private final LongAdder flushCount = new LongAdder();
+    private final LongAdder batchCount = new LongAdder();
+    private final LongAdder writtenCount = new LongAdder();
+    private final LongAdder failureCount = new LongAdder();
+    private final AtomicLong lastBatchSize = new AtomicLong();
+    private final AtomicLong lastFlushLagNanos = new AtomicLong();
+    private final AtomicLong maxFlushLagNanos = new AtomicLong();
+
     private ScheduledFuture<?> flushTask;
 
     /**
      * Creates a new write-behind cache.
      *
-     * @param config          the cache configuration
-     * @param writer          the cache writer
-     * @param writeDelay      the delay before flushing writes
-     * @param batchSize       the maximum batch size
-     * @param coalesceWrites  whether to coalesce multiple writes to the same key
+     * @param config           the cache configuration
+     * @param writer           the cache writer
+     * @param writeDelay       the delay before flushing writes
+     * @param batchSize        the maximum batch size
+     * @param coalesceWrites   whether to coalesce multiple writes to the same key
      * @param conflictResolver optional conflict resolver
+     * @param stripeCount      the number of write buffer stripes
+     * @param maxPendingWrites the pending write count above which writers flush themselves
+     * @param flushExecutor    optional executor for flushes
      */
+    @SuppressWarnings({"unchecked", "rawtypes"})
     private WriteBehindCache(
             @NotNull CacheConfig config,
             @NotNull CacheWriter<K, V> writer,
             @NotNull Duration writeDelay,
             int batchSize,
             boolean coalesceWrites,
-            @Nullable ConflictResolver<V> conflictResolver) {
+            @Nullable ConflictResolver<V> conflictResolver,
+            int stripeCount,
+            long maxPendingWrites,
+            @Nullable Executor flushExecutor) {
         super(config, conflictResolver, null);
         this.writer = Objects.requireNonNull(writer, "writer cannot be null");
         this.writeDelay = Objects.requireNonNull(writeDelay, "writeDelay cannot be null");
         this.batchSize = batchSize > 0 ? batchSize : 100;
         this.coalesceWrites = coalesceWrites;
+        this.maxPendingWrites = maxPendingWrites > 0 ? maxPendingWrites : Long.MAX_VALUE;
+
+        // Power of two so the stripe can be selected with a mask
+        int count = stripeCount <= 1 ? 1 : Integer.highestOneBit(Math.min(stripeCount, 1 << 16) - 1) << 1;
+        this.stripes = new Stripe[count];
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new Stripe<>();
+        }
 
-        this.pendingWrites = new ConcurrentHashMap<>();
-        this.writeLock = new ReentrantLock();
         this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
             Thread t = new Thread(r, "cache-write-behind-" + config.name());
             t.setDaemon(true);
             return t;
         });
+        if (flushExecutor != null) {
+            this.flushExecutor = flushExecutor;
+            this.ownedFlushExecutor = null;
+        } else {
+            AtomicInteger threadIndex = new AtomicInteger();
+            this.ownedFlushExecutor = Executors.newFixedThreadPool(Math.min(count, 4), r -> {
+                Thread t = new Thread(r, "cache-write-behind-" + config.name() + "-flush-"
+                        + threadIndex.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            });
+            this.flushExecutor = ownedFlushExecutor;
+        }
         this.shutdown = new AtomicBoolean(false);
 
         scheduleFlush();
@@ -119,7 +184,7 @@ public class WriteBehindCache<K, V> extends LocalCache<K, V> {
      */
     private void scheduleFlush() {
         this.flushTask = scheduler.scheduleWithFixedDelay(
-                this::flushPending,
+                this::flushAllAsync,
                 writeDelay.toMillis(),
                 writeDelay.toMillis(),
                 TimeUnit.MILLISECONDS
@@ -158,14 +223,26 @@ public class WriteBehindCache<K, V> extends LocalCache<K, V> {
         return batchSize;
     }
 
+    /**
+     * Returns the number of write buffer stripes.
+     *
+     * @return the stripe count
+     * @since 1.0.0
+     */
+    public int stripeCount() {
+        return stripes.length;
+    }
+
     /**
      * Returns the number of pending writes.
      *
+     * <p>Includes writes currently being flushed.
+     *
      * @return the pending write count
      * @since 1.0.0
      */
     public int pendingCount() {
-        return pendingWrites.size();
+        return (int) Math.min(Integer.MAX_VALUE, pendingTotal());
     }
 
     /**
@@ -175,7 +252,39 @@ public class WriteBehindCache<K, V> extends LocalCache<K, V> {
      * @since 1.0.0
      */
     public boolean hasPendingWrites() {
-        return !pendingWrites.isEmpty();
+        return pendingTotal() > 0;
+    }
+
+    private long pendingTotal() {
+        long total = flushingCount.get();
+        for (Stripe<K, V> stripe : stripes) {
+            total += stripe.buffer.get().entries.size();
+        }
+        return total;
+    }
+
+    private long pendingEstimate() {
+        return queuedCount.get() + flushingCount.get();
+    }
+
+    /**
+     * Returns write-behind statistics.
+     *
+     * @return a snapshot of the flush statistics
+     * @since 1.0.0
+     */
+    @NotNull
+    public WriteBehindStats writeBehindStats() {
+        return new WriteBehindStats(
+                pendingTotal(),
+                flushCount.sum(),
+                batchCount.sum(),
+                writtenCount.sum(),
+                failureCount.sum(),
+                lastBatchSize.get(),
+                Duration.ofNanos(lastFlushLagNanos.get()),
+                Duration.ofNanos(maxFlushLagNanos.get())
+        );
     }
 
     @Override
@@ -198,11 +307,37 @@ public class WriteBehindCache<K, V> extends LocalCache<K, V> {
             throw new IllegalStateException("Cache is shutting down");
         }
 
-        pendingWrites.put(key, value);
+        Stripe<K, V> stripe = stripeFor(key);
+        Buffer<K, V> buffer = stripe.buffer.get();
+        V previous = buffer.entries.put(key, value);
+        if (previous == null) {
+            buffer.touch();
+            queuedCount.incrementAndGet();
+        }
+
+        // A flush swapped the buffer meanwhile and may have missed this write;
+        // carry it over unless a newer write to the key already landed there
+        Buffer<K, V> current = stripe.buffer.get();
+        while (current != buffer) {
+            buffer = current;
+            if (buffer.entries.putIfAbsent(key, value) == null) {
+                buffer.touch();
+                queuedCount.incrementAndGet();
+            }
+            current = stripe.buffer.get();
+        }
 
-        // Flush immediately if we hit batch size
-        if (pendingWrites.size() >= batchSize) {
-            scheduler.execute(this::flushPending);
+        if (pendingEstimate() > maxPendingWrites) {
+            // Backpressure: the writer pays for flushing every stripe, since
+            // its own may hold little of the backlog
+            try {
+                flush();
+            } catch (RuntimeException e) {
+                // Entries were re-queued and the failure counted
+            }
+        } else if (buffer.entries.size() >= batchSize) {
+            // Flush early if we hit batch size
+            scheduleStripeFlush(stripe);
         }
     }
 
@@ -210,54 +345,148 @@ public class WriteBehindCache<K, V> extends LocalCache<K, V> {
      * Flushes all pending writes to storage.
      *
      * <p>This method blocks until all pending writes are persisted.
+     * Stripes are flushed in parallel.
      *
+     * @throws RuntimeException if a write fails; failed entries are re-queued
      * @since 1.0.0
      */
     public void flush() {
-        flushPending();
+        List<CompletableFuture<Void>> flushes = new ArrayList<>();
+        for (Stripe<K, V> stripe : stripes) {
+            if (!stripe.buffer.get().entries.isEmpty()) {
+                flushes.add(CompletableFuture.runAsync(() -> flushStripe(stripe), flushExecutor));
+            }
+        }
+
+        RuntimeException failure = null;
+        for (CompletableFuture<Void> flush : flushes) {
+            try {
+                flush.join();
+            } catch (CompletionException e) {
+                if (failure == null) {
+                    failure = e.getCause() instanceof RuntimeException runtime ? runtime : e;
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
     }
 
     /**
-     * Flushes pending writes (internal implementation).
+     * Starts a flush of every non-empty stripe without waiting, and recounts
+     * the queued entries.
      */
-    private void flushPending() {
-        if (pendingWrites.isEmpty()) {
+    private void flushAllAsync() {
+        long queued = 0;
+        for (Stripe<K, V> stripe : stripes) {
+            int size = stripe.buffer.get().entries.size();
+            queued += size;
+            if (size > 0) {
+                scheduleStripeFlush(stripe);
+            }
+        }
+        queuedCount.set(queued);
+    }
+
+    /**
+     * Submits a flush of one stripe unless one is already queued.
+     */
+    private void scheduleStripeFlush(Stripe<K, V> stripe) {
+        if (!stripe.flushQueued.compareAndSet(false, true)) {
             return;
         }
+        try {
+            flushExecutor.execute(() -> {
+                stripe.flushQueued.set(false);
+                try {
+                    flushStripe(stripe);
+                } catch (RuntimeException e) {
+                    // Entries were re-queued; the next scheduled flush retries
+                }
+            });
+        } catch (RuntimeException e) {
+            // Rejected; the next scheduled flush picks the stripe up
+            stripe.flushQueued.set(false);
+        }
+    }
 
-        writeLock.lock();
+    /**
+     * Swaps out and writes the buffer of one stripe.
+     */
+    private void flushStripe(Stripe<K, V> stripe) {
+        stripe.flushLock.lock();
         try {
-            Map<K, V> toWrite = new HashMap<>();
-
-            // Drain pending writes in batches
-            var iterator = pendingWrites.entrySet().iterator();
-            while (iterator.hasNext() && toWrite.size() < batchSize) {
-                var entry = iterator.next();
-                toWrite.put(entry.getKey(), entry.getValue());
-                iterator.remove();
+            if (stripe.buffer.get().entries.isEmpty()) {
+                return;
             }
+            Buffer<K, V> drained = stripe.buffer.getAndSet(new Buffer<>());
+            Map<K, V> entries = drained.entries;
+            int size = entries.size();
+            queuedCount.addAndGet(-size);
+            flushingCount.addAndGet(size);
 
-            if (!toWrite.isEmpty()) {
-                try {
-                    writer.writeAll(toWrite);
-                } catch (Exception e) {
-                    // Re-queue failed writes
-                    if (coalesceWrites) {
-                        toWrite.forEach((k, v) -> pendingWrites.putIfAbsent(k, v));
-                    } else {
-                        pendingWrites.putAll(toWrite);
+            try {
+                Map<K, V> batch = new HashMap<>();
+                for (Map.Entry<K, V> entry : entries.entrySet()) {
+                    batch.put(entry.getKey(), entry.getValue());
+                    if (batch.size() >= batchSize) {
+                        writeBatch(stripe, batch, entries);
+                        batch = new HashMap<>();
                     }
-                    throw new RuntimeException("Failed to flush writes", e);
                 }
+                if (!batch.isEmpty()) {
+                    writeBatch(stripe, batch, entries);
+                }
+            } finally {
+                flushingCount.addAndGet(-size);
             }
 
-            // Flush remaining if any
-            if (!pendingWrites.isEmpty()) {
-                scheduler.execute(this::flushPending);
-            }
+            flushCount.increment();
+            long lag = System.nanoTime() - drained.firstWriteNanos.get();
+            lastFlushLagNanos.set(lag);
+            maxFlushLagNanos.accumulateAndGet(lag, Math::max);
         } finally {
-            writeLock.unlock();
+            stripe.flushLock.unlock();
+        }
+    }
+
+    /**
+     * Writes one batch, re-queueing the remainder of the drained buffer on failure.
+     */
+    private void writeBatch(Stripe<K, V> stripe, Map<K, V> batch, Map<K, V> drained) {
+        try {
+            writer.writeAll(batch);
+        } catch (Exception e) {
+            failureCount.increment();
+            requeue(stripe, drained);
+            throw new RuntimeException("Failed to flush writes", e);
         }
+        // Written entries no longer need re-queueing if a later batch fails
+        batch.keySet().forEach(drained::remove);
+        batchCount.increment();
+        writtenCount.add(batch.size());
+        lastBatchSize.set(batch.size());
+    }
+
+    /**
+     * Puts failed writes back into the current buffer of their stripe.
+     */
+    private void requeue(Stripe<K, V> stripe, Map<K, V> failed) {
+        Buffer<K, V> buffer = stripe.buffer.get();
+        failed.forEach((k, v) -> {
+            V previous = coalesceWrites ? buffer.entries.putIfAbsent(k, v) : buffer.entries.put(k, v);
+            if (previous == null) {
+                buffer.touch();
+                queuedCount.incrementAndGet();
+            }
+        });
+    }
+
+    private Stripe<K, V> stripeFor(K key) {
+        int h = key.hashCode();
+        h ^= (h >>> 16);
+        return stripes[h & (stripes.length - 1)];
     }
 
     /**
@@ -266,7 +495,7 @@ public class WriteBehindCache<K, V> extends LocalCache<K, V> {
     @Override
     public void invalidate(@NotNull K key) {
         super.invalidate(key);
-        pendingWrites.remove(key);
+        forgetPending(key);
     }
 
     /**
@@ -276,7 +505,13 @@ public class WriteBehindCache<K, V> extends LocalCache<K, V> {
     public void invalidateAll(@NotNull Iterable<? extends K> keys) {
         super.invalidateAll(keys);
         for (K key : keys) {
-            pendingWrites.remove(key);
+            forgetPending(key);
+        }
+    }
+
+    private void forgetPending(K key) {
+        if (stripeFor(key).buffer.get().entries.remove(key) != null) {
+            queuedCount.decrementAndGet();
         }
     }
 
@@ -286,7 +521,13 @@ public class WriteBehindCache<K, V> extends LocalCache<K, V> {
     @Override
     public void invalidateAll() {
         super.invalidateAll();
-        pendingWrites.clear();
+        clearPending();
+    }
+
+    private void clearPending() {
+        for (Stripe<K, V> stripe : stripes) {
+            queuedCount.addAndGet(-stripe.buffer.getAndSet(new Buffer<>()).entries.size());
+        }
     }
 
     /**
@@ -304,20 +545,31 @@ public class WriteBehindCache<K, V> extends LocalCache<K, V> {
                 flushTask.cancel(false);
             }
 
-            // Flush remaining writes
-            while (!pendingWrites.isEmpty()) {
-                flushPending();
-            }
-
-            // Shutdown scheduler
-            scheduler.shutdown();
             try {
-                if (!scheduler.awaitTermination(30, TimeUnit.SECONDS)) {
+                // Flush remaining writes
+                while (hasPendingWrites()) {
+                    flush();
+                }
+            } finally {
+                // Shutdown executors
+                scheduler.shutdown();
+                if (ownedFlushExecutor != null) {
+                    ownedFlushExecutor.shutdown();
+                }
+                try {
+                    if (!scheduler.awaitTermination(30, TimeUnit.SECONDS)) {
+                        scheduler.shutdownNow();
+                    }
+                    if (ownedFlushExecutor != null && !ownedFlushExecutor.awaitTermination(30, TimeUnit.SECONDS)) {
+                        ownedFlushExecutor.shutdownNow();
+                    }
+                } catch (InterruptedException e) {
                     scheduler.shutdownNow();
+                    if (ownedFlushExecutor != null) {
+                        ownedFlushExecutor.shutdownNow();
+                    }
+                    Thread.currentThread().interrupt();
                 }
-            } catch (InterruptedException e) {
-                scheduler.shutdownNow();
-                Thread.currentThread().interrupt();
             }
         }
     }
@@ -334,8 +586,11 @@ public class WriteBehindCache<K, V> extends LocalCache<K, V> {
             if (flushTask != null) {
                 flushTask.cancel(true);
             }
-            pendingWrites.clear();
+            clearPending();
             scheduler.shutdownNow();
+            if (ownedFlushExecutor != null) {
+                ownedFlushExecutor.shutdownNow();
+            }
         }
     }
 
@@ -377,6 +632,9 @@ public class WriteBehindCache<K, V> extends LocalCache<K, V> {
         private int batchSize = 100;
         private boolean coalesceWrites = true;
         private ConflictResolver<V> conflictResolver;
+        private int stripes = Runtime.getRuntime().availableProcessors();
+        private long maxPendingWrites = 100_000;
+        private Executor flushExecutor;
 
         private Builder() {}
 
@@ -482,6 +740,43 @@ public class WriteBehindCache<K, V> extends LocalCache<K, V> {
             return this;
         }
 
+        /**
+         * Sets the number of write buffer stripes.
+         *
+         * <p>Rounded up to a power of two. Defaults to the number of processors.
+         */
+        @NotNull
+        public Builder<K, V> stripes(int stripes) {
+            if (stripes < 1) {
+                throw new IllegalArgumentException("stripes must be positive");
+            }
+            this.stripes = stripes;
+            return this;
+        }
+
+        /**
+         * Sets the number of pending writes above which writers flush
+         * their stripe themselves before returning.
+         *
+         * <p>Defaults to 100,000. Zero or less disables backpressure.
+         */
+        @NotNull
+        public Builder<K, V> maxPendingWrites(long maxPendingWrites) {
+            this.maxPendingWrites = maxPendingWrites;
+            return this;
+        }
+
+        /**
+         * Sets the executor running stripe flushes.
+         *
+         * <p>Defaults to a small dedicated pool that is shut down with the cache.
+         */
+        @NotNull
+        public Builder<K, V> flushExecutor(@Nullable Executor executor) {
+            this.flushExecutor = executor;
+            return this;
+        }
+
         /**
          * Builds the WriteBehindCache instance.
          *
@@ -494,7 +789,65 @@ public class WriteBehindCache<K, V> extends LocalCache<K, V> {
                 throw new IllegalStateException("writer is required");
             }
             return new WriteBehindCache<>(
-                    configBuilder.build(), writer, writeDelay, batchSize, coalesceWrites, conflictResolver);
+                    configBuilder.build(), writer, writeDelay, batchSize, coalesceWrites, conflictResolver,
+                    stripes, maxPendingWrites, flushExecutor);
+        }
+    }
+
+    /**
+     * Write-behind flush statistics.
+     *
+     * @param pendingCount     the number of writes waiting to be persisted
+     * @param flushCount       the number of completed stripe flushes
+     * @param batchCount       the number of batches passed to the writer
+     * @param writtenCount     the number of entries persisted
+     * @param failureCount     the number of failed batches
+     * @param lastBatchSize    the size of the most recent batch
+     * @param lastFlushLag     time from the oldest write of the last flushed buffer to its persistence
+     * @param maxFlushLag      the largest flush lag observed
+     * @since 1.0.0
+     */
+    public record WriteBehindStats(
+            long pendingCount,
+            long flushCount,
+            long batchCount,
+            long writtenCount,
+            long failureCount,
+            long lastBatchSize,
+            @NotNull Duration lastFlushLag,
+            @NotNull Duration maxFlushLag
+    ) {
+
+        /**
+         * Returns the average number of entries per batch.
+         *
+         * @return the average batch size, or 0 if nothing was written
+         */
+        public double averageBatchSize() {
+            return batchCount == 0 ? 0.0 : (double) writtenCount / batchCount;
+        }
+    }
+
+    /**
+     * A stripe of the write buffer.
+     */
+    private static final class Stripe<K, V> {
+        final AtomicReference<Buffer<K, V>> buffer = new AtomicReference<>(new Buffer<>());
+        final ReentrantLock flushLock = new ReentrantLock();
+        final AtomicBoolean flushQueued = new AtomicBoolean();
+    }
+
+    /**
+     * A coalescing buffer of pending writes, replaced as a whole on flush.
+     */
+    private static final class Buffer<K, V> {
+        final Map<K, V> entries = new ConcurrentHashMap<>();
+        final AtomicLong firstWriteNanos = new AtomicLong();
+
+        void touch() {
+            if (firstWriteNanos.get() == 0) {
+                firstWriteNanos.compareAndSet(0, System.nanoTime());
+            }
         }
     }
 
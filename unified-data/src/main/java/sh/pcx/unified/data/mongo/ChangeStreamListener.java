@@ -7,6 +7,8 @@ package sh.pcx.unified.data.mongo;
 import org.bson.Document;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.List;
+
 /**
  * Listener interface for MongoDB change stream events.
  *
@@ -62,9 +64,16 @@ import org.jetbrains.annotations.NotNull;
  *   <li>{@link #onError(Throwable)} - Called when an error occurs</li>
  * </ul>
  *
+ * <h2>Batches</h2>
+ * <p>Events are delivered in batches through {@link #onBatch(List)}, whose
+ * default implementation dispatches each event to the methods above.
+ * Override it to process a burst of changes at once, for example to write
+ * them to a cache in one operation.
+ *
  * <h2>Thread Safety</h2>
- * <p>Implementations must be thread-safe as events may be delivered from
- * multiple threads concurrently.
+ * <p>Batches of one subscription are delivered one at a time and in order,
+ * but not always from the same thread. A listener registered for several
+ * subscriptions may receive batches concurrently.
  *
  * @param <T> the document type
  *
@@ -75,6 +84,37 @@ import org.jetbrains.annotations.NotNull;
  */
 public interface ChangeStreamListener<T> {
 
+    /**
+     * Called with a batch of events, in stream order.
+     *
+     * <p>The default implementation calls the method matching each event's
+     * operation type and reports exceptions to {@link #onError(Throwable)},
+     * so one failing event does not drop the rest of the batch. An exception
+     * thrown by an overriding implementation fails the whole batch; see
+     * {@link ChangeStreamManager} for how it is handled.
+     *
+     * @param events the events, never empty
+     * @since 1.0.0
+     */
+    default void onBatch(@NotNull List<ChangeEvent<T>> events) {
+        for (ChangeEvent<T> event : events) {
+            try {
+                switch (event.getOperationType()) {
+                    case INSERT -> onInsert(event);
+                    case UPDATE -> onUpdate(event);
+                    case REPLACE -> onReplace(event);
+                    case DELETE -> onDelete(event);
+                    case INVALIDATE -> onInvalidate(event);
+                    case DROP -> onDrop(event);
+                    case RENAME -> onRename(event);
+                    default -> { /* Ignore unknown operations */ }
+                }
+            } catch (Exception e) {
+                onError(e);
+            }
+        }
+    }
+
     /**
      * Called when a new document is inserted.
      *
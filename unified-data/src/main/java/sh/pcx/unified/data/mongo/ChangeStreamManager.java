@@ -22,14 +22,27 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.Closeable;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Manages MongoDB change stream subscriptions for real-time updates.
@@ -70,6 +83,47 @@ import java.util.concurrent.atomic.AtomicLong;
  * manager.close();
  * }</pre>
  *
+ * <h2>Backpressure and Batching</h2>
+ * <p>Each subscription has its own bounded queue. The manager requests at most
+ * {@link ChangeStreamOptions.Builder#demandWindow(int) demandWindow} events
+ * from the server that the listener has not yet processed, and requests more
+ * only as batches are delivered, so a burst of bulk updates is held back by
+ * the driver instead of piling up on the heap. Queued events are handed to
+ * {@link ChangeStreamListener#onBatch(List)} in batches of up to
+ * {@link ChangeStreamOptions.Builder#deliveryBatchSize(int) deliveryBatchSize}
+ * on the subscription's executor. Batches of one subscription never overlap.
+ *
+ * <h2>Checkpointing</h2>
+ * <p>With {@link ChangeStreamOptions.Builder#checkpoint(ResumeTokenStore, String)}
+ * the resume token of the last delivered event is saved periodically and when
+ * the subscription closes. A later subscription with the same key resumes
+ * after the saved token. Delivery is at least once: events delivered after the
+ * last checkpoint are delivered again after a restart.
+ *
+ * <p>If {@link ChangeStreamListener#onBatch(List)} throws, the listener is
+ * notified through {@link ChangeStreamListener#onError(Throwable)}. Without a
+ * checkpoint the error is logged and delivery continues with the next batch.
+ * With a checkpoint the batch does not count as delivered: the subscription
+ * is closed with its token still at the previous batch, so resubscribing
+ * with the same checkpoint key retries the failed batch.
+ *
+ * <pre>{@code
+ * long id = manager.subscribe("players", PlayerData.class,
+ *     ChangeStreamOptions.builder()
+ *         .demandWindow(512)
+ *         .deliveryBatchSize(100)
+ *         .checkpoint(ResumeTokenStore.file(dataFolder.resolve("tokens")), "player-sync")
+ *         .build(),
+ *     new ChangeStreamListener<>() {
+ *         @Override
+ *         public void onBatch(List<ChangeEvent<PlayerData>> events) {
+ *             cache.refreshAll(events);
+ *         }
+ *     });
+ *
+ * manager.getMetrics(id).ifPresent(m -> logger.info("Change stream lag: " + m.lag()));
+ * }</pre>
+ *
  * <h2>Requirements</h2>
  * <ul>
  *   <li>MongoDB must be running as a replica set (even single node)</li>
@@ -94,6 +148,7 @@ public class ChangeStreamManager implements Closeable {
     private final Map<Long, ManagedSubscription<?>> subscriptions = new ConcurrentHashMap<>();
     private final AtomicLong subscriptionIdGenerator = new AtomicLong(0);
     private final AtomicBoolean closed = new AtomicBoolean(false);
+    private final ScheduledExecutorService scheduler;
 
     /**
      * Creates a new change stream manager.
@@ -103,6 +158,12 @@ public class ChangeStreamManager implements Closeable {
      */
     public ChangeStreamManager(@NotNull MongoConnection connection) {
         this.connection = Objects.requireNonNull(connection, "Connection cannot be null");
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "mongo-change-stream-checkpoint");
+            t.setDaemon(true);
+            return t;
+        });
+        scheduler.scheduleAtFixedRate(this::sampleRates, 1, 1, TimeUnit.SECONDS);
     }
 
     // ===========================================
@@ -159,7 +220,7 @@ public class ChangeStreamManager implements Closeable {
         }
         publisher = createPublisher(publisher, options);
 
-        return startSubscription(collectionName, documentClass, publisher, listener);
+        return startSubscription(collectionName, documentClass, publisher, options, listener);
     }
 
     /**
@@ -221,7 +282,7 @@ public class ChangeStreamManager implements Closeable {
         MongoDatabase database = connection.getDatabase();
         ChangeStreamPublisher<Document> publisher = createPublisher(database.watch(), options);
 
-        return startSubscription("*", Document.class, publisher, listener);
+        return startSubscription("*", Document.class, publisher, options, listener);
     }
 
     // ===========================================
@@ -279,6 +340,45 @@ public class ChangeStreamManager implements Closeable {
         return new ArrayList<>(subscriptions.keySet());
     }
 
+    /**
+     * Returns the metrics of a subscription.
+     *
+     * @param subscriptionId the subscription ID
+     * @return the metrics, or empty if the subscription is not active
+     * @since 1.0.0
+     */
+    @NotNull
+    public Optional<ChangeStreamMetrics> getMetrics(long subscriptionId) {
+        ManagedSubscription<?> subscription = subscriptions.get(subscriptionId);
+        return subscription != null ? Optional.of(subscription.metrics()) : Optional.empty();
+    }
+
+    /**
+     * Returns the metrics of all active subscriptions.
+     *
+     * @return the metrics, one per subscription
+     * @since 1.0.0
+     */
+    @NotNull
+    public List<ChangeStreamMetrics> getAllMetrics() {
+        List<ChangeStreamMetrics> metrics = new ArrayList<>(subscriptions.size());
+        for (ManagedSubscription<?> subscription : subscriptions.values()) {
+            metrics.add(subscription.metrics());
+        }
+        return metrics;
+    }
+
+    /**
+     * Saves the resume token of every checkpointed subscription now.
+     *
+     * @since 1.0.0
+     */
+    public void checkpointAll() {
+        for (ManagedSubscription<?> subscription : subscriptions.values()) {
+            subscription.checkpoint();
+        }
+    }
+
     /**
      * Checks if the manager is closed.
      *
@@ -308,6 +408,7 @@ public class ChangeStreamManager implements Closeable {
             }
 
             subscriptions.clear();
+            scheduler.shutdown();
             LOGGER.info("All change stream subscriptions closed");
         }
     }
@@ -327,8 +428,17 @@ public class ChangeStreamManager implements Closeable {
         // Note: Pipeline must be specified when calling watch(), not after
         // The publisher already has the pipeline if it was provided
 
-        if (options.getResumeToken() != null) {
-            publisher = publisher.resumeAfter(options.getResumeToken());
+        BsonDocument resumeToken = options.getResumeToken();
+        if (resumeToken == null && options.getCheckpointStore() != null) {
+            try {
+                resumeToken = options.getCheckpointStore().load(options.getCheckpointKey());
+            } catch (Exception e) {
+                LOGGER.warn("Failed to load resume token '{}', starting from now",
+                        options.getCheckpointKey(), e);
+            }
+        }
+        if (resumeToken != null) {
+            publisher = publisher.resumeAfter(resumeToken);
         }
 
         if (options.getBatchSize() > 0) {
@@ -342,6 +452,7 @@ public class ChangeStreamManager implements Closeable {
             String collectionName,
             Class<T> documentClass,
             ChangeStreamPublisher<T> publisher,
+            ChangeStreamOptions options,
             ChangeStreamListener<T> listener
     ) {
         long subscriptionId = subscriptionIdGenerator.incrementAndGet();
@@ -350,9 +461,16 @@ public class ChangeStreamManager implements Closeable {
                 subscriptionId,
                 collectionName,
                 documentClass,
+                options,
                 listener
         );
 
+        if (options.getCheckpointStore() != null) {
+            long interval = options.getCheckpointInterval().toMillis();
+            managedSubscription.checkpointTask = scheduler.scheduleWithFixedDelay(
+                    managedSubscription::checkpoint, interval, interval, TimeUnit.MILLISECONDS);
+        }
+
         subscriptions.put(subscriptionId, managedSubscription);
 
         publisher.subscribe(managedSubscription);
@@ -361,6 +479,13 @@ public class ChangeStreamManager implements Closeable {
         return subscriptionId;
     }
 
+    private void sampleRates() {
+        long now = System.nanoTime();
+        for (ManagedSubscription<?> subscription : subscriptions.values()) {
+            subscription.sampleRate(now);
+        }
+    }
+
     private void ensureNotClosed() {
         if (closed.get()) {
             throw new IllegalStateException("ChangeStreamManager is closed");
@@ -373,68 +498,191 @@ public class ChangeStreamManager implements Closeable {
 
     /**
      * Internal class to manage a single subscription.
+     *
+     * <p>Events are queued by the driver thread and delivered by a drain loop
+     * on the subscription's executor. The work-in-progress counter ensures at
+     * most one drain loop runs at a time; demand is replenished by the number
+     * of events each batch delivered.
      */
     private class ManagedSubscription<T> implements Subscriber<ChangeStreamDocument<T>> {
         private final long subscriptionId;
         private final String collectionName;
         private final Class<T> documentClass;
         private final ChangeStreamListener<T> listener;
+        private final int demandWindow;
+        private final int deliveryBatchSize;
+        private final Executor executor;
+        private final ResumeTokenStore checkpointStore;
+        private final String checkpointKey;
         private final AtomicBoolean active = new AtomicBoolean(true);
+        private final Queue<ChangeStreamDocument<T>> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger queued = new AtomicInteger();
+        private final AtomicInteger wip = new AtomicInteger();
+        private final LongAdder receivedCount = new LongAdder();
+        private final LongAdder deliveredCount = new LongAdder();
+        private final LongAdder batchCount = new LongAdder();
         private volatile Subscription subscription;
+        private volatile boolean done;
+        private volatile Throwable error;
+        private volatile BsonDocument lastToken;
+        private volatile Instant lastCheckpoint;
+        private volatile ScheduledFuture<?> checkpointTask;
+        private volatile double eventsPerSecond;
+
+        // Rate sampling state, only touched by the scheduler thread
+        private long sampledCount;
+        private long sampledNanos = System.nanoTime();
+
+        // Guarded by this
+        private BsonDocument savedToken;
 
         ManagedSubscription(
                 long subscriptionId,
                 String collectionName,
                 Class<T> documentClass,
+                ChangeStreamOptions options,
                 ChangeStreamListener<T> listener
         ) {
             this.subscriptionId = subscriptionId;
             this.collectionName = collectionName;
             this.documentClass = documentClass;
             this.listener = listener;
+            this.demandWindow = options.getDemandWindow();
+            this.deliveryBatchSize = options.getDeliveryBatchSize();
+            this.executor = options.getExecutor();
+            this.checkpointStore = options.getCheckpointStore();
+            this.checkpointKey = options.getCheckpointKey();
         }
 
         @Override
         public void onSubscribe(Subscription s) {
             this.subscription = s;
-            s.request(Long.MAX_VALUE);
+            if (active.get()) {
+                s.request(demandWindow);
+            } else {
+                s.cancel();
+            }
         }
 
         @Override
         public void onNext(ChangeStreamDocument<T> document) {
             if (!active.get()) return;
 
-            try {
-                ChangeStreamEventImpl<T> event = new ChangeStreamEventImpl<>(document);
-
-                switch (event.getOperationType()) {
-                    case INSERT -> listener.onInsert(event);
-                    case UPDATE -> listener.onUpdate(event);
-                    case REPLACE -> listener.onReplace(event);
-                    case DELETE -> listener.onDelete(event);
-                    case INVALIDATE -> listener.onInvalidate(event);
-                    case DROP -> listener.onDrop(event);
-                    case RENAME -> listener.onRename(event);
-                    default -> { /* Ignore unknown operations */ }
+            queue.offer(document);
+            queued.incrementAndGet();
+            receivedCount.increment();
+            scheduleDrain();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            error = t;
+            done = true;
+            scheduleDrain();
+        }
+
+        @Override
+        public void onComplete() {
+            done = true;
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (wip.getAndIncrement() == 0) {
+                executor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            int missed = 1;
+            do {
+                while (active.get()) {
+                    List<ChangeStreamListener.ChangeEvent<T>> batch =
+                            new ArrayList<>(Math.min(Math.max(queued.get(), 1), deliveryBatchSize));
+                    BsonDocument token = null;
+                    ChangeStreamDocument<T> document;
+                    while (batch.size() < deliveryBatchSize && (document = queue.poll()) != null) {
+                        batch.add(new ChangeStreamEventImpl<>(document));
+                        token = document.getResumeToken();
+                    }
+                    if (batch.isEmpty()) {
+                        break;
+                    }
+
+                    if (!deliver(batch)) {
+                        // Leave the stream at the last batch the listener accepted
+                        return;
+                    }
+                    if (token != null) {
+                        lastToken = token;
+                    }
+                    queued.addAndGet(-batch.size());
+                    if (active.get()) {
+                        subscription.request(batch.size());
+                    }
+                }
+
+                if (done && queue.isEmpty()) {
+                    terminate();
+                    return;
                 }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        /**
+         * Hands a batch to the listener.
+         *
+         * <p>If the listener throws, a checkpointed subscription stops
+         * without moving its resume token past the last accepted batch, so it
+         * resumes with the failed batch. Other subscriptions report the error
+         * and carry on.
+         *
+         * @return false if the subscription was stopped
+         */
+        private boolean deliver(List<ChangeStreamListener.ChangeEvent<T>> batch) {
+            try {
+                listener.onBatch(batch);
             } catch (Exception e) {
-                LOGGER.error("Error processing change stream event", e);
+                if (checkpointStore != null) {
+                    LOGGER.error("Error processing change stream events on '{}', stopping subscription {}",
+                            collectionName, subscriptionId, e);
+                    fail(e);
+                    return false;
+                }
+                LOGGER.error("Error processing change stream events on '{}'", collectionName, e);
+                notifyError(e);
+            }
+            deliveredCount.add(batch.size());
+            batchCount.increment();
+            return true;
+        }
+
+        private void fail(Exception e) {
+            notifyError(e);
+            subscriptions.remove(subscriptionId);
+            cancel();
+            queue.clear();
+            queued.set(0);
+        }
+
+        private void notifyError(Exception e) {
+            try {
                 listener.onError(e);
+            } catch (Exception suppressed) {
+                LOGGER.warn("Error handler failed on '{}'", collectionName, suppressed);
             }
         }
 
-        @Override
-        public void onError(Throwable t) {
-            if (active.get()) {
+        private void terminate() {
+            Throwable t = error;
+            if (t != null && active.get()) {
                 LOGGER.error("Change stream error on '{}'", collectionName, t);
                 listener.onError(t);
             }
-        }
-
-        @Override
-        public void onComplete() {
             if (active.compareAndSet(true, false)) {
                 LOGGER.debug("Change stream completed: {} on '{}'", subscriptionId, collectionName);
+                stopCheckpointing();
                 listener.onClose();
                 subscriptions.remove(subscriptionId);
             }
@@ -445,15 +693,117 @@ public class ChangeStreamManager implements Closeable {
                 if (subscription != null) {
                     subscription.cancel();
                 }
+                stopCheckpointing();
                 listener.onClose();
             }
         }
 
+        private void stopCheckpointing() {
+            ScheduledFuture<?> task = checkpointTask;
+            if (task != null) {
+                task.cancel(false);
+            }
+            checkpoint();
+        }
+
+        /**
+         * Saves the token of the last delivered event if it changed.
+         */
+        synchronized void checkpoint() {
+            BsonDocument token = lastToken;
+            if (checkpointStore == null || token == null || token == savedToken) {
+                return;
+            }
+            try {
+                checkpointStore.save(checkpointKey, token);
+                savedToken = token;
+                lastCheckpoint = Instant.now();
+            } catch (Exception e) {
+                LOGGER.warn("Failed to checkpoint change stream {} on '{}'", subscriptionId, collectionName, e);
+            }
+        }
+
+        void sampleRate(long nowNanos) {
+            long delivered = deliveredCount.sum();
+            long elapsed = nowNanos - sampledNanos;
+            if (elapsed > 0) {
+                eventsPerSecond = (delivered - sampledCount) * 1_000_000_000.0 / elapsed;
+            }
+            sampledCount = delivered;
+            sampledNanos = nowNanos;
+        }
+
+        ChangeStreamMetrics metrics() {
+            ChangeStreamDocument<T> oldest = queue.peek();
+            return new ChangeStreamMetrics(
+                    subscriptionId,
+                    collectionName,
+                    Math.max(0, queued.get()),
+                    demandWindow,
+                    receivedCount.sum(),
+                    deliveredCount.sum(),
+                    batchCount.sum(),
+                    eventsPerSecond,
+                    oldest != null ? lagOf(oldest) : Duration.ZERO,
+                    lastCheckpoint
+            );
+        }
+
+        private Duration lagOf(ChangeStreamDocument<T> document) {
+            long eventMillis;
+            if (document.getWallTime() != null) {
+                eventMillis = document.getWallTime().getValue();
+            } else if (document.getClusterTime() != null) {
+                eventMillis = document.getClusterTime().getTime() * 1000L;
+            } else {
+                return Duration.ZERO;
+            }
+            return Duration.ofMillis(Math.max(0, System.currentTimeMillis() - eventMillis));
+        }
+
         boolean isActive() {
             return active.get();
         }
     }
 
+    /**
+     * A snapshot of the delivery state of a subscription.
+     *
+     * @param subscriptionId  the subscription ID
+     * @param collectionName  the watched collection, or {@code *} for the database
+     * @param queueDepth      the number of events received but not yet delivered
+     * @param demandWindow    the maximum number of undelivered events
+     * @param receivedCount   the number of events received from the server
+     * @param deliveredCount  the number of events delivered to the listener
+     * @param batchCount      the number of batches delivered to the listener
+     * @param eventsPerSecond the delivery rate over the last second
+     * @param lag             the age of the oldest undelivered event, or zero if the queue is empty
+     * @param lastCheckpoint  when the resume token was last saved, or null if never
+     * @since 1.0.0
+     */
+    public record ChangeStreamMetrics(
+            long subscriptionId,
+            @NotNull String collectionName,
+            int queueDepth,
+            int demandWindow,
+            long receivedCount,
+            long deliveredCount,
+            long batchCount,
+            double eventsPerSecond,
+            @NotNull Duration lag,
+            @Nullable Instant lastCheckpoint
+    ) {
+
+        /**
+         * Returns the average number of events per batch.
+         *
+         * @return the average batch size, or 0 if nothing was delivered
+         */
+        public double averageBatchSize() {
+            return batchCount == 0 ? 0.0 : (double) deliveredCount / batchCount;
+        }
+    }
+
     /**
      * Implementation of ChangeEvent.
      */
@@ -565,12 +915,24 @@ public class ChangeStreamManager implements Closeable {
         private final List<Bson> pipeline;
         private final BsonDocument resumeToken;
         private final int batchSize;
+        private final int demandWindow;
+        private final int deliveryBatchSize;
+        private final Executor executor;
+        private final ResumeTokenStore checkpointStore;
+        private final String checkpointKey;
+        private final Duration checkpointInterval;
 
         private ChangeStreamOptions(Builder builder) {
             this.fullDocument = builder.fullDocument;
             this.pipeline = new ArrayList<>(builder.pipeline);
             this.resumeToken = builder.resumeToken;
             this.batchSize = builder.batchSize;
+            this.demandWindow = builder.demandWindow;
+            this.deliveryBatchSize = Math.min(builder.deliveryBatchSize, builder.demandWindow);
+            this.executor = builder.executor;
+            this.checkpointStore = builder.checkpointStore;
+            this.checkpointKey = builder.checkpointKey;
+            this.checkpointInterval = builder.checkpointInterval;
         }
 
         /**
@@ -614,6 +976,34 @@ public class ChangeStreamManager implements Closeable {
             return batchSize;
         }
 
+        public int getDemandWindow() {
+            return demandWindow;
+        }
+
+        public int getDeliveryBatchSize() {
+            return deliveryBatchSize;
+        }
+
+        @NotNull
+        public Executor getExecutor() {
+            return executor;
+        }
+
+        @Nullable
+        public ResumeTokenStore getCheckpointStore() {
+            return checkpointStore;
+        }
+
+        @Nullable
+        public String getCheckpointKey() {
+            return checkpointKey;
+        }
+
+        @NotNull
+        public Duration getCheckpointInterval() {
+            return checkpointInterval;
+        }
+
         /**
          * Builder for ChangeStreamOptions.
          */
@@ -622,6 +1012,12 @@ public class ChangeStreamManager implements Closeable {
             private final List<Bson> pipeline = new ArrayList<>();
             private BsonDocument resumeToken;
             private int batchSize = 0;
+            private int demandWindow = 256;
+            private int deliveryBatchSize = 64;
+            private Executor executor = ForkJoinPool.commonPool();
+            private ResumeTokenStore checkpointStore;
+            private String checkpointKey;
+            private Duration checkpointInterval = Duration.ofSeconds(5);
 
             private Builder() {}
 
@@ -697,6 +1093,93 @@ public class ChangeStreamManager implements Closeable {
                 return this;
             }
 
+            /**
+             * Sets the maximum number of events received but not yet
+             * delivered to the listener.
+             *
+             * <p>The server is asked for more events only as the listener
+             * catches up. Defaults to 256.
+             *
+             * @param demandWindow the window size
+             * @return this builder
+             */
+            @NotNull
+            public Builder demandWindow(int demandWindow) {
+                if (demandWindow <= 0) {
+                    throw new IllegalArgumentException("Demand window must be positive");
+                }
+                this.demandWindow = demandWindow;
+                return this;
+            }
+
+            /**
+             * Sets the maximum number of events per
+             * {@link ChangeStreamListener#onBatch(List)} call.
+             *
+             * <p>Batches are formed from whatever is queued, so a quiet
+             * stream still delivers single events without delay. Defaults
+             * to 64 and is capped at the demand window.
+             *
+             * @param deliveryBatchSize the maximum batch size
+             * @return this builder
+             */
+            @NotNull
+            public Builder deliveryBatchSize(int deliveryBatchSize) {
+                if (deliveryBatchSize <= 0) {
+                    throw new IllegalArgumentException("Delivery batch size must be positive");
+                }
+                this.deliveryBatchSize = deliveryBatchSize;
+                return this;
+            }
+
+            /**
+             * Sets the executor listeners are called on.
+             *
+             * <p>Defaults to the common fork-join pool.
+             *
+             * @param executor the executor
+             * @return this builder
+             */
+            @NotNull
+            public Builder executor(@NotNull Executor executor) {
+                this.executor = Objects.requireNonNull(executor, "Executor cannot be null");
+                return this;
+            }
+
+            /**
+             * Enables resume token checkpointing.
+             *
+             * <p>If no {@link #resumeAfter(BsonDocument) resume token} is set,
+             * the subscription resumes after the token saved under the key.
+             *
+             * @param store the token store
+             * @param key   the key the token is saved under, unique per subscription
+             * @return this builder
+             * @see ResumeTokenStore
+             */
+            @NotNull
+            public Builder checkpoint(@NotNull ResumeTokenStore store, @NotNull String key) {
+                this.checkpointStore = Objects.requireNonNull(store, "Store cannot be null");
+                this.checkpointKey = Objects.requireNonNull(key, "Key cannot be null");
+                return this;
+            }
+
+            /**
+             * Sets how often the resume token is saved. Defaults to 5 seconds.
+             *
+             * @param checkpointInterval the interval
+             * @return this builder
+             */
+            @NotNull
+            public Builder checkpointInterval(@NotNull Duration checkpointInterval) {
+                Objects.requireNonNull(checkpointInterval, "Checkpoint interval cannot be null");
+                if (checkpointInterval.isNegative() || checkpointInterval.isZero()) {
+                    throw new IllegalArgumentException("Checkpoint interval must be positive");
+                }
+                this.checkpointInterval = checkpointInterval;
+                return this;
+            }
+
             /**
              * Builds the options.
              *
@@ -4,9 +4,15 @@
  */
 package sh.pcx.unified.data.mongo;
 
+import com.mongodb.MongoGridFSException;
 import com.mongodb.client.gridfs.model.GridFSDownloadOptions;
 import com.mongodb.client.gridfs.model.GridFSFile;
 import com.mongodb.client.gridfs.model.GridFSUploadOptions;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.IndexOptions;
+import com.mongodb.client.model.Indexes;
+import com.mongodb.client.model.Sorts;
+import com.mongodb.reactivestreams.client.MongoCollection;
 import com.mongodb.reactivestreams.client.gridfs.GridFSBucket;
 import com.mongodb.reactivestreams.client.gridfs.GridFSBuckets;
 import com.mongodb.reactivestreams.client.gridfs.GridFSDownloadPublisher;
@@ -15,6 +21,7 @@ import com.mongodb.reactivestreams.client.gridfs.GridFSUploadPublisher;
 import org.bson.BsonValue;
 import org.bson.Document;
 import org.bson.conversions.Bson;
+import org.bson.types.Binary;
 import org.bson.types.ObjectId;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -25,18 +32,38 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
-import java.nio.file.Files;
+import java.nio.channels.Channel;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Flow;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static sh.pcx.unified.data.mongo.MongoConnection.toCompletableFuture;
 import static sh.pcx.unified.data.mongo.MongoConnection.toCompletableFutureList;
@@ -97,6 +124,13 @@ import static sh.pcx.unified.data.mongo.MongoConnection.toCompletableFutureVoid;
  * gridFS.delete(fileId).thenRun(() -> logger.info("File deleted"));
  * }</pre>
  *
+ * <h2>Chunked Transfers</h2>
+ * <p>{@link #uploadFromChannel} and {@link #downloadToFile} move large files with
+ * a bounded number of chunk writes or range reads in flight, computing MD5 and
+ * SHA-256 digests as the data streams. Uploads store the digests in the file
+ * metadata and downloads verify them. {@link #downloadRange} fetches only the
+ * chunks that overlap the requested byte range.
+ *
  * <h2>Use Cases</h2>
  * <ul>
  *   <li>Player skins and capes</li>
@@ -116,7 +150,7 @@ import static sh.pcx.unified.data.mongo.MongoConnection.toCompletableFutureVoid;
  * @see MongoService#getGridFS()
  * @see MongoService#getGridFS(String)
  */
-public class GridFSService {
+public class GridFSService implements Closeable {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(GridFSService.class);
 
@@ -130,8 +164,30 @@ public class GridFSService {
      */
     public static final int DEFAULT_CHUNK_SIZE = 261120;
 
+    /**
+     * Default maximum number of chunks written or buffered at once by chunked uploads.
+     */
+    public static final int DEFAULT_MAX_IN_FLIGHT_CHUNKS = 4;
+
+    /**
+     * Default number of concurrent range requests for parallel downloads.
+     */
+    public static final int DEFAULT_DOWNLOAD_PARALLELISM = 4;
+
+    /**
+     * Number of chunks fetched per range request in parallel downloads.
+     */
+    public static final int CHUNKS_PER_RANGE = 16;
+
+    private static final HexFormat HEX = HexFormat.of();
+
     private final GridFSBucket bucket;
     private final String bucketName;
+    private final MongoCollection<Document> filesCollection;
+    private final MongoCollection<Document> chunksCollection;
+    private final Executor ioExecutor;
+    private final ExecutorService ownedExecutor;
+    private volatile CompletableFuture<Void> indexesReady;
 
     /**
      * Creates a new GridFS service with the default bucket.
@@ -151,11 +207,45 @@ public class GridFSService {
      * @since 1.0.0
      */
     public GridFSService(@NotNull MongoConnection connection, @NotNull String bucketName) {
+        this(connection, bucketName, null, Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    /**
+     * Creates a new GridFS service with a custom bucket name and I/O executor.
+     *
+     * <p>Chunked transfers read and write their channels on the I/O
+     * executor, which must tolerate blocking tasks. The other constructors
+     * use a virtual thread per task, on an executor that {@link #close()}
+     * shuts down. The given executor is left to the caller.
+     *
+     * @param connection the MongoDB connection
+     * @param bucketName the bucket name
+     * @param ioExecutor the executor for blocking channel I/O
+     * @since 1.0.0
+     */
+    public GridFSService(
+            @NotNull MongoConnection connection,
+            @NotNull String bucketName,
+            @NotNull Executor ioExecutor
+    ) {
+        this(connection, bucketName, Objects.requireNonNull(ioExecutor, "I/O executor cannot be null"), null);
+    }
+
+    private GridFSService(
+            MongoConnection connection,
+            String bucketName,
+            Executor ioExecutor,
+            ExecutorService ownedExecutor
+    ) {
         Objects.requireNonNull(connection, "Connection cannot be null");
         Objects.requireNonNull(bucketName, "Bucket name cannot be null");
 
         this.bucketName = bucketName;
+        this.ioExecutor = ownedExecutor != null ? ownedExecutor : ioExecutor;
+        this.ownedExecutor = ownedExecutor;
         this.bucket = GridFSBuckets.create(connection.getDatabase(), bucketName);
+        this.filesCollection = connection.getDatabase().getCollection(bucketName + ".files");
+        this.chunksCollection = connection.getDatabase().getCollection(bucketName + ".chunks");
     }
 
     /**
@@ -169,6 +259,22 @@ public class GridFSService {
         return bucketName;
     }
 
+    /**
+     * Shuts down the I/O executor if this service created it.
+     *
+     * <p>Transfers already running finish; chunked transfers must not be
+     * started afterwards. An executor passed to the constructor is not
+     * affected.
+     *
+     * @since 1.0.0
+     */
+    @Override
+    public void close() {
+        if (ownedExecutor != null) {
+            ownedExecutor.shutdown();
+        }
+    }
+
     // ===========================================
     // Upload Operations
     // ===========================================
@@ -266,13 +372,8 @@ public class GridFSService {
     ) {
         Objects.requireNonNull(inputStream, "Input stream cannot be null");
 
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                return inputStream.readAllBytes();
-            } catch (IOException e) {
-                throw new RuntimeException("Failed to read input stream", e);
-            }
-        }).thenCompose(data -> upload(filename, data, metadata));
+        return uploadFromChannel(filename, Channels.newChannel(inputStream), metadata)
+                .thenApply(TransferResult::fileId);
     }
 
     /**
@@ -306,15 +407,109 @@ public class GridFSService {
             @NotNull Path path,
             @Nullable Document metadata
     ) {
-        Objects.requireNonNull(path, "Path cannot be null");
+        return uploadChunked(filename, path, metadata).thenApply(TransferResult::fileId);
+    }
 
-        return CompletableFuture.supplyAsync(() -> {
+    /**
+     * Uploads a file from a channel in chunks, with a bounded number of
+     * chunks in flight.
+     *
+     * <p>The channel is read one chunk at a time and each chunk is inserted
+     * as soon as it is read, with at most {@code maxInFlightChunks} inserts
+     * outstanding. Memory use is therefore bounded by
+     * {@code chunkSize * maxInFlightChunks} regardless of the file size.
+     * MD5 and SHA-256 digests are computed while reading and stored in the
+     * file's metadata as {@code md5} and {@code sha256}.
+     *
+     * <p>The file becomes visible only after all chunks are written; if any
+     * chunk fails, the written chunks are removed. The channel is read on
+     * the service's I/O executor and must be a blocking channel. It is not
+     * closed.
+     *
+     * @param filename          the filename
+     * @param channel           the source channel
+     * @param metadata          the file metadata (optional)
+     * @param chunkSize         the chunk size in bytes
+     * @param maxInFlightChunks the maximum number of chunks being written at once
+     * @return a future completing with the file ID, length and digests
+     * @since 1.0.0
+     */
+    @NotNull
+    public CompletableFuture<TransferResult> uploadFromChannel(
+            @NotNull String filename,
+            @NotNull ReadableByteChannel channel,
+            @Nullable Document metadata,
+            int chunkSize,
+            int maxInFlightChunks
+    ) {
+        Objects.requireNonNull(filename, "Filename cannot be null");
+        Objects.requireNonNull(channel, "Channel cannot be null");
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        if (maxInFlightChunks <= 0) {
+            throw new IllegalArgumentException("Max in-flight chunks must be positive");
+        }
+
+        return ensureIndexes().thenApplyAsync(v -> {
+            ObjectId fileId = new ObjectId();
             try {
-                return Files.readAllBytes(path);
+                return writeChunks(fileId, filename, channel, metadata, chunkSize, maxInFlightChunks);
             } catch (IOException e) {
-                throw new RuntimeException("Failed to read file: " + path, e);
+                throw new CompletionException("Failed to upload file: " + filename, e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CompletionException("Interrupted while uploading file: " + filename, e);
             }
-        }).thenCompose(data -> upload(filename, data, metadata));
+        }, ioExecutor);
+    }
+
+    /**
+     * Uploads a file from a channel with the default chunk size and up to
+     * {@value #DEFAULT_MAX_IN_FLIGHT_CHUNKS} chunks in flight.
+     *
+     * @param filename the filename
+     * @param channel  the source channel
+     * @param metadata the file metadata (optional)
+     * @return a future completing with the file ID, length and digests
+     * @since 1.0.0
+     * @see #uploadFromChannel(String, ReadableByteChannel, Document, int, int)
+     */
+    @NotNull
+    public CompletableFuture<TransferResult> uploadFromChannel(
+            @NotNull String filename,
+            @NotNull ReadableByteChannel channel,
+            @Nullable Document metadata
+    ) {
+        return uploadFromChannel(filename, channel, metadata, DEFAULT_CHUNK_SIZE, DEFAULT_MAX_IN_FLIGHT_CHUNKS);
+    }
+
+    /**
+     * Uploads a file from a path in chunks, computing its digests.
+     *
+     * @param filename the filename
+     * @param path     the source file path
+     * @param metadata the file metadata (optional)
+     * @return a future completing with the file ID, length and digests
+     * @since 1.0.0
+     * @see #uploadFromChannel(String, ReadableByteChannel, Document, int, int)
+     */
+    @NotNull
+    public CompletableFuture<TransferResult> uploadChunked(
+            @NotNull String filename,
+            @NotNull Path path,
+            @Nullable Document metadata
+    ) {
+        Objects.requireNonNull(path, "Path cannot be null");
+
+        FileChannel channel;
+        try {
+            channel = FileChannel.open(path, StandardOpenOption.READ);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(new RuntimeException("Failed to read file: " + path, e));
+        }
+        return uploadFromChannel(filename, channel, metadata)
+                .whenComplete((result, error) -> closeQuietly(channel));
     }
 
     // ===========================================
@@ -393,27 +588,113 @@ public class GridFSService {
      * @param path   the destination path
      * @return a future completing with the destination path
      * @since 1.0.0
+     * @see #downloadToFile(ObjectId, Path, int)
      */
     @NotNull
     public CompletableFuture<Path> downloadToPath(
             @NotNull ObjectId fileId,
             @NotNull Path path
     ) {
+        return downloadToFile(fileId, path, DEFAULT_DOWNLOAD_PARALLELISM).thenApply(result -> path);
+    }
+
+    /**
+     * Downloads a file to a path, fetching chunk ranges in parallel.
+     *
+     * <p>Ranges of {@value #CHUNKS_PER_RANGE} chunks are fetched with up to
+     * {@code parallelism} requests at a time. Each range is written straight
+     * into the file at its offset as it arrives. The MD5 and SHA-256 digests
+     * are computed from the ranges in file order while the transfer runs.
+     * Ranges that arrive early are held until the ranges before them are
+     * digested, and a new range is requested only when one is digested, so
+     * at most {@code parallelism} ranges are held in memory. If the file's
+     * metadata has a {@code sha256} digest, the download fails when it does
+     * not match.
+     *
+     * @param fileId      the file ID
+     * @param path        the destination path, created or truncated
+     * @param parallelism the maximum number of concurrent range requests
+     * @return a future completing with the file ID, length and digests
+     * @since 1.0.0
+     */
+    @NotNull
+    public CompletableFuture<TransferResult> downloadToFile(
+            @NotNull ObjectId fileId,
+            @NotNull Path path,
+            int parallelism
+    ) {
+        Objects.requireNonNull(fileId, "File ID cannot be null");
         Objects.requireNonNull(path, "Path cannot be null");
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
 
-        return download(fileId).thenApply(data -> {
+        return findFileDocument(fileId).thenComposeAsync(file -> {
+            FileChannel channel;
             try {
-                Files.write(path, data);
-                return path;
+                channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                        StandardOpenOption.TRUNCATE_EXISTING);
             } catch (IOException e) {
-                throw new RuntimeException("Failed to write file: " + path, e);
+                return CompletableFuture.failedFuture(new RuntimeException("Failed to write file: " + path, e));
             }
+            return new ParallelDownload(fileId, file, channel, parallelism).start()
+                    .whenComplete((result, error) -> closeQuietly(channel));
+        }, ioExecutor);
+    }
+
+    /**
+     * Reads a byte range of a file.
+     *
+     * <p>Only the chunks overlapping the range are fetched, which makes
+     * partial restores of large backups cheap. The range is clamped to the
+     * end of the file.
+     *
+     * @param fileId the file ID
+     * @param offset the offset of the first byte
+     * @param length the maximum number of bytes to read
+     * @return a future completing with the bytes in the range
+     * @since 1.0.0
+     */
+    @NotNull
+    public CompletableFuture<byte[]> downloadRange(@NotNull ObjectId fileId, long offset, int length) {
+        Objects.requireNonNull(fileId, "File ID cannot be null");
+        if (offset < 0 || length < 0) {
+            throw new IllegalArgumentException("Offset and length cannot be negative");
+        }
+
+        return findFileDocument(fileId).thenCompose(file -> {
+            long fileLength = file.get("length", Number.class).longValue();
+            int chunkSize = file.get("chunkSize", Number.class).intValue();
+            long end = Math.min(fileLength, offset + length);
+            if (offset >= end) {
+                return CompletableFuture.completedFuture(new byte[0]);
+            }
+            int first = (int) (offset / chunkSize);
+            int last = (int) ((end - 1) / chunkSize);
+
+            return fetchChunks(fileId, first, last + 1).thenApply(chunks -> {
+                byte[] result = new byte[(int) (end - offset)];
+                for (int i = 0; i < chunks.size(); i++) {
+                    byte[] data = chunkData(chunks.get(i), first + i);
+                    long chunkStart = (long) (first + i) * chunkSize;
+                    long from = Math.max(offset, chunkStart);
+                    long to = Math.min(end, chunkStart + data.length);
+                    if (to > from) {
+                        System.arraycopy(data, (int) (from - chunkStart), result, (int) (from - offset), (int) (to - from));
+                    }
+                }
+                return result;
+            });
         });
     }
 
     /**
      * Downloads a file to an output stream.
      *
+     * <p>Chunks are requested {@value #DEFAULT_MAX_IN_FLIGHT_CHUNKS} at a
+     * time and written as they arrive, so the file is never held in memory
+     * as a whole.
+     *
      * @param fileId       the file ID
      * @param outputStream the output stream
      * @return a future completing when the download is done
@@ -424,15 +705,19 @@ public class GridFSService {
             @NotNull ObjectId fileId,
             @NotNull OutputStream outputStream
     ) {
+        Objects.requireNonNull(fileId, "File ID cannot be null");
         Objects.requireNonNull(outputStream, "Output stream cannot be null");
 
-        return download(fileId).thenAccept(data -> {
+        WritableByteChannel channel = Channels.newChannel(outputStream);
+        return MongoConnection.forEach(bucket.downloadToPublisher(fileId), DEFAULT_MAX_IN_FLIGHT_CHUNKS, buffer -> {
             try {
-                outputStream.write(data);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
             } catch (IOException e) {
-                throw new RuntimeException("Failed to write to stream", e);
+                throw new UncheckedIOException("Failed to write to stream", e);
             }
-        });
+        }).thenApply(count -> null);
     }
 
     private CompletableFuture<byte[]> downloadToBytes(GridFSDownloadPublisher publisher) {
@@ -583,7 +868,7 @@ public class GridFSService {
                     .map(file -> delete(file.getObjectId()))
                     .toList();
 
-            return CompletableFuture.allOf(deleteFutures.toArray(new CompletableFuture[0]))
+            return CompletableFuture.allOf(deleteFutures.toArray(new CompletableFuture<?>[0]))
                     .thenApply(v -> (long) files.size());
         });
     }
@@ -649,4 +934,307 @@ public class GridFSService {
         LOGGER.warn("Dropping GridFS bucket: {}", bucketName);
         return toCompletableFutureVoid(bucket.drop());
     }
+
+    // ===========================================
+    // Chunk Transfer Internals
+    // ===========================================
+
+    private CompletableFuture<Void> ensureIndexes() {
+        CompletableFuture<Void> ready = indexesReady;
+        if (ready == null || ready.isCompletedExceptionally()) {
+            synchronized (this) {
+                ready = indexesReady;
+                if (ready == null || ready.isCompletedExceptionally()) {
+                    ready = CompletableFuture.allOf(
+                            toCompletableFuture(filesCollection.createIndex(
+                                    Indexes.ascending("filename", "uploadDate"))),
+                            toCompletableFuture(chunksCollection.createIndex(
+                                    Indexes.ascending("files_id", "n"), new IndexOptions().unique(true)))
+                    );
+                    indexesReady = ready;
+                }
+            }
+        }
+        return ready;
+    }
+
+    private TransferResult writeChunks(
+            ObjectId fileId,
+            String filename,
+            ReadableByteChannel channel,
+            @Nullable Document metadata,
+            int chunkSize,
+            int maxInFlightChunks
+    ) throws IOException, InterruptedException {
+        MessageDigest md5 = newDigest("MD5");
+        MessageDigest sha256 = newDigest("SHA-256");
+        Semaphore inFlight = new Semaphore(maxInFlightChunks);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        ByteBuffer buffer = ByteBuffer.allocate(chunkSize);
+        long length = 0;
+        int n = 0;
+        boolean drained = false;
+        boolean written = false;
+
+        try {
+            boolean eof = false;
+            while (!eof && failure.get() == null) {
+                buffer.clear();
+                while (buffer.hasRemaining()) {
+                    if (channel.read(buffer) < 0) {
+                        eof = true;
+                        break;
+                    }
+                }
+                if (buffer.position() == 0) {
+                    break;
+                }
+
+                byte[] data = Arrays.copyOf(buffer.array(), buffer.position());
+                md5.update(data);
+                sha256.update(data);
+                length += data.length;
+
+                inFlight.acquire();
+                Document chunk = new Document("files_id", fileId)
+                        .append("n", n++)
+                        .append("data", new Binary(data));
+                toCompletableFuture(chunksCollection.insertOne(chunk)).whenComplete((result, error) -> {
+                    if (error != null) {
+                        failure.compareAndSet(null, error);
+                    }
+                    inFlight.release();
+                });
+            }
+            inFlight.acquire(maxInFlightChunks);
+            drained = true;
+
+            Throwable error = failure.get();
+            if (error != null) {
+                throw new CompletionException("Failed to upload file: " + filename, error);
+            }
+
+            String md5Hex = HEX.formatHex(md5.digest());
+            String sha256Hex = HEX.formatHex(sha256.digest());
+            Document fileMetadata = metadata != null ? new Document(metadata) : new Document();
+            fileMetadata.append("md5", md5Hex).append("sha256", sha256Hex);
+            Document file = new Document("_id", fileId)
+                    .append("length", length)
+                    .append("chunkSize", chunkSize)
+                    .append("uploadDate", new Date())
+                    .append("filename", filename)
+                    .append("metadata", fileMetadata);
+            toCompletableFuture(filesCollection.insertOne(file)).join();
+            written = true;
+
+            LOGGER.debug("Uploaded '{}' to GridFS bucket '{}' in {} chunk(s)", filename, bucketName, n);
+            return new TransferResult(fileId, length, md5Hex, sha256Hex);
+        } finally {
+            if (!written) {
+                if (!drained) {
+                    inFlight.acquireUninterruptibly(maxInFlightChunks);
+                }
+                toCompletableFutureVoid(chunksCollection.deleteMany(Filters.eq("files_id", fileId)))
+                        .exceptionally(e -> {
+                            LOGGER.warn("Failed to remove chunks of aborted upload '{}'", filename, e);
+                            return null;
+                        });
+            }
+        }
+    }
+
+    private CompletableFuture<Document> findFileDocument(ObjectId fileId) {
+        return toCompletableFuture(filesCollection.find(Filters.eq("_id", fileId)).first()).thenApply(file -> {
+            if (file == null) {
+                throw new MongoGridFSException("No file found with the id: " + fileId);
+            }
+            return file;
+        });
+    }
+
+    /**
+     * Fetches the chunks {@code first} (inclusive) to {@code last} (exclusive) in order.
+     */
+    private CompletableFuture<List<Document>> fetchChunks(ObjectId fileId, int first, int last) {
+        Bson filter = Filters.and(
+                Filters.eq("files_id", fileId),
+                Filters.gte("n", first),
+                Filters.lt("n", last));
+        return toCompletableFutureList(chunksCollection.find(filter).sort(Sorts.ascending("n")))
+                .thenApply(chunks -> {
+                    if (chunks.size() != last - first) {
+                        throw new MongoGridFSException("Expected " + (last - first) + " chunks from index "
+                                + first + " of file " + fileId + " but found " + chunks.size());
+                    }
+                    return chunks;
+                });
+    }
+
+    private static byte[] chunkData(Document chunk, int expectedIndex) {
+        int n = chunk.get("n", Number.class).intValue();
+        if (n != expectedIndex) {
+            throw new MongoGridFSException("Expected chunk " + expectedIndex + " but found chunk " + n);
+        }
+        return chunk.get("data", Binary.class).getData();
+    }
+
+    private static MessageDigest newDigest(String algorithm) {
+        try {
+            return MessageDigest.getInstance(algorithm);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(algorithm + " not available", e);
+        }
+    }
+
+    private static void closeQuietly(Channel channel) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            LOGGER.debug("Failed to close channel", e);
+        }
+    }
+
+    /**
+     * Downloads chunk ranges in parallel into a file channel and digests them in order.
+     */
+    private final class ParallelDownload {
+        private final ObjectId fileId;
+        private final FileChannel channel;
+        private final long length;
+        private final int chunkSize;
+        private final int chunkCount;
+        private final int rangeCount;
+        private final int parallelism;
+        private final String expectedSha256;
+        private final MessageDigest md5 = newDigest("MD5");
+        private final MessageDigest sha256 = newDigest("SHA-256");
+        private final CompletableFuture<TransferResult> result = new CompletableFuture<>();
+
+        // Guarded by this
+        private final Map<Integer, List<byte[]>> pendingDigest = new HashMap<>();
+        private int nextRange;
+        private int nextDigest;
+
+        ParallelDownload(ObjectId fileId, Document file, FileChannel channel, int parallelism) {
+            this.fileId = fileId;
+            this.channel = channel;
+            this.length = file.get("length", Number.class).longValue();
+            this.chunkSize = file.get("chunkSize", Number.class).intValue();
+            this.chunkCount = (int) ((length + chunkSize - 1) / chunkSize);
+            this.rangeCount = (chunkCount + CHUNKS_PER_RANGE - 1) / CHUNKS_PER_RANGE;
+            this.parallelism = parallelism;
+            Document metadata = file.get("metadata", Document.class);
+            this.expectedSha256 = metadata != null ? metadata.getString("sha256") : null;
+        }
+
+        CompletableFuture<TransferResult> start() {
+            if (rangeCount == 0) {
+                finish();
+                return result;
+            }
+            List<Integer> initial = new ArrayList<>();
+            synchronized (this) {
+                while (nextRange < Math.min(parallelism, rangeCount)) {
+                    initial.add(nextRange++);
+                }
+            }
+            initial.forEach(this::fetch);
+            return result;
+        }
+
+        private void fetch(int range) {
+            int first = range * CHUNKS_PER_RANGE;
+            int last = Math.min(first + CHUNKS_PER_RANGE, chunkCount);
+            fetchChunks(fileId, first, last)
+                    .thenAcceptAsync(chunks -> write(range, first, chunks), ioExecutor)
+                    .exceptionally(error -> {
+                        result.completeExceptionally(
+                                error instanceof CompletionException && error.getCause() != null
+                                        ? error.getCause() : error);
+                        return null;
+                    });
+        }
+
+        private void write(int range, int first, List<Document> chunks) {
+            if (result.isDone()) {
+                return;
+            }
+            List<byte[]> data = new ArrayList<>(chunks.size());
+            for (int i = 0; i < chunks.size(); i++) {
+                int n = first + i;
+                byte[] bytes = chunkData(chunks.get(i), n);
+                long expectedSize = Math.min(chunkSize, length - (long) n * chunkSize);
+                if (bytes.length != expectedSize) {
+                    throw new MongoGridFSException("Chunk " + n + " of file " + fileId + " has "
+                            + bytes.length + " bytes, expected " + expectedSize);
+                }
+                ByteBuffer buffer = ByteBuffer.wrap(bytes);
+                long position = (long) n * chunkSize;
+                try {
+                    while (buffer.hasRemaining()) {
+                        position += channel.write(buffer, position);
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Failed to write chunk " + n, e);
+                }
+                data.add(bytes);
+            }
+
+            List<Integer> toFetch = new ArrayList<>();
+            boolean done;
+            synchronized (this) {
+                pendingDigest.put(range, data);
+                List<byte[]> next;
+                while ((next = pendingDigest.remove(nextDigest)) != null) {
+                    for (byte[] bytes : next) {
+                        md5.update(bytes);
+                        sha256.update(bytes);
+                    }
+                    nextDigest++;
+                    if (nextRange < rangeCount) {
+                        toFetch.add(nextRange++);
+                    }
+                }
+                done = nextDigest == rangeCount;
+            }
+            toFetch.forEach(this::fetch);
+            if (done) {
+                finish();
+            }
+        }
+
+        private void finish() {
+            String md5Hex = HEX.formatHex(md5.digest());
+            String sha256Hex = HEX.formatHex(sha256.digest());
+            if (expectedSha256 != null && !expectedSha256.equalsIgnoreCase(sha256Hex)) {
+                result.completeExceptionally(new MongoGridFSException("SHA-256 mismatch for file " + fileId
+                        + ": expected " + expectedSha256 + " but was " + sha256Hex));
+                return;
+            }
+            try {
+                channel.force(false);
+            } catch (IOException e) {
+                result.completeExceptionally(e);
+                return;
+            }
+            result.complete(new TransferResult(fileId, length, md5Hex, sha256Hex));
+        }
+    }
+
+    /**
+     * The outcome of a chunked upload or download.
+     *
+     * @param fileId the file ID
+     * @param length the number of bytes transferred
+     * @param md5    the hex MD5 digest of the content
+     * @param sha256 the hex SHA-256 digest of the content
+     * @since 1.0.0
+     */
+    public record TransferResult(
+            @NotNull ObjectId fileId,
+            long length,
+            @NotNull String md5,
+            @NotNull String sha256
+    ) {
+    }
 }
@@ -4,28 +4,37 @@
  */
 package sh.pcx.unified.data.mongo;
 
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.model.BulkWriteOptions;
 import com.mongodb.client.model.FindOneAndDeleteOptions;
 import com.mongodb.client.model.FindOneAndReplaceOptions;
 import com.mongodb.client.model.FindOneAndUpdateOptions;
 import com.mongodb.client.model.IndexOptions;
 import com.mongodb.client.model.InsertManyOptions;
 import com.mongodb.client.model.InsertOneOptions;
+import com.mongodb.client.model.ReplaceOneModel;
 import com.mongodb.client.model.ReplaceOptions;
 import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.WriteModel;
 import com.mongodb.client.result.DeleteResult;
 import com.mongodb.client.result.InsertManyResult;
 import com.mongodb.client.result.InsertOneResult;
 import com.mongodb.client.result.UpdateResult;
 import com.mongodb.reactivestreams.client.MongoCollection;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.configuration.CodecRegistry;
 import org.bson.conversions.Bson;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 import static sh.pcx.unified.data.mongo.MongoConnection.toCompletableFuture;
 import static sh.pcx.unified.data.mongo.MongoConnection.toCompletableFutureList;
@@ -97,6 +106,11 @@ import static sh.pcx.unified.data.mongo.MongoConnection.toCompletableFutureVoid;
  */
 public class MongoCollectionWrapper<T> {
 
+    /**
+     * The cursor batch size used when a projected query collects its results.
+     */
+    private static final int DEFAULT_STREAM_BATCH_SIZE = 1000;
+
     private final MongoCollection<T> collection;
     private final String collectionName;
     private final Class<T> documentClass;
@@ -215,6 +229,65 @@ public class MongoCollectionWrapper<T> {
         return toCompletableFuture(collection.insertMany(documents, options));
     }
 
+    // ===========================================
+    // Bulk Operations
+    // ===========================================
+
+    /**
+     * Executes a batch of writes in one round trip per server batch.
+     *
+     * @param requests the write models
+     * @param options  the bulk write options
+     * @return a future completing with the bulk write result
+     * @since 1.0.0
+     */
+    @NotNull
+    public CompletableFuture<BulkWriteResult> bulkWrite(
+            @NotNull List<? extends WriteModel<? extends T>> requests,
+            @NotNull BulkWriteOptions options
+    ) {
+        Objects.requireNonNull(requests, "Requests cannot be null");
+        Objects.requireNonNull(options, "Options cannot be null");
+        return toCompletableFuture(collection.bulkWrite(requests, options));
+    }
+
+    /**
+     * Inserts or replaces documents with a single unordered bulk write.
+     *
+     * <p>Each document replaces the document matched by its ID filter, or is
+     * inserted if there is none. Because the write is unordered the server
+     * can apply the upserts in parallel, and one failing document does not
+     * stop the others.
+     *
+     * <pre>{@code
+     * players.upsertAll(dirtyPlayers, p -> Filters.eq("_id", p.getUuid().toString()));
+     * }</pre>
+     *
+     * @param documents the documents to save
+     * @param idFilter  creates the filter matching a document's ID
+     * @return a future completing with the bulk write result
+     * @since 1.0.0
+     */
+    @NotNull
+    public CompletableFuture<BulkWriteResult> upsertAll(
+            @NotNull Iterable<? extends T> documents,
+            @NotNull Function<? super T, ? extends Bson> idFilter
+    ) {
+        Objects.requireNonNull(documents, "Documents cannot be null");
+        Objects.requireNonNull(idFilter, "ID filter cannot be null");
+
+        ReplaceOptions upsert = new ReplaceOptions().upsert(true);
+        List<WriteModel<T>> requests = new ArrayList<>();
+        for (T document : documents) {
+            requests.add(new ReplaceOneModel<>(idFilter.apply(document), document, upsert));
+        }
+        if (requests.isEmpty()) {
+            return CompletableFuture.completedFuture(
+                    BulkWriteResult.acknowledged(0, 0, 0, 0, List.of(), List.of()));
+        }
+        return bulkWrite(requests, new BulkWriteOptions().ordered(false));
+    }
+
     // ===========================================
     // Find Operations
     // ===========================================
@@ -291,6 +364,93 @@ public class MongoCollectionWrapper<T> {
         return toCompletableFutureList(collection.find(filter).projection(projection));
     }
 
+    /**
+     * Finds documents and decodes only the projected fields.
+     *
+     * <p>Documents are read as raw BSON and decoded by the projection, not by
+     * the collection's document codec. Only UUIDs and nested documents go
+     * through the collection's codec registry.
+     *
+     * @param filter     the filter to apply
+     * @param projection the projection and its decoder
+     * @param <R>        the result type
+     * @return a future completing with the decoded results
+     * @since 1.0.0
+     */
+    @NotNull
+    public <R> CompletableFuture<List<R>> find(@NotNull Bson filter, @NotNull MongoProjection<R> projection) {
+        Objects.requireNonNull(filter, "Filter cannot be null");
+        Objects.requireNonNull(projection, "Projection cannot be null");
+        List<R> results = new ArrayList<>();
+        return forEach(filter, projection, DEFAULT_STREAM_BATCH_SIZE, results::add)
+                .thenApply(count -> results);
+    }
+
+    // ===========================================
+    // Streaming Operations
+    // ===========================================
+
+    /**
+     * Streams documents matching a filter through an action.
+     *
+     * <p>The cursor fetches {@code batchSize} documents per round trip and
+     * the next batch is only requested after the action has processed the
+     * current one, so only one batch is held in memory regardless of how
+     * many documents match.
+     *
+     * <pre>{@code
+     * players.forEach(Filters.exists("stats"), 1000, player -> recompute(player))
+     *     .thenAccept(count -> logger.info("Recomputed " + count + " players"));
+     * }</pre>
+     *
+     * @param filter    the filter to apply
+     * @param batchSize the number of documents per batch
+     * @param action    the action to apply to each document, on the driver's thread
+     * @return a future completing with the number of documents processed
+     * @since 1.0.0
+     */
+    @NotNull
+    public CompletableFuture<Long> forEach(
+            @NotNull Bson filter,
+            int batchSize,
+            @NotNull Consumer<? super T> action
+    ) {
+        Objects.requireNonNull(filter, "Filter cannot be null");
+        return MongoConnection.forEach(collection.find(filter).batchSize(batchSize), batchSize, action);
+    }
+
+    /**
+     * Streams the projected fields of documents matching a filter through
+     * an action.
+     *
+     * @param filter     the filter to apply
+     * @param projection the projection and its decoder
+     * @param batchSize  the number of documents per batch
+     * @param action     the action to apply to each result, on the driver's thread
+     * @param <R>        the result type
+     * @return a future completing with the number of documents processed
+     * @since 1.0.0
+     * @see #forEach(Bson, int, Consumer)
+     */
+    @NotNull
+    public <R> CompletableFuture<Long> forEach(
+            @NotNull Bson filter,
+            @NotNull MongoProjection<R> projection,
+            int batchSize,
+            @NotNull Consumer<? super R> action
+    ) {
+        Objects.requireNonNull(filter, "Filter cannot be null");
+        Objects.requireNonNull(projection, "Projection cannot be null");
+        Objects.requireNonNull(action, "Action cannot be null");
+        CodecRegistry registry = collection.getCodecRegistry();
+        var publisher = collection.withDocumentClass(RawBsonDocument.class)
+                .find(filter)
+                .projection(projection.getProjection())
+                .batchSize(batchSize);
+        return MongoConnection.forEach(publisher, batchSize,
+                document -> action.accept(projection.decode(document, registry)));
+    }
+
     /**
      * Finds the first document matching a filter.
      *
@@ -30,6 +30,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 /**
  * Wrapper for MongoDB client connection providing async operations.
@@ -449,6 +450,85 @@ public class MongoConnection implements Closeable {
         return future;
     }
 
+    /**
+     * Consumes a Publisher with bounded demand.
+     *
+     * <p>At most {@code batchSize} elements are requested at a time and the
+     * next batch is requested once the action has processed the previous one,
+     * so memory use is bounded by the batch size however many elements the
+     * publisher emits. The action runs on the driver's thread; if it throws,
+     * the subscription is cancelled and the future fails.
+     *
+     * @param publisher the publisher
+     * @param batchSize the number of elements to request at a time
+     * @param action    the action to apply to each element
+     * @param <T>       the element type
+     * @return a future completing with the number of elements processed
+     * @since 1.0.0
+     */
+    @NotNull
+    public static <T> CompletableFuture<Long> forEach(
+            @NotNull Publisher<T> publisher,
+            int batchSize,
+            @NotNull Consumer<? super T> action
+    ) {
+        Objects.requireNonNull(action, "Action cannot be null");
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        CompletableFuture<Long> future = new CompletableFuture<>();
+
+        publisher.subscribe(new Subscriber<T>() {
+            private Subscription subscription;
+            private long count;
+            private int remaining;
+            private boolean done;
+
+            @Override
+            public void onSubscribe(Subscription s) {
+                this.subscription = s;
+                this.remaining = batchSize;
+                s.request(batchSize);
+            }
+
+            @Override
+            public void onNext(T t) {
+                if (done) return;
+                try {
+                    action.accept(t);
+                } catch (Throwable e) {
+                    done = true;
+                    subscription.cancel();
+                    future.completeExceptionally(e);
+                    return;
+                }
+                count++;
+                if (--remaining == 0) {
+                    remaining = batchSize;
+                    subscription.request(batchSize);
+                }
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                if (!done) {
+                    done = true;
+                    future.completeExceptionally(t);
+                }
+            }
+
+            @Override
+            public void onComplete() {
+                if (!done) {
+                    done = true;
+                    future.complete(count);
+                }
+            }
+        });
+
+        return future;
+    }
+
     /**
      * Converts a Publisher to a CompletableFuture for void operations.
      *
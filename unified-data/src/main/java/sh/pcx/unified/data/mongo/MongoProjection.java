@@ -0,0 +1,285 @@
+/*
+ * Copyright (c) 2025 Supatuck. All rights reserved.
+ * Licensed under the MIT License.
+ */
+package sh.pcx.unified.data.mongo;
+
+import com.mongodb.client.model.Projections;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.conversions.Bson;
+import org.bson.types.ObjectId;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.RecordComponent;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * A field projection together with a decoder for the projected documents.
+ *
+ * <p>Projected queries read documents as raw BSON and decode only the
+ * projected fields, bypassing the collection's document codec. Large
+ * documents with item stacks or text components are never passed through
+ * {@link ItemStackCodec} or {@link ComponentCodec} when only a few scalar
+ * fields are needed.
+ *
+ * <h2>Example Usage</h2>
+ * <pre>{@code
+ * record PlayerStats(UUID id, String name, int kills, int deaths) {}
+ *
+ * MongoProjection<PlayerStats> stats = MongoProjection.of(PlayerStats.class);
+ *
+ * // Only _id, name, kills and deaths are sent by the server and decoded
+ * players.find(Filters.gt("kills", 100), stats)
+ *     .thenAccept(list -> list.forEach(s -> logger.info(s.name() + ": " + s.kills())));
+ *
+ * // Custom decoding
+ * MongoProjection<String> names = MongoProjection.of(
+ *     Projections.include("name"),
+ *     doc -> doc.getString("name").getValue());
+ * }</pre>
+ *
+ * <h2>Record Mapping</h2>
+ * <p>Each record component is read from the field of the same name, except a
+ * component named {@code id}, which is read from {@code _id}. Supported
+ * component types are strings, primitives and their wrappers,
+ * {@link BigDecimal}, {@link UUID}, {@link Instant}, {@link Date},
+ * {@link ObjectId}, {@link Document} and {@link BsonValue} subtypes. Missing
+ * fields decode to null, or to zero or false for primitives. Binary UUIDs and
+ * nested documents are decoded with the collection's codec registry, so they
+ * follow the client's configured {@link org.bson.UuidRepresentation}.
+ *
+ * <h2>Thread Safety</h2>
+ * <p>Projections are immutable and can be shared between threads.
+ *
+ * @param <R> the result type
+ * @since 1.0.0
+ * @author Supatuck
+ * @see MongoCollectionWrapper#find(Bson, MongoProjection)
+ */
+public final class MongoProjection<R> {
+
+    private final Bson projection;
+    private final BiFunction<? super BsonDocument, ? super CodecRegistry, ? extends R> decoder;
+
+    private MongoProjection(Bson projection,
+                            BiFunction<? super BsonDocument, ? super CodecRegistry, ? extends R> decoder) {
+        this.projection = projection;
+        this.decoder = decoder;
+    }
+
+    /**
+     * Creates a projection with a custom decoder.
+     *
+     * @param projection the fields to include or exclude
+     * @param decoder    converts a projected document to a result
+     * @param <R>        the result type
+     * @return the projection
+     * @since 1.0.0
+     */
+    @NotNull
+    public static <R> MongoProjection<R> of(
+            @NotNull Bson projection,
+            @NotNull Function<? super BsonDocument, ? extends R> decoder
+    ) {
+        Objects.requireNonNull(projection, "Projection cannot be null");
+        Objects.requireNonNull(decoder, "Decoder cannot be null");
+        return new MongoProjection<>(projection, (document, registry) -> decoder.apply(document));
+    }
+
+    /**
+     * Creates a projection that includes the components of a record and
+     * decodes into it.
+     *
+     * @param recordClass the record class
+     * @param <R>         the record type
+     * @return the projection
+     * @throws IllegalArgumentException if a component type is not supported
+     * @since 1.0.0
+     */
+    @NotNull
+    public static <R extends Record> MongoProjection<R> of(@NotNull Class<R> recordClass) {
+        Objects.requireNonNull(recordClass, "Record class cannot be null");
+        RecordComponent[] components = recordClass.getRecordComponents();
+
+        String[] fields = new String[components.length];
+        List<String> included = new ArrayList<>(components.length);
+        List<BiFunction<BsonValue, CodecRegistry, Object>> readers = new ArrayList<>(components.length);
+        Class<?>[] types = new Class<?>[components.length];
+        for (int i = 0; i < components.length; i++) {
+            String name = components[i].getName();
+            fields[i] = name.equals("id") ? "_id" : name;
+            types[i] = components[i].getType();
+            readers.add(readerFor(types[i], recordClass, name));
+            if (!fields[i].equals("_id")) {
+                included.add(fields[i]);
+            }
+        }
+        Bson projection;
+        if (included.size() == fields.length) {
+            projection = Projections.fields(Projections.include(included), Projections.excludeId());
+        } else {
+            projection = included.isEmpty() ? Projections.include("_id") : Projections.include(included);
+        }
+
+        MethodHandle constructor;
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(recordClass, MethodHandles.lookup());
+            constructor = lookup.findConstructor(recordClass,
+                            MethodType.methodType(void.class, types))
+                    .asSpreader(Object[].class, types.length);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException("Cannot access canonical constructor of " + recordClass.getName(), e);
+        }
+
+        return new MongoProjection<>(projection, (document, registry) -> {
+            Object[] args = new Object[fields.length];
+            for (int i = 0; i < fields.length; i++) {
+                BsonValue value = document.get(fields[i]);
+                args[i] = value == null || value.isNull() ? defaultValue(types[i]) : readers.get(i).apply(value, registry);
+            }
+            try {
+                return recordClass.cast(constructor.invoke(args));
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalStateException("Failed to create " + recordClass.getSimpleName(), t);
+            }
+        });
+    }
+
+    /**
+     * Returns the projection document sent to the server.
+     *
+     * @return the projection
+     * @since 1.0.0
+     */
+    @NotNull
+    public Bson getProjection() {
+        return projection;
+    }
+
+    /**
+     * Decodes a projected document.
+     *
+     * @param document the projected document
+     * @param registry the codec registry of the collection it was read from
+     * @return the result
+     * @since 1.0.0
+     */
+    public R decode(@NotNull BsonDocument document, @NotNull CodecRegistry registry) {
+        return decoder.apply(document, registry);
+    }
+
+    // ===========================================
+    // Internal Methods
+    // ===========================================
+
+    private static BiFunction<BsonValue, CodecRegistry, Object> readerFor(
+            Class<?> type, Class<?> recordClass, String name) {
+        Function<BsonValue, Object> reader = scalarReaderFor(type);
+        if (reader != null) {
+            return (value, registry) -> reader.apply(value);
+        }
+        if (type == UUID.class) {
+            return (v, registry) -> v.isBinary() ? decodeWith(registry, UUID.class, v)
+                    : UUID.fromString(v.asString().getValue());
+        }
+        if (type == Document.class) {
+            return (v, registry) -> registry.get(Document.class)
+                    .decode(new BsonDocumentReader(v.asDocument()), DecoderContext.builder().build());
+        }
+        throw new IllegalArgumentException("Unsupported type " + type.getName()
+                + " of component '" + name + "' in " + recordClass.getName());
+    }
+
+    /**
+     * Decodes a single value with the registry's codec for a type.
+     */
+    private static <V> V decodeWith(CodecRegistry registry, Class<V> type, BsonValue value) {
+        BsonDocumentReader reader = new BsonDocumentReader(new BsonDocument("v", value));
+        reader.readStartDocument();
+        reader.readName();
+        return registry.get(type).decode(reader, DecoderContext.builder().build());
+    }
+
+    @Nullable
+    private static Function<BsonValue, Object> scalarReaderFor(Class<?> type) {
+        if (type == String.class) {
+            return v -> v.isString() ? v.asString().getValue()
+                    : v.isObjectId() ? v.asObjectId().getValue().toHexString()
+                    : v.toString();
+        }
+        if (type == int.class || type == Integer.class) {
+            return v -> v.asNumber().intValue();
+        }
+        if (type == long.class || type == Long.class) {
+            return v -> v.isDateTime() ? v.asDateTime().getValue() : v.asNumber().longValue();
+        }
+        if (type == double.class || type == Double.class) {
+            return v -> v.asNumber().doubleValue();
+        }
+        if (type == float.class || type == Float.class) {
+            return v -> (float) v.asNumber().doubleValue();
+        }
+        if (type == short.class || type == Short.class) {
+            return v -> (short) v.asNumber().intValue();
+        }
+        if (type == byte.class || type == Byte.class) {
+            return v -> (byte) v.asNumber().intValue();
+        }
+        if (type == boolean.class || type == Boolean.class) {
+            return v -> v.asBoolean().getValue();
+        }
+        if (type == BigDecimal.class) {
+            return v -> v.isDecimal128() ? v.asDecimal128().getValue().bigDecimalValue()
+                    : BigDecimal.valueOf(v.asNumber().doubleValue());
+        }
+        if (type == Instant.class) {
+            return v -> Instant.ofEpochMilli(v.asDateTime().getValue());
+        }
+        if (type == Date.class) {
+            return v -> new Date(v.asDateTime().getValue());
+        }
+        if (type == ObjectId.class) {
+            return v -> v.asObjectId().getValue();
+        }
+        if (BsonValue.class.isAssignableFrom(type)) {
+            return v -> type.cast(v);
+        }
+        return null;
+    }
+
+    @Nullable
+    private static Object defaultValue(Class<?> type) {
+        if (!type.isPrimitive()) return null;
+        if (type == boolean.class) return false;
+        if (type == long.class) return 0L;
+        if (type == double.class) return 0.0;
+        if (type == float.class) return 0.0f;
+        if (type == short.class) return (short) 0;
+        if (type == byte.class) return (byte) 0;
+        return 0;
+    }
+
+    @Override
+    public String toString() {
+        return "MongoProjection{projection=" + projection.toBsonDocument().toJson() + "}";
+    }
+}
@@ -4,12 +4,14 @@
  */
 package sh.pcx.unified.data.mongo;
 
+import com.mongodb.bulk.BulkWriteResult;
 import org.bson.conversions.Bson;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 /**
  * Base repository interface for MongoDB document operations.
@@ -139,6 +141,75 @@ public interface MongoRepository<T, ID> {
     @NotNull
     CompletableFuture<List<T>> findAll(@NotNull Bson filter, int skip, int limit);
 
+    /**
+     * Finds documents matching a filter and decodes only the projected fields.
+     *
+     * <p>Use this instead of {@link #findAll(Bson)} when only a few fields of
+     * large documents are needed; the rest of each document is neither
+     * transferred nor decoded.
+     *
+     * @param filter     the filter to apply
+     * @param projection the projection and its decoder
+     * @param <R>        the result type
+     * @return a future completing with the decoded results
+     * @since 1.0.0
+     * @see MongoProjection
+     */
+    @NotNull
+    default <R> CompletableFuture<List<R>> findAll(@NotNull Bson filter, @NotNull MongoProjection<R> projection) {
+        return getCollection().find(filter, projection);
+    }
+
+    /**
+     * Streams documents matching a filter through an action without loading
+     * them all into memory.
+     *
+     * @param filter    the filter to apply
+     * @param batchSize the number of documents fetched per round trip
+     * @param action    the action to apply to each document
+     * @return a future completing with the number of documents processed
+     * @since 1.0.0
+     * @see MongoCollectionWrapper#forEach(Bson, int, Consumer)
+     */
+    @NotNull
+    default CompletableFuture<Long> forEach(
+            @NotNull Bson filter,
+            int batchSize,
+            @NotNull Consumer<? super T> action
+    ) {
+        return getCollection().forEach(filter, batchSize, action);
+    }
+
+    /**
+     * Streams the projected fields of documents matching a filter through an
+     * action without loading them all into memory.
+     *
+     * <pre>{@code
+     * record Stats(UUID id, int kills, int deaths) {}
+     *
+     * playerRepo.forEach(Filters.empty(), MongoProjection.of(Stats.class), 1000,
+     *         stats -> leaderboard.update(stats.id(), stats.kills(), stats.deaths()))
+     *     .thenAccept(count -> logger.info("Recomputed " + count + " players"));
+     * }</pre>
+     *
+     * @param filter     the filter to apply
+     * @param projection the projection and its decoder
+     * @param batchSize  the number of documents fetched per round trip
+     * @param action     the action to apply to each result
+     * @param <R>        the result type
+     * @return a future completing with the number of documents processed
+     * @since 1.0.0
+     */
+    @NotNull
+    default <R> CompletableFuture<Long> forEach(
+            @NotNull Bson filter,
+            @NotNull MongoProjection<R> projection,
+            int batchSize,
+            @NotNull Consumer<? super R> action
+    ) {
+        return getCollection().forEach(filter, projection, batchSize, action);
+    }
+
     /**
      * Finds the first document matching a filter.
      *
@@ -208,6 +279,10 @@ public interface MongoRepository<T, ID> {
     /**
      * Saves multiple documents.
      *
+     * <p>Implementations should save all documents in one request, for
+     * example by delegating to {@link #upsertAll(Iterable)}, rather than
+     * calling {@link #save(Object)} per document.
+     *
      * @param entities the documents to save
      * @return a future completing with the saved documents
      * @since 1.0.0
@@ -215,6 +290,22 @@ public interface MongoRepository<T, ID> {
     @NotNull
     CompletableFuture<List<T>> saveAll(@NotNull Iterable<T> entities);
 
+    /**
+     * Inserts or replaces multiple documents with one unordered bulk write.
+     *
+     * <p>Documents are matched by {@link #createIdFilter(Object)}. The write
+     * is unordered, so a failing document does not stop the others.
+     *
+     * @param entities the documents to save
+     * @return a future completing with the bulk write result
+     * @since 1.0.0
+     * @see MongoCollectionWrapper#upsertAll(Iterable, java.util.function.Function)
+     */
+    @NotNull
+    default CompletableFuture<BulkWriteResult> upsertAll(@NotNull Iterable<T> entities) {
+        return getCollection().upsertAll(entities, entity -> createIdFilter(getId(entity)));
+    }
+
     /**
      * Inserts a new document.
      *
@@ -231,6 +322,9 @@ public interface MongoRepository<T, ID> {
     /**
      * Inserts multiple new documents.
      *
+     * <p>Implementations should use a single unordered
+     * {@link MongoCollectionWrapper#insertMany(List, com.mongodb.client.model.InsertManyOptions) insertMany}.
+     *
      * @param entities the documents to insert
      * @return a future completing with the inserted documents
      * @since 1.0.0
@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2025 Supatuck. All rights reserved.
+ * Licensed under the MIT License.
+ */
+package sh.pcx.unified.data.mongo;
+
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.reactivestreams.client.MongoCollection;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Date;
+import java.util.Objects;
+
+/**
+ * Persists change stream resume tokens so a subscription can continue where
+ * it left off after a restart.
+ *
+ * <p>{@link ChangeStreamManager} saves the token of the last event a listener
+ * has processed at a fixed interval and when the subscription is closed. On
+ * the next subscribe with the same key the stream resumes after that token
+ * instead of starting from the current time, so no changes are missed and no
+ * full reload is needed.
+ *
+ * <h2>Example Usage</h2>
+ * <pre>{@code
+ * ResumeTokenStore store = ResumeTokenStore.file(dataFolder.toPath().resolve("resume-tokens"));
+ *
+ * manager.subscribe("players", PlayerData.class,
+ *     ChangeStreamOptions.builder()
+ *         .checkpoint(store, "player-sync")
+ *         .build(),
+ *     listener);
+ * }</pre>
+ *
+ * <h2>Thread Safety</h2>
+ * <p>Implementations must be thread-safe. Tokens are saved from the
+ * manager's checkpoint thread.
+ *
+ * @since 1.0.0
+ * @author Supatuck
+ * @see ChangeStreamManager.ChangeStreamOptions.Builder#checkpoint(ResumeTokenStore, String)
+ */
+public interface ResumeTokenStore {
+
+    /**
+     * Loads the last saved token.
+     *
+     * @param key the subscription key
+     * @return the token, or null if none was saved
+     * @since 1.0.0
+     */
+    @Nullable
+    BsonDocument load(@NotNull String key);
+
+    /**
+     * Saves a token, replacing any previous token for the key.
+     *
+     * @param key   the subscription key
+     * @param token the resume token
+     * @since 1.0.0
+     */
+    void save(@NotNull String key, @NotNull BsonDocument token);
+
+    /**
+     * Creates a store that keeps one JSON file per key in a directory.
+     *
+     * <p>Files are replaced atomically, so a crash during a save leaves the
+     * previous token intact.
+     *
+     * @param directory the directory, created if missing
+     * @return the store
+     * @since 1.0.0
+     */
+    @NotNull
+    static ResumeTokenStore file(@NotNull Path directory) {
+        return new FileStore(directory);
+    }
+
+    /**
+     * Creates a store that keeps one document per key in a collection.
+     *
+     * <p>Documents have the form {@code {_id: key, token: {...}, updatedAt: date}}.
+     * Loading blocks until the collection answers, so subscribe from an
+     * async context when using this store.
+     *
+     * @param collection the collection to store tokens in
+     * @return the store
+     * @since 1.0.0
+     */
+    @NotNull
+    static ResumeTokenStore collection(@NotNull MongoCollection<Document> collection) {
+        return new CollectionStore(collection);
+    }
+
+    // ===========================================
+    // Implementations
+    // ===========================================
+
+    /**
+     * Stores tokens as files.
+     */
+    final class FileStore implements ResumeTokenStore {
+        private final Path directory;
+
+        private FileStore(Path directory) {
+            this.directory = Objects.requireNonNull(directory, "Directory cannot be null");
+        }
+
+        @Override
+        @Nullable
+        public BsonDocument load(@NotNull String key) {
+            Path file = fileFor(key);
+            if (!Files.isRegularFile(file)) {
+                return null;
+            }
+            try {
+                return BsonDocument.parse(Files.readString(file, StandardCharsets.UTF_8));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read resume token for '" + key + "'", e);
+            }
+        }
+
+        @Override
+        public void save(@NotNull String key, @NotNull BsonDocument token) {
+            Path file = fileFor(key);
+            try {
+                Files.createDirectories(directory);
+                Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+                Files.writeString(temp, token.toJson(), StandardCharsets.UTF_8);
+                try {
+                    Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to save resume token for '" + key + "'", e);
+            }
+        }
+
+        private Path fileFor(String key) {
+            Objects.requireNonNull(key, "Key cannot be null");
+            return directory.resolve(key.replaceAll("[^A-Za-z0-9._-]", "_") + ".json");
+        }
+
+        @Override
+        public String toString() {
+            return "FileStore{directory=" + directory + "}";
+        }
+    }
+
+    /**
+     * Stores tokens as documents.
+     */
+    final class CollectionStore implements ResumeTokenStore {
+        private final MongoCollection<Document> collection;
+
+        private CollectionStore(MongoCollection<Document> collection) {
+            this.collection = Objects.requireNonNull(collection, "Collection cannot be null");
+        }
+
+        @Override
+        @Nullable
+        public BsonDocument load(@NotNull String key) {
+            Objects.requireNonNull(key, "Key cannot be null");
+            Document document = MongoConnection.toCompletableFuture(
+                    collection.find(Filters.eq("_id", key)).first()).join();
+            if (document == null) {
+                return null;
+            }
+            Document token = document.get("token", Document.class);
+            return token != null ? BsonDocument.parse(token.toJson()) : null;
+        }
+
+        @Override
+        public void save(@NotNull String key, @NotNull BsonDocument token) {
+            Objects.requireNonNull(key, "Key cannot be null");
+            Objects.requireNonNull(token, "Token cannot be null");
+            Document document = new Document("_id", key)
+                    .append("token", Document.parse(token.toJson()))
+                    .append("updatedAt", new Date());
+            MongoConnection.toCompletableFutureVoid(collection.replaceOne(
+                    Filters.eq("_id", key), document, new ReplaceOptions().upsert(true))).join();
+        }
+
+        @Override
+        public String toString() {
+            return "CollectionStore{collection=" + collection.getNamespace() + "}";
+        }
+    }
+}
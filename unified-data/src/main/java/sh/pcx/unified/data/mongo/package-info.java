@@ -68,6 +68,7 @@
  *   <li>{@link sh.pcx.unified.data.mongo.MongoQuery} - Fluent find query builder</li>
  *   <li>{@link sh.pcx.unified.data.mongo.MongoUpdate} - Fluent update builder</li>
  *   <li>{@link sh.pcx.unified.data.mongo.MongoAggregation} - Aggregation pipeline builder</li>
+ *   <li>{@link sh.pcx.unified.data.mongo.MongoProjection} - Projected queries decoded into records</li>
  *   <li>{@link sh.pcx.unified.data.mongo.MongoRepository} - Base repository pattern</li>
  * </ul>
  *
@@ -75,6 +76,7 @@
  * <ul>
  *   <li>{@link sh.pcx.unified.data.mongo.ChangeStreamListener} - Change event listener</li>
  *   <li>{@link sh.pcx.unified.data.mongo.ChangeStreamManager} - Subscription management</li>
+ *   <li>{@link sh.pcx.unified.data.mongo.ResumeTokenStore} - Change stream checkpoint storage</li>
  *   <li>{@link sh.pcx.unified.data.mongo.GridFSService} - Large file storage</li>
  * </ul>
  *
@@ -18,8 +18,11 @@ import java.util.Objects;
 /**
  * Binary serializer for Redis using Java serialization.
  *
- * <p>This serializer converts Java objects to Base64-encoded binary strings
- * for storage in Redis. Objects must implement {@link Serializable}.
+ * <p>This serializer converts Java objects to Java serialization bytes for
+ * storage in Redis. Objects must implement {@link Serializable}. Typed
+ * operations on {@link RedisService} store the raw bytes through
+ * {@link #serializeBytes}; the string form used by text-only APIs such as
+ * pub/sub is Base64-encoded.
  *
  * <h2>Example Usage</h2>
  * <pre>{@code
@@ -106,6 +109,19 @@ public final class BinaryRedisSerializer<T extends Serializable> implements Redi
     @Override
     @NotNull
     public String serialize(@NotNull T value) {
+        return Base64.getEncoder().encodeToString(serializeBytes(value));
+    }
+
+    @Override
+    @NotNull
+    public T deserialize(@NotNull String data, @NotNull Class<T> type) {
+        Objects.requireNonNull(data, "data cannot be null");
+        Objects.requireNonNull(type, "type cannot be null");
+        return checkType(readObject(decodeBase64(data)), type);
+    }
+
+    @Override
+    public byte @NotNull [] serializeBytes(@NotNull T value) {
         Objects.requireNonNull(value, "value cannot be null");
 
         try (ByteArrayOutputStream baos = new ByteArrayOutputStream();
@@ -114,43 +130,25 @@ public final class BinaryRedisSerializer<T extends Serializable> implements Redi
             oos.writeObject(value);
             oos.flush();
 
-            return Base64.getEncoder().encodeToString(baos.toByteArray());
+            return baos.toByteArray();
 
         } catch (IOException e) {
             throw new SerializationException("Failed to serialize object", e);
         }
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Values stored as Base64 text by earlier versions are detected by the
+     * missing serialization stream header and decoded transparently.
+     */
     @Override
     @NotNull
-    @SuppressWarnings("unchecked")
-    public T deserialize(@NotNull String data, @NotNull Class<T> type) {
+    public T deserializeBytes(byte @NotNull [] data, @NotNull Class<T> type) {
         Objects.requireNonNull(data, "data cannot be null");
         Objects.requireNonNull(type, "type cannot be null");
-
-        try {
-            byte[] bytes = Base64.getDecoder().decode(data);
-
-            try (ByteArrayInputStream bais = new ByteArrayInputStream(bytes);
-                 ObjectInputStream ois = new ObjectInputStream(bais)) {
-
-                Object obj = ois.readObject();
-
-                if (!type.isInstance(obj)) {
-                    throw new SerializationException(
-                            "Deserialized object is not of expected type. Expected: " +
-                            type.getName() + ", got: " + obj.getClass().getName()
-                    );
-                }
-
-                return (T) obj;
-            }
-
-        } catch (IllegalArgumentException e) {
-            throw new SerializationException("Invalid Base64 data", e);
-        } catch (IOException | ClassNotFoundException e) {
-            throw new SerializationException("Failed to deserialize object", e);
-        }
+        return checkType(readObject(isSerializationStream(data) ? data : decodeBase64(data)), type);
     }
 
     /**
@@ -168,21 +166,7 @@ public final class BinaryRedisSerializer<T extends Serializable> implements Redi
     @SuppressWarnings("unchecked")
     public <R extends Serializable> R deserializeUnchecked(@NotNull String data) {
         Objects.requireNonNull(data, "data cannot be null");
-
-        try {
-            byte[] bytes = Base64.getDecoder().decode(data);
-
-            try (ByteArrayInputStream bais = new ByteArrayInputStream(bytes);
-                 ObjectInputStream ois = new ObjectInputStream(bais)) {
-
-                return (R) ois.readObject();
-            }
-
-        } catch (IllegalArgumentException e) {
-            throw new SerializationException("Invalid Base64 data", e);
-        } catch (IOException | ClassNotFoundException e) {
-            throw new SerializationException("Failed to deserialize object", e);
-        }
+        return (R) readObject(decodeBase64(data));
     }
 
     @Override
@@ -201,7 +185,7 @@ public final class BinaryRedisSerializer<T extends Serializable> implements Redi
      * @since 1.0.0
      */
     public int getSerializedSize(@NotNull T value) {
-        return serialize(value).length();
+        return serializeBytes(value).length;
     }
 
     /**
@@ -240,8 +224,47 @@ public final class BinaryRedisSerializer<T extends Serializable> implements Redi
     public T deepCopy(@NotNull T value) {
         Objects.requireNonNull(value, "value cannot be null");
 
-        String serialized = serialize(value);
-        return (T) deserializeUnchecked(serialized);
+        return (T) readObject(serializeBytes(value));
+    }
+
+    private static boolean isSerializationStream(byte[] data) {
+        return data.length >= 2 && (data[0] & 0xFF) == 0xAC && (data[1] & 0xFF) == 0xED;
+    }
+
+    private static byte[] decodeBase64(String data) {
+        try {
+            return Base64.getDecoder().decode(data);
+        } catch (IllegalArgumentException e) {
+            throw new SerializationException("Invalid Base64 data", e);
+        }
+    }
+
+    private static byte[] decodeBase64(byte[] data) {
+        try {
+            return Base64.getDecoder().decode(data);
+        } catch (IllegalArgumentException e) {
+            throw new SerializationException("Invalid Base64 data", e);
+        }
+    }
+
+    private static Object readObject(byte[] bytes) {
+        try (ByteArrayInputStream bais = new ByteArrayInputStream(bytes);
+             ObjectInputStream ois = new ObjectInputStream(bais)) {
+            return ois.readObject();
+        } catch (IOException | ClassNotFoundException e) {
+            throw new SerializationException("Failed to deserialize object", e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T checkType(Object obj, Class<T> type) {
+        if (!type.isInstance(obj)) {
+            throw new SerializationException(
+                    "Deserialized object is not of expected type. Expected: " +
+                    type.getName() + ", got: " + obj.getClass().getName()
+            );
+        }
+        return (T) obj;
     }
 
     @Override
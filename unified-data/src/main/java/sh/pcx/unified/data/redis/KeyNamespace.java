@@ -7,6 +7,7 @@ package sh.pcx.unified.data.redis;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
@@ -45,6 +46,16 @@ import java.util.stream.Collectors;
  *
  * // Get keys without namespace prefix
  * Set<String> keys = ns.keys("*");    // Returns keys with prefix stripped
+ *
+ * // Reads served from the near cache, if the service has one
+ * KeyNamespace settings = redis.namespace("settings").withNearCache();
+ * settings.get("motd");
+ *
+ * // Pipelined batch with prefixed keys
+ * RedisBatch batch = ns.batch();
+ * batch.hset("player:uuid", "name", "Steve");   // Queues HSET "myplugin:player:uuid"
+ * batch.expire("player:uuid", Duration.ofHours(1));
+ * batch.executeAsync();
  * }</pre>
  *
  * <h2>Best Practices</h2>
@@ -68,6 +79,7 @@ public final class KeyNamespace {
 
     private final RedisService redisService;
     private final String prefix;
+    private final boolean nearCached;
 
     /**
      * Creates a new key namespace.
@@ -87,6 +99,7 @@ public final class KeyNamespace {
 
         this.redisService = redisService;
         this.prefix = normalizePrefix(prefix);
+        this.nearCached = false;
     }
 
     /**
@@ -107,6 +120,13 @@ public final class KeyNamespace {
 
         this.redisService = redisService;
         this.prefix = normalizePrefix(String.join(SEPARATOR, prefixes));
+        this.nearCached = false;
+    }
+
+    private KeyNamespace(RedisService redisService, String prefix, boolean nearCached) {
+        this.redisService = redisService;
+        this.prefix = prefix;
+        this.nearCached = nearCached;
     }
 
     private static String normalizePrefix(String prefix) {
@@ -141,7 +161,37 @@ public final class KeyNamespace {
     @NotNull
     public KeyNamespace child(@NotNull String childPrefix) {
         Objects.requireNonNull(childPrefix, "childPrefix cannot be null");
-        return new KeyNamespace(redisService, prefix + SEPARATOR + childPrefix);
+        KeyNamespace child = new KeyNamespace(redisService, prefix + SEPARATOR + childPrefix);
+        return nearCached ? child.withNearCache() : child;
+    }
+
+    /**
+     * Returns a view of this namespace that reads through the service's
+     * near cache.
+     *
+     * <p>{@link #get}, {@link #hgetAll} and their async forms are served
+     * locally after the first read, and string and hash writes made through
+     * the view drop the written keys from the local cache. If the service
+     * has no near cache enabled, the view behaves like this namespace.
+     * Child namespaces of the view also use the near cache.
+     *
+     * @return a near-cached view of this namespace
+     * @since 1.0.0
+     * @see RedisService#nearCache()
+     */
+    @NotNull
+    public KeyNamespace withNearCache() {
+        return nearCached ? this : new KeyNamespace(redisService, prefix, true);
+    }
+
+    /**
+     * Checks if this namespace reads through the near cache.
+     *
+     * @return true if this namespace opted in to the near cache
+     * @since 1.0.0
+     */
+    public boolean isNearCached() {
+        return nearCached;
     }
 
     /**
@@ -173,6 +223,17 @@ public final class KeyNamespace {
         return result;
     }
 
+    /**
+     * Converts a key to its namespaced form as UTF-8 bytes.
+     *
+     * @param key the key (without namespace)
+     * @return the full key bytes
+     * @since 1.0.0
+     */
+    public byte @NotNull [] rawKey(@NotNull String key) {
+        return key(key).getBytes(StandardCharsets.UTF_8);
+    }
+
     /**
      * Strips the namespace prefix from a key.
      *
@@ -211,7 +272,8 @@ public final class KeyNamespace {
      */
     @NotNull
     public Optional<String> get(@NotNull String key) {
-        return redisService.get(key(key));
+        Optional<RedisNearCache> cache = nearCache();
+        return cache.isPresent() ? cache.get().get(key(key)) : redisService.get(key(key));
     }
 
     /**
@@ -223,7 +285,8 @@ public final class KeyNamespace {
      */
     @NotNull
     public CompletableFuture<Optional<String>> getAsync(@NotNull String key) {
-        return redisService.getAsync(key(key));
+        Optional<RedisNearCache> cache = nearCache();
+        return cache.isPresent() ? cache.get().getAsync(key(key)) : redisService.getAsync(key(key));
     }
 
     /**
@@ -235,6 +298,7 @@ public final class KeyNamespace {
      */
     public void set(@NotNull String key, @NotNull String value) {
         redisService.set(key(key), value);
+        invalidate(key(key));
     }
 
     /**
@@ -247,7 +311,7 @@ public final class KeyNamespace {
      */
     @NotNull
     public CompletableFuture<Void> setAsync(@NotNull String key, @NotNull String value) {
-        return redisService.setAsync(key(key), value);
+        return writtenAsync(redisService.setAsync(key(key), value), key(key));
     }
 
     /**
@@ -260,6 +324,7 @@ public final class KeyNamespace {
      */
     public void setex(@NotNull String key, @NotNull String value, @NotNull Duration ttl) {
         redisService.setex(key(key), value, ttl);
+        invalidate(key(key));
     }
 
     /**
@@ -273,7 +338,7 @@ public final class KeyNamespace {
      */
     @NotNull
     public CompletableFuture<Void> setexAsync(@NotNull String key, @NotNull String value, @NotNull Duration ttl) {
-        return redisService.setexAsync(key(key), value, ttl);
+        return writtenAsync(redisService.setexAsync(key(key), value, ttl), key(key));
     }
 
     /**
@@ -285,7 +350,7 @@ public final class KeyNamespace {
      * @since 1.0.0
      */
     public boolean setnx(@NotNull String key, @NotNull String value) {
-        return redisService.setnx(key(key), value);
+        return written(redisService.setnx(key(key), value), key(key));
     }
 
     /**
@@ -298,7 +363,7 @@ public final class KeyNamespace {
      */
     @NotNull
     public CompletableFuture<Boolean> setnxAsync(@NotNull String key, @NotNull String value) {
-        return redisService.setnxAsync(key(key), value);
+        return writtenAsync(redisService.setnxAsync(key(key), value), key(key));
     }
 
     /**
@@ -338,6 +403,7 @@ public final class KeyNamespace {
                         Map.Entry::getValue
                 ));
         redisService.mset(namespacedMap);
+        invalidate(namespacedMap.keySet().toArray(new String[0]));
     }
 
     /**
@@ -354,7 +420,7 @@ public final class KeyNamespace {
                         e -> key(e.getKey()),
                         Map.Entry::getValue
                 ));
-        return redisService.msetAsync(namespacedMap);
+        return writtenAsync(redisService.msetAsync(namespacedMap), namespacedMap.keySet().toArray(new String[0]));
     }
 
     // ========== Key Operations ==========
@@ -367,7 +433,8 @@ public final class KeyNamespace {
      * @since 1.0.0
      */
     public long del(@NotNull String... keys) {
-        return redisService.del(keys(keys));
+        String[] namespacedKeys = keys(keys);
+        return written(redisService.del(namespacedKeys), namespacedKeys);
     }
 
     /**
@@ -379,7 +446,8 @@ public final class KeyNamespace {
      */
     @NotNull
     public CompletableFuture<Long> delAsync(@NotNull String... keys) {
-        return redisService.delAsync(keys(keys));
+        String[] namespacedKeys = keys(keys);
+        return writtenAsync(redisService.delAsync(namespacedKeys), namespacedKeys);
     }
 
     /**
@@ -464,7 +532,7 @@ public final class KeyNamespace {
      * @since 1.0.0
      */
     public long incr(@NotNull String key) {
-        return redisService.incr(key(key));
+        return written(redisService.incr(key(key)), key(key));
     }
 
     /**
@@ -476,7 +544,7 @@ public final class KeyNamespace {
      */
     @NotNull
     public CompletableFuture<Long> incrAsync(@NotNull String key) {
-        return redisService.incrAsync(key(key));
+        return writtenAsync(redisService.incrAsync(key(key)), key(key));
     }
 
     /**
@@ -488,7 +556,7 @@ public final class KeyNamespace {
      * @since 1.0.0
      */
     public long incrBy(@NotNull String key, long increment) {
-        return redisService.incrBy(key(key), increment);
+        return written(redisService.incrBy(key(key), increment), key(key));
     }
 
     /**
@@ -501,7 +569,7 @@ public final class KeyNamespace {
      */
     @NotNull
     public CompletableFuture<Long> incrByAsync(@NotNull String key, long increment) {
-        return redisService.incrByAsync(key(key), increment);
+        return writtenAsync(redisService.incrByAsync(key(key), increment), key(key));
     }
 
     /**
@@ -512,7 +580,7 @@ public final class KeyNamespace {
      * @since 1.0.0
      */
     public long decr(@NotNull String key) {
-        return redisService.decr(key(key));
+        return written(redisService.decr(key(key)), key(key));
     }
 
     /**
@@ -524,7 +592,7 @@ public final class KeyNamespace {
      */
     @NotNull
     public CompletableFuture<Long> decrAsync(@NotNull String key) {
-        return redisService.decrAsync(key(key));
+        return writtenAsync(redisService.decrAsync(key(key)), key(key));
     }
 
     // ========== Hash Operations ==========
@@ -565,7 +633,7 @@ public final class KeyNamespace {
      * @since 1.0.0
      */
     public boolean hset(@NotNull String key, @NotNull String field, @NotNull String value) {
-        return redisService.hset(key(key), field, value);
+        return written(redisService.hset(key(key), field, value), key(key));
     }
 
     /**
@@ -579,7 +647,7 @@ public final class KeyNamespace {
      */
     @NotNull
     public CompletableFuture<Boolean> hsetAsync(@NotNull String key, @NotNull String field, @NotNull String value) {
-        return redisService.hsetAsync(key(key), field, value);
+        return writtenAsync(redisService.hsetAsync(key(key), field, value), key(key));
     }
 
     /**
@@ -591,7 +659,8 @@ public final class KeyNamespace {
      */
     @NotNull
     public Map<String, String> hgetAll(@NotNull String key) {
-        return redisService.hgetAll(key(key));
+        Optional<RedisNearCache> cache = nearCache();
+        return cache.isPresent() ? cache.get().hgetAll(key(key)) : redisService.hgetAll(key(key));
     }
 
     /**
@@ -603,7 +672,8 @@ public final class KeyNamespace {
      */
     @NotNull
     public CompletableFuture<Map<String, String>> hgetAllAsync(@NotNull String key) {
-        return redisService.hgetAllAsync(key(key));
+        Optional<RedisNearCache> cache = nearCache();
+        return cache.isPresent() ? cache.get().hgetAllAsync(key(key)) : redisService.hgetAllAsync(key(key));
     }
 
     /**
@@ -615,6 +685,7 @@ public final class KeyNamespace {
      */
     public void hmset(@NotNull String key, @NotNull Map<String, String> fieldValues) {
         redisService.hmset(key(key), fieldValues);
+        invalidate(key(key));
     }
 
     /**
@@ -627,7 +698,7 @@ public final class KeyNamespace {
      */
     @NotNull
     public CompletableFuture<Void> hmsetAsync(@NotNull String key, @NotNull Map<String, String> fieldValues) {
-        return redisService.hmsetAsync(key(key), fieldValues);
+        return writtenAsync(redisService.hmsetAsync(key(key), fieldValues), key(key));
     }
 
     /**
@@ -639,7 +710,7 @@ public final class KeyNamespace {
      * @since 1.0.0
      */
     public long hdel(@NotNull String key, @NotNull String... fields) {
-        return redisService.hdel(key(key), fields);
+        return written(redisService.hdel(key(key), fields), key(key));
     }
 
     /**
@@ -652,7 +723,7 @@ public final class KeyNamespace {
      */
     @NotNull
     public CompletableFuture<Long> hdelAsync(@NotNull String key, @NotNull String... fields) {
-        return redisService.hdelAsync(key(key), fields);
+        return writtenAsync(redisService.hdelAsync(key(key), fields), key(key));
     }
 
     // ========== List Operations ==========
@@ -884,6 +955,84 @@ public final class KeyNamespace {
         return redisService.sremAsync(key(key), members);
     }
 
+    // ========== Binary Operations ==========
+
+    /**
+     * Gets the raw bytes of a key in this namespace.
+     *
+     * @param key the key (without namespace)
+     * @return an Optional containing the value bytes
+     * @since 1.0.0
+     */
+    @NotNull
+    public Optional<byte[]> getBytes(@NotNull String key) {
+        return redisService.getBytes(rawKey(key));
+    }
+
+    /**
+     * Gets the raw bytes of a key asynchronously.
+     *
+     * @param key the key (without namespace)
+     * @return a future with the value bytes
+     * @since 1.0.0
+     */
+    @NotNull
+    public CompletableFuture<Optional<byte[]>> getBytesAsync(@NotNull String key) {
+        return redisService.getBytesAsync(rawKey(key));
+    }
+
+    /**
+     * Sets a key in this namespace to raw bytes.
+     *
+     * @param key   the key (without namespace)
+     * @param value the value bytes
+     * @since 1.0.0
+     */
+    public void setBytes(@NotNull String key, byte @NotNull [] value) {
+        redisService.setBytes(rawKey(key), value);
+        invalidate(key(key));
+    }
+
+    /**
+     * Sets a key to raw bytes asynchronously.
+     *
+     * @param key   the key (without namespace)
+     * @param value the value bytes
+     * @return a future that completes when done
+     * @since 1.0.0
+     */
+    @NotNull
+    public CompletableFuture<Void> setBytesAsync(@NotNull String key, byte @NotNull [] value) {
+        return writtenAsync(redisService.setBytesAsync(rawKey(key), value), key(key));
+    }
+
+    /**
+     * Sets a key in this namespace to raw bytes with expiration.
+     *
+     * @param key   the key (without namespace)
+     * @param value the value bytes
+     * @param ttl   the TTL
+     * @since 1.0.0
+     */
+    public void setexBytes(@NotNull String key, byte @NotNull [] value, @NotNull Duration ttl) {
+        redisService.setexBytes(rawKey(key), value, ttl);
+        invalidate(key(key));
+    }
+
+    /**
+     * Sets a key to raw bytes with expiration asynchronously.
+     *
+     * @param key   the key (without namespace)
+     * @param value the value bytes
+     * @param ttl   the TTL
+     * @return a future that completes when done
+     * @since 1.0.0
+     */
+    @NotNull
+    public CompletableFuture<Void> setexBytesAsync(@NotNull String key, byte @NotNull [] value, @NotNull Duration ttl) {
+        return writtenAsync(redisService.setexBytesAsync(rawKey(key), value, ttl), key(key));
+    }
+
     // ========== Typed Operations ==========
 
     /**
@@ -912,6 +1061,7 @@ public final class KeyNamespace {
      */
     public <T> void set(@NotNull String key, @NotNull T value, @NotNull RedisSerializer<T> serializer) {
         redisService.set(key(key), value, serializer);
+        invalidate(key(key));
     }
 
     /**
@@ -926,6 +1076,56 @@ public final class KeyNamespace {
      */
     public <T> void setex(@NotNull String key, @NotNull T value, @NotNull Duration ttl, @NotNull RedisSerializer<T> serializer) {
         redisService.setex(key(key), value, ttl, serializer);
+        invalidate(key(key));
+    }
+
+    // ========== Pipelining ==========
+
+    /**
+     * Creates a batch whose keys are prefixed with this namespace.
+     *
+     * @return a new namespaced batch
+     * @since 1.0.0
+     * @see RedisService#batch()
+     */
+    @NotNull
+    public RedisBatch batch() {
+        return new NamespacedBatch(this, redisService.batch());
+    }
+
+    /**
+     * Wraps an existing batch so that keys are prefixed with this namespace.
+     *
+     * <p>Commands queued through the returned view go into the given batch,
+     * so commands for several namespaces can share one pipeline.
+     *
+     * @param batch the batch to queue commands into
+     * @return a namespaced view of the batch
+     * @since 1.0.0
+     */
+    @NotNull
+    public RedisBatch batch(@NotNull RedisBatch batch) {
+        Objects.requireNonNull(batch, "batch cannot be null");
+        return new NamespacedBatch(this, batch);
+    }
+
+    private Optional<RedisNearCache> nearCache() {
+        return nearCached ? redisService.nearCache() : Optional.empty();
+    }
+
+    private void invalidate(String... namespacedKeys) {
+        if (nearCached) {
+            redisService.nearCache().ifPresent(cache -> cache.invalidate(namespacedKeys));
+        }
+    }
+
+    private <T> T written(T result, String... namespacedKeys) {
+        invalidate(namespacedKeys);
+        return result;
+    }
+
+    private <T> CompletableFuture<T> writtenAsync(CompletableFuture<T> future, String... namespacedKeys) {
+        return nearCached ? future.whenComplete((result, error) -> invalidate(namespacedKeys)) : future;
     }
 
     @Override
@@ -945,4 +1145,179 @@ public final class KeyNamespace {
     public int hashCode() {
         return Objects.hash(prefix);
     }
+
+    /**
+     * Batch view that prefixes keys before delegating.
+     */
+    private record NamespacedBatch(KeyNamespace namespace, RedisBatch delegate) implements RedisBatch {
+
+        @Override
+        @NotNull
+        public CompletableFuture<Optional<String>> get(@NotNull String key) {
+            return delegate.get(namespace.key(key));
+        }
+
+        @Override
+        @NotNull
+        public CompletableFuture<Void> set(@NotNull String key, @NotNull String value) {
+            return delegate.set(namespace.key(key), value);
+        }
+
+        @Override
+        @NotNull
+        public CompletableFuture<Void> setex(@NotNull String key, @NotNull String value, @NotNull Duration ttl) {
+            return delegate.setex(namespace.key(key), value, ttl);
+        }
+
+        @Override
+        @NotNull
+        public CompletableFuture<Boolean> setnx(@NotNull String key, @NotNull String value) {
+            return delegate.setnx(namespace.key(key), value);
+        }
+
+        @Override
+        @NotNull
+        public CompletableFuture<Long> del(@NotNull String... keys) {
+            return delegate.del(namespace.keys(keys));
+        }
+
+        @Override
+        @NotNull
+        public CompletableFuture<Boolean> exists(@NotNull String key) {
+            return delegate.exists(namespace.key(key));
+        }
+
+        @Override
+        @NotNull
+        public CompletableFuture<Boolean> expire(@NotNull String key, @NotNull Duration ttl) {
+            return delegate.expire(namespace.key(key), ttl);
+        }
+
+        @Override
+        @NotNull
+        public CompletableFuture<Long> incr(@NotNull String key) {
+            return delegate.incr(namespace.key(key));
+        }
+
+        @Override
+        @NotNull
+        public CompletableFuture<Long> incrBy(@NotNull String key, long increment) {
+            return delegate.incrBy(namespace.key(key), increment);
+        }
+
+        @Override
+        @NotNull
+        public CompletableFuture<Long> decr(@NotNull String key) {
+            return delegate.decr(namespace.key(key));
+        }
+
+        @Override
+        @NotNull
+        public CompletableFuture<Optional<String>> hget(@NotNull String key, @NotNull String field) {
+            return delegate.hget(namespace.key(key), field);
+        }
+
+        @Override
+        @NotNull
+        public CompletableFuture<Boolean> hset(@NotNull String key, @NotNull String field, @NotNull String value) {
+            return delegate.hset(namespace.key(key), field, value);
+        }
+
+        @Override
+        @NotNull
+        public CompletableFuture<Void> hmset(@NotNull String key, @NotNull Map<String, String> fieldValues) {
+            return delegate.hmset(namespace.key(key), fieldValues);
+        }
+
+        @Override
+        @NotNull
+        public CompletableFuture<Map<String, String>> hgetAll(@NotNull String key) {
+            return delegate.hgetAll(namespace.key(key));
+        }
+
+        @Override
+        @NotNull
+        public CompletableFuture<Long> hdel(@NotNull String key, @NotNull String... fields) {
+            return delegate.hdel(namespace.key(key), fields);
+        }
+
+        @Override
+        @NotNull
+        public CompletableFuture<Long> hincrBy(@NotNull String key, @NotNull String field, long increment) {
+            return delegate.hincrBy(namespace.key(key), field, increment);
+        }
+
+        @Override
+        @NotNull
+        public CompletableFuture<Long> lpush(@NotNull String key, @NotNull String... values) {
+            return delegate.lpush(namespace.key(key), values);
+        }
+
+        @Override
+        @NotNull
+        public CompletableFuture<Long> rpush(@NotNull String key, @NotNull String... values) {
+            return delegate.rpush(namespace.key(key), values);
+        }
+
+        @Override
+        @NotNull
+        public CompletableFuture<Long> sadd(@NotNull String key, @NotNull String... members) {
+            return delegate.sadd(namespace.key(key), members);
+        }
+
+        @Override
+        @NotNull
+        public CompletableFuture<Long> srem(@NotNull String key, @NotNull String... members) {
+            return delegate.srem(namespace.key(key), members);
+        }
+
+        @Override
+        @NotNull
+        public CompletableFuture<Boolean> zadd(@NotNull String key, double score, @NotNull String member) {
+            return delegate.zadd(namespace.key(key), score, member);
+        }
+
+        @Override
+        @NotNull
+        public CompletableFuture<Long> zrem(@NotNull String key, @NotNull String... members) {
+            return delegate.zrem(namespace.key(key), members);
+        }
+
+        @Override
+        @NotNull
+        public CompletableFuture<Object> evalsha(@NotNull String sha1, @NotNull List<String> keys, @NotNull List<String> args) {
+            return delegate.evalsha(sha1, keys(keys), args);
+        }
+
+        @Override
+        @NotNull
+        public CompletableFuture<Object> script(@NotNull RedisLuaScript script, @NotNull List<String> keys, @NotNull List<String> args) {
+            return delegate.script(script, keys(keys), args);
+        }
+
+        private List<String> keys(List<String> keys) {
+            return List.of(namespace.keys(keys.toArray(new String[0])));
+        }
+
+        @Override
+        public int size() {
+            return delegate.size();
+        }
+
+        @Override
+        public boolean isExecuted() {
+            return delegate.isExecuted();
+        }
+
+        @Override
+        public void execute() {
+            delegate.execute();
+        }
+
+        @Override
+        @NotNull
+        public CompletableFuture<Void> executeAsync() {
+            return delegate.executeAsync();
+        }
+    }
 }
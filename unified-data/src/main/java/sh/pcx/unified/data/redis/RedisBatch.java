@@ -0,0 +1,569 @@
+/*
+ * Copyright (c) 2025 Supatuck. All rights reserved.
+ * Licensed under the MIT License.
+ */
+package sh.pcx.unified.data.redis;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * A batch of Redis commands sent to the server as a single pipeline.
+ *
+ * <p>Commands are queued locally and written together when the batch is
+ * executed, so a batch of fifty commands costs one network round trip instead
+ * of fifty. Each queued command returns a future that completes with its own
+ * reply once the batch has been executed.
+ *
+ * <p>Unlike {@link RedisConnection#multi()}, a batch is not atomic: other
+ * clients' commands may interleave with it on the server, and a failing
+ * command does not prevent the others from running.
+ *
+ * <h2>Example Usage</h2>
+ * <pre>{@code
+ * RedisBatch batch = redis.batch();
+ *
+ * batch.hmset("player:" + uuid, fields);
+ * batch.expire("player:" + uuid, Duration.ofHours(1));
+ * batch.zadd("leaderboard:kills", kills, uuid.toString());
+ * CompletableFuture<Long> logins = batch.hincrBy("stats:" + uuid, "logins", 1);
+ *
+ * batch.executeAsync()
+ *     .thenCompose(v -> logins)
+ *     .thenAccept(count -> logger.info("Login #" + count));
+ * }</pre>
+ *
+ * <h2>Thread Safety</h2>
+ * <p>A batch is meant to be filled and executed by a single thread. Batches
+ * created by the same service can be executed concurrently.
+ *
+ * @since 1.0.0
+ * @author Supatuck
+ * @see RedisService#batch()
+ * @see RedisConnection#batch()
+ * @see KeyNamespace#batch()
+ */
+public interface RedisBatch {
+
+    // ========== String Operations ==========
+
+    /**
+     * Queues a GET command.
+     *
+     * @param key the key
+     * @return a future that completes with the value
+     * @since 1.0.0
+     */
+    @NotNull
+    CompletableFuture<Optional<String>> get(@NotNull String key);
+
+    /**
+     * Queues a SET command.
+     *
+     * @param key   the key
+     * @param value the value
+     * @return a future that completes when the command is done
+     * @since 1.0.0
+     */
+    @NotNull
+    CompletableFuture<Void> set(@NotNull String key, @NotNull String value);
+
+    /**
+     * Queues a SETEX command.
+     *
+     * @param key   the key
+     * @param value the value
+     * @param ttl   the time-to-live
+     * @return a future that completes when the command is done
+     * @since 1.0.0
+     */
+    @NotNull
+    CompletableFuture<Void> setex(@NotNull String key, @NotNull String value, @NotNull Duration ttl);
+
+    /**
+     * Queues a SETNX command.
+     *
+     * @param key   the key
+     * @param value the value
+     * @return a future that completes with true if the key was set
+     * @since 1.0.0
+     */
+    @NotNull
+    CompletableFuture<Boolean> setnx(@NotNull String key, @NotNull String value);
+
+    // ========== Key Operations ==========
+
+    /**
+     * Queues a DEL command.
+     *
+     * @param keys the keys to delete
+     * @return a future that completes with the number of keys deleted
+     * @since 1.0.0
+     */
+    @NotNull
+    CompletableFuture<Long> del(@NotNull String... keys);
+
+    /**
+     * Queues an EXISTS command.
+     *
+     * @param key the key
+     * @return a future that completes with true if the key exists
+     * @since 1.0.0
+     */
+    @NotNull
+    CompletableFuture<Boolean> exists(@NotNull String key);
+
+    /**
+     * Queues an EXPIRE command.
+     *
+     * @param key the key
+     * @param ttl the time-to-live
+     * @return a future that completes with true if the timeout was set
+     * @since 1.0.0
+     */
+    @NotNull
+    CompletableFuture<Boolean> expire(@NotNull String key, @NotNull Duration ttl);
+
+    // ========== Numeric Operations ==========
+
+    /**
+     * Queues an INCR command.
+     *
+     * @param key the key
+     * @return a future that completes with the new value
+     * @since 1.0.0
+     */
+    @NotNull
+    CompletableFuture<Long> incr(@NotNull String key);
+
+    /**
+     * Queues an INCRBY command.
+     *
+     * @param key       the key
+     * @param increment the increment
+     * @return a future that completes with the new value
+     * @since 1.0.0
+     */
+    @NotNull
+    CompletableFuture<Long> incrBy(@NotNull String key, long increment);
+
+    /**
+     * Queues a DECR command.
+     *
+     * @param key the key
+     * @return a future that completes with the new value
+     * @since 1.0.0
+     */
+    @NotNull
+    CompletableFuture<Long> decr(@NotNull String key);
+
+    // ========== Hash Operations ==========
+
+    /**
+     * Queues an HGET command.
+     *
+     * @param key   the hash key
+     * @param field the field
+     * @return a future that completes with the value
+     * @since 1.0.0
+     */
+    @NotNull
+    CompletableFuture<Optional<String>> hget(@NotNull String key, @NotNull String field);
+
+    /**
+     * Queues an HSET command.
+     *
+     * @param key   the hash key
+     * @param field the field
+     * @param value the value
+     * @return a future that completes with true if the field is new
+     * @since 1.0.0
+     */
+    @NotNull
+    CompletableFuture<Boolean> hset(@NotNull String key, @NotNull String field, @NotNull String value);
+
+    /**
+     * Queues an HSET command with multiple fields.
+     *
+     * @param key         the hash key
+     * @param fieldValues the fields and values
+     * @return a future that completes when the command is done
+     * @since 1.0.0
+     */
+    @NotNull
+    CompletableFuture<Void> hmset(@NotNull String key, @NotNull Map<String, String> fieldValues);
+
+    /**
+     * Queues an HGETALL command.
+     *
+     * @param key the hash key
+     * @return a future that completes with all fields and values
+     * @since 1.0.0
+     */
+    @NotNull
+    CompletableFuture<Map<String, String>> hgetAll(@NotNull String key);
+
+    /**
+     * Queues an HDEL command.
+     *
+     * @param key    the hash key
+     * @param fields the fields to delete
+     * @return a future that completes with the number of fields deleted
+     * @since 1.0.0
+     */
+    @NotNull
+    CompletableFuture<Long> hdel(@NotNull String key, @NotNull String... fields);
+
+    /**
+     * Queues an HINCRBY command.
+     *
+     * @param key       the hash key
+     * @param field     the field
+     * @param increment the increment
+     * @return a future that completes with the new value
+     * @since 1.0.0
+     */
+    @NotNull
+    CompletableFuture<Long> hincrBy(@NotNull String key, @NotNull String field, long increment);
+
+    // ========== List Operations ==========
+
+    /**
+     * Queues an LPUSH command.
+     *
+     * @param key    the list key
+     * @param values the values to push
+     * @return a future that completes with the new list length
+     * @since 1.0.0
+     */
+    @NotNull
+    CompletableFuture<Long> lpush(@NotNull String key, @NotNull String... values);
+
+    /**
+     * Queues an RPUSH command.
+     *
+     * @param key    the list key
+     * @param values the values to push
+     * @return a future that completes with the new list length
+     * @since 1.0.0
+     */
+    @NotNull
+    CompletableFuture<Long> rpush(@NotNull String key, @NotNull String... values);
+
+    // ========== Set Operations ==========
+
+    /**
+     * Queues an SADD command.
+     *
+     * @param key     the set key
+     * @param members the members to add
+     * @return a future that completes with the number of members added
+     * @since 1.0.0
+     */
+    @NotNull
+    CompletableFuture<Long> sadd(@NotNull String key, @NotNull String... members);
+
+    /**
+     * Queues an SREM command.
+     *
+     * @param key     the set key
+     * @param members the members to remove
+     * @return a future that completes with the number of members removed
+     * @since 1.0.0
+     */
+    @NotNull
+    CompletableFuture<Long> srem(@NotNull String key, @NotNull String... members);
+
+    // ========== Sorted Set Operations ==========
+
+    /**
+     * Queues a ZADD command.
+     *
+     * @param key    the sorted set key
+     * @param score  the score
+     * @param member the member
+     * @return a future that completes with true if the member is new
+     * @since 1.0.0
+     */
+    @NotNull
+    CompletableFuture<Boolean> zadd(@NotNull String key, double score, @NotNull String member);
+
+    /**
+     * Queues a ZREM command.
+     *
+     * @param key     the sorted set key
+     * @param members the members to remove
+     * @return a future that completes with the number of members removed
+     * @since 1.0.0
+     */
+    @NotNull
+    CompletableFuture<Long> zrem(@NotNull String key, @NotNull String... members);
+
+    // ========== Lua Scripts ==========
+
+    /**
+     * Queues an EVALSHA command.
+     *
+     * <p>This is the raw command: if the server does not know the script,
+     * the future completes with the {@code NOSCRIPT} error.
+     *
+     * @param sha1 the script hash
+     * @param keys the keys
+     * @param args the arguments
+     * @return a future that completes with the script result
+     * @since 1.0.0
+     */
+    @NotNull
+    CompletableFuture<Object> evalsha(@NotNull String sha1, @NotNull List<String> keys, @NotNull List<String> args);
+
+    /**
+     * Queues a script invocation by its SHA1 hash.
+     *
+     * <p>The script is sent as EVALSHA within the pipeline. If the server
+     * answers {@code NOSCRIPT}, the script is reloaded and executed again
+     * outside the pipeline, and the batch waits for that retry. Scripts from
+     * a {@link RedisScriptRegistry} reload the whole registry.
+     *
+     * @param script the script
+     * @param keys   the keys
+     * @param args   the arguments
+     * @return a future that completes with the script result
+     * @since 1.0.0
+     * @see RedisScriptRegistry
+     */
+    @NotNull
+    CompletableFuture<Object> script(@NotNull RedisLuaScript script, @NotNull List<String> keys, @NotNull List<String> args);
+
+    // ========== Execution ==========
+
+    /**
+     * Gets the number of queued commands.
+     *
+     * @return the number of commands
+     * @since 1.0.0
+     */
+    int size();
+
+    /**
+     * Checks if this batch has been executed.
+     *
+     * @return true if executed
+     * @since 1.0.0
+     */
+    boolean isExecuted();
+
+    /**
+     * Sends all queued commands as one pipeline and waits for the replies.
+     *
+     * <p>A batch can only be executed once. Queueing commands after
+     * execution throws {@link IllegalStateException}.
+     *
+     * @throws RedisConnection.RedisException if the batch could not be sent
+     *                                        or any command failed
+     * @throws IllegalStateException          if the batch was already executed
+     * @since 1.0.0
+     */
+    void execute();
+
+    /**
+     * Sends all queued commands as one pipeline asynchronously.
+     *
+     * <p>The returned future completes once every reply has been received,
+     * and completes exceptionally if any command failed. The futures of the
+     * other commands still complete with their own replies.
+     *
+     * @return a future that completes when all replies are received
+     * @throws IllegalStateException if the batch was already executed
+     * @since 1.0.0
+     */
+    @NotNull
+    CompletableFuture<Void> executeAsync();
+
+    /**
+     * Base class for batch implementations.
+     *
+     * <p>Tracks the futures of queued commands and enforces single execution.
+     * Subclasses queue client-specific commands through {@link #track} and
+     * send them in {@link #dispatch(boolean)}.
+     *
+     * @since 1.0.0
+     */
+    abstract class AbstractBatch implements RedisBatch {
+
+        private final List<CompletableFuture<?>> futures = new ArrayList<>();
+        private boolean executed;
+
+        /**
+         * Registers the future of a newly queued command.
+         *
+         * @param <T> the reply type
+         * @return a new future for the command's reply
+         * @throws IllegalStateException if the batch was already executed
+         */
+        @NotNull
+        protected <T> CompletableFuture<T> track() {
+            if (executed) {
+                throw new IllegalStateException("Batch has already been executed");
+            }
+            CompletableFuture<T> future = new CompletableFuture<>();
+            futures.add(future);
+            return future;
+        }
+
+        /**
+         * Completes a command's future with a converted reply.
+         *
+         * @param <R>    the raw reply type
+         * @param <T>    the converted reply type
+         * @param future the command's future
+         * @param reply  the raw reply
+         * @param mapper converts the raw reply
+         */
+        protected static <R, T> void complete(
+                @NotNull CompletableFuture<T> future,
+                R reply,
+                @NotNull Function<? super R, ? extends T> mapper
+        ) {
+            try {
+                future.complete(mapper.apply(reply));
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        }
+
+        /**
+         * Sends all queued commands.
+         *
+         * <p>Implementations complete each tracked future with its reply.
+         * Futures that are still pending when the returned future fails are
+         * completed with the same failure.
+         *
+         * @param async true to send without blocking the calling thread
+         * @return a future that completes when the commands have been sent
+         */
+        @NotNull
+        protected abstract CompletableFuture<Void> dispatch(boolean async);
+
+        /**
+         * Queues an EVALSHA command without tracking its future.
+         *
+         * @param sha1 the script hash
+         * @param keys the keys
+         * @param args the arguments
+         * @return a future that completes with the raw reply
+         */
+        @NotNull
+        protected abstract CompletableFuture<Object> queueEvalsha(
+                @NotNull String sha1,
+                @NotNull List<String> keys,
+                @NotNull List<String> args
+        );
+
+        @Override
+        @NotNull
+        public CompletableFuture<Object> evalsha(@NotNull String sha1, @NotNull List<String> keys, @NotNull List<String> args) {
+            CompletableFuture<Object> future = track();
+            queueEvalsha(sha1, keys, args).whenComplete((reply, error) -> {
+                if (error != null) {
+                    future.completeExceptionally(error);
+                } else {
+                    future.complete(reply);
+                }
+            });
+            return future;
+        }
+
+        @Override
+        @NotNull
+        public CompletableFuture<Object> script(@NotNull RedisLuaScript script, @NotNull List<String> keys, @NotNull List<String> args) {
+            CompletableFuture<Object> future = track();
+            queueEvalsha(script.getSha1(), keys, args).whenComplete((reply, error) -> {
+                if (error == null) {
+                    future.complete(reply);
+                } else if (RedisScriptRegistry.isNoScript(error)) {
+                    retry(script, keys, args).whenComplete((retried, retryError) -> {
+                        if (retryError != null) {
+                            future.completeExceptionally(retryError);
+                        } else {
+                            future.complete(retried);
+                        }
+                    });
+                } else {
+                    future.completeExceptionally(error);
+                }
+            });
+            return future;
+        }
+
+        private static CompletableFuture<Object> retry(RedisLuaScript script, List<String> keys, List<String> args) {
+            if (script instanceof RedisScriptRegistry.RegisteredScript registered) {
+                return registered.retryAfterNoScript(keys, args);
+            }
+            return script.ensureLoadedAsync().thenCompose(v -> script.executeAsync(keys, args));
+        }
+
+        @Override
+        public int size() {
+            return futures.size();
+        }
+
+        @Override
+        public boolean isExecuted() {
+            return executed;
+        }
+
+        @Override
+        public void execute() {
+            try {
+                run(false).join();
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                if (cause instanceof RedisConnection.RedisException redisException) {
+                    throw redisException;
+                }
+                throw new RedisConnection.RedisException("Batch execution failed", cause);
+            }
+        }
+
+        @Override
+        @NotNull
+        public CompletableFuture<Void> executeAsync() {
+            return run(true);
+        }
+
+        private CompletableFuture<Void> run(boolean async) {
+            if (executed) {
+                throw new IllegalStateException("Batch has already been executed");
+            }
+            executed = true;
+            if (futures.isEmpty()) {
+                return CompletableFuture.completedFuture(null);
+            }
+
+            CompletableFuture<Void> sent;
+            try {
+                sent = dispatch(async);
+            } catch (RuntimeException e) {
+                sent = CompletableFuture.failedFuture(e);
+            }
+            CompletableFuture<?>[] all = futures.toArray(new CompletableFuture<?>[0]);
+            return sent.whenComplete((v, error) -> {
+                if (error != null) {
+                    Throwable cause = error instanceof CompletionException && error.getCause() != null
+                            ? error.getCause() : error;
+                    for (CompletableFuture<?> future : all) {
+                        future.completeExceptionally(cause);
+                    }
+                }
+            }).thenCompose(v -> CompletableFuture.allOf(all));
+        }
+    }
+}
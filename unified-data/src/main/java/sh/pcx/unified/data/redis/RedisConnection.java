@@ -41,11 +41,11 @@ import java.util.concurrent.CompletableFuture;
  * <h2>Pipelining</h2>
  * <pre>{@code
  * try (RedisConnection conn = redisService.getConnection()) {
- *     conn.pipeline()
- *         .set("key1", "value1")
- *         .set("key2", "value2")
- *         .incr("counter")
- *         .sync();
+ *     RedisBatch batch = conn.batch();
+ *     batch.set("key1", "value1");
+ *     batch.set("key2", "value2");
+ *     CompletableFuture<Long> counter = batch.incr("counter");
+ *     batch.execute();
  * }
  * }</pre>
  *
@@ -899,6 +899,21 @@ public interface RedisConnection extends AutoCloseable {
     @NotNull
     String scriptLoad(@NotNull String script);
 
+    // ========== Pipelining ==========
+
+    /**
+     * Creates a batch of commands to send as a single pipeline.
+     *
+     * <p>The batch is sent on this connection, so it must be executed before
+     * the connection is closed.
+     *
+     * @return a new batch
+     * @since 1.0.0
+     * @see RedisBatch
+     */
+    @NotNull
+    RedisBatch batch();
+
     // ========== Transaction Support ==========
 
     /**
@@ -79,7 +79,9 @@ import java.util.concurrent.CompletableFuture;
  * <h2>Script Caching</h2>
  * <p>Scripts are automatically cached on the Redis server. The SHA1 hash is
  * used for subsequent executions, reducing bandwidth. If the script is evicted
- * from the cache, it is automatically reloaded.
+ * from the cache, it is automatically reloaded. Scripts returned by
+ * {@link RedisService#loadScript(String)} are managed by the service's
+ * {@link RedisScriptRegistry}, which also reloads them on reconnect.
  *
  * <h2>Built-in Scripts</h2>
  * <p>Use the static factory methods for common operations:
@@ -94,6 +96,7 @@ import java.util.concurrent.CompletableFuture;
  * @since 1.0.0
  * @author Supatuck
  * @see RedisService#loadScript(String)
+ * @see RedisScriptRegistry
  */
 public interface RedisLuaScript {
 
@@ -0,0 +1,245 @@
+/*
+ * Copyright (c) 2025 Supatuck. All rights reserved.
+ * Licensed under the MIT License.
+ */
+package sh.pcx.unified.data.redis;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A local cache of Redis reads kept consistent by server-assisted invalidation.
+ *
+ * <p>Reads are served from a bounded in-memory store after the first round
+ * trip. The server tracks which keys this client has read (Redis 6
+ * {@code CLIENT TRACKING}) and pushes an invalidation as soon as any client
+ * modifies one of them, so a cached value is dropped instead of going stale.
+ *
+ * <p>If the tracking connection drops, the whole cache is cleared and reads
+ * go to the server until tracking is re-established. The optional
+ * expire-after-write bound is a safety net against lost invalidations.
+ *
+ * <h2>Example Usage</h2>
+ * <pre>{@code
+ * LettuceRedisService redis = new LettuceRedisService(config);
+ * redis.enableNearCache(RedisNearCache.Config.defaults());
+ *
+ * // Opt a namespace in
+ * KeyNamespace settings = redis.namespace("settings").withNearCache();
+ * settings.get("motd");                 // Round trip, then cached
+ * settings.get("motd");                 // Local
+ * settings.hgetAll("servers");          // Cached until any node changes it
+ * }</pre>
+ *
+ * <h2>Thread Safety</h2>
+ * <p>Implementations are thread-safe.
+ *
+ * @since 1.0.0
+ * @author Supatuck
+ * @see RedisService#nearCache()
+ * @see KeyNamespace#withNearCache()
+ */
+public interface RedisNearCache extends AutoCloseable {
+
+    // ========== Reads ==========
+
+    /**
+     * Gets the value of a key, from the local cache when possible.
+     *
+     * @param key the key
+     * @return the value, or empty if the key does not exist
+     * @since 1.0.0
+     */
+    @NotNull
+    Optional<String> get(@NotNull String key);
+
+    /**
+     * Gets the value of a key asynchronously.
+     *
+     * @param key the key
+     * @return a future with the value
+     * @since 1.0.0
+     */
+    @NotNull
+    CompletableFuture<Optional<String>> getAsync(@NotNull String key);
+
+    /**
+     * Gets all fields of a hash, from the local cache when possible.
+     *
+     * @param key the hash key
+     * @return a mutable copy of the hash fields
+     * @since 1.0.0
+     */
+    @NotNull
+    Map<String, String> hgetAll(@NotNull String key);
+
+    /**
+     * Gets all fields of a hash asynchronously.
+     *
+     * @param key the hash key
+     * @return a future with a mutable copy of the hash fields
+     * @since 1.0.0
+     */
+    @NotNull
+    CompletableFuture<Map<String, String>> hgetAllAsync(@NotNull String key);
+
+    // ========== Invalidation ==========
+
+    /**
+     * Drops keys from the local cache.
+     *
+     * <p>The server invalidates modified keys on its own; this is for
+     * read-your-writes on the node that made the change, which would
+     * otherwise race the invalidation push.
+     *
+     * @param keys the keys
+     * @since 1.0.0
+     */
+    void invalidate(@NotNull String... keys);
+
+    /**
+     * Drops every entry from the local cache.
+     *
+     * @since 1.0.0
+     */
+    void invalidateAll();
+
+    // ========== State ==========
+
+    /**
+     * Checks if server-side tracking is active.
+     *
+     * <p>While tracking is inactive, reads bypass the local cache.
+     *
+     * @return true if reads are being cached
+     * @since 1.0.0
+     */
+    boolean isTracking();
+
+    /**
+     * Gets the configuration of this cache.
+     *
+     * @return the configuration
+     * @since 1.0.0
+     */
+    @NotNull
+    Config getConfig();
+
+    /**
+     * Gets a snapshot of the cache statistics.
+     *
+     * @return the statistics
+     * @since 1.0.0
+     */
+    @NotNull
+    Stats getStats();
+
+    /**
+     * Disables tracking, closes the tracking connection and drops all entries.
+     *
+     * @since 1.0.0
+     */
+    @Override
+    void close();
+
+    // ========== Nested Types ==========
+
+    /**
+     * Near-cache configuration.
+     *
+     * @param maximumSize      the maximum number of cached keys
+     * @param expireAfterWrite how long an entry may live without an
+     *                         invalidation, or null for no bound
+     * @since 1.0.0
+     */
+    record Config(long maximumSize, @Nullable Duration expireAfterWrite) {
+
+        /**
+         * Default maximum number of cached keys.
+         */
+        public static final long DEFAULT_MAXIMUM_SIZE = 10_000;
+
+        /**
+         * Default expire-after-write bound.
+         */
+        public static final Duration DEFAULT_EXPIRE_AFTER_WRITE = Duration.ofMinutes(5);
+
+        /**
+         * Creates a new configuration.
+         *
+         * @throws IllegalArgumentException if maximumSize is not positive or
+         *                                  expireAfterWrite is not positive
+         */
+        public Config {
+            if (maximumSize <= 0) {
+                throw new IllegalArgumentException("maximumSize must be positive");
+            }
+            if (expireAfterWrite != null && (expireAfterWrite.isNegative() || expireAfterWrite.isZero())) {
+                throw new IllegalArgumentException("expireAfterWrite must be positive");
+            }
+        }
+
+        /**
+         * Gets the default configuration.
+         *
+         * @return the default configuration
+         * @since 1.0.0
+         */
+        @NotNull
+        public static Config defaults() {
+            return new Config(DEFAULT_MAXIMUM_SIZE, DEFAULT_EXPIRE_AFTER_WRITE);
+        }
+
+        /**
+         * Returns a copy with a different maximum size.
+         *
+         * @param maximumSize the maximum number of cached keys
+         * @return the new configuration
+         * @since 1.0.0
+         */
+        @NotNull
+        public Config withMaximumSize(long maximumSize) {
+            return new Config(maximumSize, expireAfterWrite);
+        }
+
+        /**
+         * Returns a copy with a different expire-after-write bound.
+         *
+         * @param expireAfterWrite the bound, or null for none
+         * @return the new configuration
+         * @since 1.0.0
+         */
+        @NotNull
+        public Config withExpireAfterWrite(@Nullable Duration expireAfterWrite) {
+            return new Config(maximumSize, expireAfterWrite);
+        }
+    }
+
+    /**
+     * Near-cache statistics.
+     *
+     * @param hits          reads served locally
+     * @param misses        reads sent to the server
+     * @param invalidations keys dropped by server pushes or local writes
+     * @param flushes       times the whole cache was dropped
+     * @param size          the current number of cached keys
+     * @since 1.0.0
+     */
+    record Stats(long hits, long misses, long invalidations, long flushes, long size) {
+
+        /**
+         * Returns the fraction of reads served locally.
+         *
+         * @return the hit rate between 0 and 1, or 0 if nothing was read
+         */
+        public double hitRate() {
+            long total = hits + misses;
+            return total == 0 ? 0.0 : (double) hits / total;
+        }
+    }
+}
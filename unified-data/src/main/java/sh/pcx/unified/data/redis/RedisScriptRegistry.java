@@ -0,0 +1,513 @@
+/*
+ * Copyright (c) 2025 Supatuck. All rights reserved.
+ * Licensed under the MIT License.
+ */
+package sh.pcx.unified.data.redis;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Registry of Lua scripts invoked by SHA1 hash.
+ *
+ * <p>Registered scripts are executed with {@code EVALSHA}, so only the hash
+ * travels over the network instead of the full script body. Each script is
+ * loaded with {@code SCRIPT LOAD} when it is registered, and the whole
+ * registry is loaded again whenever the service reconnects.
+ *
+ * <p>If the server answers {@code NOSCRIPT} (after a restart, failover or
+ * {@code SCRIPT FLUSH}), every registered script is reloaded and the call is
+ * retried once. Other failures are never retried, because the script may
+ * already have run.
+ *
+ * <h2>Example Usage</h2>
+ * <pre>{@code
+ * RedisScriptRegistry scripts = redis.scripts();
+ * RedisScriptRegistry.RegisteredScript acquire =
+ *     scripts.register("lock.acquire", RedisLuaScript.acquireLock());
+ *
+ * Long acquired = acquire.execute(Long.class, List.of("lock:arena"), List.of(ownerId, "30000"));
+ *
+ * // Inside a pipeline
+ * RedisBatch batch = redis.batch();
+ * CompletableFuture<Object> result = batch.script(acquire, List.of("lock:duel"), List.of(ownerId, "30000"));
+ * batch.execute();
+ *
+ * // Latency
+ * scripts.getStats().forEach(stats ->
+ *     logger.info(stats.name() + ": " + stats.averageTime().toMillis() + "ms"));
+ * }</pre>
+ *
+ * <h2>Thread Safety</h2>
+ * <p>This class is thread-safe.
+ *
+ * @since 1.0.0
+ * @author Supatuck
+ * @see RedisService#scripts()
+ * @see RedisBatch#script(RedisLuaScript, List, List)
+ */
+public final class RedisScriptRegistry {
+
+    private final RedisService service;
+    private final Map<String, RegisteredScript> byName = new ConcurrentHashMap<>();
+    private final Map<String, RegisteredScript> bySha1 = new ConcurrentHashMap<>();
+    private final AtomicReference<CompletableFuture<Void>> preloading = new AtomicReference<>();
+    private final LongAdder preloadCount = new LongAdder();
+
+    /**
+     * Creates a registry for a service.
+     *
+     * @param service the service scripts are executed on
+     * @since 1.0.0
+     */
+    public RedisScriptRegistry(@NotNull RedisService service) {
+        this.service = Objects.requireNonNull(service, "service cannot be null");
+    }
+
+    // ========== Registration ==========
+
+    /**
+     * Registers a script under a name.
+     *
+     * <p>The SHA1 hash is computed locally, and the script is loaded on the
+     * server in the background. Registering the same source twice returns
+     * the existing script.
+     *
+     * @param name   the script name, used for lookup and statistics
+     * @param script the Lua source
+     * @return the registered script
+     * @throws IllegalArgumentException if a different script is already
+     *                                  registered under the name
+     * @since 1.0.0
+     */
+    @NotNull
+    public RegisteredScript register(@NotNull String name, @NotNull String script) {
+        Objects.requireNonNull(name, "name cannot be null");
+        Objects.requireNonNull(script, "script cannot be null");
+
+        String sha1 = sha1(script);
+        RegisteredScript named = byName.get(name);
+        if (named != null) {
+            if (!named.getSha1().equals(sha1)) {
+                throw new IllegalArgumentException("A different script is already registered as " + name);
+            }
+            return named;
+        }
+
+        boolean[] created = new boolean[1];
+        RegisteredScript registered = bySha1.computeIfAbsent(sha1, s -> {
+            created[0] = true;
+            return new RegisteredScript(this, name, script, s);
+        });
+        RegisteredScript previous = byName.putIfAbsent(name, registered);
+        if (previous != null && previous != registered) {
+            throw new IllegalArgumentException("A different script is already registered as " + name);
+        }
+        if (created[0]) {
+            loadAsync(registered);
+        }
+        return registered;
+    }
+
+    /**
+     * Registers a script under its SHA1 hash.
+     *
+     * @param script the Lua source
+     * @return the registered script
+     * @since 1.0.0
+     */
+    @NotNull
+    public RegisteredScript register(@NotNull String script) {
+        Objects.requireNonNull(script, "script cannot be null");
+        String sha1 = sha1(script);
+        RegisteredScript existing = bySha1.get(sha1);
+        return existing != null ? existing : register(sha1, script);
+    }
+
+    /**
+     * Gets a registered script by name.
+     *
+     * @param name the script name
+     * @return the script, or empty if none is registered under the name
+     * @since 1.0.0
+     */
+    @NotNull
+    public Optional<RegisteredScript> get(@NotNull String name) {
+        return Optional.ofNullable(byName.get(name));
+    }
+
+    /**
+     * Gets all registered scripts.
+     *
+     * @return an unmodifiable view of the registered scripts
+     * @since 1.0.0
+     */
+    @NotNull
+    public Collection<RegisteredScript> getScripts() {
+        return Collections.unmodifiableCollection(bySha1.values());
+    }
+
+    /**
+     * Gets the number of registered scripts.
+     *
+     * @return the script count
+     * @since 1.0.0
+     */
+    public int size() {
+        return bySha1.size();
+    }
+
+    // ========== Loading ==========
+
+    /**
+     * Loads every registered script on the server.
+     *
+     * @throws RuntimeException if a script could not be loaded
+     * @since 1.0.0
+     */
+    public void preload() {
+        preloadCount.increment();
+        for (RegisteredScript script : bySha1.values()) {
+            service.scriptLoad(script.getScript());
+        }
+    }
+
+    /**
+     * Loads every registered script on the server asynchronously.
+     *
+     * <p>Concurrent calls share one in-flight preload, so a burst of
+     * reconnects or {@code NOSCRIPT} replies loads each script once.
+     *
+     * @return a future that completes when all scripts are loaded
+     * @since 1.0.0
+     */
+    @NotNull
+    public CompletableFuture<Void> preloadAsync() {
+        CompletableFuture<Void> current = preloading.get();
+        if (current != null) {
+            return current;
+        }
+        CompletableFuture<Void> started = new CompletableFuture<>();
+        if (!preloading.compareAndSet(null, started)) {
+            return preloadAsync();
+        }
+        preloadCount.increment();
+
+        List<CompletableFuture<String>> loads = new ArrayList<>(bySha1.size());
+        for (RegisteredScript script : bySha1.values()) {
+            loads.add(scriptLoadAsync(script.getScript()));
+        }
+        CompletableFuture.allOf(loads.toArray(new CompletableFuture<?>[0])).whenComplete((v, error) -> {
+            preloading.compareAndSet(started, null);
+            if (error != null) {
+                started.completeExceptionally(unwrap(error));
+            } else {
+                started.complete(null);
+            }
+        });
+        return started;
+    }
+
+    /**
+     * Gets the number of times the registry has been preloaded.
+     *
+     * @return the preload count
+     * @since 1.0.0
+     */
+    public long getPreloadCount() {
+        return preloadCount.sum();
+    }
+
+    // ========== Statistics ==========
+
+    /**
+     * Gets execution statistics for every registered script.
+     *
+     * @return the statistics, one entry per script
+     * @since 1.0.0
+     */
+    @NotNull
+    public List<ScriptStats> getStats() {
+        return bySha1.values().stream().map(RegisteredScript::getStats).toList();
+    }
+
+    // ========== Utilities ==========
+
+    /**
+     * Computes the SHA1 hash Redis uses to identify a script.
+     *
+     * @param script the Lua source
+     * @return the lowercase hex SHA1 hash
+     * @since 1.0.0
+     */
+    @NotNull
+    public static String sha1(@NotNull String script) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-1");
+            return HexFormat.of().formatHex(digest.digest(script.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-1 is not available", e);
+        }
+    }
+
+    /**
+     * Checks whether a failure is a {@code NOSCRIPT} reply.
+     *
+     * @param error the failure
+     * @return true if the server did not know the script's hash
+     * @since 1.0.0
+     */
+    public static boolean isNoScript(@Nullable Throwable error) {
+        for (Throwable t = error; t != null; t = t.getCause()) {
+            String message = t.getMessage();
+            if (message != null && message.startsWith("NOSCRIPT")) {
+                return true;
+            }
+            if (t.getCause() == t) {
+                break;
+            }
+        }
+        return false;
+    }
+
+    // ========== Execution ==========
+
+    private Object execute(RegisteredScript script, List<String> keys, List<String> args) {
+        long start = System.nanoTime();
+        try {
+            Object result;
+            try {
+                result = service.evalsha(script.getSha1(), keys, args);
+            } catch (RuntimeException e) {
+                if (!isNoScript(e)) {
+                    throw e;
+                }
+                script.reloads.increment();
+                preload();
+                result = service.evalsha(script.getSha1(), keys, args);
+            }
+            script.record(start, true);
+            return result;
+        } catch (RuntimeException e) {
+            script.record(start, false);
+            throw e;
+        }
+    }
+
+    private CompletableFuture<Object> executeAsync(RegisteredScript script, List<String> keys, List<String> args) {
+        long start = System.nanoTime();
+        return evalshaAsync(script, keys, args)
+                .exceptionallyCompose(error -> {
+                    if (!isNoScript(error)) {
+                        return CompletableFuture.failedFuture(unwrap(error));
+                    }
+                    return reloadAndExecuteAsync(script, keys, args);
+                })
+                .whenComplete((result, error) -> script.record(start, error == null));
+    }
+
+    private CompletableFuture<Object> reloadAndExecuteAsync(RegisteredScript script, List<String> keys, List<String> args) {
+        script.reloads.increment();
+        return preloadAsync().thenCompose(v -> evalshaAsync(script, keys, args));
+    }
+
+    private CompletableFuture<Object> evalshaAsync(RegisteredScript script, List<String> keys, List<String> args) {
+        try {
+            return service.evalshaAsync(script.getSha1(), keys, args);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private CompletableFuture<String> scriptLoadAsync(String script) {
+        try {
+            return service.scriptLoadAsync(script);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private void loadAsync(RegisteredScript script) {
+        // Best effort: a script that fails to load here is loaded by the
+        // NOSCRIPT fallback on its first execution.
+        scriptLoadAsync(script.getScript());
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    // ========== Nested Types ==========
+
+    /**
+     * A script managed by a {@link RedisScriptRegistry}.
+     *
+     * <p>Executions go through {@code EVALSHA} with the registry's
+     * {@code NOSCRIPT} fallback, and their latency is recorded. Executions
+     * queued on a {@link RedisBatch} share the batch's round trip and are
+     * not included in the latency statistics.
+     *
+     * @since 1.0.0
+     */
+    public static final class RegisteredScript extends RedisLuaScript.AbstractLuaScript {
+
+        private final RedisScriptRegistry registry;
+        private final String name;
+        private final LongAdder invocations = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder reloads = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        private RegisteredScript(RedisScriptRegistry registry, String name, String script, String sha1) {
+            super(script, sha1);
+            this.registry = registry;
+            this.name = name;
+        }
+
+        /**
+         * Gets the name the script was first registered under.
+         *
+         * @return the script name
+         * @since 1.0.0
+         */
+        @NotNull
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Gets a snapshot of this script's execution statistics.
+         *
+         * @return the statistics
+         * @since 1.0.0
+         */
+        @NotNull
+        public ScriptStats getStats() {
+            return new ScriptStats(
+                    name,
+                    sha1,
+                    invocations.sum(),
+                    failures.sum(),
+                    reloads.sum(),
+                    Duration.ofNanos(totalNanos.sum()),
+                    Duration.ofNanos(maxNanos.get())
+            );
+        }
+
+        @Override
+        public boolean isLoaded() {
+            return registry.service.scriptExists(sha1);
+        }
+
+        @Override
+        @NotNull
+        public CompletableFuture<Boolean> isLoadedAsync() {
+            return registry.service.scriptExistsAsync(sha1);
+        }
+
+        @Override
+        public void ensureLoaded() {
+            if (!isLoaded()) {
+                registry.service.scriptLoad(script);
+            }
+        }
+
+        @Override
+        @NotNull
+        public CompletableFuture<Void> ensureLoadedAsync() {
+            return isLoadedAsync().thenCompose(loaded -> loaded
+                    ? CompletableFuture.completedFuture(null)
+                    : registry.service.scriptLoadAsync(script).thenApply(sha -> null));
+        }
+
+        @Override
+        @Nullable
+        public Object execute(@NotNull List<String> keys, @NotNull List<String> args) {
+            return registry.execute(this, keys, args);
+        }
+
+        @Override
+        @NotNull
+        public CompletableFuture<Object> executeAsync(@NotNull List<String> keys, @NotNull List<String> args) {
+            return registry.executeAsync(this, keys, args);
+        }
+
+        /**
+         * Reloads the registry after a {@code NOSCRIPT} reply and executes
+         * this script again.
+         */
+        CompletableFuture<Object> retryAfterNoScript(List<String> keys, List<String> args) {
+            long start = System.nanoTime();
+            return registry.reloadAndExecuteAsync(this, keys, args)
+                    .whenComplete((result, error) -> record(start, error == null));
+        }
+
+        private void record(long startNanos, boolean success) {
+            long elapsed = System.nanoTime() - startNanos;
+            invocations.increment();
+            if (!success) {
+                failures.increment();
+            }
+            totalNanos.add(elapsed);
+            maxNanos.accumulateAndGet(elapsed, Math::max);
+        }
+
+        @Override
+        public String toString() {
+            return "RegisteredScript[name=" + name + ", sha1=" + sha1.substring(0, 8) + "...]";
+        }
+    }
+
+    /**
+     * Execution statistics for a registered script.
+     *
+     * @param name        the script name
+     * @param sha1        the script's SHA1 hash
+     * @param invocations the number of completed executions
+     * @param failures    the number of executions that failed
+     * @param reloads     the number of {@code NOSCRIPT} replies that triggered a reload
+     * @param totalTime   the summed execution time, including any reload
+     * @param maxTime     the slowest execution observed
+     * @since 1.0.0
+     */
+    public record ScriptStats(
+            @NotNull String name,
+            @NotNull String sha1,
+            long invocations,
+            long failures,
+            long reloads,
+            @NotNull Duration totalTime,
+            @NotNull Duration maxTime
+    ) {
+
+        /**
+         * Returns the average execution time.
+         *
+         * @return the average time, or zero if the script has not run
+         */
+        @NotNull
+        public Duration averageTime() {
+            return invocations == 0 ? Duration.ZERO : totalTime.dividedBy(invocations);
+        }
+    }
+}
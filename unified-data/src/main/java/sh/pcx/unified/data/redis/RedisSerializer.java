@@ -7,12 +7,22 @@ package sh.pcx.unified.data.redis;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
 /**
  * Interface for serializing and deserializing values for Redis storage.
  *
  * <p>Redis stores all values as strings (or bytes). This interface provides
  * a way to convert Java objects to and from their Redis representation.
  *
+ * <h2>Binary Form</h2>
+ * <p>Typed operations on {@link RedisService} and {@link KeyNamespace} store
+ * values through {@link #serializeBytes} and {@link #deserializeBytes}, which
+ * are written to Redis as-is. Text serializers inherit the default UTF-8
+ * conversion; binary serializers override them so that their payloads are
+ * not Base64-encoded on the wire.
+ *
  * <h2>Example Usage</h2>
  * <pre>{@code
  * // Using the JSON serializer
@@ -106,6 +116,38 @@ public interface RedisSerializer<T> {
         }
     }
 
+    /**
+     * Serializes an object to the bytes stored in Redis.
+     *
+     * <p>The default implementation encodes {@link #serialize} as UTF-8.
+     * Binary serializers override this to skip text encoding.
+     *
+     * @param value the object to serialize
+     * @return the serialized bytes
+     * @throws SerializationException if serialization fails
+     * @since 1.0.0
+     */
+    default byte @NotNull [] serializeBytes(@NotNull T value) {
+        return serialize(value).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Deserializes bytes read from Redis to an object.
+     *
+     * <p>The default implementation decodes the bytes as UTF-8 and passes
+     * them to {@link #deserialize}.
+     *
+     * @param data the serialized bytes
+     * @param type the target type class
+     * @return the deserialized object
+     * @throws SerializationException if deserialization fails
+     * @since 1.0.0
+     */
+    @NotNull
+    default T deserializeBytes(byte @NotNull [] data, @NotNull Class<T> type) {
+        return deserialize(new String(data, StandardCharsets.UTF_8), type);
+    }
+
     /**
      * Returns the content type identifier for this serializer.
      *
@@ -374,7 +416,7 @@ public interface RedisSerializer<T> {
             try {
                 java.io.ByteArrayOutputStream baos = new java.io.ByteArrayOutputStream();
                 try (java.util.zip.GZIPOutputStream gzip = new java.util.zip.GZIPOutputStream(baos)) {
-                    gzip.write(serialized.getBytes(java.nio.charset.StandardCharsets.UTF_8));
+                    gzip.write(serialized.getBytes(StandardCharsets.UTF_8));
                 }
                 return java.util.Base64.getEncoder().encodeToString(baos.toByteArray());
             } catch (java.io.IOException e) {
@@ -387,17 +429,41 @@ public interface RedisSerializer<T> {
         public T deserialize(@NotNull String data, @NotNull Class<T> type) {
             try {
                 byte[] compressed = java.util.Base64.getDecoder().decode(data);
-                java.io.ByteArrayInputStream bais = new java.io.ByteArrayInputStream(compressed);
-                java.io.ByteArrayOutputStream baos = new java.io.ByteArrayOutputStream();
-                try (java.util.zip.GZIPInputStream gzip = new java.util.zip.GZIPInputStream(bais)) {
-                    byte[] buffer = new byte[1024];
-                    int len;
-                    while ((len = gzip.read(buffer)) > 0) {
-                        baos.write(buffer, 0, len);
-                    }
-                }
-                String decompressed = baos.toString(java.nio.charset.StandardCharsets.UTF_8);
+                String decompressed = new String(gunzip(compressed), StandardCharsets.UTF_8);
                 return delegate.deserialize(decompressed, type);
+            } catch (IllegalArgumentException e) {
+                throw new SerializationException("Invalid Base64 data", e);
+            }
+        }
+
+        @Override
+        public byte @NotNull [] serializeBytes(@NotNull T value) {
+            byte[] serialized = delegate.serializeBytes(value);
+            try {
+                java.io.ByteArrayOutputStream baos = new java.io.ByteArrayOutputStream(serialized.length / 2 + 32);
+                try (java.util.zip.GZIPOutputStream gzip = new java.util.zip.GZIPOutputStream(baos)) {
+                    gzip.write(serialized);
+                }
+                return baos.toByteArray();
+            } catch (java.io.IOException e) {
+                throw new SerializationException("Compression failed", e);
+            }
+        }
+
+        @Override
+        @NotNull
+        public T deserializeBytes(byte @NotNull [] data, @NotNull Class<T> type) {
+            if (data.length < 2 || (data[0] & 0xFF) != 0x1F || (data[1] & 0xFF) != 0x8B) {
+                // Values written before the binary path are Base64 text
+                return deserialize(new String(data, StandardCharsets.UTF_8), type);
+            }
+            return delegate.deserializeBytes(gunzip(data), type);
+        }
+
+        private static byte[] gunzip(byte[] compressed) {
+            try (java.util.zip.GZIPInputStream gzip = new java.util.zip.GZIPInputStream(
+                    new java.io.ByteArrayInputStream(compressed))) {
+                return gzip.readAllBytes();
             } catch (java.io.IOException e) {
                 throw new SerializationException("Decompression failed", e);
             }
@@ -416,10 +482,12 @@ public interface RedisSerializer<T> {
     final class PrefixedSerializer<T> implements RedisSerializer<T> {
         private final RedisSerializer<T> delegate;
         private final String prefix;
+        private final byte[] prefixBytes;
 
         PrefixedSerializer(RedisSerializer<T> delegate, String prefix) {
             this.delegate = delegate;
             this.prefix = prefix + ":";
+            this.prefixBytes = this.prefix.getBytes(StandardCharsets.UTF_8);
         }
 
         @Override
@@ -437,6 +505,24 @@ public interface RedisSerializer<T> {
             return delegate.deserialize(data.substring(prefix.length()), type);
         }
 
+        @Override
+        public byte @NotNull [] serializeBytes(@NotNull T value) {
+            byte[] serialized = delegate.serializeBytes(value);
+            byte[] result = Arrays.copyOf(prefixBytes, prefixBytes.length + serialized.length);
+            System.arraycopy(serialized, 0, result, prefixBytes.length, serialized.length);
+            return result;
+        }
+
+        @Override
+        @NotNull
+        public T deserializeBytes(byte @NotNull [] data, @NotNull Class<T> type) {
+            if (data.length < prefixBytes.length
+                    || !Arrays.equals(data, 0, prefixBytes.length, prefixBytes, 0, prefixBytes.length)) {
+                throw new SerializationException("Expected prefix '" + prefix + "' not found");
+            }
+            return delegate.deserializeBytes(Arrays.copyOfRange(data, prefixBytes.length, data.length), type);
+        }
+
         @Override
         @NotNull
         public String getContentType() {
@@ -8,6 +8,7 @@ import sh.pcx.unified.service.Service;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
@@ -33,6 +34,8 @@ import java.util.function.Function;
  *   <li>Lua script execution</li>
  *   <li>TTL management utilities</li>
  *   <li>Both sync and async operations</li>
+ *   <li>Binary-safe {@code byte[]} values and pub/sub</li>
+ *   <li>Streams with consumer groups</li>
  * </ul>
  *
  * <h2>Example Usage</h2>
@@ -60,6 +63,12 @@ import java.util.function.Function;
  *         .exec();
  * }
  *
+ * // Pipelined batch
+ * RedisBatch batch = redis.batch();
+ * batch.hmset("player:" + uuid, fields);
+ * batch.expire("player:" + uuid, Duration.ofHours(1));
+ * batch.executeAsync();
+ *
  * // Pub/Sub
  * redis.subscribe("chat", message -> {
  *     System.out.println("Received: " + message);
@@ -154,6 +163,22 @@ public interface RedisService extends Service {
     @NotNull
     PoolStats getPoolStats();
 
+    // ========== Pipelining ==========
+
+    /**
+     * Creates a batch of commands to send as a single pipeline.
+     *
+     * <p>Queued commands are not sent until the batch is executed, at which
+     * point they are written in one flush and their replies are read back
+     * together.
+     *
+     * @return a new batch
+     * @since 1.0.0
+     * @see RedisBatch
+     */
+    @NotNull
+    RedisBatch batch();
+
     // ========== Key Namespacing ==========
 
     /**
@@ -179,6 +204,21 @@ public interface RedisService extends Service {
     @NotNull
     KeyNamespace namespace(@NotNull String... prefixes);
 
+    /**
+     * Gets the near cache of this service, if one is enabled.
+     *
+     * <p>Namespaces opt in to the near cache with
+     * {@link KeyNamespace#withNearCache()}. Services that do not support
+     * client-side caching return empty.
+     *
+     * @return the near cache, or empty if not enabled
+     * @since 1.0.0
+     */
+    @NotNull
+    default Optional<RedisNearCache> nearCache() {
+        return Optional.empty();
+    }
+
     // ========== String Operations ==========
 
     /**
@@ -511,6 +551,45 @@ public interface RedisService extends Service {
     @NotNull
     CompletableFuture<Map<String, String>> hgetAllAsync(@NotNull String key);
 
+    /**
+     * Gets all field names of a hash.
+     *
+     * @param key the hash key
+     * @return the field names
+     * @since 1.0.0
+     */
+    @NotNull
+    Set<String> hkeys(@NotNull String key);
+
+    /**
+     * Gets all field names of a hash asynchronously.
+     *
+     * @param key the hash key
+     * @return a future with the field names
+     * @since 1.0.0
+     */
+    @NotNull
+    CompletableFuture<Set<String>> hkeysAsync(@NotNull String key);
+
+    /**
+     * Gets the number of fields in a hash.
+     *
+     * @param key the hash key
+     * @return the number of fields, 0 if the key does not exist
+     * @since 1.0.0
+     */
+    long hlen(@NotNull String key);
+
+    /**
+     * Gets the number of fields in a hash asynchronously.
+     *
+     * @param key the hash key
+     * @return a future with the number of fields
+     * @since 1.0.0
+     */
+    @NotNull
+    CompletableFuture<Long> hlenAsync(@NotNull String key);
+
     /**
      * Sets multiple hash fields.
      *
@@ -825,9 +904,29 @@ public interface RedisService extends Service {
     @NotNull
     CompletableFuture<Object> evalAsync(@NotNull String script, @NotNull List<String> keys, @NotNull List<String> args);
 
+    /**
+     * Executes a Lua script with binary keys and arguments.
+     *
+     * <p>Bulk string replies, including those nested in arrays, are returned
+     * as {@code byte[]} without charset conversion; integer replies are
+     * returned as {@code Long}.
+     *
+     * @param script the script
+     * @param keys   the keys
+     * @param args   the arguments
+     * @return the result
+     * @since 1.0.0
+     */
+    @Nullable
+    Object evalBytes(@NotNull String script, @NotNull List<byte[]> keys, @NotNull List<byte[]> args);
+
     /**
      * Loads a Lua script.
      *
+     * <p>The script is registered with {@link #scripts()}, so it is executed
+     * with {@code EVALSHA} and reloaded automatically when the server no
+     * longer knows it.
+     *
      * @param script the script
      * @return the Lua script wrapper
      * @since 1.0.0
@@ -835,11 +934,365 @@ public interface RedisService extends Service {
     @NotNull
     RedisLuaScript loadScript(@NotNull String script);
 
+    /**
+     * Gets the script registry of this service.
+     *
+     * @return the script registry
+     * @since 1.0.0
+     */
+    @NotNull
+    RedisScriptRegistry scripts();
+
+    /**
+     * Executes a cached Lua script by its SHA1 hash.
+     *
+     * <p>This is the raw {@code EVALSHA} command: a {@code NOSCRIPT} reply
+     * is thrown to the caller. Use {@link #scripts()} for automatic
+     * reloading.
+     *
+     * @param sha1 the script hash
+     * @param keys the keys
+     * @param args the arguments
+     * @return the result
+     * @since 1.0.0
+     */
+    @Nullable
+    Object evalsha(@NotNull String sha1, @NotNull List<String> keys, @NotNull List<String> args);
+
+    /**
+     * Executes a cached Lua script by its SHA1 hash asynchronously.
+     *
+     * @param sha1 the script hash
+     * @param keys the keys
+     * @param args the arguments
+     * @return a future with the result
+     * @since 1.0.0
+     */
+    @NotNull
+    CompletableFuture<Object> evalshaAsync(@NotNull String sha1, @NotNull List<String> keys, @NotNull List<String> args);
+
+    /**
+     * Loads a Lua script into the server's script cache.
+     *
+     * @param script the script
+     * @return the script's SHA1 hash
+     * @since 1.0.0
+     */
+    @NotNull
+    String scriptLoad(@NotNull String script);
+
+    /**
+     * Loads a Lua script into the server's script cache asynchronously.
+     *
+     * @param script the script
+     * @return a future with the script's SHA1 hash
+     * @since 1.0.0
+     */
+    @NotNull
+    CompletableFuture<String> scriptLoadAsync(@NotNull String script);
+
+    /**
+     * Checks whether a script is in the server's script cache.
+     *
+     * @param sha1 the script hash
+     * @return true if the script is cached
+     * @since 1.0.0
+     */
+    boolean scriptExists(@NotNull String sha1);
+
+    /**
+     * Checks whether a script is in the server's script cache asynchronously.
+     *
+     * @param sha1 the script hash
+     * @return a future that completes with true if the script is cached
+     * @since 1.0.0
+     */
+    @NotNull
+    CompletableFuture<Boolean> scriptExistsAsync(@NotNull String sha1);
+
+    // ========== Binary Operations ==========
+
+    /**
+     * Gets the raw bytes of a key.
+     *
+     * <p>Binary operations bypass string encoding, so values such as
+     * serialized objects or compressed payloads are stored and read without
+     * Base64 or charset conversion.
+     *
+     * @param key the key
+     * @return an Optional containing the value bytes
+     * @since 1.0.0
+     */
+    @NotNull
+    Optional<byte[]> getBytes(byte @NotNull [] key);
+
+    /**
+     * Gets the raw bytes of a key asynchronously.
+     *
+     * @param key the key
+     * @return a future with the value bytes
+     * @since 1.0.0
+     */
+    @NotNull
+    CompletableFuture<Optional<byte[]>> getBytesAsync(byte @NotNull [] key);
+
+    /**
+     * Sets a key to raw bytes.
+     *
+     * @param key   the key
+     * @param value the value bytes
+     * @since 1.0.0
+     */
+    void setBytes(byte @NotNull [] key, byte @NotNull [] value);
+
+    /**
+     * Sets a key to the remaining bytes of a buffer.
+     *
+     * <p>The buffer's position is not changed.
+     *
+     * @param key   the key
+     * @param value the value buffer
+     * @since 1.0.0
+     */
+    default void setBytes(byte @NotNull [] key, @NotNull ByteBuffer value) {
+        setBytes(key, remaining(value));
+    }
+
+    /**
+     * Sets a key to raw bytes asynchronously.
+     *
+     * @param key   the key
+     * @param value the value bytes
+     * @return a future that completes when done
+     * @since 1.0.0
+     */
+    @NotNull
+    CompletableFuture<Void> setBytesAsync(byte @NotNull [] key, byte @NotNull [] value);
+
+    /**
+     * Sets a key to raw bytes with expiration.
+     *
+     * @param key   the key
+     * @param value the value bytes
+     * @param ttl   the time-to-live
+     * @since 1.0.0
+     */
+    void setexBytes(byte @NotNull [] key, byte @NotNull [] value, @NotNull Duration ttl);
+
+    /**
+     * Sets a key to the remaining bytes of a buffer with expiration.
+     *
+     * <p>The buffer's position is not changed.
+     *
+     * @param key   the key
+     * @param value the value buffer
+     * @param ttl   the time-to-live
+     * @since 1.0.0
+     */
+    default void setexBytes(byte @NotNull [] key, @NotNull ByteBuffer value, @NotNull Duration ttl) {
+        setexBytes(key, remaining(value), ttl);
+    }
+
+    /**
+     * Sets a key to raw bytes with expiration asynchronously.
+     *
+     * @param key   the key
+     * @param value the value bytes
+     * @param ttl   the time-to-live
+     * @return a future that completes when done
+     * @since 1.0.0
+     */
+    @NotNull
+    CompletableFuture<Void> setexBytesAsync(byte @NotNull [] key, byte @NotNull [] value, @NotNull Duration ttl);
+
+    /**
+     * Deletes binary keys.
+     *
+     * @param keys the keys
+     * @return the number deleted
+     * @since 1.0.0
+     */
+    long delBytes(byte @NotNull []... keys);
+
+    /**
+     * Gets the raw bytes of a hash field.
+     *
+     * @param key   the hash key
+     * @param field the field
+     * @return an Optional containing the value bytes
+     * @since 1.0.0
+     */
+    @NotNull
+    Optional<byte[]> hgetBytes(byte @NotNull [] key, byte @NotNull [] field);
+
+    /**
+     * Sets a hash field to raw bytes.
+     *
+     * @param key   the hash key
+     * @param field the field
+     * @param value the value bytes
+     * @return true if the field is new
+     * @since 1.0.0
+     */
+    boolean hsetBytes(byte @NotNull [] key, byte @NotNull [] field, byte @NotNull [] value);
+
+    /**
+     * Publishes a binary message.
+     *
+     * @param channel the channel
+     * @param message the message bytes
+     * @return the number of receivers
+     * @since 1.0.0
+     */
+    long publish(byte @NotNull [] channel, byte @NotNull [] message);
+
+    /**
+     * Publishes a binary message asynchronously.
+     *
+     * @param channel the channel
+     * @param message the message bytes
+     * @return a future with the receiver count
+     * @since 1.0.0
+     */
+    @NotNull
+    CompletableFuture<Long> publishAsync(byte @NotNull [] channel, byte @NotNull [] message);
+
+    /**
+     * Subscribes to a channel and receives messages as raw bytes.
+     *
+     * @param channel  the channel
+     * @param listener the message listener
+     * @return the subscription handle
+     * @since 1.0.0
+     */
+    @NotNull
+    PubSubSubscription subscribe(byte @NotNull [] channel, @NotNull Consumer<byte[]> listener);
+
+    /**
+     * Copies the remaining bytes of a buffer without changing its position.
+     *
+     * @param buffer the buffer
+     * @return the remaining bytes
+     * @since 1.0.0
+     */
+    static byte @NotNull [] remaining(@NotNull ByteBuffer buffer) {
+        ByteBuffer view = buffer.duplicate();
+        byte[] bytes = new byte[view.remaining()];
+        view.get(bytes);
+        return bytes;
+    }
+
+    // ========== Stream Operations ==========
+
+    /**
+     * Appends an entry to a stream, creating the stream if needed.
+     *
+     * <p>If {@code maxLength} is positive the stream is trimmed with
+     * {@code MAXLEN ~}, which keeps at least that many entries and lets the
+     * server trim whole macro nodes cheaply.
+     *
+     * @param key       the stream key
+     * @param fields    the entry fields, with raw byte values
+     * @param maxLength the approximate maximum stream length, or 0 for no bound
+     * @return the ID of the new entry
+     * @since 1.0.0
+     */
+    @NotNull
+    String xadd(@NotNull String key, @NotNull Map<String, byte[]> fields, long maxLength);
+
+    /**
+     * Appends an entry to a stream asynchronously.
+     *
+     * @param key       the stream key
+     * @param fields    the entry fields, with raw byte values
+     * @param maxLength the approximate maximum stream length, or 0 for no bound
+     * @return a future with the ID of the new entry
+     * @since 1.0.0
+     */
+    @NotNull
+    CompletableFuture<String> xaddAsync(@NotNull String key, @NotNull Map<String, byte[]> fields, long maxLength);
+
+    /**
+     * Creates a consumer group, creating the stream if needed.
+     *
+     * @param key     the stream key
+     * @param group   the group name
+     * @param startId the ID after which the group starts reading; {@code "$"}
+     *                for new entries only, {@code "0"} for the whole stream
+     * @return true if the group was created, false if it already existed
+     * @since 1.0.0
+     */
+    boolean xgroupCreate(@NotNull String key, @NotNull String group, @NotNull String startId);
+
+    /**
+     * Reads entries never delivered to a consumer group from one or more
+     * streams.
+     *
+     * <p>Delivered entries stay in the group's pending list until they are
+     * {@link #xack acknowledged}. A blocking read holds its connection for up
+     * to {@code block}; keep it below the configured command timeout.
+     *
+     * @param group    the group name
+     * @param consumer the consumer name within the group
+     * @param count    the maximum number of entries per stream
+     * @param block    how long to wait for entries, or null to return at once
+     * @param keys     the stream keys
+     * @return the entries by stream key, empty if none arrived in time
+     * @since 1.0.0
+     */
+    @NotNull
+    Map<String, List<StreamEntry>> xreadgroup(
+            @NotNull String group,
+            @NotNull String consumer,
+            int count,
+            @Nullable Duration block,
+            @NotNull String... keys
+    );
+
+    /**
+     * Acknowledges entries, removing them from a group's pending list.
+     *
+     * @param key   the stream key
+     * @param group the group name
+     * @param ids   the entry IDs
+     * @return the number of entries acknowledged
+     * @since 1.0.0
+     */
+    long xack(@NotNull String key, @NotNull String group, @NotNull String... ids);
+
+    /**
+     * Claims pending entries that have been idle for at least
+     * {@code minIdle}, transferring them to {@code consumer}.
+     *
+     * <p>The scan starts at the beginning of the pending list. Entries that
+     * were deleted from the stream while pending are dropped from the list
+     * and not returned.
+     *
+     * @param key      the stream key
+     * @param group    the group name
+     * @param consumer the consumer that takes over the entries
+     * @param minIdle  the minimum idle time
+     * @param count    the maximum number of entries to claim
+     * @return the claimed entries
+     * @since 1.0.0
+     */
+    @NotNull
+    List<StreamEntry> xautoclaim(
+            @NotNull String key,
+            @NotNull String group,
+            @NotNull String consumer,
+            @NotNull Duration minIdle,
+            int count
+    );
+
     // ========== Serialization ==========
 
     /**
      * Gets a typed value using serialization.
      *
+     * <p>The value is read as bytes and decoded with
+     * {@link RedisSerializer#deserializeBytes}.
+     *
      * @param <T>        the value type
      * @param key        the key
      * @param type       the value class
@@ -853,6 +1306,9 @@ public interface RedisService extends Service {
     /**
      * Sets a typed value using serialization.
      *
+     * <p>The value is encoded with {@link RedisSerializer#serializeBytes} and
+     * stored as bytes.
+     *
      * @param <T>        the value type
      * @param key        the key
      * @param value      the value
@@ -904,6 +1360,26 @@ public interface RedisService extends Service {
             long destroyed
     ) {}
 
+    /**
+     * An entry read from a stream.
+     *
+     * @param id     the entry ID
+     * @param fields the entry fields, with raw byte values
+     * @since 1.0.0
+     */
+    record StreamEntry(@NotNull String id, @NotNull Map<String, byte[]> fields) {
+
+        /**
+         * Gets a field value.
+         *
+         * @param name the field name
+         * @return the value, or null if the entry has no such field
+         */
+        public byte @Nullable [] field(@NotNull String name) {
+            return fields.get(name);
+        }
+    }
+
     /**
      * Pub/Sub subscription handle.
      *
@@ -0,0 +1,275 @@
+/*
+ * Copyright (c) 2025 Supatuck. All rights reserved.
+ * Licensed under the MIT License.
+ */
+package sh.pcx.unified.data.redis.jedis;
+
+import sh.pcx.unified.data.redis.RedisBatch;
+import org.jetbrains.annotations.NotNull;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Jedis-based implementation of {@link RedisBatch}.
+ *
+ * <p>Queued commands are written to a Jedis {@link Pipeline} and read back
+ * with a single sync. Synchronous execution runs on the calling thread;
+ * asynchronous execution runs on the given executor.
+ *
+ * @since 1.0.0
+ * @author Supatuck
+ * @see JedisRedisService#batch()
+ * @see JedisConnectionWrapper#batch()
+ */
+public class JedisBatch extends RedisBatch.AbstractBatch {
+
+    private final Supplier<Jedis> resource;
+    private final boolean release;
+    private final Executor executor;
+    private final List<Function<Pipeline, Runnable>> commands = new ArrayList<>();
+
+    /**
+     * Creates a new batch.
+     *
+     * @param resource supplies the connection to send the batch on
+     * @param release  true to close the connection after sending, returning
+     *                 it to the pool
+     * @param executor the executor for asynchronous execution
+     * @since 1.0.0
+     */
+    public JedisBatch(@NotNull Supplier<Jedis> resource, boolean release, @NotNull Executor executor) {
+        this.resource = Objects.requireNonNull(resource, "resource cannot be null");
+        this.release = release;
+        this.executor = Objects.requireNonNull(executor, "executor cannot be null");
+    }
+
+    // ========== String Operations ==========
+
+    @Override
+    @NotNull
+    public CompletableFuture<Optional<String>> get(@NotNull String key) {
+        return queue(p -> p.get(key), Optional::ofNullable);
+    }
+
+    @Override
+    @NotNull
+    public CompletableFuture<Void> set(@NotNull String key, @NotNull String value) {
+        return queue(p -> p.set(key, value), r -> null);
+    }
+
+    @Override
+    @NotNull
+    public CompletableFuture<Void> setex(@NotNull String key, @NotNull String value, @NotNull Duration ttl) {
+        return queue(p -> p.setex(key, ttl.toSeconds(), value), r -> null);
+    }
+
+    @Override
+    @NotNull
+    public CompletableFuture<Boolean> setnx(@NotNull String key, @NotNull String value) {
+        return queue(p -> p.setnx(key, value), r -> r != null && r == 1);
+    }
+
+    // ========== Key Operations ==========
+
+    @Override
+    @NotNull
+    public CompletableFuture<Long> del(@NotNull String... keys) {
+        return queue(p -> p.del(keys), Function.identity());
+    }
+
+    @Override
+    @NotNull
+    public CompletableFuture<Boolean> exists(@NotNull String key) {
+        return queue(p -> p.exists(key), Boolean.TRUE::equals);
+    }
+
+    @Override
+    @NotNull
+    public CompletableFuture<Boolean> expire(@NotNull String key, @NotNull Duration ttl) {
+        return queue(p -> p.expire(key, ttl.toSeconds()), r -> r != null && r == 1);
+    }
+
+    // ========== Numeric Operations ==========
+
+    @Override
+    @NotNull
+    public CompletableFuture<Long> incr(@NotNull String key) {
+        return queue(p -> p.incr(key), Function.identity());
+    }
+
+    @Override
+    @NotNull
+    public CompletableFuture<Long> incrBy(@NotNull String key, long increment) {
+        return queue(p -> p.incrBy(key, increment), Function.identity());
+    }
+
+    @Override
+    @NotNull
+    public CompletableFuture<Long> decr(@NotNull String key) {
+        return queue(p -> p.decr(key), Function.identity());
+    }
+
+    // ========== Hash Operations ==========
+
+    @Override
+    @NotNull
+    public CompletableFuture<Optional<String>> hget(@NotNull String key, @NotNull String field) {
+        return queue(p -> p.hget(key, field), Optional::ofNullable);
+    }
+
+    @Override
+    @NotNull
+    public CompletableFuture<Boolean> hset(@NotNull String key, @NotNull String field, @NotNull String value) {
+        return queue(p -> p.hset(key, field, value), r -> r != null && r == 1);
+    }
+
+    @Override
+    @NotNull
+    public CompletableFuture<Void> hmset(@NotNull String key, @NotNull Map<String, String> fieldValues) {
+        return queue(p -> p.hset(key, fieldValues), r -> null);
+    }
+
+    @Override
+    @NotNull
+    public CompletableFuture<Map<String, String>> hgetAll(@NotNull String key) {
+        return queue(p -> p.hgetAll(key), Function.identity());
+    }
+
+    @Override
+    @NotNull
+    public CompletableFuture<Long> hdel(@NotNull String key, @NotNull String... fields) {
+        return queue(p -> p.hdel(key, fields), Function.identity());
+    }
+
+    @Override
+    @NotNull
+    public CompletableFuture<Long> hincrBy(@NotNull String key, @NotNull String field, long increment) {
+        return queue(p -> p.hincrBy(key, field, increment), Function.identity());
+    }
+
+    // ========== List Operations ==========
+
+    @Override
+    @NotNull
+    public CompletableFuture<Long> lpush(@NotNull String key, @NotNull String... values) {
+        return queue(p -> p.lpush(key, values), Function.identity());
+    }
+
+    @Override
+    @NotNull
+    public CompletableFuture<Long> rpush(@NotNull String key, @NotNull String... values) {
+        return queue(p -> p.rpush(key, values), Function.identity());
+    }
+
+    // ========== Set Operations ==========
+
+    @Override
+    @NotNull
+    public CompletableFuture<Long> sadd(@NotNull String key, @NotNull String... members) {
+        return queue(p -> p.sadd(key, members), Function.identity());
+    }
+
+    @Override
+    @NotNull
+    public CompletableFuture<Long> srem(@NotNull String key, @NotNull String... members) {
+        return queue(p -> p.srem(key, members), Function.identity());
+    }
+
+    // ========== Sorted Set Operations ==========
+
+    @Override
+    @NotNull
+    public CompletableFuture<Boolean> zadd(@NotNull String key, double score, @NotNull String member) {
+        return queue(p -> p.zadd(key, score, member), r -> r != null && r == 1);
+    }
+
+    @Override
+    @NotNull
+    public CompletableFuture<Long> zrem(@NotNull String key, @NotNull String... members) {
+        return queue(p -> p.zrem(key, members), Function.identity());
+    }
+
+    // ========== Lua Scripts ==========
+
+    @Override
+    @NotNull
+    protected CompletableFuture<Object> queueEvalsha(
+            @NotNull String sha1,
+            @NotNull List<String> keys,
+            @NotNull List<String> args
+    ) {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        queue(future, p -> p.evalsha(sha1, keys, args), Function.identity());
+        return future;
+    }
+
+    // ========== Execution ==========
+
+    @Override
+    @NotNull
+    protected CompletableFuture<Void> dispatch(boolean async) {
+        if (async) {
+            return CompletableFuture.runAsync(this::send, executor);
+        }
+        send();
+        return CompletableFuture.completedFuture(null);
+    }
+
+    private void send() {
+        Jedis jedis = resource.get();
+        try {
+            List<Runnable> completions = new ArrayList<>(commands.size());
+            try (Pipeline pipeline = jedis.pipelined()) {
+                for (Function<Pipeline, Runnable> command : commands) {
+                    completions.add(command.apply(pipeline));
+                }
+                pipeline.sync();
+            }
+            completions.forEach(Runnable::run);
+        } finally {
+            if (release) {
+                jedis.close();
+            }
+        }
+    }
+
+    private <R, T> CompletableFuture<T> queue(
+            Function<Pipeline, Response<R>> command,
+            Function<? super R, ? extends T> mapper
+    ) {
+        return queue(track(), command, mapper);
+    }
+
+    private <R, T> CompletableFuture<T> queue(
+            CompletableFuture<T> future,
+            Function<Pipeline, Response<R>> command,
+            Function<? super R, ? extends T> mapper
+    ) {
+        commands.add(p -> {
+            Response<R> response = command.apply(p);
+            return () -> {
+                R reply;
+                try {
+                    reply = response.get();
+                } catch (RuntimeException e) {
+                    future.completeExceptionally(e);
+                    return;
+                }
+                complete(future, reply, mapper);
+            };
+        });
+        return future;
+    }
+}
@@ -4,6 +4,7 @@
  */
 package sh.pcx.unified.data.redis.jedis;
 
+import sh.pcx.unified.data.redis.RedisBatch;
 import sh.pcx.unified.data.redis.RedisConnection;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -707,6 +708,18 @@ public class JedisConnectionWrapper implements RedisConnection {
         }
     }
 
+    // ========== Pipelining ==========
+
+    @Override
+    @NotNull
+    public RedisBatch batch() {
+        checkClosed();
+        return new JedisBatch(() -> {
+            checkClosed();
+            return jedis;
+        }, false, ASYNC_EXECUTOR);
+    }
+
     // ========== Transaction Support ==========
 
     @Override
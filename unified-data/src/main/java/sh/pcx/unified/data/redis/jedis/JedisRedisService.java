@@ -7,10 +7,18 @@ package sh.pcx.unified.data.redis.jedis;
 import sh.pcx.unified.data.redis.*;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import redis.clients.jedis.BinaryJedisPubSub;
 import redis.clients.jedis.Jedis;
 import redis.clients.jedis.JedisPubSub;
+import redis.clients.jedis.StreamEntryID;
+import redis.clients.jedis.exceptions.JedisDataException;
 import redis.clients.jedis.params.SetParams;
+import redis.clients.jedis.params.XAddParams;
+import redis.clients.jedis.params.XAutoClaimParams;
+import redis.clients.jedis.params.XReadGroupParams;
+import redis.clients.jedis.resps.StreamEntryBinary;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
@@ -62,7 +70,7 @@ public class JedisRedisService implements RedisService {
     private final JedisProvider provider;
     private final ExecutorService asyncExecutor;
     private final JedisPubSubImpl pubSub;
-    private final Map<String, RedisLuaScript> scriptCache = new ConcurrentHashMap<>();
+    private volatile RedisScriptRegistry scripts;
     private volatile boolean shutdown = false;
 
     /**
@@ -131,6 +139,13 @@ public class JedisRedisService implements RedisService {
         return provider.getPoolManager().getStats();
     }
 
+    @Override
+    @NotNull
+    public RedisBatch batch() {
+        checkNotShutdown();
+        return new JedisBatch(provider::getResource, true, asyncExecutor);
+    }
+
     @Override
     @NotNull
     public KeyNamespace namespace(@NotNull String prefix) {
@@ -375,6 +390,33 @@ public class JedisRedisService implements RedisService {
         return CompletableFuture.supplyAsync(() -> hgetAll(key), asyncExecutor);
     }
 
+    @Override
+    @NotNull
+    public Set<String> hkeys(@NotNull String key) {
+        try (Jedis jedis = provider.getResource()) {
+            return jedis.hkeys(key);
+        }
+    }
+
+    @Override
+    @NotNull
+    public CompletableFuture<Set<String>> hkeysAsync(@NotNull String key) {
+        return CompletableFuture.supplyAsync(() -> hkeys(key), asyncExecutor);
+    }
+
+    @Override
+    public long hlen(@NotNull String key) {
+        try (Jedis jedis = provider.getResource()) {
+            return jedis.hlen(key);
+        }
+    }
+
+    @Override
+    @NotNull
+    public CompletableFuture<Long> hlenAsync(@NotNull String key) {
+        return CompletableFuture.supplyAsync(() -> hlen(key), asyncExecutor);
+    }
+
     @Override
     public void hmset(@NotNull String key, @NotNull Map<String, String> fieldValues) {
         if (fieldValues.isEmpty()) return;
@@ -578,15 +620,333 @@ public class JedisRedisService implements RedisService {
         return CompletableFuture.supplyAsync(() -> eval(script, keys, args), asyncExecutor);
     }
 
+    @Override
+    @Nullable
+    public Object evalBytes(@NotNull String script, @NotNull List<byte[]> keys, @NotNull List<byte[]> args) {
+        try (Jedis jedis = provider.getResource()) {
+            return jedis.eval(bytes(script), keys, args);
+        }
+    }
+
     @Override
     @NotNull
     public RedisLuaScript loadScript(@NotNull String script) {
-        return scriptCache.computeIfAbsent(script, s -> {
+        return scripts().register(script);
+    }
+
+    @Override
+    @NotNull
+    public RedisScriptRegistry scripts() {
+        RedisScriptRegistry registry = scripts;
+        if (registry != null) {
+            return registry;
+        }
+        synchronized (this) {
+            // Created on first use so the service does not leak from its constructor
+            if (scripts == null) {
+                scripts = new RedisScriptRegistry(this);
+            }
+            return scripts;
+        }
+    }
+
+    @Override
+    @Nullable
+    public Object evalsha(@NotNull String sha1, @NotNull List<String> keys, @NotNull List<String> args) {
+        try (Jedis jedis = provider.getResource()) {
+            return jedis.evalsha(sha1, keys, args);
+        }
+    }
+
+    @Override
+    @NotNull
+    public CompletableFuture<Object> evalshaAsync(@NotNull String sha1, @NotNull List<String> keys, @NotNull List<String> args) {
+        return CompletableFuture.supplyAsync(() -> evalsha(sha1, keys, args), asyncExecutor);
+    }
+
+    @Override
+    @NotNull
+    public String scriptLoad(@NotNull String script) {
+        try (Jedis jedis = provider.getResource()) {
+            return jedis.scriptLoad(script);
+        }
+    }
+
+    @Override
+    @NotNull
+    public CompletableFuture<String> scriptLoadAsync(@NotNull String script) {
+        return CompletableFuture.supplyAsync(() -> scriptLoad(script), asyncExecutor);
+    }
+
+    @Override
+    public boolean scriptExists(@NotNull String sha1) {
+        try (Jedis jedis = provider.getResource()) {
+            return jedis.scriptExists(sha1);
+        }
+    }
+
+    @Override
+    @NotNull
+    public CompletableFuture<Boolean> scriptExistsAsync(@NotNull String sha1) {
+        return CompletableFuture.supplyAsync(() -> scriptExists(sha1), asyncExecutor);
+    }
+
+    // ========== Binary Operations ==========
+
+    @Override
+    @NotNull
+    public Optional<byte[]> getBytes(byte @NotNull [] key) {
+        try (Jedis jedis = provider.getResource()) {
+            return Optional.ofNullable(jedis.get(key));
+        }
+    }
+
+    @Override
+    @NotNull
+    public CompletableFuture<Optional<byte[]>> getBytesAsync(byte @NotNull [] key) {
+        return CompletableFuture.supplyAsync(() -> getBytes(key), asyncExecutor);
+    }
+
+    @Override
+    public void setBytes(byte @NotNull [] key, byte @NotNull [] value) {
+        try (Jedis jedis = provider.getResource()) {
+            jedis.set(key, value);
+        }
+    }
+
+    @Override
+    @NotNull
+    public CompletableFuture<Void> setBytesAsync(byte @NotNull [] key, byte @NotNull [] value) {
+        return CompletableFuture.runAsync(() -> setBytes(key, value), asyncExecutor);
+    }
+
+    @Override
+    public void setexBytes(byte @NotNull [] key, byte @NotNull [] value, @NotNull Duration ttl) {
+        try (Jedis jedis = provider.getResource()) {
+            jedis.setex(key, ttl.toSeconds(), value);
+        }
+    }
+
+    @Override
+    @NotNull
+    public CompletableFuture<Void> setexBytesAsync(byte @NotNull [] key, byte @NotNull [] value, @NotNull Duration ttl) {
+        return CompletableFuture.runAsync(() -> setexBytes(key, value, ttl), asyncExecutor);
+    }
+
+    @Override
+    public long delBytes(byte @NotNull []... keys) {
+        try (Jedis jedis = provider.getResource()) {
+            return jedis.del(keys);
+        }
+    }
+
+    @Override
+    @NotNull
+    public Optional<byte[]> hgetBytes(byte @NotNull [] key, byte @NotNull [] field) {
+        try (Jedis jedis = provider.getResource()) {
+            return Optional.ofNullable(jedis.hget(key, field));
+        }
+    }
+
+    @Override
+    public boolean hsetBytes(byte @NotNull [] key, byte @NotNull [] field, byte @NotNull [] value) {
+        try (Jedis jedis = provider.getResource()) {
+            return jedis.hset(key, field, value) == 1;
+        }
+    }
+
+    @Override
+    public long publish(byte @NotNull [] channel, byte @NotNull [] message) {
+        try (Jedis jedis = provider.getResource()) {
+            return jedis.publish(channel, message);
+        }
+    }
+
+    @Override
+    @NotNull
+    public CompletableFuture<Long> publishAsync(byte @NotNull [] channel, byte @NotNull [] message) {
+        return CompletableFuture.supplyAsync(() -> publish(channel, message), asyncExecutor);
+    }
+
+    @Override
+    @NotNull
+    public PubSubSubscription subscribe(byte @NotNull [] channel, @NotNull Consumer<byte[]> listener) {
+        checkNotShutdown();
+        AtomicBoolean active = new AtomicBoolean(true);
+        BinaryJedisPubSub pubSub = new BinaryJedisPubSub() {
+            @Override
+            public void onMessage(byte[] ch, byte[] msg) {
+                listener.accept(msg);
+            }
+
+            @Override
+            public void onSubscribe(byte[] ch, int subscribedChannels) {
+                // Unsubscribed before the subscription was established
+                if (!active.get()) {
+                    unsubscribe();
+                }
+            }
+        };
+
+        asyncExecutor.execute(() -> {
             try (Jedis jedis = provider.getResource()) {
-                String sha1 = jedis.scriptLoad(s);
-                return new JedisLuaScript(this, s, sha1);
+                jedis.subscribe(pubSub, channel);
             }
         });
+
+        String channelName = new String(channel, StandardCharsets.UTF_8);
+        return new PubSubSubscription() {
+            @Override
+            public boolean isActive() {
+                return active.get();
+            }
+
+            @Override
+            @NotNull
+            public String getChannel() {
+                return channelName;
+            }
+
+            @Override
+            public void unsubscribe() {
+                if (active.compareAndSet(true, false) && pubSub.isSubscribed()) {
+                    pubSub.unsubscribe();
+                }
+            }
+        };
+    }
+
+    // ========== Stream Operations ==========
+
+    @Override
+    @NotNull
+    public String xadd(@NotNull String key, @NotNull Map<String, byte[]> fields, long maxLength) {
+        try (Jedis jedis = provider.getResource()) {
+            return new String(jedis.xadd(bytes(key), xaddParams(maxLength), binaryFields(fields)), StandardCharsets.UTF_8);
+        }
+    }
+
+    @Override
+    @NotNull
+    public CompletableFuture<String> xaddAsync(@NotNull String key, @NotNull Map<String, byte[]> fields, long maxLength) {
+        return CompletableFuture.supplyAsync(() -> xadd(key, fields, maxLength), asyncExecutor);
+    }
+
+    @Override
+    public boolean xgroupCreate(@NotNull String key, @NotNull String group, @NotNull String startId) {
+        try (Jedis jedis = provider.getResource()) {
+            jedis.xgroupCreate(bytes(key), bytes(group), bytes(startId), true);
+            return true;
+        } catch (JedisDataException e) {
+            if (e.getMessage() != null && e.getMessage().startsWith("BUSYGROUP")) {
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    @NotNull
+    public Map<String, List<StreamEntry>> xreadgroup(
+            @NotNull String group,
+            @NotNull String consumer,
+            int count,
+            @Nullable Duration block,
+            @NotNull String... keys
+    ) {
+        XReadGroupParams params = XReadGroupParams.xReadGroupParams().count(count);
+        if (block != null) {
+            params.block((int) block.toMillis());
+        }
+        Map<byte[], StreamEntryID> streams = new LinkedHashMap<>();
+        for (String key : keys) {
+            streams.put(bytes(key), StreamEntryID.XREADGROUP_UNDELIVERED_ENTRY);
+        }
+
+        List<Map.Entry<byte[], List<StreamEntryBinary>>> reply;
+        try (Jedis jedis = provider.getResource()) {
+            reply = jedis.xreadGroupBinary(bytes(group), bytes(consumer), params, streams);
+        }
+        Map<String, List<StreamEntry>> result = new LinkedHashMap<>();
+        if (reply != null) {
+            for (Map.Entry<byte[], List<StreamEntryBinary>> stream : reply) {
+                List<StreamEntry> entries = new ArrayList<>(stream.getValue().size());
+                for (StreamEntryBinary entry : stream.getValue()) {
+                    Map<String, byte[]> fields = new LinkedHashMap<>();
+                    if (entry.getFields() != null) {
+                        entry.getFields().forEach((field, value) -> fields.put(new String(field, StandardCharsets.UTF_8), value));
+                    }
+                    entries.add(new StreamEntry(entry.getID().toString(), fields));
+                }
+                result.put(new String(stream.getKey(), StandardCharsets.UTF_8), entries);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public long xack(@NotNull String key, @NotNull String group, @NotNull String... ids) {
+        byte[][] rawIds = new byte[ids.length][];
+        for (int i = 0; i < ids.length; i++) {
+            rawIds[i] = bytes(ids[i]);
+        }
+        try (Jedis jedis = provider.getResource()) {
+            return jedis.xack(bytes(key), bytes(group), rawIds);
+        }
+    }
+
+    @Override
+    @NotNull
+    public List<StreamEntry> xautoclaim(
+            @NotNull String key,
+            @NotNull String group,
+            @NotNull String consumer,
+            @NotNull Duration minIdle,
+            int count
+    ) {
+        List<Object> reply;
+        try (Jedis jedis = provider.getResource()) {
+            reply = jedis.xautoclaim(
+                    bytes(key), bytes(group), bytes(consumer), minIdle.toMillis(),
+                    bytes("0-0"), XAutoClaimParams.xAutoClaimParams().count(count)
+            );
+        }
+
+        // Raw reply: [next-start-id, [[id, [field, value, ...]], ...], deleted-ids]
+        List<StreamEntry> entries = new ArrayList<>();
+        if (reply == null || reply.size() < 2 || !(reply.get(1) instanceof List<?> claimed)) {
+            return entries;
+        }
+        for (Object item : claimed) {
+            // Entries deleted while pending are nil on Redis 6.2
+            if (!(item instanceof List<?> entry) || entry.size() < 2 || !(entry.get(1) instanceof List<?> flat)) {
+                continue;
+            }
+            Map<String, byte[]> fields = new LinkedHashMap<>();
+            for (int i = 0; i + 1 < flat.size(); i += 2) {
+                fields.put(new String((byte[]) flat.get(i), StandardCharsets.UTF_8), (byte[]) flat.get(i + 1));
+            }
+            entries.add(new StreamEntry(new String((byte[]) entry.get(0), StandardCharsets.UTF_8), fields));
+        }
+        return entries;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static XAddParams xaddParams(long maxLength) {
+        XAddParams params = XAddParams.xAddParams();
+        if (maxLength > 0) {
+            params.maxLen(maxLength).approximateTrimming();
+        }
+        return params;
+    }
+
+    private static Map<byte[], byte[]> binaryFields(Map<String, byte[]> fields) {
+        Map<byte[], byte[]> result = new LinkedHashMap<>();
+        fields.forEach((field, value) -> result.put(bytes(field), value));
+        return result;
     }
 
     // ========== Serialization ==========
@@ -594,17 +954,17 @@ public class JedisRedisService implements RedisService {
     @Override
     @NotNull
     public <T> Optional<T> get(@NotNull String key, @NotNull Class<T> type, @NotNull RedisSerializer<T> serializer) {
-        return get(key).map(data -> serializer.deserialize(data, type));
+        return getBytes(key.getBytes(StandardCharsets.UTF_8)).map(data -> serializer.deserializeBytes(data, type));
     }
 
     @Override
     public <T> void set(@NotNull String key, @NotNull T value, @NotNull RedisSerializer<T> serializer) {
-        set(key, serializer.serialize(value));
+        setBytes(key.getBytes(StandardCharsets.UTF_8), serializer.serializeBytes(value));
     }
 
     @Override
     public <T> void setex(@NotNull String key, @NotNull T value, @NotNull Duration ttl, @NotNull RedisSerializer<T> serializer) {
-        setex(key, serializer.serialize(value), ttl);
+        setexBytes(key.getBytes(StandardCharsets.UTF_8), serializer.serializeBytes(value), ttl);
     }
 
     // ========== Lifecycle ==========
@@ -654,66 +1014,6 @@ public class JedisRedisService implements RedisService {
 
     // ========== Inner Classes ==========
 
-    /**
-     * Jedis Lua script implementation.
-     */
-    private static class JedisLuaScript extends RedisLuaScript.AbstractLuaScript {
-        private final JedisRedisService service;
-
-        JedisLuaScript(JedisRedisService service, String script, String sha1) {
-            super(script, sha1);
-            this.service = service;
-        }
-
-        @Override
-        public boolean isLoaded() {
-            try (Jedis jedis = service.provider.getResource()) {
-                return jedis.scriptExists(sha1);
-            }
-        }
-
-        @Override
-        @NotNull
-        public CompletableFuture<Boolean> isLoadedAsync() {
-            return CompletableFuture.supplyAsync(this::isLoaded, service.asyncExecutor);
-        }
-
-        @Override
-        public void ensureLoaded() {
-            if (!isLoaded()) {
-                try (Jedis jedis = service.provider.getResource()) {
-                    jedis.scriptLoad(script);
-                }
-            }
-        }
-
-        @Override
-        @NotNull
-        public CompletableFuture<Void> ensureLoadedAsync() {
-            return CompletableFuture.runAsync(this::ensureLoaded, service.asyncExecutor);
-        }
-
-        @Override
-        @Nullable
-        public Object execute(@NotNull List<String> keys, @NotNull List<String> args) {
-            try (Jedis jedis = service.provider.getResource()) {
-                try {
-                    return jedis.evalsha(sha1, keys, args);
-                } catch (Exception e) {
-                    // Script may have been evicted, reload and retry
-                    jedis.scriptLoad(script);
-                    return jedis.evalsha(sha1, keys, args);
-                }
-            }
-        }
-
-        @Override
-        @NotNull
-        public CompletableFuture<Object> executeAsync(@NotNull List<String> keys, @NotNull List<String> args) {
-            return CompletableFuture.supplyAsync(() -> execute(keys, args), service.asyncExecutor);
-        }
-    }
-
     /**
      * Jedis Pub/Sub implementation.
      */
@@ -0,0 +1,241 @@
+/*
+ * Copyright (c) 2025 Supatuck. All rights reserved.
+ * Licensed under the MIT License.
+ */
+package sh.pcx.unified.data.redis.lettuce;
+
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.ScriptOutputType;
+import io.lettuce.core.api.async.RedisAsyncCommands;
+import sh.pcx.unified.data.redis.RedisBatch;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Lettuce-based implementation of {@link RedisBatch}.
+ *
+ * <p>Queued commands are written to the manager's pipeline connection, which
+ * has automatic flushing disabled, and sent with a single flush. Replies
+ * complete the command futures on Lettuce's event loop.
+ *
+ * @since 1.0.0
+ * @author Supatuck
+ * @see LettuceConnectionManager#pipeline(Consumer)
+ */
+public class LettuceBatch extends RedisBatch.AbstractBatch {
+
+    private final LettuceConnectionManager connectionManager;
+    private final List<Consumer<RedisAsyncCommands<String, String>>> commands = new ArrayList<>();
+
+    /**
+     * Creates a new batch.
+     *
+     * @param connectionManager the connection manager
+     * @since 1.0.0
+     */
+    public LettuceBatch(@NotNull LettuceConnectionManager connectionManager) {
+        this.connectionManager = Objects.requireNonNull(connectionManager, "connectionManager cannot be null");
+    }
+
+    // ========== String Operations ==========
+
+    @Override
+    @NotNull
+    public CompletableFuture<Optional<String>> get(@NotNull String key) {
+        return queue(c -> c.get(key), Optional::ofNullable);
+    }
+
+    @Override
+    @NotNull
+    public CompletableFuture<Void> set(@NotNull String key, @NotNull String value) {
+        return queue(c -> c.set(key, value), r -> null);
+    }
+
+    @Override
+    @NotNull
+    public CompletableFuture<Void> setex(@NotNull String key, @NotNull String value, @NotNull Duration ttl) {
+        return queue(c -> c.setex(key, ttl.toSeconds(), value), r -> null);
+    }
+
+    @Override
+    @NotNull
+    public CompletableFuture<Boolean> setnx(@NotNull String key, @NotNull String value) {
+        return queue(c -> c.setnx(key, value), Boolean.TRUE::equals);
+    }
+
+    // ========== Key Operations ==========
+
+    @Override
+    @NotNull
+    public CompletableFuture<Long> del(@NotNull String... keys) {
+        return queue(c -> c.del(keys), Function.identity());
+    }
+
+    @Override
+    @NotNull
+    public CompletableFuture<Boolean> exists(@NotNull String key) {
+        return queue(c -> c.exists(key), count -> count != null && count > 0);
+    }
+
+    @Override
+    @NotNull
+    public CompletableFuture<Boolean> expire(@NotNull String key, @NotNull Duration ttl) {
+        return queue(c -> c.expire(key, ttl.toSeconds()), Boolean.TRUE::equals);
+    }
+
+    // ========== Numeric Operations ==========
+
+    @Override
+    @NotNull
+    public CompletableFuture<Long> incr(@NotNull String key) {
+        return queue(c -> c.incr(key), Function.identity());
+    }
+
+    @Override
+    @NotNull
+    public CompletableFuture<Long> incrBy(@NotNull String key, long increment) {
+        return queue(c -> c.incrby(key, increment), Function.identity());
+    }
+
+    @Override
+    @NotNull
+    public CompletableFuture<Long> decr(@NotNull String key) {
+        return queue(c -> c.decr(key), Function.identity());
+    }
+
+    // ========== Hash Operations ==========
+
+    @Override
+    @NotNull
+    public CompletableFuture<Optional<String>> hget(@NotNull String key, @NotNull String field) {
+        return queue(c -> c.hget(key, field), Optional::ofNullable);
+    }
+
+    @Override
+    @NotNull
+    public CompletableFuture<Boolean> hset(@NotNull String key, @NotNull String field, @NotNull String value) {
+        return queue(c -> c.hset(key, field, value), Boolean.TRUE::equals);
+    }
+
+    @Override
+    @NotNull
+    public CompletableFuture<Void> hmset(@NotNull String key, @NotNull Map<String, String> fieldValues) {
+        return queue(c -> c.hset(key, fieldValues), r -> null);
+    }
+
+    @Override
+    @NotNull
+    public CompletableFuture<Map<String, String>> hgetAll(@NotNull String key) {
+        return queue(c -> c.hgetall(key), Function.identity());
+    }
+
+    @Override
+    @NotNull
+    public CompletableFuture<Long> hdel(@NotNull String key, @NotNull String... fields) {
+        return queue(c -> c.hdel(key, fields), Function.identity());
+    }
+
+    @Override
+    @NotNull
+    public CompletableFuture<Long> hincrBy(@NotNull String key, @NotNull String field, long increment) {
+        return queue(c -> c.hincrby(key, field, increment), Function.identity());
+    }
+
+    // ========== List Operations ==========
+
+    @Override
+    @NotNull
+    public CompletableFuture<Long> lpush(@NotNull String key, @NotNull String... values) {
+        return queue(c -> c.lpush(key, values), Function.identity());
+    }
+
+    @Override
+    @NotNull
+    public CompletableFuture<Long> rpush(@NotNull String key, @NotNull String... values) {
+        return queue(c -> c.rpush(key, values), Function.identity());
+    }
+
+    // ========== Set Operations ==========
+
+    @Override
+    @NotNull
+    public CompletableFuture<Long> sadd(@NotNull String key, @NotNull String... members) {
+        return queue(c -> c.sadd(key, members), Function.identity());
+    }
+
+    @Override
+    @NotNull
+    public CompletableFuture<Long> srem(@NotNull String key, @NotNull String... members) {
+        return queue(c -> c.srem(key, members), Function.identity());
+    }
+
+    // ========== Sorted Set Operations ==========
+
+    @Override
+    @NotNull
+    public CompletableFuture<Boolean> zadd(@NotNull String key, double score, @NotNull String member) {
+        return queue(c -> c.zadd(key, score, member), added -> added != null && added > 0);
+    }
+
+    @Override
+    @NotNull
+    public CompletableFuture<Long> zrem(@NotNull String key, @NotNull String... members) {
+        return queue(c -> c.zrem(key, members), Function.identity());
+    }
+
+    // ========== Lua Scripts ==========
+
+    @Override
+    @NotNull
+    protected CompletableFuture<Object> queueEvalsha(
+            @NotNull String sha1,
+            @NotNull List<String> keys,
+            @NotNull List<String> args
+    ) {
+        String[] keyArray = keys.toArray(new String[0]);
+        String[] argArray = args.toArray(new String[0]);
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        queue(future, c -> c.<Object>evalsha(sha1, ScriptOutputType.MULTI, keyArray, argArray), Function.identity());
+        return future;
+    }
+
+    // ========== Execution ==========
+
+    @Override
+    @NotNull
+    protected CompletableFuture<Void> dispatch(boolean async) {
+        connectionManager.pipeline(c -> commands.forEach(command -> command.accept(c)));
+        return CompletableFuture.completedFuture(null);
+    }
+
+    private <R, T> CompletableFuture<T> queue(
+            Function<RedisAsyncCommands<String, String>, RedisFuture<R>> command,
+            Function<? super R, ? extends T> mapper
+    ) {
+        return queue(track(), command, mapper);
+    }
+
+    private <R, T> CompletableFuture<T> queue(
+            CompletableFuture<T> future,
+            Function<RedisAsyncCommands<String, String>, RedisFuture<R>> command,
+            Function<? super R, ? extends T> mapper
+    ) {
+        commands.add(c -> command.apply(c).whenComplete((reply, error) -> {
+            if (error != null) {
+                future.completeExceptionally(error);
+            } else {
+                complete(future, reply, mapper);
+            }
+        }));
+        return future;
+    }
+}
@@ -6,6 +6,8 @@ package sh.pcx.unified.data.redis.lettuce;
 
 import io.lettuce.core.RedisClient;
 import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.async.RedisAsyncCommands;
+import io.lettuce.core.codec.ByteArrayCodec;
 import io.lettuce.core.pubsub.StatefulRedisPubSubConnection;
 import sh.pcx.unified.data.redis.RedisConfig;
 import sh.pcx.unified.data.redis.RedisService.PoolStats;
@@ -13,6 +15,7 @@ import org.jetbrains.annotations.NotNull;
 
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 
 /**
  * Manager for Lettuce Redis connections.
@@ -29,6 +32,9 @@ import java.util.concurrent.atomic.AtomicLong;
  *   <li>A single connection can handle multiple concurrent operations</li>
  *   <li>Automatic reconnection on connection loss</li>
  *   <li>Pipelining is implicit in async operations</li>
+ *   <li>Explicit batches use a separate connection with manual flushing</li>
+ *   <li>Binary operations use separate {@link ByteArrayCodec} connections</li>
+ *   <li>Blocking stream reads use their own connection</li>
  * </ul>
  *
  * <h2>Example Usage</h2>
@@ -64,6 +70,11 @@ public final class LettuceConnectionManager implements AutoCloseable {
 
     private volatile StatefulRedisConnection<String, String> connection;
     private volatile StatefulRedisPubSubConnection<String, String> pubSubConnection;
+    private volatile StatefulRedisConnection<String, String> pipelineConnection;
+    private volatile StatefulRedisConnection<byte[], byte[]> binaryConnection;
+    private volatile StatefulRedisPubSubConnection<byte[], byte[]> binaryPubSubConnection;
+    private volatile StatefulRedisConnection<byte[], byte[]> blockingConnection;
+    private final Object pipelineLock = new Object();
     private volatile boolean closed = false;
 
     // Statistics
@@ -111,6 +122,146 @@ public final class LettuceConnectionManager implements AutoCloseable {
         return conn;
     }
 
+    /**
+     * Gets the shared binary connection.
+     *
+     * <p>Keys and values are passed through as raw bytes using
+     * {@link ByteArrayCodec}, with no charset conversion.
+     *
+     * @return the binary connection
+     * @throws IllegalStateException if the manager is closed
+     * @since 1.0.0
+     */
+    @NotNull
+    public StatefulRedisConnection<byte[], byte[]> getBinaryConnection() {
+        if (closed) {
+            throw new IllegalStateException("Connection manager is closed");
+        }
+
+        StatefulRedisConnection<byte[], byte[]> conn = binaryConnection;
+        if (conn == null || !conn.isOpen()) {
+            synchronized (this) {
+                conn = binaryConnection;
+                if (conn == null || !conn.isOpen()) {
+                    conn = redisClient.connect(ByteArrayCodec.INSTANCE);
+                    binaryConnection = conn;
+                }
+            }
+        }
+        return conn;
+    }
+
+    /**
+     * Gets the binary pub/sub connection.
+     *
+     * @return the binary pub/sub connection
+     * @throws IllegalStateException if the manager is closed
+     * @since 1.0.0
+     */
+    @NotNull
+    public StatefulRedisPubSubConnection<byte[], byte[]> getBinaryPubSubConnection() {
+        if (closed) {
+            throw new IllegalStateException("Connection manager is closed");
+        }
+
+        StatefulRedisPubSubConnection<byte[], byte[]> conn = binaryPubSubConnection;
+        if (conn == null || !conn.isOpen()) {
+            synchronized (this) {
+                conn = binaryPubSubConnection;
+                if (conn == null || !conn.isOpen()) {
+                    conn = redisClient.connectPubSub(ByteArrayCodec.INSTANCE);
+                    binaryPubSubConnection = conn;
+                }
+            }
+        }
+        return conn;
+    }
+
+    /**
+     * Gets the binary connection used for blocking commands.
+     *
+     * <p>A blocking read occupies the connection until it returns, so it is
+     * kept off the shared connections. Blocking commands issued from several
+     * threads queue behind each other on this connection.
+     *
+     * @return the blocking connection
+     * @throws IllegalStateException if the manager is closed
+     * @since 1.0.0
+     */
+    @NotNull
+    public StatefulRedisConnection<byte[], byte[]> getBlockingConnection() {
+        if (closed) {
+            throw new IllegalStateException("Connection manager is closed");
+        }
+
+        StatefulRedisConnection<byte[], byte[]> conn = blockingConnection;
+        if (conn == null || !conn.isOpen()) {
+            synchronized (this) {
+                conn = blockingConnection;
+                if (conn == null || !conn.isOpen()) {
+                    conn = redisClient.connect(ByteArrayCodec.INSTANCE);
+                    blockingConnection = conn;
+                }
+            }
+        }
+        return conn;
+    }
+
+    /**
+     * Gets the connection used for explicit batches.
+     *
+     * <p>This connection has automatic flushing disabled, so commands written
+     * to it are buffered until {@link #pipeline(Consumer)} flushes them. It is
+     * kept separate from the shared connection so that batches never delay
+     * regular commands.
+     *
+     * @return the pipeline connection
+     * @throws IllegalStateException if the manager is closed
+     * @since 1.0.0
+     */
+    @NotNull
+    public StatefulRedisConnection<String, String> getPipelineConnection() {
+        if (closed) {
+            throw new IllegalStateException("Connection manager is closed");
+        }
+
+        StatefulRedisConnection<String, String> conn = pipelineConnection;
+        if (conn == null || !conn.isOpen()) {
+            synchronized (this) {
+                conn = pipelineConnection;
+                if (conn == null || !conn.isOpen()) {
+                    conn = redisClient.connect();
+                    conn.setAutoFlushCommands(false);
+                    pipelineConnection = conn;
+                }
+            }
+        }
+        return conn;
+    }
+
+    /**
+     * Writes a group of commands to the pipeline connection and flushes them
+     * in a single write.
+     *
+     * <p>Groups from different threads are serialized so that each one is
+     * flushed as a unit. The commands' futures complete as replies arrive.
+     *
+     * @param commands writes the commands
+     * @throws IllegalStateException if the manager is closed
+     * @since 1.0.0
+     */
+    public void pipeline(@NotNull Consumer<RedisAsyncCommands<String, String>> commands) {
+        Objects.requireNonNull(commands, "commands cannot be null");
+        StatefulRedisConnection<String, String> conn = getPipelineConnection();
+        synchronized (pipelineLock) {
+            try {
+                commands.accept(conn.async());
+            } finally {
+                conn.flushCommands();
+            }
+        }
+    }
+
     /**
      * Gets a pub/sub connection.
      *
@@ -153,14 +304,19 @@ public final class LettuceConnectionManager implements AutoCloseable {
     public PoolStats getStats() {
         int active = (connection != null && connection.isOpen()) ? 1 : 0;
         int pubsubActive = (pubSubConnection != null && pubSubConnection.isOpen()) ? 1 : 0;
+        int pipelineActive = (pipelineConnection != null && pipelineConnection.isOpen()) ? 1 : 0;
+        int binaryActive = (binaryConnection != null && binaryConnection.isOpen()) ? 1 : 0;
+        int binaryPubSubActive = (binaryPubSubConnection != null && binaryPubSubConnection.isOpen()) ? 1 : 0;
+        int blockingActive = (blockingConnection != null && blockingConnection.isOpen()) ? 1 : 0;
+        int open = active + pubsubActive + pipelineActive + binaryActive + binaryPubSubActive + blockingActive;
 
         return new PoolStats(
-                active + pubsubActive,  // active
+                open,                    // active
                 0,                       // idle (not applicable)
-                active + pubsubActive,  // total
+                open,                    // total
                 commandCount.get(),     // borrowed (used as command count)
                 commandCount.get(),     // returned (same as commands)
-                active + pubsubActive,  // created
+                open,                    // created
                 0                        // destroyed
         );
     }
@@ -247,6 +403,34 @@ public final class LettuceConnectionManager implements AutoCloseable {
                 }
                 pubSubConnection = null;
             }
+            if (pipelineConnection != null) {
+                try {
+                    pipelineConnection.close();
+                } catch (Exception ignored) {
+                }
+                pipelineConnection = null;
+            }
+            if (binaryConnection != null) {
+                try {
+                    binaryConnection.close();
+                } catch (Exception ignored) {
+                }
+                binaryConnection = null;
+            }
+            if (binaryPubSubConnection != null) {
+                try {
+                    binaryPubSubConnection.close();
+                } catch (Exception ignored) {
+                }
+                binaryPubSubConnection = null;
+            }
+            if (blockingConnection != null) {
+                try {
+                    blockingConnection.close();
+                } catch (Exception ignored) {
+                }
+                blockingConnection = null;
+            }
         }
     }
 
@@ -272,6 +456,30 @@ public final class LettuceConnectionManager implements AutoCloseable {
                     } catch (Exception ignored) {
                     }
                 }
+                if (pipelineConnection != null) {
+                    try {
+                        pipelineConnection.close();
+                    } catch (Exception ignored) {
+                    }
+                }
+                if (binaryConnection != null) {
+                    try {
+                        binaryConnection.close();
+                    } catch (Exception ignored) {
+                    }
+                }
+                if (binaryPubSubConnection != null) {
+                    try {
+                        binaryPubSubConnection.close();
+                    } catch (Exception ignored) {
+                    }
+                }
+                if (blockingConnection != null) {
+                    try {
+                        blockingConnection.close();
+                    } catch (Exception ignored) {
+                    }
+                }
             }
         }
     }
@@ -7,6 +7,7 @@ package sh.pcx.unified.data.redis.lettuce;
 import io.lettuce.core.api.async.RedisAsyncCommands;
 import io.lettuce.core.api.sync.RedisCommands;
 import io.lettuce.core.ScriptOutputType;
+import sh.pcx.unified.data.redis.RedisBatch;
 import sh.pcx.unified.data.redis.RedisConnection;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -556,6 +557,15 @@ public class LettuceConnectionWrapper implements RedisConnection {
         return sync().scriptLoad(script);
     }
 
+    // ========== Pipelining ==========
+
+    @Override
+    @NotNull
+    public RedisBatch batch() {
+        checkClosed();
+        return new LettuceBatch(provider.getConnectionManager());
+    }
+
     // ========== Transaction Support ==========
 
     @Override
@@ -0,0 +1,320 @@
+/*
+ * Copyright (c) 2025 Supatuck. All rights reserved.
+ * Licensed under the MIT License.
+ */
+package sh.pcx.unified.data.redis.lettuce;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.lettuce.core.RedisChannelHandler;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisConnectionStateListener;
+import io.lettuce.core.StatefulRedisConnectionImpl;
+import io.lettuce.core.TrackingArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.push.PushMessage;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.protocol.ProtocolVersion;
+import sh.pcx.unified.data.redis.RedisNearCache;
+import org.jetbrains.annotations.NotNull;
+
+import java.net.SocketAddress;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Lettuce-based implementation of {@link RedisNearCache}.
+ *
+ * <p>Cached reads go through a dedicated RESP3 connection with
+ * {@code CLIENT TRACKING} enabled, so the server remembers the keys it has
+ * served and pushes {@code invalidate} messages on that connection when they
+ * change. Values are held in a bounded Caffeine cache.
+ *
+ * <p>An invalidation can arrive while the read that populates the same key
+ * is still in flight. Each miss reserves its key with a unique marker before
+ * the read is sent and only stores the reply if the marker is still present,
+ * so an invalidation that removes the marker also discards the reply.
+ *
+ * @since 1.0.0
+ * @author Supatuck
+ * @see LettuceRedisService#enableNearCache(RedisNearCache.Config)
+ */
+public class LettuceNearCache implements RedisNearCache {
+
+    private final RedisClient redisClient;
+    private final Config config;
+    private final Cache<String, Object> cache;
+    private final StatefulRedisConnection<String, String> connection;
+    private final RedisConnectionStateListener stateListener;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+    private final LongAdder flushes = new LongAdder();
+
+    private volatile boolean tracking;
+    private volatile boolean closed;
+
+    /**
+     * Creates a near cache and enables tracking on a new connection.
+     *
+     * @param redisClient the Lettuce Redis client
+     * @param config      the near-cache configuration
+     * @return the near cache, already tracking
+     * @throws IllegalStateException if the server does not speak RESP3
+     * @since 1.0.0
+     */
+    @NotNull
+    public static LettuceNearCache create(@NotNull RedisClient redisClient, @NotNull Config config) {
+        LettuceNearCache nearCache = new LettuceNearCache(redisClient, config);
+        nearCache.start();
+        return nearCache;
+    }
+
+    private LettuceNearCache(RedisClient redisClient, Config config) {
+        this.redisClient = Objects.requireNonNull(redisClient, "redisClient cannot be null");
+        this.config = Objects.requireNonNull(config, "config cannot be null");
+
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().maximumSize(config.maximumSize());
+        if (config.expireAfterWrite() != null) {
+            builder.expireAfterWrite(config.expireAfterWrite());
+        }
+        this.cache = builder.build();
+
+        StatefulRedisConnection<String, String> conn = redisClient.connect();
+        if (!(conn instanceof StatefulRedisConnectionImpl<?, ?> impl)
+                || impl.getConnectionState().getNegotiatedProtocolVersion() != ProtocolVersion.RESP3) {
+            conn.close();
+            throw new IllegalStateException("Client-side caching requires a RESP3 connection (Redis 6 or later)");
+        }
+        this.connection = conn;
+
+        this.stateListener = new RedisConnectionStateListener() {
+            @Override
+            public void onRedisDisconnected(RedisChannelHandler<?, ?> handler) {
+                if (handler == connection) {
+                    // Tracking state is lost with the connection
+                    tracking = false;
+                    invalidateAll();
+                }
+            }
+
+            @Override
+            public void onRedisConnected(RedisChannelHandler<?, ?> handler, SocketAddress socketAddress) {
+                if (handler == connection && !closed) {
+                    connection.async().clientTracking(TrackingArgs.Builder.enabled())
+                            .whenComplete((reply, error) -> {
+                                if (error == null && !closed) {
+                                    invalidateAll();
+                                    tracking = true;
+                                }
+                            });
+                }
+            }
+        };
+    }
+
+    /**
+     * Registers the push and connection listeners and enables tracking.
+     * Kept out of the constructor so no listener sees a partly built cache.
+     */
+    private void start() {
+        connection.addListener(this::onPush);
+        try {
+            connection.sync().clientTracking(TrackingArgs.Builder.enabled());
+        } catch (RuntimeException e) {
+            connection.close();
+            throw e;
+        }
+        tracking = true;
+        redisClient.addListener(stateListener);
+    }
+
+    // ========== Reads ==========
+
+    @Override
+    @NotNull
+    public Optional<String> get(@NotNull String key) {
+        return read(key, Optional.class, () -> Optional.ofNullable(connection.sync().get(key)), UnaryOperator.identity());
+    }
+
+    @Override
+    @NotNull
+    public CompletableFuture<Optional<String>> getAsync(@NotNull String key) {
+        return readAsync(
+                key,
+                Optional.class,
+                () -> connection.async().get(key).thenApply(Optional::ofNullable),
+                UnaryOperator.identity()
+        );
+    }
+
+    @Override
+    @NotNull
+    public Map<String, String> hgetAll(@NotNull String key) {
+        return read(key, Map.class, () -> connection.sync().hgetall(key), LinkedHashMap::new);
+    }
+
+    @Override
+    @NotNull
+    public CompletableFuture<Map<String, String>> hgetAllAsync(@NotNull String key) {
+        return readAsync(key, Map.class, () -> connection.async().hgetall(key), LinkedHashMap::new);
+    }
+
+    // ========== Invalidation ==========
+
+    @Override
+    public void invalidate(@NotNull String... keys) {
+        for (String key : keys) {
+            if (cache.asMap().remove(key) != null) {
+                invalidations.increment();
+            }
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        cache.invalidateAll();
+        flushes.increment();
+    }
+
+    // ========== State ==========
+
+    @Override
+    public boolean isTracking() {
+        return tracking;
+    }
+
+    @Override
+    @NotNull
+    public Config getConfig() {
+        return config;
+    }
+
+    @Override
+    @NotNull
+    public Stats getStats() {
+        return new Stats(hits.sum(), misses.sum(), invalidations.sum(), flushes.sum(), cache.estimatedSize());
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        tracking = false;
+        redisClient.removeListener(stateListener);
+        connection.close();
+        cache.invalidateAll();
+    }
+
+    // ========== Internal ==========
+
+    /**
+     * Handles a RESP3 push on the tracking connection.
+     */
+    private void onPush(PushMessage message) {
+        if (!"invalidate".equals(message.getType())) {
+            return;
+        }
+        List<Object> content = message.getContent(StringCodec.UTF8::decodeKey);
+        Object keys = content.size() > 1 ? content.get(1) : null;
+        if (keys instanceof List<?> list) {
+            for (Object key : list) {
+                invalidate(String.valueOf(key));
+            }
+        } else {
+            // A null key list means the server flushed its keyspace
+            invalidateAll();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T read(String key, Class<?> kind, Supplier<T> loader, UnaryOperator<T> copy) {
+        Objects.requireNonNull(key, "key cannot be null");
+        if (tracking) {
+            Object cached = cache.getIfPresent(key);
+            if (kind.isInstance(cached)) {
+                hits.increment();
+                return copy.apply((T) cached);
+            }
+        }
+        misses.increment();
+        Object marker = reserve(key);
+        T value;
+        try {
+            value = loader.get();
+        } catch (RuntimeException e) {
+            release(key, marker);
+            throw e;
+        }
+        fill(key, marker, copy.apply(value));
+        return value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> CompletableFuture<T> readAsync(
+            String key,
+            Class<?> kind,
+            Supplier<CompletionStage<T>> loader,
+            UnaryOperator<T> copy
+    ) {
+        Objects.requireNonNull(key, "key cannot be null");
+        if (tracking) {
+            Object cached = cache.getIfPresent(key);
+            if (kind.isInstance(cached)) {
+                hits.increment();
+                return CompletableFuture.completedFuture(copy.apply((T) cached));
+            }
+        }
+        misses.increment();
+        Object marker = reserve(key);
+        CompletableFuture<T> future;
+        try {
+            future = loader.get().toCompletableFuture();
+        } catch (RuntimeException e) {
+            release(key, marker);
+            return CompletableFuture.failedFuture(e);
+        }
+        return future.whenComplete((value, error) -> {
+            if (error != null) {
+                release(key, marker);
+            } else {
+                fill(key, marker, copy.apply(value));
+            }
+        });
+    }
+
+    /**
+     * Reserves a key for a pending read, or returns null if the reply must
+     * not be cached.
+     */
+    private Object reserve(String key) {
+        if (!tracking) {
+            return null;
+        }
+        Object marker = new Object();
+        return cache.asMap().putIfAbsent(key, marker) == null ? marker : null;
+    }
+
+    private void fill(String key, Object marker, Object value) {
+        if (marker != null && value != null) {
+            cache.asMap().replace(key, marker, value);
+        }
+    }
+
+    private void release(String key, Object marker) {
+        if (marker != null) {
+            cache.asMap().remove(key, marker);
+        }
+    }
+}
@@ -206,6 +206,50 @@ public final class LettuceProvider implements AutoCloseable {
         return getConnection().async();
     }
 
+    /**
+     * Gets synchronous binary Redis commands.
+     *
+     * @return the synchronous binary commands
+     * @since 1.0.0
+     */
+    @NotNull
+    public RedisCommands<byte[], byte[]> binarySync() {
+        return connectionManager.getBinaryConnection().sync();
+    }
+
+    /**
+     * Gets asynchronous binary Redis commands.
+     *
+     * @return the asynchronous binary commands
+     * @since 1.0.0
+     */
+    @NotNull
+    public RedisAsyncCommands<byte[], byte[]> binaryAsync() {
+        return connectionManager.getBinaryConnection().async();
+    }
+
+    /**
+     * Gets the binary pub/sub connection.
+     *
+     * @return the binary pub/sub connection
+     * @since 1.0.0
+     */
+    @NotNull
+    public StatefulRedisPubSubConnection<byte[], byte[]> getBinaryPubSubConnection() {
+        return connectionManager.getBinaryPubSubConnection();
+    }
+
+    /**
+     * Gets synchronous binary commands for blocking operations.
+     *
+     * @return the synchronous blocking commands
+     * @since 1.0.0
+     */
+    @NotNull
+    public RedisCommands<byte[], byte[]> blockingSync() {
+        return connectionManager.getBlockingConnection().sync();
+    }
+
     /**
      * Checks if the connection is healthy.
      *
@@ -4,10 +4,20 @@
  */
 package sh.pcx.unified.data.redis.lettuce;
 
+import io.lettuce.core.RedisChannelHandler;
+import io.lettuce.core.RedisCommandExecutionException;
+import io.lettuce.core.RedisConnectionStateListener;
 import io.lettuce.core.RedisFuture;
 import io.lettuce.core.ScriptOutputType;
+import io.lettuce.core.StreamMessage;
+import io.lettuce.core.XAddArgs;
+import io.lettuce.core.XAutoClaimArgs;
+import io.lettuce.core.XGroupCreateArgs;
+import io.lettuce.core.XReadArgs;
 import io.lettuce.core.api.async.RedisAsyncCommands;
 import io.lettuce.core.api.sync.RedisCommands;
+import io.lettuce.core.models.stream.ClaimedMessages;
+import io.lettuce.core.pubsub.RedisPubSubAdapter;
 import io.lettuce.core.pubsub.RedisPubSubListener;
 import io.lettuce.core.pubsub.StatefulRedisPubSubConnection;
 import io.lettuce.core.pubsub.api.async.RedisPubSubAsyncCommands;
@@ -15,6 +25,8 @@ import sh.pcx.unified.data.redis.*;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.net.SocketAddress;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
@@ -37,6 +49,7 @@ import java.util.function.Function;
  *   <li>Thread-safe connection sharing</li>
  *   <li>Automatic reconnection</li>
  *   <li>Reactive streams support</li>
+ *   <li>Opt-in client-side caching with server-assisted invalidation</li>
  * </ul>
  *
  * <h2>Example Usage</h2>
@@ -73,7 +86,8 @@ public class LettuceRedisService implements RedisService {
     private final RedisConfig config;
     private final LettuceProvider provider;
     private final LettucePubSubImpl pubSub;
-    private final Map<String, RedisLuaScript> scriptCache = new ConcurrentHashMap<>();
+    private volatile RedisScriptRegistry scripts;
+    private volatile LettuceNearCache nearCache;
     private volatile boolean shutdown = false;
 
     /**
@@ -86,6 +100,17 @@ public class LettuceRedisService implements RedisService {
         this.config = Objects.requireNonNull(config, "config cannot be null");
         this.provider = new LettuceProvider(config);
         this.pubSub = new LettucePubSubImpl(this);
+        provider.getClient().addListener(new RedisConnectionStateListener() {
+            @Override
+            public void onRedisConnected(RedisChannelHandler<?, ?> connection, SocketAddress socketAddress) {
+                // The server may have restarted with an empty script cache.
+                // Preload off the event loop, which must not wait on commands.
+                RedisScriptRegistry registry = scripts;
+                if (!shutdown && registry != null && registry.size() > 0) {
+                    CompletableFuture.runAsync(registry::preloadAsync);
+                }
+            }
+        });
     }
 
     /**
@@ -104,6 +129,30 @@ public class LettuceRedisService implements RedisService {
         return provider.async();
     }
 
+    /**
+     * Gets synchronous binary commands.
+     */
+    private RedisCommands<byte[], byte[]> binarySync() {
+        checkNotShutdown();
+        return provider.binarySync();
+    }
+
+    /**
+     * Gets asynchronous binary commands.
+     */
+    private RedisAsyncCommands<byte[], byte[]> binaryAsync() {
+        checkNotShutdown();
+        return provider.binaryAsync();
+    }
+
+    /**
+     * Gets synchronous binary commands on the blocking connection.
+     */
+    private RedisCommands<byte[], byte[]> blockingSync() {
+        checkNotShutdown();
+        return provider.blockingSync();
+    }
+
     @Override
     @NotNull
     public RedisConfig getConfig() {
@@ -155,6 +204,13 @@ public class LettuceRedisService implements RedisService {
         return provider.getConnectionManager().getStats();
     }
 
+    @Override
+    @NotNull
+    public RedisBatch batch() {
+        checkNotShutdown();
+        return new LettuceBatch(provider.getConnectionManager());
+    }
+
     @Override
     @NotNull
     public KeyNamespace namespace(@NotNull String prefix) {
@@ -167,6 +223,47 @@ public class LettuceRedisService implements RedisService {
         return new KeyNamespace(this, prefixes);
     }
 
+    // ========== Near Cache ==========
+
+    /**
+     * Enables client-side caching for namespaces that opt in.
+     *
+     * <p>Opens a dedicated RESP3 connection with {@code CLIENT TRACKING}
+     * enabled. Calling this again returns the existing cache.
+     *
+     * @param config the near-cache configuration
+     * @return the near cache
+     * @throws IllegalStateException if the server does not support RESP3
+     * @since 1.0.0
+     * @see KeyNamespace#withNearCache()
+     */
+    @NotNull
+    public synchronized RedisNearCache enableNearCache(@NotNull RedisNearCache.Config config) {
+        checkNotShutdown();
+        if (nearCache == null) {
+            nearCache = LettuceNearCache.create(provider.getClient(), config);
+        }
+        return nearCache;
+    }
+
+    /**
+     * Disables client-side caching and closes the tracking connection.
+     *
+     * @since 1.0.0
+     */
+    public synchronized void disableNearCache() {
+        if (nearCache != null) {
+            nearCache.close();
+            nearCache = null;
+        }
+    }
+
+    @Override
+    @NotNull
+    public Optional<RedisNearCache> nearCache() {
+        return Optional.ofNullable(nearCache);
+    }
+
     // ========== String Operations ==========
 
     @Override
@@ -394,6 +491,29 @@ public class LettuceRedisService implements RedisService {
         return toCompletableFuture(async().hgetall(key));
     }
 
+    @Override
+    @NotNull
+    public Set<String> hkeys(@NotNull String key) {
+        return new LinkedHashSet<>(sync().hkeys(key));
+    }
+
+    @Override
+    @NotNull
+    public CompletableFuture<Set<String>> hkeysAsync(@NotNull String key) {
+        return toCompletableFuture(async().hkeys(key)).thenApply(LinkedHashSet::new);
+    }
+
+    @Override
+    public long hlen(@NotNull String key) {
+        return sync().hlen(key);
+    }
+
+    @Override
+    @NotNull
+    public CompletableFuture<Long> hlenAsync(@NotNull String key) {
+        return toCompletableFuture(async().hlen(key));
+    }
+
     @Override
     public void hmset(@NotNull String key, @NotNull Map<String, String> fieldValues) {
         if (!fieldValues.isEmpty()) {
@@ -615,13 +735,299 @@ public class LettuceRedisService implements RedisService {
         return toCompletableFuture(async().eval(script, ScriptOutputType.MULTI, keyArray, argArray));
     }
 
+    @Override
+    @Nullable
+    public Object evalBytes(@NotNull String script, @NotNull List<byte[]> keys, @NotNull List<byte[]> args) {
+        byte[][] keyArray = keys.toArray(new byte[0][]);
+        byte[][] argArray = args.toArray(new byte[0][]);
+        return binarySync().eval(script, ScriptOutputType.MULTI, keyArray, argArray);
+    }
+
     @Override
     @NotNull
     public RedisLuaScript loadScript(@NotNull String script) {
-        return scriptCache.computeIfAbsent(script, s -> {
-            String sha1 = sync().scriptLoad(s);
-            return new LettuceLuaScript(this, s, sha1);
-        });
+        return scripts().register(script);
+    }
+
+    @Override
+    @NotNull
+    public RedisScriptRegistry scripts() {
+        RedisScriptRegistry registry = scripts;
+        if (registry != null) {
+            return registry;
+        }
+        synchronized (this) {
+            // Created on first use so the service does not leak from its constructor
+            if (scripts == null) {
+                scripts = new RedisScriptRegistry(this);
+            }
+            return scripts;
+        }
+    }
+
+    @Override
+    @Nullable
+    public Object evalsha(@NotNull String sha1, @NotNull List<String> keys, @NotNull List<String> args) {
+        String[] keyArray = keys.toArray(new String[0]);
+        String[] argArray = args.toArray(new String[0]);
+        return sync().evalsha(sha1, ScriptOutputType.MULTI, keyArray, argArray);
+    }
+
+    @Override
+    @NotNull
+    public CompletableFuture<Object> evalshaAsync(@NotNull String sha1, @NotNull List<String> keys, @NotNull List<String> args) {
+        String[] keyArray = keys.toArray(new String[0]);
+        String[] argArray = args.toArray(new String[0]);
+        return toCompletableFuture(async().evalsha(sha1, ScriptOutputType.MULTI, keyArray, argArray));
+    }
+
+    @Override
+    @NotNull
+    public String scriptLoad(@NotNull String script) {
+        return sync().scriptLoad(script);
+    }
+
+    @Override
+    @NotNull
+    public CompletableFuture<String> scriptLoadAsync(@NotNull String script) {
+        return toCompletableFuture(async().scriptLoad(script));
+    }
+
+    @Override
+    public boolean scriptExists(@NotNull String sha1) {
+        List<Boolean> result = sync().scriptExists(sha1);
+        return !result.isEmpty() && Boolean.TRUE.equals(result.get(0));
+    }
+
+    @Override
+    @NotNull
+    public CompletableFuture<Boolean> scriptExistsAsync(@NotNull String sha1) {
+        return toCompletableFuture(async().scriptExists(sha1))
+                .thenApply(list -> !list.isEmpty() && Boolean.TRUE.equals(list.get(0)));
+    }
+
+    // ========== Binary Operations ==========
+
+    @Override
+    @NotNull
+    public Optional<byte[]> getBytes(byte @NotNull [] key) {
+        return Optional.ofNullable(binarySync().get(key));
+    }
+
+    @Override
+    @NotNull
+    public CompletableFuture<Optional<byte[]>> getBytesAsync(byte @NotNull [] key) {
+        return toCompletableFuture(binaryAsync().get(key))
+                .thenApply(Optional::ofNullable);
+    }
+
+    @Override
+    public void setBytes(byte @NotNull [] key, byte @NotNull [] value) {
+        binarySync().set(key, value);
+    }
+
+    @Override
+    @NotNull
+    public CompletableFuture<Void> setBytesAsync(byte @NotNull [] key, byte @NotNull [] value) {
+        return toCompletableFuture(binaryAsync().set(key, value))
+                .thenApply(v -> null);
+    }
+
+    @Override
+    public void setexBytes(byte @NotNull [] key, byte @NotNull [] value, @NotNull Duration ttl) {
+        binarySync().setex(key, ttl.toSeconds(), value);
+    }
+
+    @Override
+    @NotNull
+    public CompletableFuture<Void> setexBytesAsync(byte @NotNull [] key, byte @NotNull [] value, @NotNull Duration ttl) {
+        return toCompletableFuture(binaryAsync().setex(key, ttl.toSeconds(), value))
+                .thenApply(v -> null);
+    }
+
+    @Override
+    public long delBytes(byte @NotNull []... keys) {
+        Long result = binarySync().del(keys);
+        return result != null ? result : 0;
+    }
+
+    @Override
+    @NotNull
+    public Optional<byte[]> hgetBytes(byte @NotNull [] key, byte @NotNull [] field) {
+        return Optional.ofNullable(binarySync().hget(key, field));
+    }
+
+    @Override
+    public boolean hsetBytes(byte @NotNull [] key, byte @NotNull [] field, byte @NotNull [] value) {
+        return Boolean.TRUE.equals(binarySync().hset(key, field, value));
+    }
+
+    @Override
+    public long publish(byte @NotNull [] channel, byte @NotNull [] message) {
+        Long result = binarySync().publish(channel, message);
+        return result != null ? result : 0;
+    }
+
+    @Override
+    @NotNull
+    public CompletableFuture<Long> publishAsync(byte @NotNull [] channel, byte @NotNull [] message) {
+        return toCompletableFuture(binaryAsync().publish(channel, message))
+                .thenApply(r -> r != null ? r : 0L);
+    }
+
+    @Override
+    @NotNull
+    public PubSubSubscription subscribe(byte @NotNull [] channel, @NotNull Consumer<byte[]> listener) {
+        checkNotShutdown();
+        StatefulRedisPubSubConnection<byte[], byte[]> conn = provider.getBinaryPubSubConnection();
+        RedisPubSubListener<byte[], byte[]> adapter = new RedisPubSubAdapter<>() {
+            @Override
+            public void message(byte[] ch, byte[] msg) {
+                if (Arrays.equals(channel, ch)) {
+                    listener.accept(msg);
+                }
+            }
+        };
+        conn.addListener(adapter);
+        conn.async().subscribe(channel);
+
+        String channelName = new String(channel, StandardCharsets.UTF_8);
+        AtomicBoolean active = new AtomicBoolean(true);
+        return new PubSubSubscription() {
+            @Override
+            public boolean isActive() {
+                return active.get();
+            }
+
+            @Override
+            @NotNull
+            public String getChannel() {
+                return channelName;
+            }
+
+            @Override
+            public void unsubscribe() {
+                if (active.compareAndSet(true, false)) {
+                    conn.removeListener(adapter);
+                    conn.async().unsubscribe(channel);
+                }
+            }
+        };
+    }
+
+    // ========== Stream Operations ==========
+
+    @Override
+    @NotNull
+    public String xadd(@NotNull String key, @NotNull Map<String, byte[]> fields, long maxLength) {
+        return binarySync().xadd(bytes(key), xaddArgs(maxLength), binaryFields(fields));
+    }
+
+    @Override
+    @NotNull
+    public CompletableFuture<String> xaddAsync(@NotNull String key, @NotNull Map<String, byte[]> fields, long maxLength) {
+        return toCompletableFuture(binaryAsync().xadd(bytes(key), xaddArgs(maxLength), binaryFields(fields)));
+    }
+
+    @Override
+    public boolean xgroupCreate(@NotNull String key, @NotNull String group, @NotNull String startId) {
+        try {
+            binarySync().xgroupCreate(
+                    XReadArgs.StreamOffset.from(bytes(key), startId),
+                    bytes(group),
+                    XGroupCreateArgs.Builder.mkstream()
+            );
+            return true;
+        } catch (RedisCommandExecutionException e) {
+            if (e.getMessage() != null && e.getMessage().startsWith("BUSYGROUP")) {
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    @NotNull
+    @SuppressWarnings("unchecked")
+    public Map<String, List<StreamEntry>> xreadgroup(
+            @NotNull String group,
+            @NotNull String consumer,
+            int count,
+            @Nullable Duration block,
+            @NotNull String... keys
+    ) {
+        // Generic arrays cannot be created directly; every element is set below
+        @SuppressWarnings("unchecked")
+        XReadArgs.StreamOffset<byte[]>[] offsets = (XReadArgs.StreamOffset<byte[]>[]) new XReadArgs.StreamOffset<?>[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            offsets[i] = XReadArgs.StreamOffset.lastConsumed(bytes(keys[i]));
+        }
+        XReadArgs args = XReadArgs.Builder.count(count);
+        RedisCommands<byte[], byte[]> commands = binarySync();
+        if (block != null) {
+            // Blocking reads must not stall the shared connection
+            args.block(block);
+            commands = blockingSync();
+        }
+
+        Map<String, List<StreamEntry>> result = new LinkedHashMap<>();
+        for (StreamMessage<byte[], byte[]> message : commands.xreadgroup(io.lettuce.core.Consumer.from(bytes(group), bytes(consumer)), args, offsets)) {
+            result.computeIfAbsent(new String(message.getStream(), StandardCharsets.UTF_8), k -> new ArrayList<>())
+                    .add(streamEntry(message));
+        }
+        return result;
+    }
+
+    @Override
+    public long xack(@NotNull String key, @NotNull String group, @NotNull String... ids) {
+        Long result = binarySync().xack(bytes(key), bytes(group), ids);
+        return result != null ? result : 0;
+    }
+
+    @Override
+    @NotNull
+    public List<StreamEntry> xautoclaim(
+            @NotNull String key,
+            @NotNull String group,
+            @NotNull String consumer,
+            @NotNull Duration minIdle,
+            int count
+    ) {
+        XAutoClaimArgs<byte[]> args = XAutoClaimArgs.Builder
+                .xautoclaim(io.lettuce.core.Consumer.from(bytes(group), bytes(consumer)), minIdle, "0-0")
+                .count(count);
+        ClaimedMessages<byte[], byte[]> claimed = binarySync().xautoclaim(bytes(key), args);
+        List<StreamEntry> entries = new ArrayList<>(claimed.getMessages().size());
+        for (StreamMessage<byte[], byte[]> message : claimed.getMessages()) {
+            entries.add(streamEntry(message));
+        }
+        return entries;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static XAddArgs xaddArgs(long maxLength) {
+        XAddArgs args = new XAddArgs();
+        if (maxLength > 0) {
+            args.maxlen(maxLength).approximateTrimming();
+        }
+        return args;
+    }
+
+    private static Map<byte[], byte[]> binaryFields(Map<String, byte[]> fields) {
+        Map<byte[], byte[]> result = new LinkedHashMap<>();
+        fields.forEach((field, value) -> result.put(bytes(field), value));
+        return result;
+    }
+
+    private static StreamEntry streamEntry(StreamMessage<byte[], byte[]> message) {
+        Map<String, byte[]> fields = new LinkedHashMap<>();
+        if (message.getBody() != null) {
+            message.getBody().forEach((field, value) -> fields.put(new String(field, StandardCharsets.UTF_8), value));
+        }
+        return new StreamEntry(message.getId(), fields);
     }
 
     // ========== Serialization ==========
@@ -629,17 +1035,17 @@ public class LettuceRedisService implements RedisService {
     @Override
     @NotNull
     public <T> Optional<T> get(@NotNull String key, @NotNull Class<T> type, @NotNull RedisSerializer<T> serializer) {
-        return get(key).map(data -> serializer.deserialize(data, type));
+        return getBytes(key.getBytes(StandardCharsets.UTF_8)).map(data -> serializer.deserializeBytes(data, type));
     }
 
     @Override
     public <T> void set(@NotNull String key, @NotNull T value, @NotNull RedisSerializer<T> serializer) {
-        set(key, serializer.serialize(value));
+        setBytes(key.getBytes(StandardCharsets.UTF_8), serializer.serializeBytes(value));
     }
 
     @Override
     public <T> void setex(@NotNull String key, @NotNull T value, @NotNull Duration ttl, @NotNull RedisSerializer<T> serializer) {
-        setex(key, serializer.serialize(value), ttl);
+        setexBytes(key.getBytes(StandardCharsets.UTF_8), serializer.serializeBytes(value), ttl);
     }
 
     // ========== Lifecycle ==========
@@ -649,6 +1055,7 @@ public class LettuceRedisService implements RedisService {
         if (!shutdown) {
             shutdown = true;
             pubSub.unsubscribeAll();
+            disableNearCache();
             provider.close();
         }
     }
@@ -684,80 +1091,6 @@ public class LettuceRedisService implements RedisService {
 
     // ========== Inner Classes ==========
 
-    /**
-     * Lettuce Lua script implementation.
-     */
-    private static class LettuceLuaScript extends RedisLuaScript.AbstractLuaScript {
-        private final LettuceRedisService service;
-
-        LettuceLuaScript(LettuceRedisService service, String script, String sha1) {
-            super(script, sha1);
-            this.service = service;
-        }
-
-        @Override
-        public boolean isLoaded() {
-            List<Boolean> result = service.sync().scriptExists(sha1);
-            return !result.isEmpty() && Boolean.TRUE.equals(result.get(0));
-        }
-
-        @Override
-        @NotNull
-        public CompletableFuture<Boolean> isLoadedAsync() {
-            return service.toCompletableFuture(service.async().scriptExists(sha1))
-                    .thenApply(list -> !list.isEmpty() && Boolean.TRUE.equals(list.get(0)));
-        }
-
-        @Override
-        public void ensureLoaded() {
-            if (!isLoaded()) {
-                service.sync().scriptLoad(script);
-            }
-        }
-
-        @Override
-        @NotNull
-        public CompletableFuture<Void> ensureLoadedAsync() {
-            return isLoadedAsync().thenCompose(loaded -> {
-                if (!loaded) {
-                    return service.toCompletableFuture(service.async().scriptLoad(script))
-                            .thenApply(v -> null);
-                }
-                return CompletableFuture.completedFuture(null);
-            });
-        }
-
-        @Override
-        @Nullable
-        public Object execute(@NotNull List<String> keys, @NotNull List<String> args) {
-            String[] keyArray = keys.toArray(new String[0]);
-            String[] argArray = args.toArray(new String[0]);
-            try {
-                return service.sync().evalsha(sha1, ScriptOutputType.MULTI, keyArray, argArray);
-            } catch (Exception e) {
-                // Script may have been evicted, reload and retry
-                service.sync().scriptLoad(script);
-                return service.sync().evalsha(sha1, ScriptOutputType.MULTI, keyArray, argArray);
-            }
-        }
-
-        @Override
-        @NotNull
-        public CompletableFuture<Object> executeAsync(@NotNull List<String> keys, @NotNull List<String> args) {
-            String[] keyArray = keys.toArray(new String[0]);
-            String[] argArray = args.toArray(new String[0]);
-            return service.toCompletableFuture(
-                    service.async().evalsha(sha1, ScriptOutputType.MULTI, keyArray, argArray)
-            ).exceptionallyCompose(e -> {
-                // Script may have been evicted, reload and retry
-                return service.toCompletableFuture(service.async().scriptLoad(script))
-                        .thenCompose(v -> service.toCompletableFuture(
-                                service.async().evalsha(sha1, ScriptOutputType.MULTI, keyArray, argArray)
-                        ));
-            });
-        }
-    }
-
     /**
      * Lettuce Pub/Sub implementation.
      */
@@ -797,7 +1130,7 @@ public class LettuceRedisService implements RedisService {
             for (String channel : channels) {
                 futures.add(publishAsync(channel, message));
             }
-            return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+            return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]))
                     .thenApply(v -> futures.stream()
                             .mapToLong(f -> f.join())
                             .sum());
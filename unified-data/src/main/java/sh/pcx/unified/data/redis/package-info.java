@@ -20,6 +20,9 @@
  *   <li>{@link sh.pcx.unified.data.redis.KeyNamespace} - Key prefixing utility</li>
  *   <li>{@link sh.pcx.unified.data.redis.RedisPubSub} - Pub/sub messaging</li>
  *   <li>{@link sh.pcx.unified.data.redis.RedisLuaScript} - Lua script execution</li>
+ *   <li>{@link sh.pcx.unified.data.redis.RedisScriptRegistry} - EVALSHA script registry</li>
+ *   <li>{@link sh.pcx.unified.data.redis.RedisBatch} - Pipelined command batches</li>
+ *   <li>{@link sh.pcx.unified.data.redis.RedisNearCache} - Tracked client-side read cache</li>
  * </ul>
  *
  * <h2>Getting Started</h2>
@@ -8,14 +8,14 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.DataInputStream;
-import java.io.DataOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.charset.StandardCharsets;
-import java.util.Arrays;
+import java.util.ArrayDeque;
 import java.util.UUID;
 
 /**
@@ -47,6 +47,24 @@ import java.util.UUID;
  * int bigNum = buffer.readVarInt();
  * }</pre>
  *
+ * <h2>Pooled Buffers</h2>
+ * <p>{@link #acquire()} and {@link #acquireDirect()} hand out buffers from a
+ * small per-thread pool; closing the buffer returns it. Use them for
+ * short-lived scratch buffers to avoid allocating a new array per call:
+ * <pre>{@code
+ * try (BinaryBuffer buffer = BinaryBuffer.acquire()) {
+ *     serializer.toBuffer(value, buffer, context);
+ *     buffer.writeTo(channelBuffer);  // no intermediate byte[]
+ * }
+ * }</pre>
+ * <p>A released buffer must no longer be used, and nothing may keep a view
+ * of its contents (such as {@link #toByteBuffer()} or {@link #readSlice()}).
+ *
+ * <h2>Direct Buffers</h2>
+ * <p>{@link #allocateDirect(int)}, {@link #acquireDirect()} and
+ * {@link #wrap(ByteBuffer)} over a direct buffer keep the data off-heap,
+ * which avoids a copy when handing it to NIO channels.
+ *
  * <h2>Thread Safety</h2>
  * <p>BinaryBuffer is NOT thread-safe. Create separate instances for each thread
  * or synchronize access externally.
@@ -56,19 +74,32 @@ import java.util.UUID;
  * @see BinarySerializer
  * @see CompressedSerializer
  */
-public final class BinaryBuffer {
+public final class BinaryBuffer implements AutoCloseable {
 
     private static final int DEFAULT_CAPACITY = 256;
     private static final int MAX_STRING_LENGTH = 65535;
     private static final int MAX_ARRAY_LENGTH = 1_000_000;
 
-    private byte[] data;
+    private static final int POOLED_CAPACITY = 4096;
+    private static final int MAX_POOLED_CAPACITY = 1 << 20;
+    private static final int MAX_POOLED_PER_THREAD = 4;
+
+    private static final ThreadLocal<ArrayDeque<BinaryBuffer>> HEAP_POOL =
+            ThreadLocal.withInitial(ArrayDeque::new);
+    private static final ThreadLocal<ArrayDeque<BinaryBuffer>> DIRECT_POOL =
+            ThreadLocal.withInitial(ArrayDeque::new);
+
+    // Accessed with absolute get/put only; its own position and limit are unused
+    private ByteBuffer data;
     private int position;
     private int limit;
     private ByteOrder order = ByteOrder.BIG_ENDIAN;
 
-    private BinaryBuffer(byte[] data, int position, int limit) {
-        this.data = data;
+    private boolean pooled;
+    private boolean released;
+
+    private BinaryBuffer(ByteBuffer data, int position, int limit) {
+        this.data = data.order(order);
         this.position = position;
         this.limit = limit;
     }
@@ -96,7 +127,59 @@ public final class BinaryBuffer {
         if (capacity < 0) {
             throw new IllegalArgumentException("Capacity cannot be negative: " + capacity);
         }
-        return new BinaryBuffer(new byte[capacity], 0, 0);
+        return new BinaryBuffer(ByteBuffer.allocate(capacity), 0, 0);
+    }
+
+    /**
+     * Creates a new buffer backed by direct (off-heap) memory.
+     *
+     * @param capacity the initial capacity in bytes
+     * @return a new direct BinaryBuffer
+     * @since 1.0.0
+     */
+    @NotNull
+    public static BinaryBuffer allocateDirect(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be negative: " + capacity);
+        }
+        return new BinaryBuffer(ByteBuffer.allocateDirect(capacity), 0, 0);
+    }
+
+    /**
+     * Takes an empty heap buffer from the calling thread's pool.
+     *
+     * <p>Close or {@link #release()} the buffer when done to return it.
+     *
+     * @return a pooled BinaryBuffer
+     * @since 1.0.0
+     */
+    @NotNull
+    public static BinaryBuffer acquire() {
+        return acquire(HEAP_POOL, false);
+    }
+
+    /**
+     * Takes an empty direct buffer from the calling thread's pool.
+     *
+     * <p>Close or {@link #release()} the buffer when done to return it.
+     *
+     * @return a pooled direct BinaryBuffer
+     * @since 1.0.0
+     */
+    @NotNull
+    public static BinaryBuffer acquireDirect() {
+        return acquire(DIRECT_POOL, true);
+    }
+
+    private static BinaryBuffer acquire(ThreadLocal<ArrayDeque<BinaryBuffer>> pool, boolean direct) {
+        BinaryBuffer buffer = pool.get().pollFirst();
+        if (buffer == null) {
+            buffer = direct ? allocateDirect(POOLED_CAPACITY) : allocate(POOLED_CAPACITY);
+            buffer.pooled = true;
+        }
+        buffer.released = false;
+        buffer.order(ByteOrder.BIG_ENDIAN);
+        return buffer.clear();
     }
 
     /**
@@ -108,7 +191,7 @@ public final class BinaryBuffer {
      */
     @NotNull
     public static BinaryBuffer wrap(byte @NotNull [] data) {
-        return new BinaryBuffer(data.clone(), 0, data.length);
+        return new BinaryBuffer(ByteBuffer.wrap(data.clone()), 0, data.length);
     }
 
     /**
@@ -127,7 +210,23 @@ public final class BinaryBuffer {
         }
         byte[] copy = new byte[length];
         System.arraycopy(data, offset, copy, 0, length);
-        return new BinaryBuffer(copy, 0, length);
+        return new BinaryBuffer(ByteBuffer.wrap(copy), 0, length);
+    }
+
+    /**
+     * Wraps the remaining bytes of a ByteBuffer for reading, without copying.
+     *
+     * <p>The returned buffer shares content with the source, which must not be
+     * modified while the BinaryBuffer is in use. The source's position and
+     * limit are not changed.
+     *
+     * @param source the buffer to wrap
+     * @return a new BinaryBuffer viewing the source
+     * @since 1.0.0
+     */
+    @NotNull
+    public static BinaryBuffer wrap(@NotNull ByteBuffer source) {
+        return new BinaryBuffer(source.slice(), 0, source.remaining());
     }
 
     // ========================================
@@ -144,6 +243,7 @@ public final class BinaryBuffer {
     @NotNull
     public BinaryBuffer order(@NotNull ByteOrder order) {
         this.order = order;
+        this.data.order(order);
         return this;
     }
 
@@ -225,7 +325,17 @@ public final class BinaryBuffer {
      * @since 1.0.0
      */
     public int capacity() {
-        return data.length;
+        return data.capacity();
+    }
+
+    /**
+     * Checks if this buffer is backed by direct (off-heap) memory.
+     *
+     * @return true if direct
+     * @since 1.0.0
+     */
+    public boolean isDirect() {
+        return data.isDirect();
     }
 
     /**
@@ -282,7 +392,7 @@ public final class BinaryBuffer {
     @NotNull
     public BinaryBuffer writeByte(int value) {
         ensureCapacity(1);
-        data[position++] = (byte) value;
+        data.put(position++, (byte) value);
         limit = Math.max(limit, position);
         return this;
     }
@@ -309,13 +419,8 @@ public final class BinaryBuffer {
     @NotNull
     public BinaryBuffer writeShort(int value) {
         ensureCapacity(2);
-        if (order == ByteOrder.BIG_ENDIAN) {
-            data[position++] = (byte) (value >> 8);
-            data[position++] = (byte) value;
-        } else {
-            data[position++] = (byte) value;
-            data[position++] = (byte) (value >> 8);
-        }
+        data.putShort(position, (short) value);
+        position += 2;
         limit = Math.max(limit, position);
         return this;
     }
@@ -330,17 +435,8 @@ public final class BinaryBuffer {
     @NotNull
     public BinaryBuffer writeInt(int value) {
         ensureCapacity(4);
-        if (order == ByteOrder.BIG_ENDIAN) {
-            data[position++] = (byte) (value >> 24);
-            data[position++] = (byte) (value >> 16);
-            data[position++] = (byte) (value >> 8);
-            data[position++] = (byte) value;
-        } else {
-            data[position++] = (byte) value;
-            data[position++] = (byte) (value >> 8);
-            data[position++] = (byte) (value >> 16);
-            data[position++] = (byte) (value >> 24);
-        }
+        data.putInt(position, value);
+        position += 4;
         limit = Math.max(limit, position);
         return this;
     }
@@ -355,25 +451,8 @@ public final class BinaryBuffer {
     @NotNull
     public BinaryBuffer writeLong(long value) {
         ensureCapacity(8);
-        if (order == ByteOrder.BIG_ENDIAN) {
-            data[position++] = (byte) (value >> 56);
-            data[position++] = (byte) (value >> 48);
-            data[position++] = (byte) (value >> 40);
-            data[position++] = (byte) (value >> 32);
-            data[position++] = (byte) (value >> 24);
-            data[position++] = (byte) (value >> 16);
-            data[position++] = (byte) (value >> 8);
-            data[position++] = (byte) value;
-        } else {
-            data[position++] = (byte) value;
-            data[position++] = (byte) (value >> 8);
-            data[position++] = (byte) (value >> 16);
-            data[position++] = (byte) (value >> 24);
-            data[position++] = (byte) (value >> 32);
-            data[position++] = (byte) (value >> 40);
-            data[position++] = (byte) (value >> 48);
-            data[position++] = (byte) (value >> 56);
-        }
+        data.putLong(position, value);
+        position += 8;
         limit = Math.max(limit, position);
         return this;
     }
@@ -415,10 +494,10 @@ public final class BinaryBuffer {
     public BinaryBuffer writeVarInt(int value) {
         ensureCapacity(5);
         while ((value & ~0x7F) != 0) {
-            data[position++] = (byte) ((value & 0x7F) | 0x80);
+            data.put(position++, (byte) ((value & 0x7F) | 0x80));
             value >>>= 7;
         }
-        data[position++] = (byte) value;
+        data.put(position++, (byte) value);
         limit = Math.max(limit, position);
         return this;
     }
@@ -434,10 +513,10 @@ public final class BinaryBuffer {
     public BinaryBuffer writeVarLong(long value) {
         ensureCapacity(10);
         while ((value & ~0x7FL) != 0) {
-            data[position++] = (byte) ((value & 0x7F) | 0x80);
+            data.put(position++, (byte) ((value & 0x7F) | 0x80));
             value >>>= 7;
         }
-        data[position++] = (byte) value;
+        data.put(position++, (byte) value);
         limit = Math.max(limit, position);
         return this;
     }
@@ -456,11 +535,23 @@ public final class BinaryBuffer {
     @NotNull
     public BinaryBuffer writeBytes(byte @NotNull [] bytes) {
         writeVarInt(bytes.length);
-        ensureCapacity(bytes.length);
-        System.arraycopy(bytes, 0, data, position, bytes.length);
-        position += bytes.length;
-        limit = Math.max(limit, position);
-        return this;
+        return writeRawBytes(bytes);
+    }
+
+    /**
+     * Writes the contents of another buffer with length prefix.
+     *
+     * <p>Writes bytes {@code 0} to {@code limit()} of the source, the same
+     * bytes {@link #toByteArray()} would return, without an intermediate array.
+     *
+     * @param source the buffer to copy from
+     * @return this buffer for chaining
+     * @since 1.0.0
+     */
+    @NotNull
+    public BinaryBuffer writeBytes(@NotNull BinaryBuffer source) {
+        writeVarInt(source.limit);
+        return writeRawBytes(source.data.slice(0, source.limit));
     }
 
     /**
@@ -473,12 +564,80 @@ public final class BinaryBuffer {
     @NotNull
     public BinaryBuffer writeRawBytes(byte @NotNull [] bytes) {
         ensureCapacity(bytes.length);
-        System.arraycopy(bytes, 0, data, position, bytes.length);
+        data.put(position, bytes);
         position += bytes.length;
         limit = Math.max(limit, position);
         return this;
     }
 
+    /**
+     * Writes part of a byte array without length prefix.
+     *
+     * @param bytes  the source array
+     * @param offset the offset in the array
+     * @param length the number of bytes to write
+     * @return this buffer for chaining
+     * @since 1.0.0
+     */
+    @NotNull
+    public BinaryBuffer writeRawBytes(byte @NotNull [] bytes, int offset, int length) {
+        ensureCapacity(length);
+        data.put(position, bytes, offset, length);
+        position += length;
+        limit = Math.max(limit, position);
+        return this;
+    }
+
+    /**
+     * Writes the remaining bytes of a ByteBuffer without length prefix.
+     *
+     * <p>The source's position is not changed.
+     *
+     * @param source the bytes to write
+     * @return this buffer for chaining
+     * @since 1.0.0
+     */
+    @NotNull
+    public BinaryBuffer writeRawBytes(@NotNull ByteBuffer source) {
+        int length = source.remaining();
+        ensureCapacity(length);
+        data.put(position, source, source.position(), length);
+        position += length;
+        limit = Math.max(limit, position);
+        return this;
+    }
+
+    /**
+     * Writes everything an input stream provides until its end.
+     *
+     * @param input the stream to drain
+     * @return the number of bytes written
+     * @throws IOException if reading fails
+     * @since 1.0.0
+     */
+    public int writeFrom(@NotNull InputStream input) throws IOException {
+        int total = 0;
+        while (true) {
+            ensureCapacity(Math.max(256, capacity() - position));
+            int read;
+            if (data.hasArray()) {
+                read = input.read(data.array(), data.arrayOffset() + position, capacity() - position);
+            } else {
+                byte[] chunk = new byte[Math.min(8192, capacity() - position)];
+                read = input.read(chunk);
+                if (read > 0) {
+                    data.put(position, chunk, 0, read);
+                }
+            }
+            if (read < 0) {
+                return total;
+            }
+            position += read;
+            limit = Math.max(limit, position);
+            total += read;
+        }
+    }
+
     /**
      * Writes a string as UTF-8 with length prefix.
      *
@@ -550,7 +709,7 @@ public final class BinaryBuffer {
      */
     public byte readByte() {
         checkReadable(1);
-        return data[position++];
+        return data.get(position++);
     }
 
     /**
@@ -581,11 +740,9 @@ public final class BinaryBuffer {
      */
     public short readShort() {
         checkReadable(2);
-        if (order == ByteOrder.BIG_ENDIAN) {
-            return (short) ((data[position++] << 8) | (data[position++] & 0xFF));
-        } else {
-            return (short) ((data[position++] & 0xFF) | (data[position++] << 8));
-        }
+        short value = data.getShort(position);
+        position += 2;
+        return value;
     }
 
     /**
@@ -606,17 +763,9 @@ public final class BinaryBuffer {
      */
     public int readInt() {
         checkReadable(4);
-        if (order == ByteOrder.BIG_ENDIAN) {
-            return ((data[position++] & 0xFF) << 24) |
-                   ((data[position++] & 0xFF) << 16) |
-                   ((data[position++] & 0xFF) << 8) |
-                   (data[position++] & 0xFF);
-        } else {
-            return (data[position++] & 0xFF) |
-                   ((data[position++] & 0xFF) << 8) |
-                   ((data[position++] & 0xFF) << 16) |
-                   ((data[position++] & 0xFF) << 24);
-        }
+        int value = data.getInt(position);
+        position += 4;
+        return value;
     }
 
     /**
@@ -627,25 +776,9 @@ public final class BinaryBuffer {
      */
     public long readLong() {
         checkReadable(8);
-        if (order == ByteOrder.BIG_ENDIAN) {
-            return ((long) (data[position++] & 0xFF) << 56) |
-                   ((long) (data[position++] & 0xFF) << 48) |
-                   ((long) (data[position++] & 0xFF) << 40) |
-                   ((long) (data[position++] & 0xFF) << 32) |
-                   ((long) (data[position++] & 0xFF) << 24) |
-                   ((long) (data[position++] & 0xFF) << 16) |
-                   ((long) (data[position++] & 0xFF) << 8) |
-                   ((long) (data[position++] & 0xFF));
-        } else {
-            return ((long) (data[position++] & 0xFF)) |
-                   ((long) (data[position++] & 0xFF) << 8) |
-                   ((long) (data[position++] & 0xFF) << 16) |
-                   ((long) (data[position++] & 0xFF) << 24) |
-                   ((long) (data[position++] & 0xFF) << 32) |
-                   ((long) (data[position++] & 0xFF) << 40) |
-                   ((long) (data[position++] & 0xFF) << 48) |
-                   ((long) (data[position++] & 0xFF) << 56);
-        }
+        long value = data.getLong(position);
+        position += 8;
+        return value;
     }
 
     /**
@@ -727,11 +860,32 @@ public final class BinaryBuffer {
         }
         checkReadable(length);
         byte[] result = new byte[length];
-        System.arraycopy(data, position, result, 0, length);
+        data.get(position, result);
         position += length;
         return result;
     }
 
+    /**
+     * Reads a length-prefixed byte sequence as a buffer, without copying.
+     *
+     * <p>The returned buffer shares content with this one and is only valid
+     * as long as this buffer is.
+     *
+     * @return a buffer over the bytes
+     * @since 1.0.0
+     */
+    @NotNull
+    public BinaryBuffer readSlice() {
+        int length = readVarInt();
+        if (length < 0 || length > MAX_ARRAY_LENGTH) {
+            throw new SerializationException("Invalid byte array length: " + length);
+        }
+        checkReadable(length);
+        BinaryBuffer slice = new BinaryBuffer(data.slice(position, length), 0, length);
+        position += length;
+        return slice;
+    }
+
     /**
      * Reads a fixed number of raw bytes.
      *
@@ -742,7 +896,7 @@ public final class BinaryBuffer {
     public byte @NotNull [] readRawBytes(int length) {
         checkReadable(length);
         byte[] result = new byte[length];
-        System.arraycopy(data, position, result, 0, length);
+        data.get(position, result);
         position += length;
         return result;
     }
@@ -813,18 +967,22 @@ public final class BinaryBuffer {
      * @since 1.0.0
      */
     public byte @NotNull [] toByteArray() {
-        return Arrays.copyOf(data, limit);
+        byte[] result = new byte[limit];
+        data.get(0, result);
+        return result;
     }
 
     /**
      * Returns a ByteBuffer view of the data.
      *
+     * <p>The view shares content with this buffer; no bytes are copied.
+     *
      * @return a ByteBuffer
      * @since 1.0.0
      */
     @NotNull
     public ByteBuffer toByteBuffer() {
-        return ByteBuffer.wrap(data, 0, limit).order(order);
+        return data.slice(0, limit).order(order);
     }
 
     /**
@@ -835,7 +993,177 @@ public final class BinaryBuffer {
      */
     @NotNull
     public DataInputStream toInputStream() {
-        return new DataInputStream(new ByteArrayInputStream(data, 0, limit));
+        if (data.hasArray()) {
+            return new DataInputStream(new ByteArrayInputStream(data.array(), data.arrayOffset(), limit));
+        }
+        ByteBuffer view = data.slice(0, limit);
+        return new DataInputStream(new InputStream() {
+            @Override
+            public int read() {
+                return view.hasRemaining() ? view.get() & 0xFF : -1;
+            }
+
+            @Override
+            public int read(byte @NotNull [] b, int off, int len) {
+                if (!view.hasRemaining()) {
+                    return -1;
+                }
+                int count = Math.min(len, view.remaining());
+                view.get(b, off, count);
+                return count;
+            }
+        });
+    }
+
+    /**
+     * Copies the buffer contents into a caller-provided ByteBuffer.
+     *
+     * <p>The target's position advances by {@link #limit()} bytes.
+     *
+     * @param target the buffer to write into
+     * @return the number of bytes written
+     * @throws java.nio.BufferOverflowException if the target has insufficient space
+     * @since 1.0.0
+     */
+    public int writeTo(@NotNull ByteBuffer target) {
+        target.put(data.slice(0, limit));
+        return limit;
+    }
+
+    /**
+     * Copies the buffer contents into a caller-provided array.
+     *
+     * @param target the array to write into
+     * @param offset the offset in the array
+     * @return the number of bytes written
+     * @throws IndexOutOfBoundsException if the array has insufficient space
+     * @since 1.0.0
+     */
+    public int writeTo(byte @NotNull [] target, int offset) {
+        data.get(0, target, offset, limit);
+        return limit;
+    }
+
+    /**
+     * Writes the buffer contents to an output stream.
+     *
+     * <p>Heap buffers are written straight from their backing array.
+     *
+     * @param output the stream to write to
+     * @throws IOException if writing fails
+     * @since 1.0.0
+     */
+    public void writeTo(@NotNull OutputStream output) throws IOException {
+        if (data.hasArray()) {
+            output.write(data.array(), data.arrayOffset(), limit);
+            return;
+        }
+        byte[] chunk = new byte[Math.min(8192, Math.max(1, limit))];
+        for (int offset = 0; offset < limit; offset += chunk.length) {
+            int length = Math.min(chunk.length, limit - offset);
+            data.get(offset, chunk, 0, length);
+            output.write(chunk, 0, length);
+        }
+    }
+
+    /**
+     * Returns an output stream that appends to this buffer.
+     *
+     * <p>Useful for feeding stream-based encoders, such as compressors,
+     * straight into the buffer.
+     *
+     * @return an output stream writing at the current position
+     * @since 1.0.0
+     */
+    @NotNull
+    public OutputStream asOutputStream() {
+        return new OutputStream() {
+            @Override
+            public void write(int b) {
+                writeByte(b);
+            }
+
+            @Override
+            public void write(byte @NotNull [] b, int off, int len) {
+                writeRawBytes(ByteBuffer.wrap(b, off, len));
+            }
+        };
+    }
+
+    /**
+     * Returns an input stream that reads the remaining bytes of this buffer.
+     *
+     * <p>Reading from the stream advances this buffer's position, which makes
+     * it suitable for feeding stream-based decoders such as decompressors.
+     *
+     * @return an input stream reading from the current position
+     * @since 1.0.0
+     */
+    @NotNull
+    public InputStream asInputStream() {
+        return new InputStream() {
+            @Override
+            public int read() {
+                return hasRemaining() ? readUnsignedByte() : -1;
+            }
+
+            @Override
+            public int read(byte @NotNull [] b, int off, int len) {
+                if (len == 0) {
+                    return 0;
+                }
+                if (!hasRemaining()) {
+                    return -1;
+                }
+                int count = Math.min(len, remaining());
+                data.get(position, b, off, count);
+                position += count;
+                return count;
+            }
+
+            @Override
+            public int available() {
+                return remaining();
+            }
+        };
+    }
+
+    // ========================================
+    // Pooling
+    // ========================================
+
+    /**
+     * Returns a pooled buffer to the calling thread's pool.
+     *
+     * <p>Has no effect on buffers that were not acquired from a pool, or that
+     * were already released. Buffers that grew very large are dropped
+     * instead of pooled.
+     *
+     * @since 1.0.0
+     */
+    public void release() {
+        if (!pooled || released) {
+            return;
+        }
+        released = true;
+        if (capacity() > MAX_POOLED_CAPACITY) {
+            return;
+        }
+        ArrayDeque<BinaryBuffer> pool = (isDirect() ? DIRECT_POOL : HEAP_POOL).get();
+        if (pool.size() < MAX_POOLED_PER_THREAD) {
+            pool.addFirst(this);
+        }
+    }
+
+    /**
+     * Releases this buffer if it is pooled.
+     *
+     * @since 1.0.0
+     * @see #release()
+     */
+    @Override
+    public void close() {
+        release();
     }
 
     // ========================================
@@ -844,9 +1172,13 @@ public final class BinaryBuffer {
 
     private void ensureCapacity(int bytes) {
         int required = position + bytes;
-        if (required > data.length) {
-            int newCapacity = Math.max(data.length * 2, required);
-            data = Arrays.copyOf(data, newCapacity);
+        if (required > data.capacity()) {
+            int newCapacity = Math.max(data.capacity() * 2, required);
+            ByteBuffer grown = data.isDirect()
+                    ? ByteBuffer.allocateDirect(newCapacity)
+                    : ByteBuffer.allocate(newCapacity);
+            grown.put(0, data, 0, Math.max(limit, position));
+            data = grown.order(order);
         }
     }
 
@@ -6,6 +6,9 @@ package sh.pcx.unified.data.serialization;
 
 import org.jetbrains.annotations.NotNull;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.util.Base64;
 import java.util.Objects;
 
@@ -51,7 +54,8 @@ import java.util.Objects;
  *
  * <h2>Thread Safety</h2>
  * <p>BinarySerializer implementations should be thread-safe as BinaryBuffer
- * instances are created per-operation.
+ * instances are created per-operation. Scratch buffers used by
+ * {@link #toBytes} and {@link #writeTo} come from the calling thread's pool.
  *
  * @param <T> the type of object this serializer handles
  *
@@ -103,8 +107,22 @@ public abstract class BinarySerializer<T> implements Serializer<T> {
 
     @Override
     public byte @NotNull [] toBytes(@NotNull T value, @NotNull SerializationContext context) {
-        BinaryBuffer buffer = BinaryBuffer.allocate(INITIAL_BUFFER_SIZE);
+        try (BinaryBuffer buffer = BinaryBuffer.acquire()) {
+            toBuffer(value, buffer, context);
+            return buffer.toByteArray();
+        }
+    }
+
+    @Override
+    @NotNull
+    public T fromBytes(byte @NotNull [] data, @NotNull SerializationContext context) {
+        // The buffer is only read, so the array can be viewed without copying
+        return fromBuffer(BinaryBuffer.wrap(ByteBuffer.wrap(data)), context);
+    }
 
+    @Override
+    public void toBuffer(@NotNull T value, @NotNull BinaryBuffer buffer,
+                         @NotNull SerializationContext context) {
         // Write header
         writeHeader(buffer, context);
 
@@ -116,14 +134,12 @@ public abstract class BinarySerializer<T> implements Serializer<T> {
         } catch (Exception e) {
             throw SerializationException.serializationFailed(getTargetType(), e);
         }
-
-        return buffer.toByteArray();
     }
 
     @Override
     @NotNull
-    public T fromBytes(byte @NotNull [] data, @NotNull SerializationContext context) {
-        BinaryBuffer buffer = BinaryBuffer.wrap(data);
+    public T fromBuffer(@NotNull BinaryBuffer buffer, @NotNull SerializationContext context) {
+        int start = buffer.position();
 
         // Read and validate header
         readHeader(buffer, context);
@@ -134,8 +150,18 @@ public abstract class BinarySerializer<T> implements Serializer<T> {
         } catch (SerializationException e) {
             throw e;
         } catch (Exception e) {
+            buffer.position(start);
             throw SerializationException.deserializationFailed(getTargetType(),
-                    Base64.getEncoder().encodeToString(data), e);
+                    Base64.getEncoder().encodeToString(buffer.readRawBytes(buffer.remaining())), e);
+        }
+    }
+
+    @Override
+    public void writeTo(@NotNull T value, @NotNull OutputStream output,
+                        @NotNull SerializationContext context) throws IOException {
+        try (BinaryBuffer buffer = BinaryBuffer.acquire()) {
+            toBuffer(value, buffer, context);
+            buffer.writeTo(output);
         }
     }
 
@@ -0,0 +1,488 @@
+/*
+ * Copyright (c) 2025 Supatuck. All rights reserved.
+ * Licensed under the MIT License.
+ */
+package sh.pcx.unified.data.serialization;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import sh.pcx.unified.migration.MigrationProgress;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Migrates a whole table or collection to the current schema version.
+ *
+ * <p>Records are read from a source iterator or stream on the calling thread
+ * and grouped into batches. Each batch is migrated through the compiled
+ * {@link SchemaMigration.Pipeline pipelines} and handed to a sink, with up to
+ * {@code parallelism} batches in flight at once. Reading blocks while that
+ * many batches are pending, so memory use stays bounded however large the
+ * source is.
+ *
+ * <p>Records already at the current version are skipped and never reach the
+ * sink. A record whose migration fails is reported to the failure handler
+ * and left out of its batch; if the sink fails, the whole batch counts as
+ * failed.
+ *
+ * <h2>Example Usage</h2>
+ * <pre>{@code
+ * BulkMigrator<Map<String, Object>> bulk = BulkMigrator.builder(migration, SchemaVersion.of(3))
+ *     .batchSize(500)
+ *     .parallelism(4)
+ *     .onProgress(progress -> logger.info(progress.toSummary()))
+ *     .build();
+ *
+ * try (Stream<VersionedData<Map<String, Object>>> rows = repository.streamAll()) {
+ *     BulkMigrator.Result result = bulk.migrate(rows, repository.count(), repository::saveAll);
+ * }
+ * }</pre>
+ *
+ * <h2>Thread Safety</h2>
+ * <p>BulkMigrator instances are thread-safe and may run several migrations
+ * concurrently. The sink and handlers are called from worker threads.
+ *
+ * @param <T> the type of data being migrated
+ *
+ * @since 1.0.0
+ * @author Supatuck
+ * @see SchemaMigration
+ * @see LazyMigrator
+ */
+public final class BulkMigrator<T> {
+
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+    private final SchemaMigration<T> migration;
+    private final SchemaVersion currentVersion;
+    private final int batchSize;
+    private final int parallelism;
+    private final Executor executor;
+    private final Consumer<MigrationProgress> progressCallback;
+    private final BiConsumer<VersionedData<T>, Throwable> failureHandler;
+
+    private BulkMigrator(Builder<T> builder) {
+        this.migration = builder.migration;
+        this.currentVersion = builder.currentVersion;
+        this.batchSize = builder.batchSize;
+        this.parallelism = builder.parallelism;
+        this.executor = builder.executor;
+        this.progressCallback = builder.progressCallback;
+        this.failureHandler = builder.failureHandler;
+    }
+
+    /**
+     * Creates a builder for a bulk migrator.
+     *
+     * @param migration      the registered migrations
+     * @param currentVersion the version records are migrated to
+     * @param <T>            the type of data being migrated
+     * @return a new builder
+     * @since 1.0.0
+     */
+    @NotNull
+    public static <T> Builder<T> builder(@NotNull SchemaMigration<T> migration,
+                                         @NotNull SchemaVersion currentVersion) {
+        return new Builder<>(migration, currentVersion);
+    }
+
+    // ========================================
+    // Migration
+    // ========================================
+
+    /**
+     * Migrates all records of a stream, closing it afterwards.
+     *
+     * @param source        the records to migrate
+     * @param expectedTotal the number of records if known, for progress; -1 otherwise
+     * @param sink          stores a batch of migrated records
+     * @return the result
+     * @since 1.0.0
+     */
+    @NotNull
+    public Result migrate(@NotNull Stream<VersionedData<T>> source, long expectedTotal,
+                          @NotNull Consumer<List<VersionedData<T>>> sink) {
+        Objects.requireNonNull(source, "source cannot be null");
+        try (source) {
+            return migrate(source.iterator(), expectedTotal, sink);
+        }
+    }
+
+    /**
+     * Migrates all records of an iterable.
+     *
+     * @param source the records to migrate
+     * @param sink   stores a batch of migrated records
+     * @return the result
+     * @since 1.0.0
+     */
+    @NotNull
+    public Result migrate(@NotNull Iterable<VersionedData<T>> source,
+                          @NotNull Consumer<List<VersionedData<T>>> sink) {
+        Objects.requireNonNull(source, "source cannot be null");
+        long expectedTotal = source instanceof Collection<?> collection ? collection.size() : -1;
+        return migrate(source.iterator(), expectedTotal, sink);
+    }
+
+    /**
+     * Migrates all records of an iterator.
+     *
+     * <p>Blocks until every batch has been stored. If the calling thread is
+     * interrupted, no further records are read, the batches in flight are
+     * completed and the result is marked as cancelled.
+     *
+     * @param source        the records to migrate
+     * @param expectedTotal the number of records if known, for progress; -1 otherwise
+     * @param sink          stores a batch of migrated records
+     * @return the result
+     * @since 1.0.0
+     */
+    @NotNull
+    public Result migrate(@NotNull Iterator<VersionedData<T>> source, long expectedTotal,
+                          @NotNull Consumer<List<VersionedData<T>>> sink) {
+        Objects.requireNonNull(source, "source cannot be null");
+        Objects.requireNonNull(sink, "sink cannot be null");
+
+        Run run = new Run(sink, expectedTotal, Instant.now());
+        ExecutorService owned = executor == null ? newWorkerPool() : null;
+        Executor workers = owned != null ? owned : executor;
+        Semaphore slots = new Semaphore(parallelism);
+        boolean cancelled = false;
+
+        try {
+            run.report(MigrationProgress.Phase.PROCESSING, "Migrating records...");
+            List<VersionedData<T>> batch = new ArrayList<>(batchSize);
+            while (source.hasNext()) {
+                batch.add(source.next());
+                if (batch.size() == batchSize || !source.hasNext()) {
+                    try {
+                        slots.acquire();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        run.skipped.addAndGet(batch.size());
+                        cancelled = true;
+                        break;
+                    }
+                    List<VersionedData<T>> submitted = batch;
+                    try {
+                        workers.execute(() -> {
+                            try {
+                                run.process(submitted);
+                            } finally {
+                                slots.release();
+                            }
+                        });
+                    } catch (RuntimeException e) {
+                        slots.release();
+                        throw e;
+                    }
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+
+            // Wait for the batches still in flight
+            slots.acquireUninterruptibly(parallelism);
+            slots.release(parallelism);
+        } finally {
+            if (owned != null) {
+                owned.shutdown();
+            }
+        }
+
+        Result result = run.result(cancelled);
+        run.report(cancelled ? MigrationProgress.Phase.CANCELLED : MigrationProgress.Phase.COMPLETED,
+                cancelled ? "Migration cancelled" : "Migration complete");
+        return result;
+    }
+
+    /**
+     * Migrates all records of a stream on a background thread.
+     *
+     * @param source        the records to migrate
+     * @param expectedTotal the number of records if known, for progress; -1 otherwise
+     * @param sink          stores a batch of migrated records
+     * @return a future completing with the result
+     * @since 1.0.0
+     */
+    @NotNull
+    public CompletableFuture<Result> migrateAsync(@NotNull Stream<VersionedData<T>> source, long expectedTotal,
+                                                  @NotNull Consumer<List<VersionedData<T>>> sink) {
+        return CompletableFuture.supplyAsync(() -> migrate(source, expectedTotal, sink), command -> {
+            Thread thread = new Thread(command, "BulkMigrator-reader-" + THREAD_COUNTER.incrementAndGet());
+            thread.setDaemon(true);
+            thread.start();
+        });
+    }
+
+    // ========================================
+    // Internal Methods
+    // ========================================
+
+    private ExecutorService newWorkerPool() {
+        return Executors.newFixedThreadPool(parallelism, r -> {
+            Thread thread = new Thread(r, "BulkMigrator-" + THREAD_COUNTER.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * State of a single migration run.
+     */
+    private final class Run {
+
+        private final Consumer<List<VersionedData<T>>> sink;
+        private final long expectedTotal;
+        private final Instant startTime;
+
+        private final AtomicLong processed = new AtomicLong();
+        private final AtomicLong migrated = new AtomicLong();
+        private final AtomicLong skipped = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+
+        private Run(Consumer<List<VersionedData<T>>> sink, long expectedTotal, Instant startTime) {
+            this.sink = sink;
+            this.expectedTotal = expectedTotal;
+            this.startTime = startTime;
+        }
+
+        void process(List<VersionedData<T>> batch) {
+            // Pipelines looked up once per source version and batch
+            Map<SchemaVersion, SchemaMigration.Pipeline<T>> pipelines = new HashMap<>();
+            List<VersionedData<T>> upgraded = new ArrayList<>(batch.size());
+            Instant now = Instant.now();
+            int current = 0;
+            int broken = 0;
+
+            for (VersionedData<T> record : batch) {
+                SchemaVersion version = record.getVersion();
+                if (version.equals(currentVersion)) {
+                    current++;
+                    continue;
+                }
+                try {
+                    SchemaMigration.Pipeline<T> pipeline = pipelines.get(version);
+                    if (pipeline == null) {
+                        pipeline = migration.compile(version, currentVersion);
+                        pipelines.put(version, pipeline);
+                    }
+                    upgraded.add(record.toBuilder()
+                            .data(pipeline.apply(record.getData()))
+                            .version(currentVersion)
+                            .modifiedAt(now)
+                            .checksum(null)
+                            .build());
+                } catch (RuntimeException e) {
+                    broken++;
+                    fail(record, e);
+                }
+            }
+
+            if (!upgraded.isEmpty()) {
+                try {
+                    sink.accept(upgraded);
+                    migrated.addAndGet(upgraded.size());
+                } catch (RuntimeException e) {
+                    broken += upgraded.size();
+                    for (VersionedData<T> record : upgraded) {
+                        fail(record, e);
+                    }
+                }
+            }
+
+            skipped.addAndGet(current);
+            failed.addAndGet(broken);
+            processed.addAndGet(batch.size());
+            report(MigrationProgress.Phase.PROCESSING, null);
+        }
+
+        private void fail(VersionedData<T> record, Throwable error) {
+            if (failureHandler != null) {
+                failureHandler.accept(record, error);
+            }
+        }
+
+        void report(MigrationProgress.Phase phase, @Nullable String message) {
+            if (progressCallback == null) {
+                return;
+            }
+            // Serialized so callers observe counts that only grow
+            synchronized (this) {
+                progressCallback.accept(MigrationProgress.builder()
+                        .phase(phase)
+                        .message(message)
+                        .totalCount(expectedTotal < 0 ? 0 : saturate(expectedTotal))
+                        .processedCount(saturate(processed.get()))
+                        .successCount(saturate(migrated.get()))
+                        .failedCount(saturate(failed.get()))
+                        .skippedCount(saturate(skipped.get()))
+                        .startTime(startTime)
+                        .build());
+            }
+        }
+
+        Result result(boolean cancelled) {
+            return new Result(processed.get(), migrated.get(), skipped.get(), failed.get(),
+                    Duration.between(startTime, Instant.now()), cancelled);
+        }
+
+        private static int saturate(long value) {
+            return (int) Math.min(Integer.MAX_VALUE, value);
+        }
+    }
+
+    /**
+     * Outcome of a bulk migration.
+     *
+     * @param processed the number of records read and processed
+     * @param migrated  the number of records migrated and stored
+     * @param skipped   the number of records already current, or not processed after cancellation
+     * @param failed    the number of records that could not be migrated or stored
+     * @param elapsed   the time the migration took
+     * @param cancelled whether the migration was interrupted before reaching the end of the source
+     * @since 1.0.0
+     */
+    public record Result(
+            long processed,
+            long migrated,
+            long skipped,
+            long failed,
+            @NotNull Duration elapsed,
+            boolean cancelled
+    ) {
+
+        /**
+         * Checks whether every record was processed without failures.
+         *
+         * @return true if the migration completed without failures
+         * @since 1.0.0
+         */
+        public boolean isSuccess() {
+            return failed == 0 && !cancelled;
+        }
+    }
+
+    /**
+     * Builder for {@link BulkMigrator}.
+     *
+     * @param <T> the type of data being migrated
+     * @since 1.0.0
+     */
+    public static final class Builder<T> {
+
+        private final SchemaMigration<T> migration;
+        private final SchemaVersion currentVersion;
+        private int batchSize = 500;
+        private int parallelism = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+        private Executor executor;
+        private Consumer<MigrationProgress> progressCallback;
+        private BiConsumer<VersionedData<T>, Throwable> failureHandler;
+
+        private Builder(SchemaMigration<T> migration, SchemaVersion currentVersion) {
+            this.migration = Objects.requireNonNull(migration, "migration cannot be null");
+            this.currentVersion = Objects.requireNonNull(currentVersion, "currentVersion cannot be null");
+        }
+
+        /**
+         * Sets the number of records per batch handed to the sink.
+         *
+         * @param batchSize the batch size
+         * @return this builder
+         * @since 1.0.0
+         */
+        @NotNull
+        public Builder<T> batchSize(int batchSize) {
+            if (batchSize < 1) {
+                throw new IllegalArgumentException("batchSize must be positive");
+            }
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of batches processed at once.
+         *
+         * @param parallelism the parallelism
+         * @return this builder
+         * @since 1.0.0
+         */
+        @NotNull
+        public Builder<T> parallelism(int parallelism) {
+            if (parallelism < 1) {
+                throw new IllegalArgumentException("parallelism must be positive");
+            }
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * Sets the executor that runs batches.
+         *
+         * <p>By default each run uses its own pool of {@code parallelism} threads.
+         *
+         * @param executor the executor
+         * @return this builder
+         * @since 1.0.0
+         */
+        @NotNull
+        public Builder<T> executor(@Nullable Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Sets a callback receiving progress after every batch.
+         *
+         * @param callback the progress callback
+         * @return this builder
+         * @since 1.0.0
+         */
+        @NotNull
+        public Builder<T> onProgress(@Nullable Consumer<MigrationProgress> callback) {
+            this.progressCallback = callback;
+            return this;
+        }
+
+        /**
+         * Sets a handler for records that could not be migrated or stored.
+         *
+         * @param handler receives the record and the failure
+         * @return this builder
+         * @since 1.0.0
+         */
+        @NotNull
+        public Builder<T> onFailure(@Nullable BiConsumer<VersionedData<T>, Throwable> handler) {
+            this.failureHandler = handler;
+            return this;
+        }
+
+        /**
+         * Builds the bulk migrator.
+         *
+         * @return the bulk migrator
+         * @since 1.0.0
+         */
+        @NotNull
+        public BulkMigrator<T> build() {
+            return new BulkMigrator<>(this);
+        }
+    }
+}
@@ -385,20 +385,18 @@ public final class ChunkSerializer implements Serializer<Map<String, Object>> {
 
     @NotNull
     private String serializeToJson(@NotNull Map<String, Object> value, @NotNull SerializationContext context) {
-        StringBuilder json = new StringBuilder("{");
-        boolean first = true;
+        StringBuilder json = new StringBuilder(48);
+        JsonWriter writer = JsonWriter.to(json, context.isPrettyPrint()).beginObject();
 
         String world = (String) value.get(KEY_WORLD);
         if (world != null) {
-            json.append("\"world\":\"").append(world).append("\"");
-            first = false;
+            writer.name(KEY_WORLD).value(world);
         }
 
-        if (!first) json.append(",");
-        json.append("\"x\":").append(getInt(value, KEY_X, 0));
-        json.append(",\"z\":").append(getInt(value, KEY_Z, 0));
+        writer.name(KEY_X).value(getInt(value, KEY_X, 0));
+        writer.name(KEY_Z).value(getInt(value, KEY_Z, 0));
 
-        json.append("}");
+        writer.endObject();
         return json.toString();
     }
 
@@ -406,24 +404,17 @@ public final class ChunkSerializer implements Serializer<Map<String, Object>> {
     private Map<String, Object> deserializeFromJson(@NotNull String json, @NotNull SerializationContext context) {
         Map<String, Object> result = new LinkedHashMap<>();
 
-        json = json.trim();
-        if (json.startsWith("{") && json.endsWith("}")) {
-            json = json.substring(1, json.length() - 1);
-        }
-
-        for (String part : json.split(",")) {
-            part = part.trim();
-            int colonIndex = part.indexOf(":");
-            if (colonIndex > 0) {
-                String key = part.substring(0, colonIndex).trim().replace("\"", "");
-                String valueStr = part.substring(colonIndex + 1).trim().replace("\"", "");
-
-                switch (key) {
-                    case KEY_WORLD -> result.put(KEY_WORLD, valueStr);
-                    case KEY_X, KEY_Z -> result.put(key, Integer.parseInt(valueStr));
-                }
+        JsonReader reader = JsonReader.of(json);
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String key = reader.nextName();
+            switch (key) {
+                case KEY_WORLD -> result.put(KEY_WORLD, reader.nextString());
+                case KEY_X, KEY_Z -> result.put(key, reader.nextInt());
+                default -> reader.skipValue();
             }
         }
+        reader.endObject();
 
         return result;
     }
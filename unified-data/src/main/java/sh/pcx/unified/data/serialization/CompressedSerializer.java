@@ -5,30 +5,42 @@
 package sh.pcx.unified.data.serialization;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.Base64;
 import java.util.Objects;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
 import java.util.zip.Deflater;
-import java.util.zip.DeflaterOutputStream;
-import java.util.zip.GZIPInputStream;
-import java.util.zip.GZIPOutputStream;
-import java.util.zip.InflaterInputStream;
+import java.util.zip.Inflater;
 
 /**
  * Serializer wrapper that adds compression to binary data.
  *
  * <p>CompressedSerializer wraps another serializer and applies compression
- * to the output. Supports GZIP and LZ4 compression algorithms.
+ * to the output. Supports GZIP, DEFLATE and LZ4 compression algorithms.
  *
  * <h2>Compression Types</h2>
  * <ul>
  *   <li><b>GZIP:</b> Good compression ratio, widely compatible</li>
- *   <li><b>LZ4:</b> Fast compression/decompression, moderate ratio (simulated with DEFLATE)</li>
+ *   <li><b>DEFLATE:</b> Same ratio as GZIP with less framing</li>
+ *   <li><b>LZ4:</b> Fast compression/decompression, moderate ratio; best for
+ *       Redis and network payloads</li>
  * </ul>
  *
+ * <h2>Dictionaries</h2>
+ * <p>Many small, similar payloads (such as individual items) compress far
+ * better with a shared {@link CompressionDictionary}. LZ4 and DEFLATE use the
+ * dictionary directly; GZIP cannot carry one, so a GZIP serializer with a
+ * dictionary writes DEFLATE instead.
+ *
+ * <h2>Format</h2>
+ * <p>Every payload starts with a header byte naming the codec, followed by
+ * the dictionary id if a dictionary was used, so data can be read back
+ * regardless of how the reading serializer is configured, as long as it
+ * knows the dictionary. Payloads written by earlier versions remain readable.
+ *
  * <h2>Example Usage</h2>
  * <pre>{@code
  * // Wrap an existing serializer with GZIP compression
@@ -44,30 +56,50 @@ import java.util.zip.InflaterInputStream;
  *
  * <h2>Thread Safety</h2>
  * <p>CompressedSerializer is thread-safe if the wrapped serializer is thread-safe.
+ * Compressor and decompressor state is kept per thread and reused across calls.
  *
  * @param <T> the type of object this serializer handles
  *
  * @since 1.0.0
  * @author Supatuck
  * @see BinarySerializer
+ * @see CompressionDictionary
  * @see SerializationContext.CompressionType
  */
 public final class CompressedSerializer<T> implements Serializer<T> {
 
-    private static final byte[] GZIP_MAGIC = { 0x1F, (byte) 0x8B };
     private static final int COMPRESSION_THRESHOLD = 256; // Minimum size before compression
 
+    // Header byte: codec id, plus a flag when followed by a dictionary id
+    private static final int STORED = 0;
+    private static final int LEGACY = 1; // GZIP or zlib stream, written by earlier versions
+    private static final int GZIP = 2;
+    private static final int LZ4 = 3;
+    private static final int DEFLATE = 4;
+    private static final int FLAG_DICTIONARY = 0x80;
+
+    private static final int GZIP_MAGIC = 0x8B1F;
+    private static final int GZIP_FEXTRA = 4;
+    private static final int GZIP_FNAME = 8;
+    private static final int GZIP_FCOMMENT = 16;
+    private static final int GZIP_FHCRC = 2;
+
+    private static final ThreadLocal<DeflateContext> DEFLATE_CONTEXTS =
+            ThreadLocal.withInitial(DeflateContext::new);
+
     private final Serializer<T> delegate;
     private final SerializationContext.CompressionType compressionType;
     private final int compressionLevel;
     private final int threshold;
+    private final CompressionDictionary dictionary;
 
     private CompressedSerializer(Serializer<T> delegate, SerializationContext.CompressionType compressionType,
-                                 int compressionLevel, int threshold) {
+                                 int compressionLevel, int threshold, @Nullable CompressionDictionary dictionary) {
         this.delegate = Objects.requireNonNull(delegate, "delegate cannot be null");
         this.compressionType = Objects.requireNonNull(compressionType, "compressionType cannot be null");
         this.compressionLevel = compressionLevel;
         this.threshold = threshold;
+        this.dictionary = dictionary;
     }
 
     /**
@@ -81,11 +113,11 @@ public final class CompressedSerializer<T> implements Serializer<T> {
     @NotNull
     public static <T> CompressedSerializer<T> gzip(@NotNull Serializer<T> delegate) {
         return new CompressedSerializer<>(delegate, SerializationContext.CompressionType.GZIP,
-                Deflater.DEFAULT_COMPRESSION, COMPRESSION_THRESHOLD);
+                Deflater.DEFAULT_COMPRESSION, COMPRESSION_THRESHOLD, null);
     }
 
     /**
-     * Creates an LZ4-style compressed serializer (using fast DEFLATE).
+     * Creates an LZ4-compressed serializer.
      *
      * @param delegate the serializer to wrap
      * @param <T>      the type
@@ -95,7 +127,7 @@ public final class CompressedSerializer<T> implements Serializer<T> {
     @NotNull
     public static <T> CompressedSerializer<T> lz4(@NotNull Serializer<T> delegate) {
         return new CompressedSerializer<>(delegate, SerializationContext.CompressionType.LZ4,
-                Deflater.BEST_SPEED, COMPRESSION_THRESHOLD);
+                Deflater.BEST_SPEED, COMPRESSION_THRESHOLD, null);
     }
 
     /**
@@ -103,7 +135,7 @@ public final class CompressedSerializer<T> implements Serializer<T> {
      *
      * @param delegate    the serializer to wrap
      * @param compression the compression type
-     * @param level       the compression level (1-9 for GZIP)
+     * @param level       the compression level (1-9 for GZIP and DEFLATE; ignored by LZ4)
      * @param threshold   minimum size for compression (smaller data is stored uncompressed)
      * @param <T>         the type
      * @return a compressed serializer
@@ -113,7 +145,7 @@ public final class CompressedSerializer<T> implements Serializer<T> {
     public static <T> CompressedSerializer<T> create(@NotNull Serializer<T> delegate,
                                                       @NotNull SerializationContext.CompressionType compression,
                                                       int level, int threshold) {
-        return new CompressedSerializer<>(delegate, compression, level, threshold);
+        return new CompressedSerializer<>(delegate, compression, level, threshold, null);
     }
 
     /**
@@ -153,40 +185,108 @@ public final class CompressedSerializer<T> implements Serializer<T> {
 
     @Override
     public byte @NotNull [] toBytes(@NotNull T value, @NotNull SerializationContext context) {
-        // Get uncompressed data from delegate
-        byte[] uncompressed = delegate.toBytes(value, context);
-
-        // Skip compression for small data
-        if (uncompressed.length < threshold) {
-            return addHeader(uncompressed, false);
+        try (BinaryBuffer buffer = BinaryBuffer.acquire()) {
+            toBuffer(value, buffer, context);
+            return buffer.toByteArray();
         }
+    }
 
-        // Compress data
-        byte[] compressed = compress(uncompressed);
+    @Override
+    @NotNull
+    public T fromBytes(byte @NotNull [] data, @NotNull SerializationContext context) {
+        return fromBuffer(BinaryBuffer.wrap(ByteBuffer.wrap(data)), context);
+    }
 
-        // Use compressed only if it's actually smaller
-        if (compressed.length < uncompressed.length) {
-            return addHeader(compressed, true);
-        }
+    @Override
+    public void toBuffer(@NotNull T value, @NotNull BinaryBuffer buffer,
+                         @NotNull SerializationContext context) {
+        try (BinaryBuffer uncompressed = BinaryBuffer.acquire()) {
+            // Get uncompressed data from delegate
+            delegate.toBuffer(value, uncompressed, context);
+
+            // Skip compression for small data
+            int codec = codec();
+            if (uncompressed.limit() >= threshold && codec != STORED) {
+                try (BinaryBuffer compressed = BinaryBuffer.acquire()) {
+                    writeHeader(compressed, codec);
+                    switch (codec) {
+                        case LZ4 -> {
+                            Lz4Codec lz4 = Lz4Codec.get();
+                            int length = lz4.compress(uncompressed.toByteBuffer(), dictionary);
+                            compressed.writeVarInt(uncompressed.limit());
+                            compressed.writeRawBytes(lz4.output(), 0, length);
+                        }
+                        case GZIP -> gzip(uncompressed.toByteBuffer(), compressed);
+                        default -> deflate(uncompressed.toByteBuffer(), compressed);
+                    }
+
+                    // Use compressed only if it's actually smaller than storing
+                    int storedSize = uncompressed.limit() + 1;
+                    if (compressed.limit() < storedSize) {
+                        buffer.writeRawBytes(compressed.toByteBuffer());
+                        return;
+                    }
+                }
+            }
 
-        return addHeader(uncompressed, false);
+            buffer.writeByte(STORED);
+            buffer.writeRawBytes(uncompressed.toByteBuffer());
+        }
     }
 
     @Override
     @NotNull
-    public T fromBytes(byte @NotNull [] data, @NotNull SerializationContext context) {
-        if (data.length < 2) {
+    public T fromBuffer(@NotNull BinaryBuffer buffer, @NotNull SerializationContext context) {
+        if (buffer.remaining() < 2) {
             throw new SerializationException("Data too short for compressed format");
         }
 
-        boolean isCompressed = readHeader(data);
-        byte[] payload = extractPayload(data);
+        int header = buffer.readUnsignedByte();
+        CompressionDictionary used = null;
+        if ((header & FLAG_DICTIONARY) != 0) {
+            int id = buffer.readInt();
+            if (dictionary == null || dictionary.getId() != id) {
+                throw new SerializationException("Data was compressed with unknown dictionary "
+                        + Integer.toHexString(id));
+            }
+            used = dictionary;
+        }
 
-        if (isCompressed) {
-            payload = decompress(payload);
+        int codec = header & ~FLAG_DICTIONARY;
+        if (codec == STORED) {
+            return delegate.fromBuffer(buffer, context);
         }
 
-        return delegate.fromBytes(payload, context);
+        try (BinaryBuffer decompressed = BinaryBuffer.acquire()) {
+            switch (codec) {
+                case LZ4 -> {
+                    int size = buffer.readVarInt();
+                    // LZ4 cannot expand a block more than 255 times
+                    if (size < 0 || (long) size > (long) buffer.remaining() * 255) {
+                        throw new SerializationException("Invalid LZ4 content size: " + size);
+                    }
+                    Lz4Codec lz4 = Lz4Codec.get();
+                    int offset = lz4.decompress(remainingView(buffer), used, size);
+                    decompressed.writeRawBytes(lz4.output(), offset, size);
+                    buffer.position(buffer.limit());
+                }
+                case GZIP -> gunzip(buffer, decompressed);
+                case DEFLATE -> inflate(buffer, decompressed, used, false);
+                case LEGACY -> {
+                    // Auto-detect compression type from data
+                    int start = buffer.position();
+                    boolean isGzip = buffer.readUnsignedByte() == 0x1F && buffer.readUnsignedByte() == 0x8B;
+                    buffer.position(start);
+                    if (isGzip) {
+                        gunzip(buffer, decompressed);
+                    } else {
+                        inflate(buffer, decompressed, null, false);
+                    }
+                }
+                default -> throw new SerializationException("Unknown compression codec: " + codec);
+            }
+            return delegate.fromBuffer(decompressed.rewind(), context);
+        }
     }
 
     @Override
@@ -224,78 +324,183 @@ public final class CompressedSerializer<T> implements Serializer<T> {
         return compressionType;
     }
 
+    /**
+     * Returns the compression dictionary.
+     *
+     * @return the dictionary, or null if none is used
+     * @since 1.0.0
+     */
+    @Nullable
+    public CompressionDictionary getDictionary() {
+        return dictionary;
+    }
+
     // ========================================
     // Internal Methods
     // ========================================
 
-    private byte[] compress(byte[] data) {
+    private int codec() {
+        return switch (compressionType) {
+            case NONE -> STORED;
+            case LZ4 -> LZ4;
+            case GZIP -> dictionary == null ? GZIP : DEFLATE;
+            case DEFLATE -> DEFLATE;
+        };
+    }
+
+    private void writeHeader(BinaryBuffer target, int codec) {
+        if (dictionary != null && codec != GZIP) {
+            target.writeByte(codec | FLAG_DICTIONARY);
+            target.writeInt(dictionary.getId());
+        } else {
+            target.writeByte(codec);
+        }
+    }
+
+    private void deflate(ByteBuffer source, BinaryBuffer target) {
+        DeflateContext ctx = DEFLATE_CONTEXTS.get();
+        Deflater deflater = ctx.zlibDeflater;
         try {
-            ByteArrayOutputStream baos = new ByteArrayOutputStream(data.length);
-
-            switch (compressionType) {
-                case GZIP -> {
-                    try (GZIPOutputStream gzip = new GZIPOutputStream(baos) {
-                        { def.setLevel(compressionLevel); }
-                    }) {
-                        gzip.write(data);
-                    }
-                }
-                case LZ4 -> {
-                    // Use DEFLATE with fast settings as LZ4 approximation
-                    Deflater deflater = new Deflater(compressionLevel);
-                    try (DeflaterOutputStream dos = new DeflaterOutputStream(baos, deflater)) {
-                        dos.write(data);
-                    }
-                }
-                default -> {
-                    return data;
-                }
+            deflater.setLevel(compressionLevel);
+            if (dictionary != null) {
+                deflater.setDictionary(dictionary.tail(Integer.MAX_VALUE));
             }
+            drain(deflater, source, target, ctx.chunk);
+        } finally {
+            deflater.reset();
+        }
+    }
 
-            return baos.toByteArray();
-        } catch (IOException e) {
-            throw new SerializationException("Compression failed", e);
+    private void gzip(ByteBuffer source, BinaryBuffer target) {
+        DeflateContext ctx = DEFLATE_CONTEXTS.get();
+        Deflater deflater = ctx.rawDeflater;
+        CRC32 crc = ctx.crc;
+        try {
+            target.writeByte(GZIP_MAGIC);
+            target.writeByte(GZIP_MAGIC >> 8);
+            target.writeByte(Deflater.DEFLATED);
+            target.writeByte(0);  // flags
+            target.writeInt(0);   // modification time
+            target.writeByte(0);  // extra flags
+            target.writeByte(0xFF); // unknown OS
+
+            crc.reset();
+            crc.update(source.duplicate());
+            deflater.setLevel(compressionLevel);
+            drain(deflater, source, target, ctx.chunk);
+
+            writeIntLE(target, (int) crc.getValue());
+            writeIntLE(target, source.remaining());
+        } finally {
+            deflater.reset();
         }
     }
 
-    private byte[] decompress(byte[] data) {
+    private static void drain(Deflater deflater, ByteBuffer source, BinaryBuffer target, byte[] chunk) {
+        deflater.setInput(source.duplicate());
+        deflater.finish();
+        while (!deflater.finished()) {
+            int length = deflater.deflate(chunk);
+            target.writeRawBytes(chunk, 0, length);
+        }
+    }
+
+    private void gunzip(BinaryBuffer source, BinaryBuffer target) {
+        int magic = source.readUnsignedByte() | source.readUnsignedByte() << 8;
+        if (magic != GZIP_MAGIC || source.readUnsignedByte() != Deflater.DEFLATED) {
+            throw new SerializationException("Decompression failed: not in GZIP format");
+        }
+        int flags = source.readUnsignedByte();
+        source.position(source.position() + 6);
+        if ((flags & GZIP_FEXTRA) != 0) {
+            int length = source.readUnsignedByte() | source.readUnsignedByte() << 8;
+            source.position(source.position() + length);
+        }
+        if ((flags & GZIP_FNAME) != 0) {
+            while (source.readByte() != 0) {
+                // Skip file name
+            }
+        }
+        if ((flags & GZIP_FCOMMENT) != 0) {
+            while (source.readByte() != 0) {
+                // Skip comment
+            }
+        }
+        if ((flags & GZIP_FHCRC) != 0) {
+            source.position(source.position() + 2);
+        }
+
+        int start = target.position();
+        inflate(source, target, null, true);
+
+        CRC32 crc = DEFLATE_CONTEXTS.get().crc;
+        crc.reset();
+        crc.update(target.toByteBuffer().position(start));
+        int expectedCrc = readIntLE(source);
+        int expectedSize = readIntLE(source);
+        if (expectedCrc != (int) crc.getValue() || expectedSize != target.position() - start) {
+            throw new SerializationException("Decompression failed: corrupt GZIP data");
+        }
+    }
+
+    private static void inflate(BinaryBuffer source, BinaryBuffer target,
+                                @Nullable CompressionDictionary dictionary, boolean raw) {
+        DeflateContext ctx = DEFLATE_CONTEXTS.get();
+        Inflater inflater = raw ? ctx.rawInflater : ctx.zlibInflater;
         try {
-            ByteArrayInputStream bais = new ByteArrayInputStream(data);
-            ByteArrayOutputStream baos = new ByteArrayOutputStream(data.length * 2);
-
-            // Auto-detect compression type from data
-            boolean isGzip = data.length >= 2 &&
-                    (data[0] & 0xFF) == 0x1F && (data[1] & 0xFF) == 0x8B;
-
-            try (var input = isGzip ? new GZIPInputStream(bais) : new InflaterInputStream(bais)) {
-                byte[] buffer = new byte[8192];
-                int read;
-                while ((read = input.read(buffer)) != -1) {
-                    baos.write(buffer, 0, read);
+            ByteBuffer input = remainingView(source);
+            int available = input.remaining();
+            inflater.setInput(input);
+            while (!inflater.finished()) {
+                int length = inflater.inflate(ctx.chunk);
+                if (length == 0) {
+                    if (inflater.needsDictionary()) {
+                        if (dictionary == null) {
+                            throw new SerializationException("Decompression failed: data needs a dictionary");
+                        }
+                        inflater.setDictionary(dictionary.tail(Integer.MAX_VALUE));
+                    } else if (inflater.needsInput()) {
+                        throw new SerializationException("Decompression failed: truncated data");
+                    }
                 }
+                target.writeRawBytes(ctx.chunk, 0, length);
             }
-
-            return baos.toByteArray();
-        } catch (IOException e) {
+            source.position(source.position() + available - inflater.getRemaining());
+        } catch (DataFormatException e) {
             throw new SerializationException("Decompression failed", e);
+        } finally {
+            inflater.reset();
         }
     }
 
-    private byte[] addHeader(byte[] data, boolean compressed) {
-        byte[] result = new byte[data.length + 1];
-        result[0] = (byte) (compressed ? 1 : 0);
-        System.arraycopy(data, 0, result, 1, data.length);
-        return result;
+    private static void writeIntLE(BinaryBuffer buffer, int value) {
+        buffer.writeByte(value);
+        buffer.writeByte(value >> 8);
+        buffer.writeByte(value >> 16);
+        buffer.writeByte(value >> 24);
     }
 
-    private boolean readHeader(byte[] data) {
-        return data[0] == 1;
+    private static int readIntLE(BinaryBuffer buffer) {
+        return buffer.readUnsignedByte()
+                | buffer.readUnsignedByte() << 8
+                | buffer.readUnsignedByte() << 16
+                | buffer.readUnsignedByte() << 24;
     }
 
-    private byte[] extractPayload(byte[] data) {
-        byte[] payload = new byte[data.length - 1];
-        System.arraycopy(data, 1, payload, 0, payload.length);
-        return payload;
+    private static ByteBuffer remainingView(BinaryBuffer buffer) {
+        return buffer.toByteBuffer().position(buffer.position());
+    }
+
+    /**
+     * Reusable per-thread compression state.
+     */
+    private static final class DeflateContext {
+        final Deflater zlibDeflater = new Deflater();
+        final Deflater rawDeflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        final Inflater zlibInflater = new Inflater();
+        final Inflater rawInflater = new Inflater(true);
+        final CRC32 crc = new CRC32();
+        final byte[] chunk = new byte[8192];
     }
 
     /**
@@ -309,6 +514,7 @@ public final class CompressedSerializer<T> implements Serializer<T> {
         private SerializationContext.CompressionType compressionType = SerializationContext.CompressionType.GZIP;
         private int compressionLevel = Deflater.DEFAULT_COMPRESSION;
         private int threshold = COMPRESSION_THRESHOLD;
+        private CompressionDictionary dictionary;
 
         private Builder(Serializer<T> delegate) {
             this.delegate = delegate;
@@ -330,6 +536,8 @@ public final class CompressedSerializer<T> implements Serializer<T> {
         /**
          * Sets the compression level (1-9, or -1 for default).
          *
+         * <p>Applies to GZIP and DEFLATE; LZ4 has a single, fast level.
+         *
          * @param level the compression level
          * @return this builder
          * @since 1.0.0
@@ -353,6 +561,24 @@ public final class CompressedSerializer<T> implements Serializer<T> {
             return this;
         }
 
+        /**
+         * Sets a dictionary to compress with.
+         *
+         * <p>Data compressed with a dictionary can only be read by a serializer
+         * configured with the same dictionary. A dictionary makes compression
+         * worthwhile for much smaller payloads, so consider lowering the
+         * {@link #threshold(int) threshold} too.
+         *
+         * @param dictionary the dictionary, or null for none
+         * @return this builder
+         * @since 1.0.0
+         */
+        @NotNull
+        public Builder<T> dictionary(@Nullable CompressionDictionary dictionary) {
+            this.dictionary = dictionary;
+            return this;
+        }
+
         /**
          * Uses best speed compression settings.
          *
@@ -385,7 +611,7 @@ public final class CompressedSerializer<T> implements Serializer<T> {
          */
         @NotNull
         public CompressedSerializer<T> build() {
-            return new CompressedSerializer<>(delegate, compressionType, compressionLevel, threshold);
+            return new CompressedSerializer<>(delegate, compressionType, compressionLevel, threshold, dictionary);
         }
     }
 }
@@ -0,0 +1,284 @@
+/*
+ * Copyright (c) 2025 Supatuck. All rights reserved.
+ * Licensed under the MIT License.
+ */
+package sh.pcx.unified.data.serialization;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.zip.CRC32;
+
+/**
+ * Shared compression dictionary for many small, similar payloads.
+ *
+ * <p>Small payloads such as individual item stacks compress poorly on their
+ * own because every one of them repeats the same keys and identifiers. A
+ * dictionary holds that common content once; compressors then encode each
+ * payload as references into it.
+ *
+ * <p>Dictionaries are identified by a 32-bit id derived from their content.
+ * The id is stored in every payload compressed with the dictionary, so the
+ * same dictionary must be configured to read the data back.
+ *
+ * <h2>Example Usage</h2>
+ * <pre>{@code
+ * // Train once from representative payloads and persist the result
+ * CompressionDictionary dictionary = CompressionDictionary.train(
+ *     itemSerializer, sampleItems, SerializationContext.binary(), 16 * 1024);
+ * Files.write(path, dictionary.toByteArray());
+ *
+ * // Later, load it and compress with it
+ * Serializer<Map<String, Object>> compressed = CompressedSerializer.builder(itemSerializer)
+ *     .compression(CompressionType.LZ4)
+ *     .dictionary(CompressionDictionary.of(Files.readAllBytes(path)))
+ *     .build();
+ * }</pre>
+ *
+ * @since 1.0.0
+ * @author Supatuck
+ * @see CompressedSerializer
+ */
+public final class CompressionDictionary {
+
+    /**
+     * A good default size for trained dictionaries, in bytes.
+     */
+    public static final int DEFAULT_SIZE = 16 * 1024;
+
+    private static final int DMER_LENGTH = 8;
+    private static final int SEGMENT_LENGTH = 64;
+    private static final int COUNT_TABLE_BITS = 20;
+
+    private final byte[] content;
+    private final int id;
+    private volatile byte[] tail;
+
+    private CompressionDictionary(byte[] content) {
+        this.content = content;
+        CRC32 crc = new CRC32();
+        crc.update(content);
+        int checksum = (int) crc.getValue();
+        this.id = checksum == 0 ? 1 : checksum;
+    }
+
+    /**
+     * Creates a dictionary from raw content.
+     *
+     * @param content the dictionary content
+     * @return a new dictionary
+     * @since 1.0.0
+     */
+    @NotNull
+    public static CompressionDictionary of(byte @NotNull [] content) {
+        Objects.requireNonNull(content, "content cannot be null");
+        if (content.length == 0) {
+            throw new IllegalArgumentException("Dictionary content cannot be empty");
+        }
+        return new CompressionDictionary(content.clone());
+    }
+
+    /**
+     * Trains a dictionary from serialized sample values.
+     *
+     * @param serializer the serializer producing the payloads
+     * @param samples    representative values
+     * @param context    the context to serialize with
+     * @param maxSize    the maximum dictionary size in bytes
+     * @param <T>        the value type
+     * @return the trained dictionary
+     * @since 1.0.0
+     */
+    @NotNull
+    public static <T> CompressionDictionary train(@NotNull Serializer<T> serializer,
+                                                  @NotNull Collection<? extends T> samples,
+                                                  @NotNull SerializationContext context, int maxSize) {
+        Objects.requireNonNull(serializer, "serializer cannot be null");
+        Objects.requireNonNull(samples, "samples cannot be null");
+        List<byte[]> payloads = new ArrayList<>(samples.size());
+        for (T sample : samples) {
+            payloads.add(serializer.toBytes(sample, context));
+        }
+        return train(payloads, maxSize);
+    }
+
+    /**
+     * Trains a dictionary from sample payloads.
+     *
+     * <p>The samples are split into epochs and, from each, the segment whose
+     * 8-byte substrings occur in the most samples is selected. Selected
+     * substrings stop counting towards later segments. The best segments are
+     * placed last, where they are cheapest to reference.
+     *
+     * @param samples the sample payloads; more samples give a better result
+     * @param maxSize the maximum dictionary size in bytes
+     * @return the trained dictionary
+     * @throws IllegalArgumentException if the samples are too small to train on
+     * @since 1.0.0
+     */
+    @NotNull
+    public static CompressionDictionary train(@NotNull Collection<byte[]> samples, int maxSize) {
+        Objects.requireNonNull(samples, "samples cannot be null");
+        if (maxSize < SEGMENT_LENGTH) {
+            throw new IllegalArgumentException("Dictionary size must be at least " + SEGMENT_LENGTH);
+        }
+
+        int total = 0;
+        for (byte[] sample : samples) {
+            total += sample.length;
+        }
+        if (total < SEGMENT_LENGTH) {
+            throw new IllegalArgumentException("Not enough sample data to train a dictionary");
+        }
+        byte[] data = new byte[total];
+        int offset = 0;
+        for (byte[] sample : samples) {
+            System.arraycopy(sample, 0, data, offset, sample.length);
+            offset += sample.length;
+        }
+        if (total <= maxSize) {
+            return new CompressionDictionary(data);
+        }
+
+        // Count in how many samples each d-mer occurs
+        int mask = (1 << COUNT_TABLE_BITS) - 1;
+        int[] counts = new int[mask + 1];
+        int[] lastSample = new int[mask + 1];
+        int sampleStart = 0;
+        int sampleIndex = 1;
+        for (byte[] sample : samples) {
+            for (int pos = sampleStart; pos + DMER_LENGTH <= sampleStart + sample.length; pos++) {
+                int slot = dmerHash(data, pos) & mask;
+                if (lastSample[slot] != sampleIndex) {
+                    lastSample[slot] = sampleIndex;
+                    counts[slot]++;
+                }
+            }
+            sampleStart += sample.length;
+            sampleIndex++;
+        }
+
+        // Pick the best segment of each epoch
+        int epochs = Math.max(1, maxSize / SEGMENT_LENGTH);
+        int epochSize = Math.max(SEGMENT_LENGTH, total / epochs);
+        int dmersPerSegment = SEGMENT_LENGTH - DMER_LENGTH + 1;
+        List<int[]> segments = new ArrayList<>();
+        for (int epochStart = 0; epochStart + SEGMENT_LENGTH <= total; epochStart += epochSize) {
+            int epochEnd = Math.min(total, epochStart + epochSize);
+            long bestScore = 0;
+            int bestStart = -1;
+            long score = 0;
+            for (int pos = epochStart; pos + DMER_LENGTH <= epochEnd; pos++) {
+                score += counts[dmerHash(data, pos) & mask];
+                int first = pos - dmersPerSegment + 1;
+                if (first > epochStart) {
+                    score -= counts[dmerHash(data, first - 1) & mask];
+                }
+                if (first >= epochStart && score > bestScore) {
+                    bestScore = score;
+                    bestStart = first;
+                }
+            }
+            if (bestStart < 0 || bestScore <= dmersPerSegment) {
+                // Nothing here occurs in more than one sample
+                continue;
+            }
+            for (int pos = bestStart; pos < bestStart + dmersPerSegment; pos++) {
+                counts[dmerHash(data, pos) & mask] = 0;
+            }
+            segments.add(new int[] {bestStart, (int) Math.min(Integer.MAX_VALUE, bestScore)});
+        }
+        if (segments.isEmpty()) {
+            throw new IllegalArgumentException("Samples share no common content to build a dictionary from");
+        }
+
+        // Most valuable segments last, closest to the data being compressed
+        segments.sort(Comparator.comparingInt(segment -> -segment[1]));
+        int count = Math.min(segments.size(), maxSize / SEGMENT_LENGTH);
+        byte[] content = new byte[count * SEGMENT_LENGTH];
+        for (int i = 0; i < count; i++) {
+            System.arraycopy(data, segments.get(i)[0], content, content.length - (i + 1) * SEGMENT_LENGTH,
+                    SEGMENT_LENGTH);
+        }
+        return new CompressionDictionary(content);
+    }
+
+    /**
+     * Returns the id stored in payloads compressed with this dictionary.
+     *
+     * @return the dictionary id, never zero
+     * @since 1.0.0
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Returns the dictionary size in bytes.
+     *
+     * @return the size
+     * @since 1.0.0
+     */
+    public int size() {
+        return content.length;
+    }
+
+    /**
+     * Returns a copy of the dictionary content, for persisting it.
+     *
+     * @return the content
+     * @since 1.0.0
+     */
+    public byte @NotNull [] toByteArray() {
+        return content.clone();
+    }
+
+    /**
+     * Returns the last bytes of the dictionary without copying.
+     *
+     * @param maxLength the maximum number of bytes
+     * @return the content itself, or a cached copy of its tail
+     */
+    byte[] tail(int maxLength) {
+        if (content.length <= maxLength) {
+            return content;
+        }
+        byte[] tail = this.tail;
+        if (tail == null || tail.length != maxLength) {
+            tail = Arrays.copyOfRange(content, content.length - maxLength, content.length);
+            this.tail = tail;
+        }
+        return tail;
+    }
+
+    private static int dmerHash(byte[] data, int pos) {
+        long value = 0;
+        for (int i = 0; i < DMER_LENGTH; i++) {
+            value = (value << 8) | (data[pos + i] & 0xFF);
+        }
+        value *= 0x9E3779B97F4A7C15L;
+        return (int) (value >>> 32);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof CompressionDictionary that)) return false;
+        return id == that.id && Arrays.equals(content, that.content);
+    }
+
+    @Override
+    public int hashCode() {
+        return id;
+    }
+
+    @Override
+    public String toString() {
+        return "CompressionDictionary{id=" + Integer.toHexString(id) + ", size=" + content.length + "}";
+    }
+}
@@ -445,69 +445,20 @@ public final class ItemMetaSerializer implements Serializer<Map<String, Object>>
 
     @NotNull
     private String serializeToJson(@NotNull Map<String, Object> value, @NotNull SerializationContext context) {
-        StringBuilder json = new StringBuilder();
-        json.append("{");
+        StringBuilder json = new StringBuilder(128);
+        JsonWriter writer = JsonWriter.to(json, context.isPrettyPrint()).beginObject();
 
-        boolean first = true;
         for (Map.Entry<String, Object> entry : value.entrySet()) {
             if (entry.getValue() == null && !context.isIncludeNulls()) continue;
-            if (!first) json.append(",");
-            first = false;
-
-            if (context.isPrettyPrint()) json.append("\n  ");
-            json.append("\"").append(entry.getKey()).append("\":");
-            if (context.isPrettyPrint()) json.append(" ");
-            appendValue(json, entry.getValue());
+            writer.name(entry.getKey()).writeValue(entry.getValue());
         }
 
-        if (context.isPrettyPrint() && !value.isEmpty()) json.append("\n");
-        json.append("}");
+        writer.endObject();
         return json.toString();
     }
 
-    private void appendValue(StringBuilder json, Object value) {
-        if (value == null) {
-            json.append("null");
-        } else if (value instanceof String s) {
-            json.append("\"").append(escapeJson(s)).append("\"");
-        } else if (value instanceof Number || value instanceof Boolean) {
-            json.append(value);
-        } else if (value instanceof List<?> list) {
-            json.append("[");
-            boolean first = true;
-            for (Object item : list) {
-                if (!first) json.append(",");
-                first = false;
-                appendValue(json, item);
-            }
-            json.append("]");
-        } else if (value instanceof Map<?, ?> map) {
-            json.append("{");
-            boolean first = true;
-            for (Map.Entry<?, ?> entry : map.entrySet()) {
-                if (!first) json.append(",");
-                first = false;
-                json.append("\"").append(entry.getKey()).append("\":");
-                appendValue(json, entry.getValue());
-            }
-            json.append("}");
-        } else {
-            json.append("\"").append(escapeJson(value.toString())).append("\"");
-        }
-    }
-
     @NotNull
     private Map<String, Object> deserializeFromJson(@NotNull String json, @NotNull SerializationContext context) {
-        // Delegate to ItemStackSerializer's JSON parser for simplicity
-        // In production, this would use a proper JSON library
-        return new LinkedHashMap<>(); // Placeholder - actual implementation would parse JSON
-    }
-
-    private String escapeJson(String s) {
-        return s.replace("\\", "\\\\")
-                .replace("\"", "\\\"")
-                .replace("\n", "\\n")
-                .replace("\r", "\\r")
-                .replace("\t", "\\t");
+        return JsonReader.of(json).readObject();
     }
 }
@@ -6,6 +6,7 @@ package sh.pcx.unified.data.serialization;
 
 import org.jetbrains.annotations.NotNull;
 
+import java.nio.ByteBuffer;
 import java.util.Base64;
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -129,8 +130,21 @@ public final class ItemStackSerializer implements Serializer<Map<String, Object>
 
     @Override
     public byte @NotNull [] toBytes(@NotNull Map<String, Object> value, @NotNull SerializationContext context) {
-        BinaryBuffer buffer = BinaryBuffer.allocate(256);
+        try (BinaryBuffer buffer = BinaryBuffer.acquire()) {
+            toBuffer(value, buffer, context);
+            return buffer.toByteArray();
+        }
+    }
+
+    @Override
+    @NotNull
+    public Map<String, Object> fromBytes(byte @NotNull [] data, @NotNull SerializationContext context) {
+        return fromBuffer(BinaryBuffer.wrap(ByteBuffer.wrap(data)), context);
+    }
 
+    @Override
+    public void toBuffer(@NotNull Map<String, Object> value, @NotNull BinaryBuffer buffer,
+                         @NotNull SerializationContext context) {
         // Write header
         buffer.writeByte(BINARY_VERSION);
         SchemaVersion version = context.getVersion();
@@ -164,15 +178,11 @@ public final class ItemStackSerializer implements Serializer<Map<String, Object>
         if (nbt != null) {
             buffer.writeBytes(nbt);
         }
-
-        return buffer.toByteArray();
     }
 
     @Override
     @NotNull
-    public Map<String, Object> fromBytes(byte @NotNull [] data, @NotNull SerializationContext context) {
-        BinaryBuffer buffer = BinaryBuffer.wrap(data);
-
+    public Map<String, Object> fromBuffer(@NotNull BinaryBuffer buffer, @NotNull SerializationContext context) {
         // Read header
         int binaryVersion = buffer.readUnsignedByte();
         if (binaryVersion != BINARY_VERSION) {
@@ -226,241 +236,14 @@ public final class ItemStackSerializer implements Serializer<Map<String, Object>
 
     @NotNull
     private String serializeToJson(@NotNull Map<String, Object> value, @NotNull SerializationContext context) {
-        StringBuilder json = new StringBuilder();
-        json.append("{");
-
-        boolean first = true;
-        for (Map.Entry<String, Object> entry : value.entrySet()) {
-            if (!first) json.append(",");
-            first = false;
-
-            if (context.isPrettyPrint()) {
-                json.append("\n  ");
-            }
-
-            json.append("\"").append(escapeJson(entry.getKey())).append("\":");
-            if (context.isPrettyPrint()) json.append(" ");
-            appendJsonValue(json, entry.getValue(), context, 1);
-        }
-
-        if (context.isPrettyPrint() && !value.isEmpty()) {
-            json.append("\n");
-        }
-        json.append("}");
+        StringBuilder json = new StringBuilder(128);
+        JsonWriter.to(json, context.isPrettyPrint()).writeValue(value);
         return json.toString();
     }
 
     @NotNull
     private Map<String, Object> deserializeFromJson(@NotNull String json, @NotNull SerializationContext context) {
-        // Simple JSON parser for item data
-        Map<String, Object> result = new LinkedHashMap<>();
-        parseJsonObject(json.trim(), result);
-        return result;
-    }
-
-    private void appendJsonValue(StringBuilder json, Object value, SerializationContext context, int depth) {
-        if (value == null) {
-            json.append("null");
-        } else if (value instanceof String s) {
-            json.append("\"").append(escapeJson(s)).append("\"");
-        } else if (value instanceof Number || value instanceof Boolean) {
-            json.append(value);
-        } else if (value instanceof Map<?, ?> map) {
-            json.append("{");
-            boolean first = true;
-            for (Map.Entry<?, ?> entry : map.entrySet()) {
-                if (!first) json.append(",");
-                first = false;
-                if (context.isPrettyPrint()) {
-                    json.append("\n").append("  ".repeat(depth + 1));
-                }
-                json.append("\"").append(escapeJson(entry.getKey().toString())).append("\":");
-                if (context.isPrettyPrint()) json.append(" ");
-                appendJsonValue(json, entry.getValue(), context, depth + 1);
-            }
-            if (context.isPrettyPrint() && !map.isEmpty()) {
-                json.append("\n").append("  ".repeat(depth));
-            }
-            json.append("}");
-        } else if (value instanceof Iterable<?> list) {
-            json.append("[");
-            boolean first = true;
-            for (Object item : list) {
-                if (!first) json.append(",");
-                first = false;
-                if (context.isPrettyPrint()) {
-                    json.append("\n").append("  ".repeat(depth + 1));
-                }
-                appendJsonValue(json, item, context, depth + 1);
-            }
-            if (context.isPrettyPrint()) {
-                json.append("\n").append("  ".repeat(depth));
-            }
-            json.append("]");
-        } else if (value instanceof byte[] bytes) {
-            json.append("\"").append(Base64.getEncoder().encodeToString(bytes)).append("\"");
-        } else {
-            json.append("\"").append(escapeJson(value.toString())).append("\"");
-        }
-    }
-
-    private void parseJsonObject(String json, Map<String, Object> result) {
-        // Remove outer braces
-        json = json.trim();
-        if (json.startsWith("{") && json.endsWith("}")) {
-            json = json.substring(1, json.length() - 1).trim();
-        }
-
-        if (json.isEmpty()) return;
-
-        // Simple key-value parsing
-        int pos = 0;
-        while (pos < json.length()) {
-            // Skip whitespace
-            while (pos < json.length() && Character.isWhitespace(json.charAt(pos))) pos++;
-            if (pos >= json.length()) break;
-
-            // Parse key
-            if (json.charAt(pos) != '"') break;
-            int keyEnd = findStringEnd(json, pos + 1);
-            String key = unescapeJson(json.substring(pos + 1, keyEnd));
-            pos = keyEnd + 1;
-
-            // Skip colon
-            while (pos < json.length() && (json.charAt(pos) == ':' || Character.isWhitespace(json.charAt(pos)))) pos++;
-
-            // Parse value
-            Object value = parseJsonValue(json, pos);
-            result.put(key, value);
-
-            // Find end of value and skip comma
-            pos = findValueEnd(json, pos);
-            while (pos < json.length() && (json.charAt(pos) == ',' || Character.isWhitespace(json.charAt(pos)))) pos++;
-        }
-    }
-
-    private Object parseJsonValue(String json, int start) {
-        char c = json.charAt(start);
-        if (c == '"') {
-            int end = findStringEnd(json, start + 1);
-            return unescapeJson(json.substring(start + 1, end));
-        } else if (c == '{') {
-            Map<String, Object> nested = new LinkedHashMap<>();
-            int end = findObjectEnd(json, start);
-            parseJsonObject(json.substring(start, end + 1), nested);
-            return nested;
-        } else if (c == '[') {
-            return parseJsonArray(json, start);
-        } else if (c == 't') {
-            return true;
-        } else if (c == 'f') {
-            return false;
-        } else if (c == 'n') {
-            return null;
-        } else {
-            // Number
-            int end = start;
-            while (end < json.length() && (Character.isDigit(json.charAt(end)) || json.charAt(end) == '.' ||
-                    json.charAt(end) == '-' || json.charAt(end) == 'e' || json.charAt(end) == 'E')) {
-                end++;
-            }
-            String numStr = json.substring(start, end);
-            if (numStr.contains(".") || numStr.contains("e") || numStr.contains("E")) {
-                return Double.parseDouble(numStr);
-            }
-            return Long.parseLong(numStr);
-        }
-    }
-
-    private java.util.List<Object> parseJsonArray(String json, int start) {
-        java.util.List<Object> list = new java.util.ArrayList<>();
-        int pos = start + 1;
-        while (pos < json.length() && json.charAt(pos) != ']') {
-            while (pos < json.length() && Character.isWhitespace(json.charAt(pos))) pos++;
-            if (json.charAt(pos) == ']') break;
-            list.add(parseJsonValue(json, pos));
-            pos = findValueEnd(json, pos);
-            while (pos < json.length() && (json.charAt(pos) == ',' || Character.isWhitespace(json.charAt(pos)))) pos++;
-        }
-        return list;
-    }
-
-    private int findStringEnd(String json, int start) {
-        int pos = start;
-        while (pos < json.length()) {
-            char c = json.charAt(pos);
-            if (c == '\\') {
-                pos += 2;
-            } else if (c == '"') {
-                return pos;
-            } else {
-                pos++;
-            }
-        }
-        return json.length();
-    }
-
-    private int findValueEnd(String json, int start) {
-        char c = json.charAt(start);
-        if (c == '"') {
-            return findStringEnd(json, start + 1) + 1;
-        } else if (c == '{') {
-            return findObjectEnd(json, start) + 1;
-        } else if (c == '[') {
-            return findArrayEnd(json, start) + 1;
-        } else {
-            int end = start;
-            while (end < json.length() && json.charAt(end) != ',' && json.charAt(end) != '}' && json.charAt(end) != ']') {
-                end++;
-            }
-            return end;
-        }
-    }
-
-    private int findObjectEnd(String json, int start) {
-        int depth = 0;
-        for (int i = start; i < json.length(); i++) {
-            char c = json.charAt(i);
-            if (c == '{') depth++;
-            else if (c == '}') {
-                depth--;
-                if (depth == 0) return i;
-            } else if (c == '"') {
-                i = findStringEnd(json, i + 1);
-            }
-        }
-        return json.length() - 1;
-    }
-
-    private int findArrayEnd(String json, int start) {
-        int depth = 0;
-        for (int i = start; i < json.length(); i++) {
-            char c = json.charAt(i);
-            if (c == '[') depth++;
-            else if (c == ']') {
-                depth--;
-                if (depth == 0) return i;
-            } else if (c == '"') {
-                i = findStringEnd(json, i + 1);
-            }
-        }
-        return json.length() - 1;
-    }
-
-    private String escapeJson(String s) {
-        return s.replace("\\", "\\\\")
-                .replace("\"", "\\\"")
-                .replace("\n", "\\n")
-                .replace("\r", "\\r")
-                .replace("\t", "\\t");
-    }
-
-    private String unescapeJson(String s) {
-        return s.replace("\\\"", "\"")
-                .replace("\\\\", "\\")
-                .replace("\\n", "\n")
-                .replace("\\r", "\r")
-                .replace("\\t", "\t");
+        return JsonReader.of(json).readObject();
     }
 
     // ========================================
@@ -585,22 +368,23 @@ public final class ItemStackSerializer implements Serializer<Map<String, Object>
      */
     @NotNull
     public String serializeArray(@NotNull Map<String, Object>[] items) {
-        BinaryBuffer buffer = BinaryBuffer.allocate(items.length * 128);
-
-        buffer.writeVarInt(items.length);
-        SerializationContext context = SerializationContext.base64();
-
-        for (Map<String, Object> item : items) {
-            if (item == null || item.isEmpty()) {
-                buffer.writeBoolean(false);
-            } else {
-                buffer.writeBoolean(true);
-                byte[] itemBytes = toBytes(item, context);
-                buffer.writeBytes(itemBytes);
+        try (BinaryBuffer buffer = BinaryBuffer.acquire();
+             BinaryBuffer scratch = BinaryBuffer.acquire()) {
+            buffer.writeVarInt(items.length);
+            SerializationContext context = SerializationContext.base64();
+
+            for (Map<String, Object> item : items) {
+                if (item == null || item.isEmpty()) {
+                    buffer.writeBoolean(false);
+                } else {
+                    buffer.writeBoolean(true);
+                    toBuffer(item, scratch.clear(), context);
+                    buffer.writeBytes(scratch);
+                }
             }
-        }
 
-        return Base64.getEncoder().encodeToString(buffer.toByteArray());
+            return Base64.getEncoder().encodeToString(buffer.toByteArray());
+        }
     }
 
     /**
@@ -614,7 +398,7 @@ public final class ItemStackSerializer implements Serializer<Map<String, Object>
     @SuppressWarnings("unchecked")
     public Map<String, Object>[] deserializeArray(@NotNull String data) {
         byte[] bytes = Base64.getDecoder().decode(data);
-        BinaryBuffer buffer = BinaryBuffer.wrap(bytes);
+        BinaryBuffer buffer = BinaryBuffer.wrap(ByteBuffer.wrap(bytes));
 
         int length = buffer.readVarInt();
         Map<String, Object>[] items = new Map[length];
@@ -623,8 +407,7 @@ public final class ItemStackSerializer implements Serializer<Map<String, Object>
         for (int i = 0; i < length; i++) {
             boolean present = buffer.readBoolean();
             if (present) {
-                byte[] itemBytes = buffer.readBytes();
-                items[i] = fromBytes(itemBytes, context);
+                items[i] = fromBuffer(buffer.readSlice(), context);
             } else {
                 items[i] = null;
             }
@@ -0,0 +1,636 @@
+/*
+ * Copyright (c) 2025 Supatuck. All rights reserved.
+ * Licensed under the MIT License.
+ */
+package sh.pcx.unified.data.serialization;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Single-pass JSON tokenizer shared by the built-in serializers.
+ *
+ * <p>JsonReader walks its input once, tracking a cursor index instead of
+ * slicing the document, so parsing is linear in the input size regardless of
+ * nesting. Only the final string and number values are materialized.
+ *
+ * <h2>Example Usage</h2>
+ * <pre>{@code
+ * JsonReader reader = JsonReader.of(json);
+ * reader.beginObject();
+ * while (reader.hasNext()) {
+ *     switch (reader.nextName()) {
+ *         case "x" -> x = reader.nextInt();
+ *         case "world" -> world = reader.nextString();
+ *         default -> reader.skipValue();
+ *     }
+ * }
+ * reader.endObject();
+ * }</pre>
+ *
+ * <h2>Value Trees</h2>
+ * <p>{@link #readValue()} reads any value into plain Java objects: objects
+ * become {@link LinkedHashMap}s, arrays {@link ArrayList}s, integral numbers
+ * {@link Long}s and other numbers {@link Double}s.
+ *
+ * <h2>Thread Safety</h2>
+ * <p>JsonReader is NOT thread-safe. Use one instance per document.
+ *
+ * @since 1.0.0
+ * @author Supatuck
+ * @see JsonWriter
+ */
+public final class JsonReader {
+
+    private static final int MAX_DEPTH = 512;
+
+    /**
+     * The kind of the next token.
+     *
+     * @since 1.0.0
+     */
+    public enum Token {
+        /** The start of an object. */
+        BEGIN_OBJECT,
+        /** The end of an object. */
+        END_OBJECT,
+        /** The start of an array. */
+        BEGIN_ARRAY,
+        /** The end of an array. */
+        END_ARRAY,
+        /** An object member name. */
+        NAME,
+        /** A string value. */
+        STRING,
+        /** A number value. */
+        NUMBER,
+        /** A boolean value. */
+        BOOLEAN,
+        /** A null value. */
+        NULL,
+        /** The end of the input. */
+        END_DOCUMENT
+    }
+
+    private final CharSequence in;
+    private final int end;
+    private int pos;
+
+    // Per depth: true inside objects; index 0 is the top level
+    private final boolean[] inObject = new boolean[MAX_DEPTH + 1];
+    private final boolean[] expectComma = new boolean[MAX_DEPTH + 1];
+    private int depth;
+    private boolean expectValue;
+
+    private final StringBuilder scratch = new StringBuilder();
+
+    private JsonReader(CharSequence in) {
+        this.in = in;
+        this.end = in.length();
+    }
+
+    /**
+     * Creates a reader over the given text.
+     *
+     * @param json the JSON text
+     * @return a new JsonReader
+     * @since 1.0.0
+     */
+    @NotNull
+    public static JsonReader of(@NotNull CharSequence json) {
+        Objects.requireNonNull(json, "json cannot be null");
+        return new JsonReader(json);
+    }
+
+    /**
+     * Creates a reader over the remaining UTF-8 bytes of a buffer.
+     *
+     * <p>The bytes are decoded once up front; the buffer is consumed.
+     *
+     * @param buffer the buffer to read
+     * @return a new JsonReader
+     * @since 1.0.0
+     */
+    @NotNull
+    public static JsonReader of(@NotNull BinaryBuffer buffer) {
+        Objects.requireNonNull(buffer, "buffer cannot be null");
+        int start = buffer.position();
+        CharSequence chars = StandardCharsets.UTF_8.decode(
+                buffer.toByteBuffer().position(start));
+        buffer.position(buffer.limit());
+        return new JsonReader(chars);
+    }
+
+    // ========================================
+    // Tokens
+    // ========================================
+
+    /**
+     * Returns the kind of the next token without consuming it.
+     *
+     * @return the next token
+     * @throws SerializationException if the input is malformed
+     * @since 1.0.0
+     */
+    @NotNull
+    public Token peek() {
+        skipSeparators();
+        if (pos >= end) {
+            return Token.END_DOCUMENT;
+        }
+        char c = in.charAt(pos);
+        if (c == '}' || c == ']') {
+            if (expectValue) {
+                throw syntaxError("Expected a value");
+            }
+            return c == '}' ? Token.END_OBJECT : Token.END_ARRAY;
+        }
+        if (inObject[depth] && !expectValue) {
+            return Token.NAME;
+        }
+        return switch (c) {
+            case '{' -> Token.BEGIN_OBJECT;
+            case '[' -> Token.BEGIN_ARRAY;
+            case '"' -> Token.STRING;
+            case 't', 'f' -> Token.BOOLEAN;
+            case 'n' -> Token.NULL;
+            default -> {
+                if (c == '-' || (c >= '0' && c <= '9')) {
+                    yield Token.NUMBER;
+                }
+                throw syntaxError("Unexpected character '" + c + "'");
+            }
+        };
+    }
+
+    /**
+     * Checks if the current object or array has another element.
+     *
+     * @return true if another element follows
+     * @since 1.0.0
+     */
+    public boolean hasNext() {
+        Token token = peek();
+        return token != Token.END_OBJECT && token != Token.END_ARRAY && token != Token.END_DOCUMENT;
+    }
+
+    /**
+     * Consumes the start of an object.
+     *
+     * @since 1.0.0
+     */
+    public void beginObject() {
+        expect(Token.BEGIN_OBJECT);
+        push(true);
+    }
+
+    /**
+     * Consumes the end of an object.
+     *
+     * @since 1.0.0
+     */
+    public void endObject() {
+        expect(Token.END_OBJECT);
+        pop();
+    }
+
+    /**
+     * Consumes the start of an array.
+     *
+     * @since 1.0.0
+     */
+    public void beginArray() {
+        expect(Token.BEGIN_ARRAY);
+        push(false);
+    }
+
+    /**
+     * Consumes the end of an array.
+     *
+     * @since 1.0.0
+     */
+    public void endArray() {
+        expect(Token.END_ARRAY);
+        pop();
+    }
+
+    /**
+     * Consumes an object member name.
+     *
+     * @return the name
+     * @since 1.0.0
+     */
+    @NotNull
+    public String nextName() {
+        expect(Token.NAME);
+        if (in.charAt(pos) != '"') {
+            throw syntaxError("Expected a quoted name");
+        }
+        String name = readString();
+        skipWhitespace();
+        if (pos >= end || in.charAt(pos) != ':') {
+            throw syntaxError("Expected ':'");
+        }
+        pos++;
+        expectValue = true;
+        return name;
+    }
+
+    /**
+     * Consumes a string value.
+     *
+     * @return the string
+     * @since 1.0.0
+     */
+    @NotNull
+    public String nextString() {
+        expect(Token.STRING);
+        String value = readString();
+        valueConsumed();
+        return value;
+    }
+
+    /**
+     * Consumes a boolean value.
+     *
+     * @return the boolean
+     * @since 1.0.0
+     */
+    public boolean nextBoolean() {
+        expect(Token.BOOLEAN);
+        boolean value;
+        if (matches("true")) {
+            value = true;
+        } else if (matches("false")) {
+            value = false;
+        } else {
+            throw syntaxError("Expected a boolean");
+        }
+        valueConsumed();
+        return value;
+    }
+
+    /**
+     * Consumes a null value.
+     *
+     * @since 1.0.0
+     */
+    public void nextNull() {
+        expect(Token.NULL);
+        if (!matches("null")) {
+            throw syntaxError("Expected null");
+        }
+        valueConsumed();
+    }
+
+    /**
+     * Consumes a number value.
+     *
+     * @return a {@link Long} for integral numbers, otherwise a {@link Double}
+     * @since 1.0.0
+     */
+    @NotNull
+    public Number nextNumber() {
+        expect(Token.NUMBER);
+        Number value = readNumber();
+        valueConsumed();
+        return value;
+    }
+
+    /**
+     * Consumes a number value as a long.
+     *
+     * @return the number
+     * @since 1.0.0
+     */
+    public long nextLong() {
+        return nextNumber().longValue();
+    }
+
+    /**
+     * Consumes a number value as an int.
+     *
+     * @return the number
+     * @since 1.0.0
+     */
+    public int nextInt() {
+        return nextNumber().intValue();
+    }
+
+    /**
+     * Consumes a number value as a double.
+     *
+     * @return the number
+     * @since 1.0.0
+     */
+    public double nextDouble() {
+        return nextNumber().doubleValue();
+    }
+
+    /**
+     * Skips the next value, including any nested content.
+     *
+     * @since 1.0.0
+     */
+    public void skipValue() {
+        switch (peek()) {
+            case BEGIN_OBJECT -> {
+                beginObject();
+                while (hasNext()) {
+                    nextName();
+                    skipValue();
+                }
+                endObject();
+            }
+            case BEGIN_ARRAY -> {
+                beginArray();
+                while (hasNext()) {
+                    skipValue();
+                }
+                endArray();
+            }
+            case STRING -> {
+                expect(Token.STRING);
+                skipString();
+                valueConsumed();
+            }
+            case NUMBER -> nextNumber();
+            case BOOLEAN -> nextBoolean();
+            case NULL -> nextNull();
+            default -> throw syntaxError("Expected a value");
+        }
+    }
+
+    /**
+     * Reads the next value as a tree of plain Java objects.
+     *
+     * @return the value, or null for JSON null
+     * @since 1.0.0
+     */
+    @Nullable
+    public Object readValue() {
+        return switch (peek()) {
+            case BEGIN_OBJECT -> readObject();
+            case BEGIN_ARRAY -> readArray();
+            case STRING -> nextString();
+            case NUMBER -> nextNumber();
+            case BOOLEAN -> nextBoolean();
+            case NULL -> {
+                nextNull();
+                yield null;
+            }
+            default -> throw syntaxError("Expected a value");
+        };
+    }
+
+    /**
+     * Reads the next object as a map.
+     *
+     * @return the object members in document order
+     * @since 1.0.0
+     */
+    @NotNull
+    public Map<String, Object> readObject() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        beginObject();
+        while (hasNext()) {
+            String name = nextName();
+            result.put(name, readValue());
+        }
+        endObject();
+        return result;
+    }
+
+    /**
+     * Reads the next array as a list.
+     *
+     * @return the array elements
+     * @since 1.0.0
+     */
+    @NotNull
+    public List<Object> readArray() {
+        List<Object> result = new ArrayList<>();
+        beginArray();
+        while (hasNext()) {
+            result.add(readValue());
+        }
+        endArray();
+        return result;
+    }
+
+    // ========================================
+    // Internal Methods
+    // ========================================
+
+    private void expect(Token token) {
+        Token actual = peek();
+        if (actual != token) {
+            throw syntaxError("Expected " + token + " but was " + actual);
+        }
+    }
+
+    private void push(boolean object) {
+        if (depth == MAX_DEPTH) {
+            throw syntaxError("Nesting too deep");
+        }
+        pos++;
+        depth++;
+        inObject[depth] = object;
+        expectComma[depth] = false;
+        expectValue = false;
+    }
+
+    private void pop() {
+        pos++;
+        depth--;
+        valueConsumed();
+    }
+
+    private void valueConsumed() {
+        expectValue = false;
+        expectComma[depth] = true;
+    }
+
+    /**
+     * Skips whitespace and, between elements, the separating comma.
+     */
+    private void skipSeparators() {
+        skipWhitespace();
+        if (depth > 0 && expectComma[depth] && !expectValue && pos < end) {
+            char c = in.charAt(pos);
+            if (c == ',') {
+                pos++;
+                expectComma[depth] = false;
+                skipWhitespace();
+            } else if (c != '}' && c != ']') {
+                throw syntaxError("Expected ',' or closing bracket");
+            }
+        }
+    }
+
+    private void skipWhitespace() {
+        while (pos < end) {
+            char c = in.charAt(pos);
+            if (c != ' ' && c != '\n' && c != '\r' && c != '\t') {
+                return;
+            }
+            pos++;
+        }
+    }
+
+    private boolean matches(String literal) {
+        int length = literal.length();
+        if (pos + length > end) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (in.charAt(pos + i) != literal.charAt(i)) {
+                return false;
+            }
+        }
+        pos += length;
+        return true;
+    }
+
+    private String readString() {
+        int start = ++pos;
+        // Fast path: no escapes, materialize the value directly
+        while (pos < end) {
+            char c = in.charAt(pos);
+            if (c == '"') {
+                String value = in.subSequence(start, pos).toString();
+                pos++;
+                return value;
+            }
+            if (c == '\\') {
+                break;
+            }
+            pos++;
+        }
+
+        scratch.setLength(0);
+        scratch.append(in, start, pos);
+        while (pos < end) {
+            char c = in.charAt(pos++);
+            if (c == '"') {
+                return scratch.toString();
+            }
+            if (c != '\\') {
+                scratch.append(c);
+                continue;
+            }
+            if (pos >= end) {
+                break;
+            }
+            char escaped = in.charAt(pos++);
+            switch (escaped) {
+                case '"', '\\', '/' -> scratch.append(escaped);
+                case 'n' -> scratch.append('\n');
+                case 'r' -> scratch.append('\r');
+                case 't' -> scratch.append('\t');
+                case 'b' -> scratch.append('\b');
+                case 'f' -> scratch.append('\f');
+                case 'u' -> {
+                    if (pos + 4 > end) {
+                        throw syntaxError("Truncated unicode escape");
+                    }
+                    int code = 0;
+                    for (int i = 0; i < 4; i++) {
+                        int digit = Character.digit(in.charAt(pos++), 16);
+                        if (digit < 0) {
+                            throw syntaxError("Invalid unicode escape");
+                        }
+                        code = (code << 4) | digit;
+                    }
+                    scratch.append((char) code);
+                }
+                default -> throw syntaxError("Invalid escape '\\" + escaped + "'");
+            }
+        }
+        throw syntaxError("Unterminated string");
+    }
+
+    private void skipString() {
+        pos++;
+        while (pos < end) {
+            char c = in.charAt(pos++);
+            if (c == '"') {
+                return;
+            }
+            if (c == '\\') {
+                pos++;
+            }
+        }
+        throw syntaxError("Unterminated string");
+    }
+
+    private Number readNumber() {
+        int start = pos;
+        boolean negative = in.charAt(pos) == '-';
+        if (negative) {
+            pos++;
+        }
+
+        // Accumulate integral values directly; fall back to parsing on overflow
+        long value = 0;
+        boolean integral = true;
+        int digits = 0;
+        while (pos < end) {
+            char c = in.charAt(pos);
+            if (c >= '0' && c <= '9') {
+                if (integral && digits < 18) {
+                    value = value * 10 + (c - '0');
+                } else {
+                    integral = false;
+                }
+                digits++;
+                pos++;
+            } else if (c == '.' || c == 'e' || c == 'E' || c == '+' || c == '-') {
+                integral = false;
+                pos++;
+            } else {
+                break;
+            }
+        }
+        if (digits == 0) {
+            throw syntaxError("Invalid number");
+        }
+        if (integral) {
+            return negative ? -value : value;
+        }
+
+        scratch.setLength(0);
+        scratch.append(in, start, pos);
+        try {
+            boolean fraction = false;
+            for (int i = 0; i < scratch.length(); i++) {
+                char c = scratch.charAt(i);
+                if (c == '.' || c == 'e' || c == 'E') {
+                    fraction = true;
+                    break;
+                }
+            }
+            if (!fraction) {
+                try {
+                    return Long.parseLong(scratch, 0, scratch.length(), 10);
+                } catch (NumberFormatException overflow) {
+                    // Fall through to a double for integers beyond long range
+                }
+            }
+            return Double.parseDouble(scratch.toString());
+        } catch (NumberFormatException e) {
+            throw syntaxError("Invalid number");
+        }
+    }
+
+    private SerializationException syntaxError(String message) {
+        return new SerializationException("Malformed JSON at offset " + pos + ": " + message);
+    }
+}
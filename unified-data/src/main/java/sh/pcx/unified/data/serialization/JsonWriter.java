@@ -0,0 +1,432 @@
+/*
+ * Copyright (c) 2025 Supatuck. All rights reserved.
+ * Licensed under the MIT License.
+ */
+package sh.pcx.unified.data.serialization;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Streaming JSON writer shared by the built-in serializers.
+ *
+ * <p>JsonWriter emits tokens straight into an {@link Appendable} such as a
+ * {@link StringBuilder} or {@link java.io.Writer}, or as UTF-8 into a
+ * {@link BinaryBuffer}. Strings are escaped character by character while
+ * being written, so no intermediate strings are built.
+ *
+ * <h2>Example Usage</h2>
+ * <pre>{@code
+ * StringBuilder out = new StringBuilder();
+ * JsonWriter writer = JsonWriter.to(out, context.isPrettyPrint());
+ * writer.beginObject()
+ *       .name("world").value("world_nether")
+ *       .name("x").value(12)
+ *       .endObject();
+ * }</pre>
+ *
+ * <h2>Thread Safety</h2>
+ * <p>JsonWriter is NOT thread-safe. Use one instance per document.
+ *
+ * @since 1.0.0
+ * @author Supatuck
+ * @see JsonReader
+ */
+public final class JsonWriter implements Flushable {
+
+    private static final int MAX_DEPTH = 512;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final Appendable out;
+    private final boolean prettyPrint;
+
+    // Per depth: whether the container has entries; index 0 is the top level
+    private final boolean[] nonEmpty = new boolean[MAX_DEPTH + 1];
+    private int depth;
+    private boolean afterName;
+
+    private JsonWriter(Appendable out, boolean prettyPrint) {
+        this.out = out;
+        this.prettyPrint = prettyPrint;
+    }
+
+    /**
+     * Creates a writer appending to the given output.
+     *
+     * @param out         the output, such as a StringBuilder or Writer
+     * @param prettyPrint whether to indent the output
+     * @return a new JsonWriter
+     * @since 1.0.0
+     */
+    @NotNull
+    public static JsonWriter to(@NotNull Appendable out, boolean prettyPrint) {
+        Objects.requireNonNull(out, "out cannot be null");
+        return new JsonWriter(out, prettyPrint);
+    }
+
+    /**
+     * Creates a writer appending UTF-8 bytes to the given buffer.
+     *
+     * <p>Call {@link #flush()} once the document is complete.
+     *
+     * @param buffer      the buffer to write into
+     * @param prettyPrint whether to indent the output
+     * @return a new JsonWriter
+     * @since 1.0.0
+     */
+    @NotNull
+    public static JsonWriter to(@NotNull BinaryBuffer buffer, boolean prettyPrint) {
+        Objects.requireNonNull(buffer, "buffer cannot be null");
+        return new JsonWriter(new OutputStreamWriter(buffer.asOutputStream(), StandardCharsets.UTF_8), prettyPrint);
+    }
+
+    // ========================================
+    // Structure
+    // ========================================
+
+    /**
+     * Begins a JSON object.
+     *
+     * @return this writer for chaining
+     * @since 1.0.0
+     */
+    @NotNull
+    public JsonWriter beginObject() {
+        return open('{');
+    }
+
+    /**
+     * Ends the current JSON object.
+     *
+     * @return this writer for chaining
+     * @since 1.0.0
+     */
+    @NotNull
+    public JsonWriter endObject() {
+        return close('}');
+    }
+
+    /**
+     * Begins a JSON array.
+     *
+     * @return this writer for chaining
+     * @since 1.0.0
+     */
+    @NotNull
+    public JsonWriter beginArray() {
+        return open('[');
+    }
+
+    /**
+     * Ends the current JSON array.
+     *
+     * @return this writer for chaining
+     * @since 1.0.0
+     */
+    @NotNull
+    public JsonWriter endArray() {
+        return close(']');
+    }
+
+    /**
+     * Writes the name of the next object member.
+     *
+     * @param name the member name
+     * @return this writer for chaining
+     * @since 1.0.0
+     */
+    @NotNull
+    public JsonWriter name(@NotNull String name) {
+        beforeValue();
+        writeString(name);
+        append(':');
+        if (prettyPrint) {
+            append(' ');
+        }
+        afterName = true;
+        return this;
+    }
+
+    // ========================================
+    // Values
+    // ========================================
+
+    /**
+     * Writes a string value, or null.
+     *
+     * @param value the value
+     * @return this writer for chaining
+     * @since 1.0.0
+     */
+    @NotNull
+    public JsonWriter value(@Nullable String value) {
+        if (value == null) {
+            return nullValue();
+        }
+        beforeValue();
+        writeString(value);
+        return this;
+    }
+
+    /**
+     * Writes an integral value.
+     *
+     * @param value the value
+     * @return this writer for chaining
+     * @since 1.0.0
+     */
+    @NotNull
+    public JsonWriter value(long value) {
+        beforeValue();
+        append(Long.toString(value));
+        return this;
+    }
+
+    /**
+     * Writes a floating point value.
+     *
+     * @param value the value
+     * @return this writer for chaining
+     * @throws SerializationException if the value is NaN or infinite
+     * @since 1.0.0
+     */
+    @NotNull
+    public JsonWriter value(double value) {
+        checkFinite(value);
+        beforeValue();
+        append(Double.toString(value));
+        return this;
+    }
+
+    /**
+     * Writes a float value using its shortest float representation.
+     *
+     * @param value the value
+     * @return this writer for chaining
+     * @throws SerializationException if the value is NaN or infinite
+     * @since 1.0.0
+     */
+    @NotNull
+    public JsonWriter value(float value) {
+        checkFinite(value);
+        beforeValue();
+        append(Float.toString(value));
+        return this;
+    }
+
+    /**
+     * Writes a boolean value.
+     *
+     * @param value the value
+     * @return this writer for chaining
+     * @since 1.0.0
+     */
+    @NotNull
+    public JsonWriter value(boolean value) {
+        beforeValue();
+        append(value ? "true" : "false");
+        return this;
+    }
+
+    /**
+     * Writes a JSON null.
+     *
+     * @return this writer for chaining
+     * @since 1.0.0
+     */
+    @NotNull
+    public JsonWriter nullValue() {
+        beforeValue();
+        append("null");
+        return this;
+    }
+
+    /**
+     * Writes an arbitrary value tree.
+     *
+     * <p>Maps become objects, iterables and arrays of objects become arrays,
+     * numbers and booleans are written as-is, byte arrays as Base64 strings,
+     * and anything else as its {@code toString()}.
+     *
+     * @param value the value
+     * @return this writer for chaining
+     * @since 1.0.0
+     */
+    @NotNull
+    public JsonWriter writeValue(@Nullable Object value) {
+        if (value == null) {
+            return nullValue();
+        } else if (value instanceof String s) {
+            return value(s);
+        } else if (value instanceof Double || value instanceof Float) {
+            double d = ((Number) value).doubleValue();
+            checkFinite(d);
+            beforeValue();
+            append(value.toString());
+            return this;
+        } else if (value instanceof Number || value instanceof Boolean) {
+            beforeValue();
+            append(value.toString());
+            return this;
+        } else if (value instanceof Map<?, ?> map) {
+            beginObject();
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                name(String.valueOf(entry.getKey()));
+                writeValue(entry.getValue());
+            }
+            return endObject();
+        } else if (value instanceof Iterable<?> iterable) {
+            beginArray();
+            for (Object item : iterable) {
+                writeValue(item);
+            }
+            return endArray();
+        } else if (value instanceof Object[] array) {
+            beginArray();
+            for (Object item : array) {
+                writeValue(item);
+            }
+            return endArray();
+        } else if (value instanceof byte[] bytes) {
+            return value(Base64.getEncoder().encodeToString(bytes));
+        }
+        return value(value.toString());
+    }
+
+    /**
+     * Flushes the underlying output if it is flushable.
+     *
+     * @since 1.0.0
+     */
+    @Override
+    public void flush() {
+        if (out instanceof Flushable flushable) {
+            try {
+                flushable.flush();
+            } catch (IOException e) {
+                throw new SerializationException("Failed to write JSON", e);
+            }
+        }
+    }
+
+    // ========================================
+    // Internal Methods
+    // ========================================
+
+    private JsonWriter open(char bracket) {
+        beforeValue();
+        if (depth == MAX_DEPTH) {
+            throw new SerializationException("JSON nesting too deep: " + MAX_DEPTH);
+        }
+        append(bracket);
+        nonEmpty[++depth] = false;
+        return this;
+    }
+
+    private JsonWriter close(char bracket) {
+        if (depth == 0) {
+            throw new IllegalStateException("No open JSON container to close");
+        }
+        boolean hadEntries = nonEmpty[depth--];
+        if (prettyPrint && hadEntries) {
+            newline();
+        }
+        append(bracket);
+        return this;
+    }
+
+    private void beforeValue() {
+        if (afterName) {
+            afterName = false;
+            return;
+        }
+        if (nonEmpty[depth] && depth > 0) {
+            append(',');
+        }
+        nonEmpty[depth] = true;
+        if (prettyPrint && depth > 0) {
+            newline();
+        }
+    }
+
+    private void newline() {
+        append('\n');
+        for (int i = 0; i < depth; i++) {
+            append("  ");
+        }
+    }
+
+    private void writeString(String value) {
+        append('"');
+        int length = value.length();
+        int start = 0;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c >= 0x20 && c != '"' && c != '\\') {
+                continue;
+            }
+            if (start < i) {
+                append(value, start, i);
+            }
+            switch (c) {
+                case '"' -> append("\\\"");
+                case '\\' -> append("\\\\");
+                case '\n' -> append("\\n");
+                case '\r' -> append("\\r");
+                case '\t' -> append("\\t");
+                case '\b' -> append("\\b");
+                case '\f' -> append("\\f");
+                default -> {
+                    append("\\u");
+                    append(HEX[(c >> 12) & 0xF]);
+                    append(HEX[(c >> 8) & 0xF]);
+                    append(HEX[(c >> 4) & 0xF]);
+                    append(HEX[c & 0xF]);
+                }
+            }
+            start = i + 1;
+        }
+        if (start < length) {
+            append(value, start, length);
+        }
+        append('"');
+    }
+
+    private static void checkFinite(double value) {
+        if (!Double.isFinite(value)) {
+            throw new SerializationException("JSON cannot represent " + value);
+        }
+    }
+
+    private void append(char c) {
+        try {
+            out.append(c);
+        } catch (IOException e) {
+            throw new SerializationException("Failed to write JSON", e);
+        }
+    }
+
+    private void append(CharSequence s) {
+        try {
+            out.append(s);
+        } catch (IOException e) {
+            throw new SerializationException("Failed to write JSON", e);
+        }
+    }
+
+    private void append(CharSequence s, int start, int end) {
+        try {
+            out.append(s, start, end);
+        } catch (IOException e) {
+            throw new SerializationException("Failed to write JSON", e);
+        }
+    }
+}
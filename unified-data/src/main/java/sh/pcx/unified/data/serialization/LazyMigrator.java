@@ -0,0 +1,429 @@
+/*
+ * Copyright (c) 2025 Supatuck. All rights reserved.
+ * Licensed under the MIT License.
+ */
+package sh.pcx.unified.data.serialization;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+
+/**
+ * Upgrades {@link VersionedData} to the current schema version as it is read.
+ *
+ * <p>Instead of migrating every stored record up front, LazyMigrator migrates
+ * a record the first time it is touched and returns the upgraded value to
+ * the caller immediately. The upgraded record is then written back in the
+ * background, so the next read finds it already current.
+ *
+ * <p>Write-backs are conditional: the write-back receives the record as it
+ * was read alongside the upgraded record, and must only replace the stored
+ * record if it still matches the original (for example, by comparing its
+ * schema version or modification time in the update). A write-back that
+ * finds the record changed returns false and is counted as a conflict, so an
+ * upgrade of a stale read never overwrites a newer write.
+ *
+ * <p>Write-backs are deduplicated by {@link VersionedData#getSourceId() source
+ * id}: while a record's write-back is in flight, further reads still migrate
+ * it in memory but do not write it again. A failed write-back is reported and
+ * retried on the next read.
+ *
+ * <h2>Example Usage</h2>
+ * <pre>{@code
+ * LazyMigrator<Map<String, Object>> lazy = LazyMigrator.builder(migration, SchemaVersion.of(3))
+ *     .writeBack((original, upgraded) -> repository.replaceIfVersion(
+ *         upgraded.getSourceId().orElseThrow(), original.getVersion(), upgraded))
+ *     .onWriteBackFailure((upgraded, error) -> logger.warn("Write-back failed", error))
+ *     .build();
+ *
+ * Map<String, Object> profile = lazy.read(repository.load(playerId));
+ * }</pre>
+ *
+ * <h2>Thread Safety</h2>
+ * <p>LazyMigrator instances are thread-safe.
+ *
+ * @param <T> the type of data being migrated
+ *
+ * @since 1.0.0
+ * @author Supatuck
+ * @see SchemaMigration
+ * @see BulkMigrator
+ */
+public final class LazyMigrator<T> {
+
+    private final SchemaMigration<T> migration;
+    private final SchemaVersion currentVersion;
+    private final AsyncWriteBack<T> writeBack;
+    private final BiConsumer<VersionedData<T>, Throwable> failureHandler;
+
+    // Write-backs in flight by source id, and those of records without one
+    private final ConcurrentHashMap<String, CompletableFuture<Void>> pending = new ConcurrentHashMap<>();
+    private final Set<CompletableFuture<Void>> pendingWithoutId = ConcurrentHashMap.newKeySet();
+
+    private final LongAdder upgraded = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder conflicts = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    private LazyMigrator(Builder<T> builder) {
+        this.migration = builder.migration;
+        this.currentVersion = builder.currentVersion;
+        this.failureHandler = builder.failureHandler;
+        if (builder.asyncWriteBack != null) {
+            this.writeBack = builder.asyncWriteBack;
+        } else {
+            WriteBack<T> writer = builder.writeBack;
+            Executor executor = builder.executor != null ? builder.executor : ForkJoinPool.commonPool();
+            this.writeBack = (original, upgraded) ->
+                    CompletableFuture.supplyAsync(() -> writer.write(original, upgraded), executor);
+        }
+    }
+
+    /**
+     * Creates a builder for a lazy migrator.
+     *
+     * @param migration      the registered migrations
+     * @param currentVersion the version records are upgraded to
+     * @param <T>            the type of data being migrated
+     * @return a new builder
+     * @since 1.0.0
+     */
+    @NotNull
+    public static <T> Builder<T> builder(@NotNull SchemaMigration<T> migration,
+                                         @NotNull SchemaVersion currentVersion) {
+        return new Builder<>(migration, currentVersion);
+    }
+
+    // ========================================
+    // Reading
+    // ========================================
+
+    /**
+     * Returns the record at the current version, migrating it if needed.
+     *
+     * <p>If the record was migrated, its write-back is scheduled before this
+     * method returns.
+     *
+     * @param data the record as read from storage
+     * @return the record at the current version
+     * @throws SerializationException if the record cannot be migrated
+     * @since 1.0.0
+     */
+    @NotNull
+    public VersionedData<T> upgrade(@NotNull VersionedData<T> data) {
+        Objects.requireNonNull(data, "data cannot be null");
+        if (data.getVersion().equals(currentVersion)) {
+            return data;
+        }
+
+        T migrated = migration.compile(data.getVersion(), currentVersion).apply(data.getData());
+        VersionedData<T> result = data.toBuilder()
+                .data(migrated)
+                .version(currentVersion)
+                .modifiedAt(Instant.now())
+                .checksum(null)
+                .build();
+        upgraded.increment();
+        scheduleWriteBack(data, result);
+        return result;
+    }
+
+    /**
+     * Returns the data of a record at the current version.
+     *
+     * @param data the record as read from storage
+     * @return the data at the current version
+     * @throws SerializationException if the record cannot be migrated
+     * @since 1.0.0
+     */
+    @NotNull
+    public T read(@NotNull VersionedData<T> data) {
+        return upgrade(data).getData();
+    }
+
+    /**
+     * Returns the version records are upgraded to.
+     *
+     * @return the current version
+     * @since 1.0.0
+     */
+    @NotNull
+    public SchemaVersion getCurrentVersion() {
+        return currentVersion;
+    }
+
+    // ========================================
+    // Write-Back
+    // ========================================
+
+    /**
+     * Returns a future that completes once all write-backs scheduled so far
+     * have finished, successfully or not.
+     *
+     * @return a future completing when pending write-backs are done
+     * @since 1.0.0
+     */
+    @NotNull
+    public CompletableFuture<Void> flush() {
+        List<CompletableFuture<Void>> inFlight = new ArrayList<>(pending.values());
+        inFlight.addAll(pendingWithoutId);
+        CompletableFuture<?>[] futures = inFlight.toArray(new CompletableFuture<?>[0]);
+        return CompletableFuture.allOf(futures).handle((ignored, error) -> null);
+    }
+
+    /**
+     * Returns the number of write-backs currently in flight.
+     *
+     * @return the pending write-back count
+     * @since 1.0.0
+     */
+    public int getPendingWriteBacks() {
+        return pending.size() + pendingWithoutId.size();
+    }
+
+    /**
+     * Returns the number of records migrated on read.
+     *
+     * @return the upgrade count
+     * @since 1.0.0
+     */
+    public long getUpgradedCount() {
+        return upgraded.sum();
+    }
+
+    /**
+     * Returns the number of successful write-backs.
+     *
+     * @return the write-back count
+     * @since 1.0.0
+     */
+    public long getWrittenCount() {
+        return written.sum();
+    }
+
+    /**
+     * Returns the number of write-backs skipped because the stored record
+     * had changed since it was read.
+     *
+     * @return the conflict count
+     * @since 1.0.0
+     */
+    public long getConflictCount() {
+        return conflicts.sum();
+    }
+
+    /**
+     * Returns the number of failed write-backs.
+     *
+     * @return the failure count
+     * @since 1.0.0
+     */
+    public long getFailedCount() {
+        return failed.sum();
+    }
+
+    // ========================================
+    // Internal Methods
+    // ========================================
+
+    private void scheduleWriteBack(VersionedData<T> original, VersionedData<T> data) {
+        String key = data.getSourceId().orElse(null);
+        if (key == null) {
+            // Nothing to deduplicate on, but still tracked for flush()
+            CompletableFuture<Void> created = new CompletableFuture<>();
+            pendingWithoutId.add(created);
+            start(original, data).whenComplete((ignored, error) -> {
+                pendingWithoutId.remove(created);
+                created.complete(null);
+            });
+            return;
+        }
+
+        CompletableFuture<Void> created = new CompletableFuture<>();
+        if (pending.putIfAbsent(key, created) != null) {
+            return;
+        }
+        start(original, data).whenComplete((ignored, error) -> {
+            pending.remove(key, created);
+            created.complete(null);
+        });
+    }
+
+    private CompletableFuture<Void> start(VersionedData<T> original, VersionedData<T> data) {
+        CompletionStage<Boolean> stage;
+        try {
+            stage = writeBack.write(original, data);
+        } catch (RuntimeException e) {
+            stage = CompletableFuture.failedFuture(e);
+        }
+        return stage.toCompletableFuture().handle((applied, error) -> {
+            if (error != null) {
+                failed.increment();
+                if (failureHandler != null) {
+                    failureHandler.accept(data, error);
+                }
+            } else if (Boolean.TRUE.equals(applied)) {
+                written.increment();
+            } else {
+                conflicts.increment();
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public String toString() {
+        return "LazyMigrator{" +
+                "currentVersion=" + currentVersion +
+                ", upgraded=" + upgraded.sum() +
+                ", pending=" + getPendingWriteBacks() +
+                '}';
+    }
+
+    /**
+     * Replaces a stored record with its upgraded form, blocking until done.
+     *
+     * @param <T> the type of data being migrated
+     * @since 1.0.0
+     */
+    @FunctionalInterface
+    public interface WriteBack<T> {
+
+        /**
+         * Replaces the stored record if it still matches the original.
+         *
+         * @param original the record as it was read from storage
+         * @param upgraded the record at the current version
+         * @return true if the record was replaced, false if it had changed
+         */
+        boolean write(@NotNull VersionedData<T> original, @NotNull VersionedData<T> upgraded);
+    }
+
+    /**
+     * Replaces a stored record with its upgraded form asynchronously.
+     *
+     * @param <T> the type of data being migrated
+     * @since 1.0.0
+     */
+    @FunctionalInterface
+    public interface AsyncWriteBack<T> {
+
+        /**
+         * Replaces the stored record if it still matches the original.
+         *
+         * @param original the record as it was read from storage
+         * @param upgraded the record at the current version
+         * @return a stage completing with true if the record was replaced,
+         *         or false if it had changed
+         */
+        @NotNull
+        CompletionStage<Boolean> write(@NotNull VersionedData<T> original, @NotNull VersionedData<T> upgraded);
+    }
+
+    /**
+     * Builder for {@link LazyMigrator}.
+     *
+     * @param <T> the type of data being migrated
+     * @since 1.0.0
+     */
+    public static final class Builder<T> {
+
+        private final SchemaMigration<T> migration;
+        private final SchemaVersion currentVersion;
+        private WriteBack<T> writeBack;
+        private AsyncWriteBack<T> asyncWriteBack;
+        private Executor executor;
+        private BiConsumer<VersionedData<T>, Throwable> failureHandler;
+
+        private Builder(SchemaMigration<T> migration, SchemaVersion currentVersion) {
+            this.migration = Objects.requireNonNull(migration, "migration cannot be null");
+            this.currentVersion = Objects.requireNonNull(currentVersion, "currentVersion cannot be null");
+        }
+
+        /**
+         * Sets a blocking conditional write-back, run on the
+         * {@link #executor(Executor) executor}.
+         *
+         * @param writeBack replaces the stored record if it still matches the original
+         * @return this builder
+         * @since 1.0.0
+         */
+        @NotNull
+        public Builder<T> writeBack(@NotNull WriteBack<T> writeBack) {
+            this.writeBack = Objects.requireNonNull(writeBack, "writeBack cannot be null");
+            this.asyncWriteBack = null;
+            return this;
+        }
+
+        /**
+         * Sets an asynchronous conditional write-back, such as a repository
+         * update filtered on the original version.
+         *
+         * @param writeBack replaces the stored record if it still matches the
+         *                  original, and completes with whether it did
+         * @return this builder
+         * @since 1.0.0
+         */
+        @NotNull
+        public Builder<T> writeBackAsync(@NotNull AsyncWriteBack<T> writeBack) {
+            this.asyncWriteBack = Objects.requireNonNull(writeBack, "writeBack cannot be null");
+            this.writeBack = null;
+            return this;
+        }
+
+        /**
+         * Sets the executor for blocking write-backs.
+         *
+         * <p>Defaults to the common fork-join pool.
+         *
+         * @param executor the executor
+         * @return this builder
+         * @since 1.0.0
+         */
+        @NotNull
+        public Builder<T> executor(@Nullable Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Sets a handler for failed write-backs.
+         *
+         * @param handler receives the upgraded record and the failure
+         * @return this builder
+         * @since 1.0.0
+         */
+        @NotNull
+        public Builder<T> onWriteBackFailure(@Nullable BiConsumer<VersionedData<T>, Throwable> handler) {
+            this.failureHandler = handler;
+            return this;
+        }
+
+        /**
+         * Builds the lazy migrator.
+         *
+         * @return the lazy migrator
+         * @throws IllegalStateException if no write-back is configured
+         * @since 1.0.0
+         */
+        @NotNull
+        public LazyMigrator<T> build() {
+            if (writeBack == null && asyncWriteBack == null) {
+                throw new IllegalStateException("A write-back must be configured");
+            }
+            return new LazyMigrator<>(this);
+        }
+    }
+}
@@ -345,41 +345,27 @@ public final class LocationSerializer implements Serializer<Map<String, Object>>
 
     @NotNull
     private String serializeToJson(@NotNull Map<String, Object> value, @NotNull SerializationContext context) {
-        StringBuilder json = new StringBuilder("{");
-        boolean first = true;
+        StringBuilder json = new StringBuilder(96);
+        JsonWriter writer = JsonWriter.to(json, context.isPrettyPrint()).beginObject();
 
         // World
         String world = (String) value.get(KEY_WORLD);
         if (world != null) {
-            json.append("\"world\":\"").append(world).append("\"");
-            first = false;
+            writer.name(KEY_WORLD).value(world);
         }
 
         // Coordinates
-        if (!first) json.append(",");
-        if (context.isPrettyPrint()) {
-            json.append("\n  \"x\": ").append(getDouble(value, KEY_X, 0));
-            json.append(",\n  \"y\": ").append(getDouble(value, KEY_Y, 0));
-            json.append(",\n  \"z\": ").append(getDouble(value, KEY_Z, 0));
-        } else {
-            json.append("\"x\":").append(getDouble(value, KEY_X, 0));
-            json.append(",\"y\":").append(getDouble(value, KEY_Y, 0));
-            json.append(",\"z\":").append(getDouble(value, KEY_Z, 0));
-        }
+        writer.name(KEY_X).value(getDouble(value, KEY_X, 0));
+        writer.name(KEY_Y).value(getDouble(value, KEY_Y, 0));
+        writer.name(KEY_Z).value(getDouble(value, KEY_Z, 0));
 
         // Rotation
         if (value.containsKey(KEY_YAW) || value.containsKey(KEY_PITCH)) {
-            if (context.isPrettyPrint()) {
-                json.append(",\n  \"yaw\": ").append(getFloat(value, KEY_YAW, 0));
-                json.append(",\n  \"pitch\": ").append(getFloat(value, KEY_PITCH, 0));
-                json.append("\n");
-            } else {
-                json.append(",\"yaw\":").append(getFloat(value, KEY_YAW, 0));
-                json.append(",\"pitch\":").append(getFloat(value, KEY_PITCH, 0));
-            }
+            writer.name(KEY_YAW).value(getFloat(value, KEY_YAW, 0));
+            writer.name(KEY_PITCH).value(getFloat(value, KEY_PITCH, 0));
         }
 
-        json.append("}");
+        writer.endObject();
         return json.toString();
     }
 
@@ -387,25 +373,18 @@ public final class LocationSerializer implements Serializer<Map<String, Object>>
     private Map<String, Object> deserializeFromJson(@NotNull String json, @NotNull SerializationContext context) {
         Map<String, Object> result = new LinkedHashMap<>();
 
-        json = json.trim();
-        if (json.startsWith("{") && json.endsWith("}")) {
-            json = json.substring(1, json.length() - 1);
-        }
-
-        for (String part : json.split(",")) {
-            part = part.trim();
-            int colonIndex = part.indexOf(":");
-            if (colonIndex > 0) {
-                String key = part.substring(0, colonIndex).trim().replace("\"", "");
-                String valueStr = part.substring(colonIndex + 1).trim().replace("\"", "");
-
-                switch (key) {
-                    case KEY_WORLD -> result.put(KEY_WORLD, valueStr);
-                    case KEY_X, KEY_Y, KEY_Z -> result.put(key, Double.parseDouble(valueStr));
-                    case KEY_YAW, KEY_PITCH -> result.put(key, Float.parseFloat(valueStr));
-                }
+        JsonReader reader = JsonReader.of(json);
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String key = reader.nextName();
+            switch (key) {
+                case KEY_WORLD -> result.put(KEY_WORLD, reader.nextString());
+                case KEY_X, KEY_Y, KEY_Z -> result.put(key, reader.nextDouble());
+                case KEY_YAW, KEY_PITCH -> result.put(key, (float) reader.nextDouble());
+                default -> reader.skipValue();
             }
         }
+        reader.endObject();
 
         return result;
     }
@@ -0,0 +1,378 @@
+/*
+ * Copyright (c) 2025 Supatuck. All rights reserved.
+ * Licensed under the MIT License.
+ */
+package sh.pcx.unified.data.serialization;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * LZ4 block format codec with optional dictionary prefix.
+ *
+ * <p>Produces standard LZ4 blocks (no frame). A dictionary acts as data that
+ * logically precedes the input, so matches may reference it; only its last
+ * 64 KiB are usable because of the format's maximum match distance.
+ *
+ * <p>Instances keep their hash table and work arrays between calls and are
+ * meant to be held per thread via {@link #get()}.
+ *
+ * @since 1.0.0
+ * @author Supatuck
+ */
+final class Lz4Codec {
+
+    static final int MAX_DISTANCE = 65535;
+
+    private static final int MIN_MATCH = 4;
+    private static final int LAST_LITERALS = 5;
+    private static final int MF_LIMIT = 12;
+    private static final int HASH_LOG = 12;
+    private static final int MIN_HASH_LOG = 6;
+    private static final int SKIP_TRIGGER = 6;
+
+    private static final ThreadLocal<Lz4Codec> CODECS = ThreadLocal.withInitial(Lz4Codec::new);
+
+    // Positions are stored plus one so that zero means empty
+    private final int[] table = new int[1 << HASH_LOG];
+    private int[] dictionaryTable;
+    private CompressionDictionary tableDictionary;
+
+    private byte[] input = new byte[0];
+    private CompressionDictionary inputDictionary;
+    private byte[] output = new byte[0];
+    private CompressionDictionary outputDictionary;
+
+    private Lz4Codec() {}
+
+    /**
+     * Returns the calling thread's codec.
+     *
+     * @return the codec
+     */
+    @NotNull
+    static Lz4Codec get() {
+        return CODECS.get();
+    }
+
+    /**
+     * Returns the worst-case compressed size of an input.
+     *
+     * @param length the input length
+     * @return the maximum block size
+     */
+    static int maxCompressedLength(int length) {
+        return length + length / 255 + 16;
+    }
+
+    /**
+     * Compresses the remaining bytes of a source into a block.
+     *
+     * <p>The source's position is not changed. The block is left at offset 0
+     * of {@link #output()} until the next use of this codec.
+     *
+     * @param source     the bytes to compress
+     * @param dictionary the dictionary, or null
+     * @return the block length
+     */
+    int compress(@NotNull ByteBuffer source, @Nullable CompressionDictionary dictionary) {
+        int sourceLength = source.remaining();
+        byte[] in;
+        int base;
+        int start;
+        int hashLog;
+
+        if (dictionary == null) {
+            // Small inputs only touch part of the table
+            hashLog = Math.max(MIN_HASH_LOG, Math.min(HASH_LOG, 32 - Integer.numberOfLeadingZeros(sourceLength)));
+            Arrays.fill(table, 0, 1 << hashLog, 0);
+            if (source.hasArray()) {
+                in = source.array();
+                start = source.arrayOffset() + source.position();
+            } else {
+                in = inputArray(sourceLength, null);
+                source.get(source.position(), in, 0, sourceLength);
+                start = 0;
+            }
+            base = start;
+        } else {
+            // Dictionary tail followed by the input, with the tail pre-hashed
+            byte[] prefix = dictionary.tail(MAX_DISTANCE);
+            in = inputArray(prefix.length + sourceLength, dictionary);
+            source.get(source.position(), in, prefix.length, sourceLength);
+            System.arraycopy(dictionaryTable(dictionary, prefix), 0, table, 0, table.length);
+            hashLog = HASH_LOG;
+            base = 0;
+            start = prefix.length;
+        }
+
+        byte[] out = outputArray(maxCompressedLength(sourceLength));
+        return compressBlock(in, base, start, start + sourceLength, out, hashLog);
+    }
+
+    /**
+     * Decompresses a block.
+     *
+     * <p>The decompressed bytes are left in {@link #output()} at the returned
+     * offset until the next use of this codec.
+     *
+     * @param block      the block, read from its position to its limit
+     * @param dictionary the dictionary used for compression, or null
+     * @param resultSize the exact decompressed size
+     * @return the offset of the decompressed bytes in {@link #output()}
+     * @throws SerializationException if the block is corrupt
+     */
+    int decompress(@NotNull ByteBuffer block, @Nullable CompressionDictionary dictionary, int resultSize) {
+        byte[] in;
+        int inStart;
+        int inEnd;
+        if (block.hasArray()) {
+            in = block.array();
+            inStart = block.arrayOffset() + block.position();
+        } else {
+            in = inputArray(block.remaining(), null);
+            block.get(block.position(), in, 0, block.remaining());
+            inStart = 0;
+        }
+        inEnd = inStart + block.remaining();
+
+        byte[] out;
+        int outStart;
+        if (dictionary == null) {
+            out = outputArray(resultSize);
+            outStart = 0;
+        } else {
+            byte[] prefix = dictionary.tail(MAX_DISTANCE);
+            outStart = prefix.length;
+            if (outputDictionary != dictionary || output.length < outStart + resultSize) {
+                output = Arrays.copyOf(prefix, Math.max(outStart + resultSize, output.length));
+                outputDictionary = dictionary;
+            }
+            out = output;
+        }
+
+        decompressBlock(in, inStart, inEnd, out, outStart, outStart + resultSize);
+        return outStart;
+    }
+
+    /**
+     * Returns the array holding the result of the last operation.
+     *
+     * @return the output array
+     */
+    byte @NotNull [] output() {
+        return output;
+    }
+
+    // ========================================
+    // Block Format
+    // ========================================
+
+    private int compressBlock(byte[] in, int base, int start, int end, byte[] out, int hashLog) {
+        int op = 0;
+        int anchor = start;
+        int pos = start;
+        int matchLimit = end - LAST_LITERALS;
+        int mfLimit = end - MF_LIMIT;
+        int searches = 1 << SKIP_TRIGGER;
+
+        while (pos < mfLimit) {
+            int sequence = readInt(in, pos);
+            int hash = hash(sequence, hashLog);
+            int ref = table[hash] - 1;
+            table[hash] = pos + 1;
+
+            if (ref < base || pos - ref > MAX_DISTANCE || readInt(in, ref) != sequence) {
+                // Step further ahead the longer no match is found
+                pos += searches++ >>> SKIP_TRIGGER;
+                continue;
+            }
+            searches = 1 << SKIP_TRIGGER;
+
+            while (pos > anchor && ref > base && in[pos - 1] == in[ref - 1]) {
+                pos--;
+                ref--;
+            }
+            int matchLength = MIN_MATCH;
+            while (pos + matchLength < matchLimit && in[pos + matchLength] == in[ref + matchLength]) {
+                matchLength++;
+            }
+
+            op = writeSequence(in, anchor, pos - anchor, pos - ref, matchLength, out, op);
+            pos += matchLength;
+            anchor = pos;
+            if (pos - 2 >= start && pos < mfLimit) {
+                table[hash(readInt(in, pos - 2), hashLog)] = pos - 2 + 1;
+            }
+        }
+
+        // Last literals
+        int literals = end - anchor;
+        op = writeLength(out, op, literals, 0);
+        System.arraycopy(in, anchor, out, op, literals);
+        return op + literals;
+    }
+
+    private static int writeSequence(byte[] in, int literalStart, int literals, int distance,
+                                     int matchLength, byte[] out, int op) {
+        int matchCode = matchLength - MIN_MATCH;
+        op = writeLength(out, op, literals, Math.min(matchCode, 15));
+        System.arraycopy(in, literalStart, out, op, literals);
+        op += literals;
+
+        out[op++] = (byte) distance;
+        out[op++] = (byte) (distance >>> 8);
+
+        if (matchCode >= 15) {
+            int remaining = matchCode - 15;
+            while (remaining >= 255) {
+                out[op++] = (byte) 255;
+                remaining -= 255;
+            }
+            out[op++] = (byte) remaining;
+        }
+        return op;
+    }
+
+    private static int writeLength(byte[] out, int op, int literals, int matchNibble) {
+        if (literals >= 15) {
+            out[op++] = (byte) (0xF0 | matchNibble);
+            int remaining = literals - 15;
+            while (remaining >= 255) {
+                out[op++] = (byte) 255;
+                remaining -= 255;
+            }
+            out[op++] = (byte) remaining;
+        } else {
+            out[op++] = (byte) ((literals << 4) | matchNibble);
+        }
+        return op;
+    }
+
+    private static void decompressBlock(byte[] in, int ip, int inEnd, byte[] out, int outStart, int outEnd) {
+        int op = outStart;
+        while (true) {
+            if (ip >= inEnd) {
+                throw corrupt();
+            }
+            int token = in[ip++] & 0xFF;
+
+            int literals = token >>> 4;
+            if (literals == 15) {
+                int b;
+                do {
+                    if (ip >= inEnd) {
+                        throw corrupt();
+                    }
+                    b = in[ip++] & 0xFF;
+                    literals += b;
+                } while (b == 255);
+            }
+            if (literals > inEnd - ip || literals > outEnd - op) {
+                throw corrupt();
+            }
+            System.arraycopy(in, ip, out, op, literals);
+            ip += literals;
+            op += literals;
+
+            if (ip == inEnd) {
+                break;
+            }
+
+            if (inEnd - ip < 2) {
+                throw corrupt();
+            }
+            int distance = (in[ip] & 0xFF) | ((in[ip + 1] & 0xFF) << 8);
+            ip += 2;
+
+            int matchLength = token & 0x0F;
+            if (matchLength == 15) {
+                int b;
+                do {
+                    if (ip >= inEnd) {
+                        throw corrupt();
+                    }
+                    b = in[ip++] & 0xFF;
+                    matchLength += b;
+                } while (b == 255);
+            }
+            matchLength += MIN_MATCH;
+
+            int ref = op - distance;
+            if (distance == 0 || ref < 0 || matchLength > outEnd - op) {
+                throw corrupt();
+            }
+            if (distance >= matchLength) {
+                System.arraycopy(out, ref, out, op, matchLength);
+                op += matchLength;
+            } else {
+                // Overlapping copy repeats the pattern
+                for (int i = 0; i < matchLength; i++) {
+                    out[op++] = out[ref++];
+                }
+            }
+        }
+        if (op != outEnd) {
+            throw corrupt();
+        }
+    }
+
+    // ========================================
+    // Internal Methods
+    // ========================================
+
+    private int[] dictionaryTable(CompressionDictionary dictionary, byte[] prefix) {
+        if (tableDictionary != dictionary) {
+            int[] prefilled = new int[table.length];
+            for (int pos = 0; pos + MIN_MATCH <= prefix.length; pos++) {
+                prefilled[hash(readInt(prefix, pos), HASH_LOG)] = pos + 1;
+            }
+            dictionaryTable = prefilled;
+            tableDictionary = dictionary;
+        }
+        return dictionaryTable;
+    }
+
+    private byte[] inputArray(int size, @Nullable CompressionDictionary dictionary) {
+        if (dictionary != null) {
+            // Keep the dictionary prefix in place across calls with the same dictionary
+            if (inputDictionary != dictionary || input.length < size) {
+                byte[] prefix = dictionary.tail(MAX_DISTANCE);
+                input = Arrays.copyOf(prefix, Math.max(size, input.length));
+                inputDictionary = dictionary;
+            }
+            return input;
+        }
+        if (input.length < size) {
+            input = new byte[size];
+        }
+        inputDictionary = null;
+        return input;
+    }
+
+    private byte[] outputArray(int size) {
+        if (output.length < size) {
+            output = new byte[size];
+        }
+        outputDictionary = null;
+        return output;
+    }
+
+    private static int readInt(byte[] data, int pos) {
+        return (data[pos] & 0xFF)
+                | (data[pos + 1] & 0xFF) << 8
+                | (data[pos + 2] & 0xFF) << 16
+                | (data[pos + 3] & 0xFF) << 24;
+    }
+
+    private static int hash(int sequence, int hashLog) {
+        return (sequence * -1640531535) >>> (32 - hashLog);
+    }
+
+    private static SerializationException corrupt() {
+        return new SerializationException("Corrupt LZ4 block");
+    }
+}
@@ -6,7 +6,9 @@ package sh.pcx.unified.data.serialization;
 
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -51,6 +53,13 @@ import java.util.function.Function;
  * Map<String, Object> newData = migration.migrate(oldData, SchemaVersion.of(1), SchemaVersion.of(3));
  * }</pre>
  *
+ * <h2>Compiled Pipelines</h2>
+ * <p>The path between two versions is resolved once and cached as a
+ * {@link Pipeline}; later migrations between the same versions only run the
+ * steps. Registering a step discards the cached pipelines. Use
+ * {@link #compile(SchemaVersion, SchemaVersion)} to hold on to a pipeline
+ * directly, as {@link LazyMigrator} and {@link BulkMigrator} do.
+ *
  * <h2>Thread Safety</h2>
  * <p>SchemaMigration instances are thread-safe.
  *
@@ -64,7 +73,9 @@ import java.util.function.Function;
 public final class SchemaMigration<T> {
 
     private final Map<MigrationKey, MigrationStep<T>> migrations = new ConcurrentHashMap<>();
-    private final Map<SchemaVersion, List<SchemaVersion>> migrationPaths = new ConcurrentHashMap<>();
+
+    // Replaced as a whole on register so that lookups never mix old and new steps
+    private volatile PathIndex<T> index = PathIndex.empty();
 
     private SchemaMigration() {}
 
@@ -105,8 +116,10 @@ public final class SchemaMigration<T> {
         }
 
         MigrationKey key = new MigrationKey(fromVersion, toVersion);
-        migrations.put(key, new MigrationStep<>(fromVersion, toVersion, migrator));
-        migrationPaths.clear(); // Clear cached paths
+        synchronized (migrations) {
+            migrations.put(key, new MigrationStep<>(fromVersion, toVersion, migrator));
+            index = PathIndex.of(migrations.values());
+        }
         return this;
     }
 
@@ -146,18 +159,33 @@ public final class SchemaMigration<T> {
         if (fromVersion.equals(toVersion)) {
             return data;
         }
+        return compile(fromVersion, toVersion).apply(data);
+    }
+
+    /**
+     * Returns the compiled pipeline between two versions.
+     *
+     * <p>The pipeline is resolved on first use and cached until another step
+     * is registered. A pipeline keeps working after that, but reflects the
+     * steps registered when it was compiled.
+     *
+     * @param fromVersion the source version
+     * @param toVersion   the target version
+     * @return the pipeline; empty if both versions are equal
+     * @throws SerializationException if no migration path is found
+     * @since 1.0.0
+     */
+    @NotNull
+    public Pipeline<T> compile(@NotNull SchemaVersion fromVersion, @NotNull SchemaVersion toVersion) {
+        Objects.requireNonNull(fromVersion, "fromVersion cannot be null");
+        Objects.requireNonNull(toVersion, "toVersion cannot be null");
 
-        List<MigrationStep<T>> path = findMigrationPath(fromVersion, toVersion);
-        if (path.isEmpty()) {
+        Pipeline<T> pipeline = findPipeline(fromVersion, toVersion);
+        if (pipeline == null) {
             throw new SerializationException(
                     "No migration path found from " + fromVersion + " to " + toVersion);
         }
-
-        T result = data;
-        for (MigrationStep<T> step : path) {
-            result = step.apply(result);
-        }
-        return result;
+        return pipeline;
     }
 
     /**
@@ -188,10 +216,7 @@ public final class SchemaMigration<T> {
      * @since 1.0.0
      */
     public boolean canMigrate(@NotNull SchemaVersion fromVersion, @NotNull SchemaVersion toVersion) {
-        if (fromVersion.equals(toVersion)) {
-            return true;
-        }
-        return !findMigrationPath(fromVersion, toVersion).isEmpty();
+        return findPipeline(fromVersion, toVersion) != null;
     }
 
     /**
@@ -205,21 +230,8 @@ public final class SchemaMigration<T> {
     @NotNull
     public List<SchemaVersion> getMigrationPath(@NotNull SchemaVersion fromVersion,
                                                   @NotNull SchemaVersion toVersion) {
-        if (fromVersion.equals(toVersion)) {
-            return Collections.singletonList(fromVersion);
-        }
-
-        List<MigrationStep<T>> steps = findMigrationPath(fromVersion, toVersion);
-        if (steps.isEmpty()) {
-            return Collections.emptyList();
-        }
-
-        List<SchemaVersion> path = new ArrayList<>();
-        path.add(fromVersion);
-        for (MigrationStep<T> step : steps) {
-            path.add(step.toVersion());
-        }
-        return Collections.unmodifiableList(path);
+        Pipeline<T> pipeline = findPipeline(fromVersion, toVersion);
+        return pipeline != null ? pipeline.getVersions() : Collections.emptyList();
     }
 
     /**
@@ -243,58 +255,190 @@ public final class SchemaMigration<T> {
     @NotNull
     public SchemaVersion getLatestMigratableVersion(@NotNull SchemaVersion fromVersion) {
         SchemaVersion latest = fromVersion;
-
-        for (MigrationKey key : migrations.keySet()) {
-            if (key.fromVersion().equals(latest)) {
-                SchemaVersion candidate = getLatestMigratableVersion(key.toVersion());
-                if (candidate.isNewerThan(latest)) {
-                    latest = candidate;
-                }
+        for (MigrationStep<T> step : index.outgoing(fromVersion)) {
+            SchemaVersion candidate = getLatestMigratableVersion(step.toVersion());
+            if (candidate.isNewerThan(latest)) {
+                latest = candidate;
             }
         }
-
         return latest;
     }
 
-    private List<MigrationStep<T>> findMigrationPath(SchemaVersion from, SchemaVersion to) {
-        // Check for direct migration first
-        MigrationKey directKey = new MigrationKey(from, to);
-        MigrationStep<T> direct = migrations.get(directKey);
-        if (direct != null) {
-            return Collections.singletonList(direct);
+    private Pipeline<T> findPipeline(SchemaVersion from, SchemaVersion to) {
+        PathIndex<T> current = index;
+        MigrationKey key = new MigrationKey(from, to);
+        Pipeline<T> pipeline = current.pipelines().get(key);
+        if (pipeline == null) {
+            pipeline = current.pipelines().computeIfAbsent(key, k -> resolve(current, from, to));
+        }
+        return pipeline.isUnreachable() ? null : pipeline;
+    }
+
+    private static <T> Pipeline<T> resolve(PathIndex<T> index, SchemaVersion from, SchemaVersion to) {
+        if (from.equals(to)) {
+            return new Pipeline<>(from, to, List.of());
         }
 
-        // BFS to find the shortest path
-        Map<SchemaVersion, MigrationStep<T>> visited = new HashMap<>();
-        List<SchemaVersion> queue = new ArrayList<>();
+        // Breadth-first search for the path with the fewest steps
+        Map<SchemaVersion, MigrationStep<T>> reachedBy = new HashMap<>();
+        ArrayDeque<SchemaVersion> queue = new ArrayDeque<>();
         queue.add(from);
-        visited.put(from, null);
+        reachedBy.put(from, null);
 
         while (!queue.isEmpty()) {
-            SchemaVersion current = queue.remove(0);
-
-            for (MigrationStep<T> step : migrations.values()) {
-                if (step.fromVersion().equals(current) && !visited.containsKey(step.toVersion())) {
-                    visited.put(step.toVersion(), step);
-
-                    if (step.toVersion().equals(to)) {
-                        // Reconstruct path
-                        List<MigrationStep<T>> path = new ArrayList<>();
-                        SchemaVersion v = to;
-                        while (visited.get(v) != null) {
-                            MigrationStep<T> s = visited.get(v);
-                            path.add(0, s);
-                            v = s.fromVersion();
-                        }
-                        return path;
+            SchemaVersion current = queue.poll();
+            for (MigrationStep<T> step : index.outgoing(current)) {
+                if (reachedBy.containsKey(step.toVersion())) {
+                    continue;
+                }
+                reachedBy.put(step.toVersion(), step);
+                if (step.toVersion().equals(to)) {
+                    List<MigrationStep<T>> path = new ArrayList<>();
+                    for (MigrationStep<T> s = step; s != null; s = reachedBy.get(s.fromVersion())) {
+                        path.add(s);
                     }
-
-                    queue.add(step.toVersion());
+                    Collections.reverse(path);
+                    return new Pipeline<>(from, to, path);
                 }
+                queue.add(step.toVersion());
             }
         }
+        return new Pipeline<>(from, to, null);
+    }
+
+    /**
+     * Snapshot of the registered steps grouped by source version, together
+     * with the pipelines compiled from them.
+     */
+    private record PathIndex<T>(
+            Map<SchemaVersion, List<MigrationStep<T>>> steps,
+            Map<MigrationKey, Pipeline<T>> pipelines
+    ) {
+
+        static <T> PathIndex<T> empty() {
+            return new PathIndex<>(Map.of(), new ConcurrentHashMap<>());
+        }
 
-        return Collections.emptyList();
+        static <T> PathIndex<T> of(Collection<MigrationStep<T>> registered) {
+            Map<SchemaVersion, List<MigrationStep<T>>> steps = new HashMap<>();
+            for (MigrationStep<T> step : registered) {
+                steps.computeIfAbsent(step.fromVersion(), v -> new ArrayList<>()).add(step);
+            }
+            // Deterministic paths: prefer the step reaching the lowest version first
+            steps.values().forEach(list -> list.sort(Comparator.comparing(MigrationStep::toVersion)));
+            return new PathIndex<>(steps, new ConcurrentHashMap<>());
+        }
+
+        List<MigrationStep<T>> outgoing(SchemaVersion version) {
+            return steps.getOrDefault(version, List.of());
+        }
+    }
+
+    /**
+     * A compiled chain of migration steps between two versions.
+     *
+     * <p>Applying a pipeline runs its steps in order without any lookups.
+     *
+     * @param <T> the type of data being migrated
+     * @since 1.0.0
+     */
+    public static final class Pipeline<T> {
+
+        private final SchemaVersion fromVersion;
+        private final SchemaVersion toVersion;
+        private final MigrationStep<T>[] steps;
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private Pipeline(SchemaVersion fromVersion, SchemaVersion toVersion, List<MigrationStep<T>> steps) {
+            this.fromVersion = fromVersion;
+            this.toVersion = toVersion;
+            this.steps = steps != null ? steps.toArray(new MigrationStep[0]) : null;
+        }
+
+        /**
+         * Runs all steps of this pipeline.
+         *
+         * @param data the data at the source version
+         * @return the data at the target version
+         * @throws SerializationException if a step fails
+         * @since 1.0.0
+         */
+        @NotNull
+        public T apply(@NotNull T data) {
+            T result = data;
+            for (MigrationStep<T> step : steps) {
+                result = step.apply(result);
+            }
+            return result;
+        }
+
+        /**
+         * Returns the source version.
+         *
+         * @return the source version
+         * @since 1.0.0
+         */
+        @NotNull
+        public SchemaVersion getFromVersion() {
+            return fromVersion;
+        }
+
+        /**
+         * Returns the target version.
+         *
+         * @return the target version
+         * @since 1.0.0
+         */
+        @NotNull
+        public SchemaVersion getToVersion() {
+            return toVersion;
+        }
+
+        /**
+         * Returns the steps of this pipeline in order.
+         *
+         * @return an unmodifiable list of steps
+         * @since 1.0.0
+         */
+        @NotNull
+        public List<MigrationStep<T>> getSteps() {
+            return List.of(steps);
+        }
+
+        /**
+         * Returns the versions this pipeline passes through, including both ends.
+         *
+         * @return an unmodifiable list of versions
+         * @since 1.0.0
+         */
+        @NotNull
+        public List<SchemaVersion> getVersions() {
+            SchemaVersion[] versions = new SchemaVersion[steps.length + 1];
+            versions[0] = fromVersion;
+            for (int i = 0; i < steps.length; i++) {
+                versions[i + 1] = steps[i].toVersion();
+            }
+            return List.of(versions);
+        }
+
+        /**
+         * Checks whether this pipeline has no steps.
+         *
+         * @return true if the data is returned unchanged
+         * @since 1.0.0
+         */
+        public boolean isEmpty() {
+            return steps.length == 0;
+        }
+
+        private boolean isUnreachable() {
+            return steps == null;
+        }
+
+        @Override
+        public String toString() {
+            return "Pipeline{" + getVersions() + "}";
+        }
     }
 
     /**
@@ -108,7 +108,13 @@ public final class SerializationContext {
         /**
          * LZ4 compression - fast compression/decompression.
          */
-        LZ4
+        LZ4,
+
+        /**
+         * DEFLATE compression - GZIP's algorithm with less framing,
+         * supports preset dictionaries.
+         */
+        DEFLATE
     }
 
     private static final SerializationContext DEFAULT = builder().build();
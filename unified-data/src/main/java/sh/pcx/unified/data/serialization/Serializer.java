@@ -171,6 +171,42 @@ public interface Serializer<T> {
         return fromBytes(bytes, context);
     }
 
+    /**
+     * Serializes an object into a caller-provided buffer.
+     *
+     * <p>The bytes are written at the buffer's current position, exactly as
+     * {@link #toBytes} would produce them. Binary serializers override this to
+     * encode straight into the buffer; together with a pooled
+     * {@link BinaryBuffer#acquireDirect() direct buffer} this lets network
+     * paths avoid a {@code byte[]} per call.
+     *
+     * @param value   the object to serialize
+     * @param buffer  the buffer to write into
+     * @param context the serialization context
+     * @throws SerializationException if serialization fails
+     * @since 1.0.0
+     */
+    default void toBuffer(@NotNull T value, @NotNull BinaryBuffer buffer,
+                          @NotNull SerializationContext context) {
+        buffer.writeRawBytes(toBytes(value, context));
+    }
+
+    /**
+     * Deserializes an object from the remaining bytes of a buffer.
+     *
+     * <p>Consumes the buffer up to its limit.
+     *
+     * @param buffer  the buffer to read from
+     * @param context the serialization context
+     * @return the deserialized object
+     * @throws SerializationException if deserialization fails
+     * @since 1.0.0
+     */
+    @NotNull
+    default T fromBuffer(@NotNull BinaryBuffer buffer, @NotNull SerializationContext context) {
+        return fromBytes(buffer.readRawBytes(buffer.remaining()), context);
+    }
+
     /**
      * Serializes an object using default context.
      *
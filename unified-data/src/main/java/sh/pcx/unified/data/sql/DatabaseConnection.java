@@ -410,6 +410,60 @@ public class DatabaseConnection implements AutoCloseable {
         return stmt.executeQuery();
     }
 
+    /**
+     * Executes a query on a forward-only cursor that fetches rows in batches.
+     *
+     * <p>Unlike {@link #executeQuery(String, Object...)}, the driver is asked
+     * not to buffer the whole result, so arbitrarily large results can be read
+     * with constant memory. MySQL streams row by row regardless of
+     * {@code fetchSize}, and on PostgreSQL a transaction is started if none is
+     * active because the driver only uses a cursor outside auto-commit; it is
+     * rolled back when this connection is closed.
+     *
+     * <p>The statement is closed together with the returned ResultSet. While
+     * the cursor is open, this connection cannot run other statements.
+     *
+     * <h2>Example</h2>
+     * <pre>{@code
+     * try (ResultSet rs = conn.executeStreamingQuery(
+     *         "SELECT * FROM player_stats ORDER BY id", 500)) {
+     *     while (rs.next()) {
+     *         // Process row
+     *     }
+     * }
+     * }</pre>
+     *
+     * @param sql       the SQL query
+     * @param fetchSize the number of rows fetched per round trip
+     * @param params    the parameters to bind
+     * @return the result set (caller must close)
+     * @throws SQLException if a database error occurs
+     * @since 1.0.0
+     */
+    @NotNull
+    public ResultSet executeStreamingQuery(@NotNull String sql, int fetchSize, @Nullable Object... params)
+            throws SQLException {
+        if (fetchSize < 1) {
+            throw new IllegalArgumentException("fetchSize must be at least 1");
+        }
+        if (databaseType == DatabaseType.POSTGRESQL && !inTransaction) {
+            beginTransaction();
+        }
+        PreparedStatement stmt = connection.prepareStatement(
+                sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        try {
+            // MySQL streams row by row only with this special fetch size
+            stmt.setFetchSize(databaseType == DatabaseType.MYSQL ? Integer.MIN_VALUE : fetchSize);
+            bindParameters(stmt, params);
+            ResultSet rs = stmt.executeQuery();
+            stmt.closeOnCompletion();
+            return rs;
+        } catch (SQLException e) {
+            stmt.close();
+            throw e;
+        }
+    }
+
     /**
      * Executes an insert and returns the generated key.
      *
@@ -6,14 +6,19 @@ package sh.pcx.unified.data.sql;
 
 import sh.pcx.unified.data.sql.query.QueryBuilder;
 import sh.pcx.unified.data.sql.query.SelectBuilder;
+import sh.pcx.unified.data.sql.orm.BulkWriter;
+import sh.pcx.unified.data.sql.orm.EntityMapper;
 import sh.pcx.unified.data.sql.orm.Repository;
 import sh.pcx.unified.service.Service;
 import org.jetbrains.annotations.NotNull;
 
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -110,6 +115,18 @@ public interface DatabaseService extends Service {
     @NotNull
     DatabaseConfig getConfig();
 
+    /**
+     * Returns the executor this service runs blocking database work on.
+     *
+     * <p>All asynchronous operations of the service, including streaming
+     * publishers and bulk writers it creates, use this executor.
+     *
+     * @return the database executor
+     * @since 1.0.0
+     */
+    @NotNull
+    Executor getExecutor();
+
     /**
      * Checks if the database connection is healthy.
      *
@@ -298,6 +315,67 @@ public interface DatabaseService extends Service {
     <T> CompletableFuture<Optional<T>> queryFirstAsync(@NotNull String sql, @NotNull ResultSetMapper<T> mapper,
                                                         @NotNull Object... params);
 
+    /**
+     * Executes a query and passes each mapped row to an action as it is read.
+     *
+     * <p>Unlike {@link #query(String, ResultSetMapper, Object...)}, rows are
+     * read from a forward-only cursor in batches of {@code fetchSize} and are
+     * never collected into a list.
+     *
+     * <h2>Example</h2>
+     * <pre>{@code
+     * long rows = database.stream("SELECT uuid, balance FROM players", rs -> new Balance(rs),
+     *     1000, balance -> ledger.add(balance));
+     * }</pre>
+     *
+     * @param <T>       the result type
+     * @param sql       the SQL query
+     * @param mapper    the function to map each row
+     * @param fetchSize the number of rows fetched per round trip
+     * @param action    the action to run for each mapped row
+     * @param params    the parameters to bind
+     * @return the number of rows processed
+     * @throws SQLException if a database error occurs
+     * @since 1.0.0
+     * @see DatabaseConnection#executeStreamingQuery(String, int, Object...)
+     */
+    default <T> long stream(@NotNull String sql, @NotNull ResultSetMapper<T> mapper, int fetchSize,
+                            @NotNull Consumer<? super T> action, @NotNull Object... params) throws SQLException {
+        try (DatabaseConnection conn = getConnectionProvider().getConnection();
+             ResultSet rs = conn.executeStreamingQuery(sql, fetchSize, params)) {
+            long rows = 0;
+            while (rs.next()) {
+                action.accept(mapper.map(rs));
+                rows++;
+            }
+            return rows;
+        }
+    }
+
+    /**
+     * Returns a publisher that streams the mapped rows of a query with
+     * backpressure.
+     *
+     * <p>Each subscription runs the query on its own connection and reads
+     * rows only as the subscriber requests them. Rows are read and delivered
+     * on the {@linkplain #getExecutor() database executor}.
+     *
+     * @param <T>       the result type
+     * @param sql       the SQL query
+     * @param mapper    the function to map each row
+     * @param fetchSize the number of rows fetched per round trip
+     * @param params    the parameters to bind
+     * @return a publisher of mapped rows
+     * @since 1.0.0
+     * @see ResultSetPublisher
+     */
+    @NotNull
+    default <T> Flow.Publisher<T> publish(@NotNull String sql, @NotNull ResultSetMapper<T> mapper, int fetchSize,
+                                          @NotNull Object... params) {
+        return new ResultSetPublisher<>(getConnectionProvider(), sql, params, fetchSize, mapper,
+                getExecutor());
+    }
+
     // ========================================================================
     // Transactions
     // ========================================================================
@@ -402,6 +480,32 @@ public interface DatabaseService extends Service {
     @NotNull
     <T, ID> Repository<T, ID> getRepository(@NotNull Class<T> entityClass);
 
+    /**
+     * Creates a bulk writer for the specified entity type.
+     *
+     * <p>Bulk writers save, update and delete many entities in one
+     * transaction using JDBC batches and multi-row upserts.
+     *
+     * <h2>Example</h2>
+     * <pre>{@code
+     * database.bulkWriter(PlayerData.class, 250).saveAllAsync(onlineProfiles);
+     * }</pre>
+     *
+     * @param <T>         the entity type
+     * @param entityClass the entity class
+     * @param batchSize   the number of rows per statement or batch
+     * @return a bulk writer for the entity
+     * @since 1.0.0
+     * @see BulkWriter
+     */
+    @NotNull
+    default <T> BulkWriter<T> bulkWriter(@NotNull Class<T> entityClass, int batchSize) {
+        return BulkWriter.builder(EntityMapper.forClass(entityClass), getConnectionProvider())
+                .batchSize(batchSize)
+                .executor(getExecutor())
+                .build();
+    }
+
     // ========================================================================
     // Schema Management
     // ========================================================================
@@ -485,7 +589,7 @@ public interface DatabaseService extends Service {
          * @return the mapped object
          * @throws SQLException if a database error occurs
          */
-        T map(@NotNull java.sql.ResultSet rs) throws SQLException;
+        T map(@NotNull ResultSet rs) throws SQLException;
     }
 
     /**
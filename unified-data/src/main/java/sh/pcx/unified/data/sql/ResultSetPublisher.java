@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2025 Supatuck. All rights reserved.
+ * Licensed under the MIT License.
+ */
+package sh.pcx.unified.data.sql;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A {@link Flow.Publisher} that streams the rows of a query from a
+ * forward-only cursor.
+ *
+ * <p>Every subscription runs the query on its own connection, using
+ * {@link DatabaseConnection#executeStreamingQuery(String, int, Object...)}.
+ * Rows are only read from the cursor when the subscriber has requested
+ * them, so a slow consumer holds back the database instead of filling up
+ * memory. Rows are delivered on the executor, one subscription at a time on
+ * at most one thread.
+ *
+ * <p>The connection is held from the first request until the result is
+ * exhausted, the subscription is cancelled or an error occurs. A subscriber
+ * that stops requesting without cancelling keeps its connection checked out.
+ *
+ * <h2>Example Usage</h2>
+ * <pre>{@code
+ * Flow.Publisher<PlayerData> players = database.query(PlayerData.class)
+ *     .where("active", true)
+ *     .fetchSize(1000)
+ *     .publisher();
+ * players.subscribe(subscriber);
+ * }</pre>
+ *
+ * @param <T> the element type
+ * @since 1.0.0
+ * @author Supatuck
+ * @see DatabaseConnection#executeStreamingQuery(String, int, Object...)
+ */
+public final class ResultSetPublisher<T> implements Flow.Publisher<T> {
+
+    /**
+     * The default number of rows fetched per round trip.
+     */
+    public static final int DEFAULT_FETCH_SIZE = 500;
+
+    private final ConnectionProvider connectionProvider;
+    private final String sql;
+    private final Object[] params;
+    private final int fetchSize;
+    private final DatabaseService.ResultSetMapper<T> mapper;
+    private final Executor executor;
+
+    /**
+     * Creates a publisher for a query.
+     *
+     * @param connectionProvider the provider of connections
+     * @param sql                the SQL query
+     * @param params             the parameters to bind
+     * @param fetchSize          the number of rows fetched per round trip
+     * @param mapper             the function to map each row
+     * @param executor           the executor rows are read and delivered on
+     * @since 1.0.0
+     */
+    public ResultSetPublisher(
+            @NotNull ConnectionProvider connectionProvider,
+            @NotNull String sql,
+            @Nullable Object[] params,
+            int fetchSize,
+            @NotNull DatabaseService.ResultSetMapper<T> mapper,
+            @NotNull Executor executor
+    ) {
+        this.connectionProvider = Objects.requireNonNull(connectionProvider, "connectionProvider cannot be null");
+        this.sql = Objects.requireNonNull(sql, "sql cannot be null");
+        this.params = params == null ? new Object[0] : params.clone();
+        this.mapper = Objects.requireNonNull(mapper, "mapper cannot be null");
+        this.executor = Objects.requireNonNull(executor, "executor cannot be null");
+        if (fetchSize < 1) {
+            throw new IllegalArgumentException("fetchSize must be at least 1");
+        }
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber cannot be null");
+        subscriber.onSubscribe(new CursorSubscription(subscriber));
+    }
+
+    @Override
+    public String toString() {
+        return "ResultSetPublisher{sql='" + sql + "', fetchSize=" + fetchSize + "}";
+    }
+
+    // ========================================================================
+    // Subscription
+    // ========================================================================
+
+    private final class CursorSubscription implements Flow.Subscription, Runnable {
+
+        private final Flow.Subscriber<? super T> subscriber;
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger pending = new AtomicInteger();
+
+        private volatile boolean cancelled;
+        private volatile Throwable invalidRequest;
+
+        // Only touched by the thread currently running the drain loop
+        private DatabaseConnection connection;
+        private ResultSet cursor;
+        private boolean done;
+
+        CursorSubscription(Flow.Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                invalidRequest = new IllegalArgumentException("Requested " + n + " rows, must be positive");
+            } else {
+                demand.getAndAccumulate(n, (current, added) -> {
+                    long sum = current + added;
+                    return sum < 0 ? Long.MAX_VALUE : sum;
+                });
+            }
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            schedule();
+        }
+
+        private void schedule() {
+            if (pending.getAndIncrement() == 0) {
+                try {
+                    executor.execute(this);
+                } catch (RejectedExecutionException e) {
+                    invalidRequest = e;
+                    run();
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            int missed = 1;
+            do {
+                if (!done) {
+                    drain();
+                }
+                missed = pending.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void drain() {
+            if (cancelled) {
+                finish(null, false);
+                return;
+            }
+            Throwable error = invalidRequest;
+            if (error != null) {
+                finish(error, true);
+                return;
+            }
+            try {
+                if (cursor == null) {
+                    connection = connectionProvider.getConnection();
+                    cursor = connection.executeStreamingQuery(sql, fetchSize, params);
+                }
+                long requested = demand.get();
+                long emitted = 0;
+                while (emitted < requested) {
+                    if (cancelled) {
+                        finish(null, false);
+                        return;
+                    }
+                    if (!cursor.next()) {
+                        finish(null, true);
+                        return;
+                    }
+                    subscriber.onNext(mapper.map(cursor));
+                    emitted++;
+                }
+                demand.addAndGet(-emitted);
+            } catch (Throwable e) {
+                finish(e, true);
+            }
+        }
+
+        private void finish(@Nullable Throwable error, boolean signal) {
+            done = true;
+            Throwable closeError = close();
+            if (error == null) {
+                error = closeError;
+            }
+            if (signal) {
+                if (error != null) {
+                    subscriber.onError(error);
+                } else {
+                    subscriber.onComplete();
+                }
+            }
+        }
+
+        private Throwable close() {
+            SQLException error = null;
+            try {
+                if (cursor != null) {
+                    cursor.close();
+                }
+            } catch (SQLException e) {
+                error = e;
+            }
+            try {
+                if (connection != null) {
+                    connection.close();
+                }
+            } catch (SQLException e) {
+                if (error == null) {
+                    error = e;
+                }
+            }
+            cursor = null;
+            connection = null;
+            return error;
+        }
+    }
+}
@@ -0,0 +1,658 @@
+/*
+ * Copyright (c) 2025 Supatuck. All rights reserved.
+ * Licensed under the MIT License.
+ */
+package sh.pcx.unified.data.sql.orm;
+
+import sh.pcx.unified.data.sql.ConnectionProvider;
+import sh.pcx.unified.data.sql.DatabaseConnection;
+import sh.pcx.unified.data.sql.DatabaseType;
+import org.jetbrains.annotations.NotNull;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.StringJoiner;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Writes many entities in a few round trips.
+ *
+ * <p>Every operation runs in a single transaction and sends its rows in
+ * chunks of the batch size:
+ * <ul>
+ *   <li>{@link #saveAll(Iterable)} upserts entities that have an ID with
+ *       multi-row {@code INSERT ... ON DUPLICATE KEY UPDATE} (MySQL, MariaDB)
+ *       or {@code INSERT ... ON CONFLICT (id) DO UPDATE} (PostgreSQL,
+ *       SQLite), and inserts entities whose ID is still to be generated as
+ *       a JDBC batch, setting the generated IDs on them</li>
+ *   <li>{@link #updateAll(Iterable)} sends one JDBC batch of UPDATEs per chunk</li>
+ *   <li>{@link #deleteAll(Iterable)} and {@link #deleteAllById(Collection)}
+ *       delete with one {@code WHERE id IN (...)} per chunk</li>
+ * </ul>
+ * Saving 400 entities with the default batch size of 500 therefore takes a
+ * single statement instead of 400. Chunks are also kept below the number of
+ * bind parameters the database accepts per statement. When several entities
+ * with the same ID are upserted together, only the last one is written.
+ *
+ * <h2>Example Usage</h2>
+ * <pre>{@code
+ * BulkWriter<PlayerData> writer = BulkWriter.builder(EntityMapper.forClass(PlayerData.class), connectionProvider)
+ *     .batchSize(250)
+ *     .build();
+ *
+ * // Autosave all online profiles
+ * writer.saveAllAsync(onlineProfiles)
+ *     .thenAccept(saved -> logger.info("Saved {} profiles", saved.size()));
+ * }</pre>
+ *
+ * <h2>Thread Safety</h2>
+ * <p>This class is thread-safe; every call uses its own connection.
+ *
+ * @param <T> the entity type
+ * @since 1.0.0
+ * @author Supatuck
+ * @see EntityMapper
+ * @see Repository#saveAll(Iterable)
+ */
+public final class BulkWriter<T> {
+
+    /**
+     * The default number of rows per statement or batch.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 500;
+
+    private final EntityMapper<T> mapper;
+    private final ConnectionProvider connectionProvider;
+    private final DatabaseType databaseType;
+    private final Executor executor;
+    private final int batchSize;
+
+    private final String tableName;
+    private final String idColumn;
+    private final boolean idGenerated;
+    private final List<String> upsertColumns;
+    private final String insertSql;
+    private final String updateSql;
+    private final String upsertClause;
+
+    private BulkWriter(Builder<T> builder) {
+        this.mapper = builder.mapper;
+        this.connectionProvider = builder.connectionProvider;
+        this.databaseType = connectionProvider.getDatabaseType();
+        this.executor = builder.executor;
+        this.batchSize = builder.batchSize;
+
+        this.tableName = mapper.getTableName();
+        this.idColumn = mapper.getIdColumnName();
+        this.idGenerated = mapper.isIdAutoGenerated();
+
+        List<String> insertable = mapper.getInsertableColumnNames();
+        List<String> columns = new ArrayList<>();
+        if (idGenerated) {
+            // Upserted rows already have their ID, so it is sent explicitly
+            columns.add(idColumn);
+        }
+        columns.addAll(insertable);
+        this.upsertColumns = List.copyOf(columns);
+
+        this.insertSql = mapper.getInsertSql();
+        this.updateSql = mapper.getUpdateByIdSql();
+        this.upsertClause = buildUpsertClause(mapper.getUpdatableColumnNames());
+    }
+
+    /**
+     * Creates a builder for a bulk writer.
+     *
+     * @param mapper             the entity mapper
+     * @param connectionProvider the provider of connections
+     * @param <T>                the entity type
+     * @return a new builder
+     * @since 1.0.0
+     */
+    @NotNull
+    public static <T> Builder<T> builder(@NotNull EntityMapper<T> mapper,
+                                         @NotNull ConnectionProvider connectionProvider) {
+        return new Builder<>(mapper, connectionProvider);
+    }
+
+    // ========================================================================
+    // Save Operations
+    // ========================================================================
+
+    /**
+     * Inserts or updates entities.
+     *
+     * <p>Entities with an auto-generated ID that is not set yet are inserted
+     * and receive their generated ID; all others are upserted by ID.
+     *
+     * @param entities the entities to save
+     * @return the number of entities saved
+     * @throws SQLException if a database error occurs; nothing is saved then
+     * @since 1.0.0
+     */
+    public int saveAll(@NotNull Iterable<T> entities) throws SQLException {
+        Objects.requireNonNull(entities, "entities cannot be null");
+        List<T> fresh = new ArrayList<>();
+        List<T> existing = new ArrayList<>();
+        for (T entity : entities) {
+            (isNew(entity) ? fresh : existing).add(entity);
+        }
+        if (fresh.isEmpty() && existing.isEmpty()) {
+            return 0;
+        }
+
+        try (DatabaseConnection conn = connectionProvider.getConnection()) {
+            conn.beginTransaction();
+            insert(conn, fresh);
+            upsert(conn, existing);
+            conn.commit();
+        }
+        return fresh.size() + existing.size();
+    }
+
+    /**
+     * Inserts or updates entities asynchronously.
+     *
+     * @param entities the entities to save
+     * @return a future containing the saved entities, with generated IDs set
+     * @since 1.0.0
+     * @see #saveAll(Iterable)
+     */
+    @NotNull
+    public CompletableFuture<List<T>> saveAllAsync(@NotNull Iterable<T> entities) {
+        Objects.requireNonNull(entities, "entities cannot be null");
+        return CompletableFuture.supplyAsync(() -> {
+            List<T> saved = new ArrayList<>();
+            entities.forEach(saved::add);
+            try {
+                saveAll(saved);
+            } catch (SQLException e) {
+                throw new RuntimeException("Failed to save " + tableName, e);
+            }
+            return saved;
+        }, executor);
+    }
+
+    /**
+     * Inserts entities.
+     *
+     * <p>Entities whose ID is generated receive it after the insert.
+     *
+     * @param entities the entities to insert
+     * @return the number of entities inserted
+     * @throws SQLException if a database error occurs; nothing is inserted then
+     * @since 1.0.0
+     */
+    public int insertAll(@NotNull Iterable<T> entities) throws SQLException {
+        List<T> list = toList(entities);
+        if (list.isEmpty()) {
+            return 0;
+        }
+        try (DatabaseConnection conn = connectionProvider.getConnection()) {
+            conn.beginTransaction();
+            insert(conn, list);
+            conn.commit();
+        }
+        return list.size();
+    }
+
+    /**
+     * Updates existing entities by ID.
+     *
+     * @param entities the entities to update
+     * @return the number of rows updated
+     * @throws SQLException if a database error occurs; nothing is updated then
+     * @since 1.0.0
+     */
+    public int updateAll(@NotNull Iterable<T> entities) throws SQLException {
+        List<T> list = toList(entities);
+        if (list.isEmpty() || mapper.getUpdatableColumnNames().isEmpty()) {
+            return 0;
+        }
+
+        int updated = 0;
+        try (DatabaseConnection conn = connectionProvider.getConnection()) {
+            conn.beginTransaction();
+            try (PreparedStatement statement = conn.prepareStatement(updateSql)) {
+                for (int start = 0; start < list.size(); start += batchSize) {
+                    for (T entity : list.subList(start, Math.min(list.size(), start + batchSize))) {
+                        int index = mapper.bindUpdateValues(statement, entity, 1);
+                        mapper.bindIdValue(statement, entity, index);
+                        statement.addBatch();
+                    }
+                    updated += sum(statement.executeBatch());
+                }
+            }
+            conn.commit();
+        }
+        return updated;
+    }
+
+    /**
+     * Updates existing entities asynchronously.
+     *
+     * @param entities the entities to update
+     * @return a future containing the number of rows updated
+     * @since 1.0.0
+     * @see #updateAll(Iterable)
+     */
+    @NotNull
+    public CompletableFuture<Integer> updateAllAsync(@NotNull Iterable<T> entities) {
+        Objects.requireNonNull(entities, "entities cannot be null");
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return updateAll(entities);
+            } catch (SQLException e) {
+                throw new RuntimeException("Failed to update " + tableName, e);
+            }
+        }, executor);
+    }
+
+    // ========================================================================
+    // Delete Operations
+    // ========================================================================
+
+    /**
+     * Deletes entities by their ID.
+     *
+     * @param entities the entities to delete
+     * @return the number of rows deleted
+     * @throws SQLException if a database error occurs; nothing is deleted then
+     * @since 1.0.0
+     */
+    public int deleteAll(@NotNull Iterable<T> entities) throws SQLException {
+        Objects.requireNonNull(entities, "entities cannot be null");
+        List<Object> ids = new ArrayList<>();
+        for (T entity : entities) {
+            ids.add(mapper.getIdValue(entity));
+        }
+        return deleteAllById(ids);
+    }
+
+    /**
+     * Deletes entities asynchronously.
+     *
+     * @param entities the entities to delete
+     * @return a future that completes when the entities are deleted
+     * @since 1.0.0
+     * @see #deleteAll(Iterable)
+     */
+    @NotNull
+    public CompletableFuture<Void> deleteAllAsync(@NotNull Iterable<T> entities) {
+        Objects.requireNonNull(entities, "entities cannot be null");
+        return CompletableFuture.runAsync(() -> {
+            try {
+                deleteAll(entities);
+            } catch (SQLException e) {
+                throw new RuntimeException("Failed to delete from " + tableName, e);
+            }
+        }, executor);
+    }
+
+    /**
+     * Deletes the rows with the given IDs.
+     *
+     * @param ids the IDs to delete
+     * @return the number of rows deleted
+     * @throws SQLException if a database error occurs; nothing is deleted then
+     * @since 1.0.0
+     */
+    public int deleteAllById(@NotNull Collection<?> ids) throws SQLException {
+        Objects.requireNonNull(ids, "ids cannot be null");
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        List<?> list = List.copyOf(ids);
+        int chunk = Math.min(batchSize, maxParameters());
+        String prefix = "DELETE FROM " + tableName + " WHERE " + idColumn + " IN ";
+
+        int deleted = 0;
+        try (DatabaseConnection conn = connectionProvider.getConnection()) {
+            conn.beginTransaction();
+            PreparedStatement full = null;
+            try {
+                for (int start = 0; start < list.size(); start += chunk) {
+                    int count = Math.min(chunk, list.size() - start);
+                    PreparedStatement statement;
+                    if (count == chunk) {
+                        if (full == null) {
+                            full = conn.prepareStatement(prefix + placeholders(count));
+                        }
+                        statement = full;
+                    } else {
+                        statement = conn.prepareStatement(prefix + placeholders(count));
+                    }
+                    try {
+                        int index = 1;
+                        for (Object id : list.subList(start, start + count)) {
+                            index = mapper.bindId(statement, id, index);
+                        }
+                        deleted += statement.executeUpdate();
+                    } finally {
+                        if (statement != full) {
+                            statement.close();
+                        }
+                    }
+                }
+            } finally {
+                if (full != null) {
+                    full.close();
+                }
+            }
+            conn.commit();
+        }
+        return deleted;
+    }
+
+    /**
+     * Deletes the rows with the given IDs asynchronously.
+     *
+     * @param ids the IDs to delete
+     * @return a future containing the number of rows deleted
+     * @since 1.0.0
+     * @see #deleteAllById(Collection)
+     */
+    @NotNull
+    public CompletableFuture<Integer> deleteAllByIdAsync(@NotNull Collection<?> ids) {
+        Objects.requireNonNull(ids, "ids cannot be null");
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return deleteAllById(ids);
+            } catch (SQLException e) {
+                throw new RuntimeException("Failed to delete from " + tableName, e);
+            }
+        }, executor);
+    }
+
+    /**
+     * Returns the number of rows per statement or batch.
+     *
+     * @return the batch size
+     * @since 1.0.0
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    // ========================================================================
+    // Internal Methods
+    // ========================================================================
+
+    private boolean isNew(T entity) {
+        if (!idGenerated) {
+            return false;
+        }
+        Object id = mapper.getIdValue(entity);
+        return id == null || (id instanceof Number number && number.longValue() == 0);
+    }
+
+    /**
+     * Inserts entities as JDBC batches and sets generated IDs.
+     */
+    private void insert(DatabaseConnection conn, List<T> entities) throws SQLException {
+        if (entities.isEmpty()) {
+            return;
+        }
+        if (!idGenerated) {
+            try (PreparedStatement statement = conn.prepareStatement(insertSql)) {
+                for (int start = 0; start < entities.size(); start += batchSize) {
+                    for (T entity : entities.subList(start, Math.min(entities.size(), start + batchSize))) {
+                        mapper.bindInsertValues(statement, entity, 1);
+                        statement.addBatch();
+                    }
+                    statement.executeBatch();
+                }
+            }
+            return;
+        }
+
+        try (PreparedStatement statement = conn.prepareStatementWithGeneratedKeys(insertSql)) {
+            if (databaseType == DatabaseType.SQLITE) {
+                // The SQLite driver only reports the last key of a batch; inserts are local anyway
+                for (T entity : entities) {
+                    mapper.bindInsertValues(statement, entity, 1);
+                    statement.executeUpdate();
+                    assignKeys(statement, List.of(entity));
+                }
+                return;
+            }
+            for (int start = 0; start < entities.size(); start += batchSize) {
+                List<T> chunk = entities.subList(start, Math.min(entities.size(), start + batchSize));
+                for (T entity : chunk) {
+                    mapper.bindInsertValues(statement, entity, 1);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+                assignKeys(statement, chunk);
+            }
+        }
+    }
+
+    private void assignKeys(Statement statement, List<T> entities) throws SQLException {
+        List<Object> keys = new ArrayList<>(entities.size());
+        try (ResultSet rs = statement.getGeneratedKeys()) {
+            while (rs.next()) {
+                keys.add(rs.getObject(1));
+            }
+        }
+        if (keys.size() != entities.size()) {
+            // Keys cannot be matched up to rows, and entities without their ID must not be kept
+            throw new SQLException("Expected " + entities.size() + " generated keys for " + tableName
+                    + " but the driver returned " + keys.size());
+        }
+        for (int i = 0; i < keys.size(); i++) {
+            mapper.setIdValue(entities.get(i), keys.get(i));
+        }
+    }
+
+    /**
+     * Upserts entities with multi-row statements.
+     */
+    private void upsert(DatabaseConnection conn, List<T> entities) throws SQLException {
+        if (entities.isEmpty()) {
+            return;
+        }
+        // PostgreSQL rejects a statement that updates the same row twice
+        entities = lastPerId(entities);
+        int rowsPerStatement = Math.max(1, Math.min(batchSize, maxParameters() / upsertColumns.size()));
+        PreparedStatement full = null;
+        try {
+            for (int start = 0; start < entities.size(); start += rowsPerStatement) {
+                int rows = Math.min(rowsPerStatement, entities.size() - start);
+                PreparedStatement statement;
+                if (rows == rowsPerStatement) {
+                    if (full == null) {
+                        full = conn.prepareStatement(upsertSql(rows));
+                    }
+                    statement = full;
+                } else {
+                    statement = conn.prepareStatement(upsertSql(rows));
+                }
+                try {
+                    int index = 1;
+                    for (T entity : entities.subList(start, start + rows)) {
+                        if (idGenerated) {
+                            index = mapper.bindIdValue(statement, entity, index);
+                        }
+                        index = mapper.bindInsertValues(statement, entity, index);
+                    }
+                    statement.executeUpdate();
+                } finally {
+                    if (statement != full) {
+                        statement.close();
+                    }
+                }
+            }
+        } finally {
+            if (full != null) {
+                full.close();
+            }
+        }
+    }
+
+    /**
+     * Drops all but the last entity for each ID, keeping the order of the
+     * entities that remain.
+     */
+    private List<T> lastPerId(List<T> entities) {
+        Map<Object, T> byId = new LinkedHashMap<>();
+        for (T entity : entities) {
+            Object id = mapper.getIdValue(entity);
+            byId.remove(id);
+            byId.put(id, entity);
+        }
+        return byId.size() == entities.size() ? entities : new ArrayList<>(byId.values());
+    }
+
+    private String upsertSql(int rows) {
+        String row = placeholders(upsertColumns.size());
+        StringJoiner values = new StringJoiner(", ");
+        for (int i = 0; i < rows; i++) {
+            values.add(row);
+        }
+        return "INSERT INTO " + tableName + " (" + String.join(", ", upsertColumns) + ") VALUES "
+                + values + upsertClause;
+    }
+
+    private String buildUpsertClause(List<String> updatable) {
+        List<String> updates = new ArrayList<>();
+        switch (databaseType) {
+            case MYSQL, MARIADB -> {
+                for (String column : updatable) {
+                    updates.add(column + " = VALUES(" + column + ")");
+                }
+                if (updates.isEmpty()) {
+                    updates.add(idColumn + " = " + idColumn);
+                }
+                return " ON DUPLICATE KEY UPDATE " + String.join(", ", updates);
+            }
+            case POSTGRESQL, SQLITE -> {
+                for (String column : updatable) {
+                    updates.add(column + " = excluded." + column);
+                }
+                if (updates.isEmpty()) {
+                    return " ON CONFLICT (" + idColumn + ") DO NOTHING";
+                }
+                return " ON CONFLICT (" + idColumn + ") DO UPDATE SET " + String.join(", ", updates);
+            }
+        }
+        throw new IllegalStateException("Unsupported database type: " + databaseType);
+    }
+
+    /**
+     * Returns the number of bind parameters one statement may use.
+     */
+    private int maxParameters() {
+        return switch (databaseType) {
+            case SQLITE -> 999;
+            case POSTGRESQL -> 32767;
+            case MYSQL, MARIADB -> 65535;
+        };
+    }
+
+    private static String placeholders(int count) {
+        StringJoiner placeholders = new StringJoiner(", ", "(", ")");
+        for (int i = 0; i < count; i++) {
+            placeholders.add("?");
+        }
+        return placeholders.toString();
+    }
+
+    private static int sum(int[] counts) {
+        int total = 0;
+        for (int count : counts) {
+            // SUCCESS_NO_INFO is negative; count it as one row
+            total += count >= 0 ? count : 1;
+        }
+        return total;
+    }
+
+    private static <T> List<T> toList(Iterable<T> entities) {
+        Objects.requireNonNull(entities, "entities cannot be null");
+        List<T> list = new ArrayList<>();
+        entities.forEach(list::add);
+        return list;
+    }
+
+    @Override
+    public String toString() {
+        return "BulkWriter{table=" + tableName + ", batchSize=" + batchSize + "}";
+    }
+
+    // ========================================================================
+    // Builder
+    // ========================================================================
+
+    /**
+     * Builder for {@link BulkWriter}.
+     *
+     * @param <T> the entity type
+     * @since 1.0.0
+     */
+    public static final class Builder<T> {
+
+        private final EntityMapper<T> mapper;
+        private final ConnectionProvider connectionProvider;
+        private Executor executor = ForkJoinPool.commonPool();
+        private int batchSize = DEFAULT_BATCH_SIZE;
+
+        private Builder(EntityMapper<T> mapper, ConnectionProvider connectionProvider) {
+            this.mapper = Objects.requireNonNull(mapper, "mapper cannot be null");
+            this.connectionProvider = Objects.requireNonNull(connectionProvider, "connectionProvider cannot be null");
+        }
+
+        /**
+         * Sets the number of rows per statement or batch.
+         *
+         * @param batchSize the batch size
+         * @return this builder
+         * @since 1.0.0
+         */
+        @NotNull
+        public Builder<T> batchSize(int batchSize) {
+            if (batchSize < 1) {
+                throw new IllegalArgumentException("batchSize must be at least 1");
+            }
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * Sets the executor for async operations.
+         *
+         * <p>Defaults to the common fork-join pool; writers created through
+         * {@link sh.pcx.unified.data.sql.DatabaseService#bulkWriter(Class, int)}
+         * use the database executor.
+         *
+         * @param executor the executor
+         * @return this builder
+         * @since 1.0.0
+         */
+        @NotNull
+        public Builder<T> executor(@NotNull Executor executor) {
+            this.executor = Objects.requireNonNull(executor, "executor cannot be null");
+            return this;
+        }
+
+        /**
+         * Builds the bulk writer.
+         *
+         * @return the bulk writer
+         * @since 1.0.0
+         */
+        @NotNull
+        public BulkWriter<T> build() {
+            return new BulkWriter<>(this);
+        }
+    }
+}
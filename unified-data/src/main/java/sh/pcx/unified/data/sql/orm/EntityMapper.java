@@ -6,10 +6,17 @@ package sh.pcx.unified.data.sql.orm;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
 import sh.pcx.unified.data.sql.DatabaseType;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.*;
 import java.math.BigDecimal;
 import java.sql.*;
@@ -45,8 +52,19 @@ import java.util.concurrent.ConcurrentHashMap;
  * // Get column values for INSERT/UPDATE
  * Map<String, Object> values = mapper.getColumnValues(playerData);
  * Object idValue = mapper.getIdValue(playerData);
+ *
+ * // Or bind them straight to a statement
+ * mapper.bindInsertValues(statement, playerData, 1);
  * }</pre>
  *
+ * <h2>Performance</h2>
+ * <p>Fields are accessed through method handles resolved once per entity
+ * class, and every column has a reader and writer chosen for its Java type,
+ * so mapping a row calls the typed JDBC getters directly instead of going
+ * through {@code getObject} and a chain of conversions. The position of each
+ * column in a ResultSet is resolved once and reused for every row of that
+ * ResultSet.
+ *
  * <h2>Supported Types</h2>
  * <p>The mapper supports automatic conversion for:
  * <ul>
@@ -80,22 +98,65 @@ public class EntityMapper<T> {
     private final String tableName;
     private final String schema;
     private final String catalog;
-    private final Field idField;
+    private final FieldMapping idMapping;
     private final String idColumnName;
     private final Id idAnnotation;
     private final List<FieldMapping> fieldMappings;
-    private final Constructor<T> constructor;
+    private final FieldMapping[] mappings;
+    private final FieldMapping[] insertMappings;
+    private final FieldMapping[] updateMappings;
+    private final MethodHandle constructor;
+
+    // Statements every repository issues, rendered once per entity class
+    private final String selectByIdSql;
+    private final String deleteByIdSql;
+    private final String insertSql;
+    private final String updateByIdSql;
+
+    // Column positions for the ResultSet mapRow was last called with
+    private volatile ColumnIndex lastColumnIndex;
 
     /**
      * Mapping information for a single field.
+     *
+     * <p>The getter has type {@code (Object)Object} and the setter
+     * {@code (Object,Object)void}, so they can be invoked exactly without
+     * knowing the entity class.
      */
     private record FieldMapping(
             Field field,
             String columnName,
             Column annotation,
-            boolean isId
+            boolean isId,
+            MethodHandle getter,
+            MethodHandle setter,
+            ColumnReader reader,
+            ColumnWriter writer
     ) {}
 
+    /**
+     * The 1-based position of every mapped column in one ResultSet, or 0 if
+     * the column is not part of the result.
+     */
+    private record ColumnIndex(WeakReference<ResultSet> resultSet, int[] positions) {}
+
+    /**
+     * Reads a column as the field's type.
+     */
+    @FunctionalInterface
+    private interface ColumnReader {
+        @Nullable
+        Object read(@NotNull ResultSet rs, int column) throws SQLException;
+    }
+
+    /**
+     * Binds a non-null field value as a statement parameter.
+     */
+    @FunctionalInterface
+    private interface ColumnWriter {
+        void write(@NotNull PreparedStatement statement, int index, @NotNull Object value) throws SQLException;
+    }
+
     /**
      * Creates an EntityMapper for the specified class.
      *
@@ -121,18 +182,24 @@ public class EntityMapper<T> {
         this.catalog = tableAnnotation.catalog().isEmpty() ? null : tableAnnotation.catalog();
 
         // Get no-arg constructor
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
         try {
-            this.constructor = entityClass.getDeclaredConstructor();
-            this.constructor.setAccessible(true);
+            Constructor<T> noArgs = entityClass.getDeclaredConstructor();
+            noArgs.setAccessible(true);
+            this.constructor = lookup.unreflectConstructor(noArgs).asType(MethodType.methodType(Object.class));
         } catch (NoSuchMethodException e) {
             throw new IllegalArgumentException(
                     "Entity class " + entityClass.getName() + " must have a no-arg constructor"
             );
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException(
+                    "Constructor of " + entityClass.getName() + " is not accessible", e
+            );
         }
 
         // Parse fields
-        this.fieldMappings = new ArrayList<>();
-        Field foundIdField = null;
+        List<FieldMapping> foundMappings = new ArrayList<>();
+        FieldMapping foundIdMapping = null;
         String foundIdColumnName = null;
         Id foundIdAnnotation = null;
 
@@ -161,29 +228,58 @@ public class EntityMapper<T> {
             }
 
             boolean isId = idAnnotation != null;
+            if (isId && foundIdMapping != null) {
+                throw new IllegalArgumentException(
+                        "Entity class " + entityClass.getName() + " has multiple @Id fields"
+                );
+            }
+
+            FieldMapping mapping = createMapping(lookup, field, columnName, columnAnnotation, isId);
             if (isId) {
-                if (foundIdField != null) {
-                    throw new IllegalArgumentException(
-                            "Entity class " + entityClass.getName() + " has multiple @Id fields"
-                    );
-                }
-                foundIdField = field;
+                foundIdMapping = mapping;
                 foundIdColumnName = columnName;
                 foundIdAnnotation = idAnnotation;
             }
-
-            fieldMappings.add(new FieldMapping(field, columnName, columnAnnotation, isId));
+            foundMappings.add(mapping);
         }
 
-        if (foundIdField == null) {
+        if (foundIdMapping == null) {
             throw new IllegalArgumentException(
                     "Entity class " + entityClass.getName() + " must have a field annotated with @Id"
             );
         }
 
-        this.idField = foundIdField;
+        this.fieldMappings = List.copyOf(foundMappings);
+        this.mappings = foundMappings.toArray(new FieldMapping[0]);
+        this.idMapping = foundIdMapping;
         this.idColumnName = foundIdColumnName;
         this.idAnnotation = foundIdAnnotation;
+
+        boolean idGenerated = foundIdAnnotation.autoGenerate();
+        this.insertMappings = foundMappings.stream()
+                .filter(m -> !(m.isId() && idGenerated))
+                .filter(m -> m.annotation() == null || m.annotation().insertable())
+                .toArray(FieldMapping[]::new);
+        this.updateMappings = foundMappings.stream()
+                .filter(m -> !m.isId())
+                .filter(m -> m.annotation() == null || m.annotation().updatable())
+                .toArray(FieldMapping[]::new);
+
+        String idCondition = " WHERE " + foundIdColumnName + " = ?";
+        this.selectByIdSql = "SELECT * FROM " + tableName + idCondition;
+        this.deleteByIdSql = "DELETE FROM " + tableName + idCondition;
+        StringJoiner insertColumns = new StringJoiner(", ", " (", ")");
+        StringJoiner insertValues = new StringJoiner(", ", " VALUES (", ")");
+        for (FieldMapping mapping : insertMappings) {
+            insertColumns.add(mapping.columnName());
+            insertValues.add("?");
+        }
+        this.insertSql = "INSERT INTO " + tableName + insertColumns + insertValues;
+        StringJoiner assignments = new StringJoiner(", ");
+        for (FieldMapping mapping : updateMappings) {
+            assignments.add(mapping.columnName() + " = ?");
+        }
+        this.updateByIdSql = "UPDATE " + tableName + " SET " + assignments + idCondition;
     }
 
     /**
@@ -304,16 +400,7 @@ public class EntityMapper<T> {
      */
     @NotNull
     public List<String> getInsertableColumnNames() {
-        return fieldMappings.stream()
-                .filter(m -> {
-                    if (m.isId() && isIdAutoGenerated()) {
-                        return false; // Skip auto-generated ID
-                    }
-                    if (m.annotation() != null && !m.annotation().insertable()) {
-                        return false;
-                    }
-                    return true;
-                })
+        return Arrays.stream(insertMappings)
                 .map(FieldMapping::columnName)
                 .toList();
     }
@@ -328,20 +415,60 @@ public class EntityMapper<T> {
      */
     @NotNull
     public List<String> getUpdatableColumnNames() {
-        return fieldMappings.stream()
-                .filter(m -> {
-                    if (m.isId()) {
-                        return false; // Never update ID
-                    }
-                    if (m.annotation() != null && !m.annotation().updatable()) {
-                        return false;
-                    }
-                    return true;
-                })
+        return Arrays.stream(updateMappings)
                 .map(FieldMapping::columnName)
                 .toList();
     }
 
+    // ========================================================================
+    // SQL Templates
+    // ========================================================================
+
+    /**
+     * Returns {@code SELECT * FROM table WHERE id = ?}.
+     *
+     * @return the SQL to load an entity by ID
+     * @since 1.0.0
+     */
+    @NotNull
+    public String getSelectByIdSql() {
+        return selectByIdSql;
+    }
+
+    /**
+     * Returns {@code DELETE FROM table WHERE id = ?}.
+     *
+     * @return the SQL to delete an entity by ID
+     * @since 1.0.0
+     */
+    @NotNull
+    public String getDeleteByIdSql() {
+        return deleteByIdSql;
+    }
+
+    /**
+     * Returns the INSERT statement for {@link #bindInsertValues(PreparedStatement, Object, int)}.
+     *
+     * @return the SQL to insert an entity
+     * @since 1.0.0
+     */
+    @NotNull
+    public String getInsertSql() {
+        return insertSql;
+    }
+
+    /**
+     * Returns the UPDATE statement for {@link #bindUpdateValues(PreparedStatement, Object, int)}
+     * followed by {@link #bindIdValue(PreparedStatement, Object, int)}.
+     *
+     * @return the SQL to update an entity by ID
+     * @since 1.0.0
+     */
+    @NotNull
+    public String getUpdateByIdSql() {
+        return updateByIdSql;
+    }
+
     // ========================================================================
     // Mapping Methods
     // ========================================================================
@@ -358,25 +485,39 @@ public class EntityMapper<T> {
      * }
      * }</pre>
      *
+     * <p>Columns that are not part of the result are left at the value the
+     * no-arg constructor gave them, so projections can be mapped too.
+     *
      * @param rs the ResultSet positioned at the current row
      * @return the mapped entity
      * @throws SQLException if a database error occurs
      * @since 1.0.0
      */
     @NotNull
+    @SuppressWarnings("unchecked")
     public T mapRow(@NotNull ResultSet rs) throws SQLException {
+        int[] positions = columnPositions(rs);
+        T entity;
         try {
-            T entity = constructor.newInstance();
+            entity = (T) (Object) constructor.invokeExact();
+        } catch (Throwable e) {
+            throw new SQLException("Failed to create entity instance", e);
+        }
 
-            for (FieldMapping mapping : fieldMappings) {
-                Object value = getValueFromResultSet(rs, mapping);
-                mapping.field().set(entity, value);
+        FieldMapping[] mappings = this.mappings;
+        for (int i = 0; i < mappings.length; i++) {
+            int column = positions[i];
+            if (column == 0) {
+                continue; // Column not in result
             }
-
-            return entity;
-        } catch (ReflectiveOperationException e) {
-            throw new SQLException("Failed to create entity instance", e);
+            FieldMapping mapping = mappings[i];
+            Object value = mapping.reader().read(rs, column);
+            if (value == null) {
+                value = getDefaultValue(mapping.field().getType());
+            }
+            set(mapping, entity, value);
         }
+        return entity;
     }
 
     /**
@@ -388,26 +529,108 @@ public class EntityMapper<T> {
      */
     @Nullable
     public Object getIdValue(@NotNull T entity) {
-        try {
-            return idField.get(entity);
-        } catch (IllegalAccessException e) {
-            throw new RuntimeException("Failed to get ID value", e);
-        }
+        return get(idMapping, entity);
     }
 
     /**
      * Sets the ID value on an entity.
      *
+     * <p>Numbers are converted to the type of the ID field, so a generated
+     * key read as a {@code long} can be set on an {@code int} ID.
+     *
      * @param entity the entity
      * @param value  the ID value
      * @since 1.0.0
      */
     public void setIdValue(@NotNull T entity, @Nullable Object value) {
-        try {
-            idField.set(entity, value);
-        } catch (IllegalAccessException e) {
-            throw new RuntimeException("Failed to set ID value", e);
+        if (value instanceof Number) {
+            value = convertFromJdbc(value, idMapping.field().getType());
         }
+        set(idMapping, entity, value);
+    }
+
+    /**
+     * Binds the INSERT values of an entity as statement parameters.
+     *
+     * <p>Parameters are bound in the order of {@link #getInsertableColumnNames()},
+     * directly from the entity's fields, without building a map.
+     *
+     * <h2>Example</h2>
+     * <pre>{@code
+     * String sql = "INSERT INTO " + mapper.getTableName()
+     *     + " (" + String.join(", ", mapper.getInsertableColumnNames()) + ") VALUES (?, ?, ?)";
+     * try (PreparedStatement statement = conn.prepareStatement(sql)) {
+     *     for (PlayerData player : players) {
+     *         mapper.bindInsertValues(statement, player, 1);
+     *         statement.addBatch();
+     *     }
+     *     statement.executeBatch();
+     * }
+     * }</pre>
+     *
+     * @param statement  the statement to bind to
+     * @param entity     the entity
+     * @param firstIndex the parameter index of the first column
+     * @return the parameter index after the last bound column
+     * @throws SQLException if a parameter cannot be bound
+     * @since 1.0.0
+     */
+    public int bindInsertValues(@NotNull PreparedStatement statement, @NotNull T entity, int firstIndex)
+            throws SQLException {
+        return bind(insertMappings, statement, entity, firstIndex);
+    }
+
+    /**
+     * Binds the UPDATE values of an entity as statement parameters.
+     *
+     * <p>Parameters are bound in the order of {@link #getUpdatableColumnNames()}.
+     * Bind the ID afterwards with {@link #bindIdValue(PreparedStatement, Object, int)}
+     * for the WHERE clause.
+     *
+     * @param statement  the statement to bind to
+     * @param entity     the entity
+     * @param firstIndex the parameter index of the first column
+     * @return the parameter index after the last bound column
+     * @throws SQLException if a parameter cannot be bound
+     * @since 1.0.0
+     */
+    public int bindUpdateValues(@NotNull PreparedStatement statement, @NotNull T entity, int firstIndex)
+            throws SQLException {
+        return bind(updateMappings, statement, entity, firstIndex);
+    }
+
+    /**
+     * Binds the ID value of an entity as a statement parameter.
+     *
+     * @param statement the statement to bind to
+     * @param entity    the entity
+     * @param index     the parameter index
+     * @return the parameter index after the ID
+     * @throws SQLException if the parameter cannot be bound
+     * @since 1.0.0
+     */
+    public int bindIdValue(@NotNull PreparedStatement statement, @NotNull T entity, int index)
+            throws SQLException {
+        return bindId(statement, getIdValue(entity), index);
+    }
+
+    /**
+     * Binds an ID as a statement parameter, converted like the ID column.
+     *
+     * @param statement the statement to bind to
+     * @param id        the ID value
+     * @param index     the parameter index
+     * @return the parameter index after the ID
+     * @throws SQLException if the parameter cannot be bound
+     * @since 1.0.0
+     */
+    public int bindId(@NotNull PreparedStatement statement, @Nullable Object id, int index) throws SQLException {
+        if (id == null) {
+            statement.setNull(index, Types.NULL);
+        } else {
+            idMapping.writer().write(statement, index, id);
+        }
+        return index + 1;
     }
 
     /**
@@ -419,27 +642,7 @@ public class EntityMapper<T> {
      */
     @NotNull
     public Map<String, Object> getInsertValues(@NotNull T entity) {
-        Map<String, Object> values = new LinkedHashMap<>();
-
-        for (FieldMapping mapping : fieldMappings) {
-            // Skip auto-generated ID
-            if (mapping.isId() && isIdAutoGenerated()) {
-                continue;
-            }
-            // Skip non-insertable columns
-            if (mapping.annotation() != null && !mapping.annotation().insertable()) {
-                continue;
-            }
-
-            try {
-                Object value = mapping.field().get(entity);
-                values.put(mapping.columnName(), convertToJdbcValue(value, mapping));
-            } catch (IllegalAccessException e) {
-                throw new RuntimeException("Failed to get field value", e);
-            }
-        }
-
-        return values;
+        return toValueMap(insertMappings, entity);
     }
 
     /**
@@ -451,27 +654,7 @@ public class EntityMapper<T> {
      */
     @NotNull
     public Map<String, Object> getUpdateValues(@NotNull T entity) {
-        Map<String, Object> values = new LinkedHashMap<>();
-
-        for (FieldMapping mapping : fieldMappings) {
-            // Skip ID column
-            if (mapping.isId()) {
-                continue;
-            }
-            // Skip non-updatable columns
-            if (mapping.annotation() != null && !mapping.annotation().updatable()) {
-                continue;
-            }
-
-            try {
-                Object value = mapping.field().get(entity);
-                values.put(mapping.columnName(), convertToJdbcValue(value, mapping));
-            } catch (IllegalAccessException e) {
-                throw new RuntimeException("Failed to get field value", e);
-            }
-        }
-
-        return values;
+        return toValueMap(updateMappings, entity);
     }
 
     // ========================================================================
@@ -552,37 +735,235 @@ public class EntityMapper<T> {
     // ========================================================================
 
     /**
-     * Gets a value from a ResultSet for a field.
+     * Creates the mapping for a field, resolving its accessors and choosing
+     * its column reader and writer.
      */
-    @Nullable
-    private Object getValueFromResultSet(@NotNull ResultSet rs, @NotNull FieldMapping mapping) throws SQLException {
-        Class<?> fieldType = mapping.field().getType();
-        String columnName = mapping.columnName();
+    @NotNull
+    private FieldMapping createMapping(@NotNull MethodHandles.Lookup lookup, @NotNull Field field,
+                                       @NotNull String columnName, @Nullable Column annotation, boolean isId) {
+        MethodHandle getter;
+        MethodHandle setter;
+        try {
+            getter = lookup.unreflectGetter(field)
+                    .asType(MethodType.methodType(Object.class, Object.class));
+            setter = lookup.unreflectSetter(field)
+                    .asType(MethodType.methodType(void.class, Object.class, Object.class));
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException(
+                    "Field " + field.getName() + " of " + entityClass.getName() + " is not accessible", e
+            );
+        }
 
-        // Check if column exists in ResultSet
+        ColumnReader reader;
+        ColumnWriter writer;
+        if (annotation != null && annotation.serialized()) {
+            @SuppressWarnings("unchecked")
+            TypeAdapter<Object> adapter = (TypeAdapter<Object>) GSON.getAdapter(TypeToken.get(field.getGenericType()));
+            reader = (rs, column) -> {
+                String json = rs.getString(column);
+                if (json == null || json.isEmpty()) {
+                    return null;
+                }
+                try {
+                    return adapter.fromJson(json);
+                } catch (IOException e) {
+                    throw new SQLException("Failed to deserialize column " + columnName, e);
+                }
+            };
+            writer = (statement, index, value) -> statement.setString(index, adapter.toJson(value));
+        } else {
+            reader = readerFor(field.getType());
+            writer = writerFor(field.getType());
+        }
+        return new FieldMapping(field, columnName, annotation, isId, getter, setter, reader, writer);
+    }
+
+    /**
+     * Returns the position of every mapped column in a ResultSet.
+     *
+     * <p>The positions of the last ResultSet are kept, so a loop over its
+     * rows only looks at the metadata once.
+     */
+    @NotNull
+    private int[] columnPositions(@NotNull ResultSet rs) throws SQLException {
+        ColumnIndex cached = lastColumnIndex;
+        if (cached != null && cached.resultSet().get() == rs) {
+            return cached.positions();
+        }
+
+        ResultSetMetaData metaData = rs.getMetaData();
+        Map<String, Integer> byLabel = new HashMap<>();
+        for (int column = metaData.getColumnCount(); column >= 1; column--) {
+            // Iterate backwards so the first column with a label wins, like findColumn
+            byLabel.put(metaData.getColumnLabel(column).toLowerCase(Locale.ROOT), column);
+        }
+        int[] positions = new int[mappings.length];
+        for (int i = 0; i < mappings.length; i++) {
+            positions[i] = byLabel.getOrDefault(mappings[i].columnName().toLowerCase(Locale.ROOT), 0);
+        }
+        lastColumnIndex = new ColumnIndex(new WeakReference<>(rs), positions);
+        return positions;
+    }
+
+    @Nullable
+    private Object get(@NotNull FieldMapping mapping, @NotNull Object entity) {
         try {
-            rs.findColumn(columnName);
-        } catch (SQLException e) {
-            return null; // Column not in result
+            return (Object) mapping.getter().invokeExact(entity);
+        } catch (Throwable e) {
+            throw new RuntimeException("Failed to get value of field " + mapping.field().getName(), e);
         }
+    }
 
-        // Handle null
-        Object rawValue = rs.getObject(columnName);
-        if (rawValue == null || rs.wasNull()) {
-            return getDefaultValue(fieldType);
+    private void set(@NotNull FieldMapping mapping, @NotNull Object entity, @Nullable Object value) {
+        try {
+            mapping.setter().invokeExact(entity, value);
+        } catch (Throwable e) {
+            throw new RuntimeException("Failed to set value of field " + mapping.field().getName(), e);
         }
+    }
 
-        // Handle serialized (JSON) columns
-        if (mapping.annotation() != null && mapping.annotation().serialized()) {
-            String json = rs.getString(columnName);
-            if (json == null || json.isEmpty()) {
-                return null;
+    private int bind(@NotNull FieldMapping[] columns, @NotNull PreparedStatement statement,
+                     @NotNull T entity, int index) throws SQLException {
+        for (FieldMapping mapping : columns) {
+            Object value = get(mapping, entity);
+            if (value == null) {
+                statement.setNull(index, Types.NULL);
+            } else {
+                mapping.writer().write(statement, index, value);
             }
-            return GSON.fromJson(json, mapping.field().getGenericType());
+            index++;
+        }
+        return index;
+    }
+
+    @NotNull
+    private Map<String, Object> toValueMap(@NotNull FieldMapping[] columns, @NotNull T entity) {
+        Map<String, Object> values = new LinkedHashMap<>(columns.length * 2);
+        for (FieldMapping mapping : columns) {
+            values.put(mapping.columnName(), convertToJdbcValue(get(mapping, entity), mapping));
+        }
+        return values;
+    }
+
+    /**
+     * Chooses how a column is read for a field type. Common types use the
+     * typed JDBC getter; everything else goes through {@link #convertFromJdbc}.
+     */
+    @NotNull
+    private ColumnReader readerFor(@NotNull Class<?> type) {
+        if (type == String.class) {
+            return ResultSet::getString;
+        }
+        if (type == int.class || type == Integer.class) {
+            return (rs, column) -> {
+                int value = rs.getInt(column);
+                return rs.wasNull() ? null : value;
+            };
+        }
+        if (type == long.class || type == Long.class) {
+            return (rs, column) -> {
+                long value = rs.getLong(column);
+                return rs.wasNull() ? null : value;
+            };
+        }
+        if (type == double.class || type == Double.class) {
+            return (rs, column) -> {
+                double value = rs.getDouble(column);
+                return rs.wasNull() ? null : value;
+            };
+        }
+        if (type == float.class || type == Float.class) {
+            return (rs, column) -> {
+                float value = rs.getFloat(column);
+                return rs.wasNull() ? null : value;
+            };
+        }
+        if (type == short.class || type == Short.class) {
+            return (rs, column) -> {
+                short value = rs.getShort(column);
+                return rs.wasNull() ? null : value;
+            };
+        }
+        if (type == byte.class || type == Byte.class) {
+            return (rs, column) -> {
+                byte value = rs.getByte(column);
+                return rs.wasNull() ? null : value;
+            };
+        }
+        if (type == BigDecimal.class) {
+            return ResultSet::getBigDecimal;
+        }
+        if (type == byte[].class) {
+            return ResultSet::getBytes;
+        }
+        if (type == UUID.class) {
+            return (rs, column) -> {
+                String value = rs.getString(column);
+                return value == null ? null : UUID.fromString(value);
+            };
         }
+        return (rs, column) -> {
+            Object value = rs.getObject(column);
+            return value == null ? null : convertFromJdbc(value, type);
+        };
+    }
 
-        // Type-specific conversions
-        return convertFromJdbc(rawValue, fieldType);
+    /**
+     * Chooses how a field type is bound as a statement parameter, matching
+     * the conversions of {@link #convertToJdbcValue}.
+     */
+    @NotNull
+    private static ColumnWriter writerFor(@NotNull Class<?> type) {
+        if (type == String.class) {
+            return (statement, index, value) -> statement.setString(index, (String) value);
+        }
+        if (type == int.class || type == Integer.class) {
+            return (statement, index, value) -> statement.setInt(index, (Integer) value);
+        }
+        if (type == long.class || type == Long.class) {
+            return (statement, index, value) -> statement.setLong(index, (Long) value);
+        }
+        if (type == double.class || type == Double.class) {
+            return (statement, index, value) -> statement.setDouble(index, (Double) value);
+        }
+        if (type == float.class || type == Float.class) {
+            return (statement, index, value) -> statement.setFloat(index, (Float) value);
+        }
+        if (type == short.class || type == Short.class) {
+            return (statement, index, value) -> statement.setShort(index, (Short) value);
+        }
+        if (type == byte.class || type == Byte.class) {
+            return (statement, index, value) -> statement.setByte(index, (Byte) value);
+        }
+        if (type == boolean.class || type == Boolean.class) {
+            return (statement, index, value) -> statement.setBoolean(index, (Boolean) value);
+        }
+        if (type == BigDecimal.class) {
+            return (statement, index, value) -> statement.setBigDecimal(index, (BigDecimal) value);
+        }
+        if (type == byte[].class) {
+            return (statement, index, value) -> statement.setBytes(index, (byte[]) value);
+        }
+        if (type == UUID.class) {
+            return (statement, index, value) -> statement.setString(index, value.toString());
+        }
+        if (type == Instant.class) {
+            return (statement, index, value) -> statement.setTimestamp(index, Timestamp.from((Instant) value));
+        }
+        if (type == LocalDateTime.class) {
+            return (statement, index, value) ->
+                    statement.setTimestamp(index, Timestamp.valueOf((LocalDateTime) value));
+        }
+        if (type == LocalDate.class) {
+            return (statement, index, value) -> statement.setDate(index, java.sql.Date.valueOf((LocalDate) value));
+        }
+        if (type == LocalTime.class) {
+            return (statement, index, value) -> statement.setTime(index, java.sql.Time.valueOf((LocalTime) value));
+        }
+        if (type.isEnum()) {
+            return (statement, index, value) -> statement.setString(index, ((Enum<?>) value).name());
+        }
+        return PreparedStatement::setObject;
     }
 
     /**
@@ -4,6 +4,7 @@
  */
 package sh.pcx.unified.data.sql.orm;
 
+import sh.pcx.unified.data.sql.query.KeysetPage;
 import sh.pcx.unified.data.sql.query.SelectBuilder;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -12,6 +13,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
 import java.util.function.Consumer;
 
 /**
@@ -128,7 +130,8 @@ public interface Repository<T, ID> {
      * Finds all entities in the table.
      *
      * <p><strong>Warning:</strong> This loads all entities into memory.
-     * Use with caution on large tables.
+     * Use with caution on large tables, or use {@link #forEach(Consumer, Consumer)}
+     * or {@link #publisher(Consumer)} to stream them instead.
      *
      * @return a future containing all entities
      * @since 1.0.0
@@ -173,6 +176,85 @@ public interface Repository<T, ID> {
     @NotNull
     CompletableFuture<Optional<T>> findFirst(@NotNull Consumer<SelectBuilder<T>> queryConfigurer);
 
+    // ========================================================================
+    // Streaming and Keyset Pagination
+    // ========================================================================
+
+    /**
+     * Streams the entities matching the query to an action, one at a time.
+     *
+     * <p>Rows are read from a forward-only cursor, so tables of any size can
+     * be processed with constant memory.
+     *
+     * <h2>Example</h2>
+     * <pre>{@code
+     * repository.forEach(query -> query.where("active", true).fetchSize(1000),
+     *     player -> exporter.write(player)
+     * ).thenAccept(count -> logger.info("Exported {} players", count));
+     * }</pre>
+     *
+     * @param queryConfigurer a function to configure the query
+     * @param action          the action to run for each entity
+     * @return a future containing the number of entities processed
+     * @since 1.0.0
+     * @see SelectBuilder#stream(Consumer)
+     */
+    @NotNull
+    default CompletableFuture<Long> forEach(@NotNull Consumer<SelectBuilder<T>> queryConfigurer,
+                                            @NotNull Consumer<? super T> action) {
+        SelectBuilder<T> query = query();
+        queryConfigurer.accept(query);
+        return query.streamAsync(action);
+    }
+
+    /**
+     * Returns a publisher that streams the entities matching the query with
+     * backpressure.
+     *
+     * @param queryConfigurer a function to configure the query
+     * @return a publisher of entities
+     * @since 1.0.0
+     * @see SelectBuilder#publisher()
+     */
+    @NotNull
+    default Flow.Publisher<T> publisher(@NotNull Consumer<SelectBuilder<T>> queryConfigurer) {
+        SelectBuilder<T> query = query();
+        queryConfigurer.accept(query);
+        return query.publisher();
+    }
+
+    /**
+     * Finds one page of entities using keyset pagination.
+     *
+     * <p>The query must set the ORDER BY columns. Pass {@code null} as the
+     * key for the first page and {@link KeysetPage#getNextKey()} for the
+     * following ones.
+     *
+     * <h2>Example</h2>
+     * <pre>{@code
+     * KeysetPage<PlayerData> page = repository.findPage(
+     *     query -> query.orderByDesc("kills").orderByAsc("id"), previous.getNextKey(), 50
+     * ).join();
+     * }</pre>
+     *
+     * @param queryConfigurer a function to configure the query
+     * @param after           the key of the last row of the previous page, or null
+     * @param pageSize        the maximum number of entities in the page
+     * @return a future containing the page
+     * @since 1.0.0
+     * @see SelectBuilder#executePage(int)
+     */
+    @NotNull
+    default CompletableFuture<KeysetPage<T>> findPage(@NotNull Consumer<SelectBuilder<T>> queryConfigurer,
+                                                      @Nullable Object[] after, int pageSize) {
+        SelectBuilder<T> query = query();
+        queryConfigurer.accept(query);
+        if (after != null) {
+            query.seekAfter(after);
+        }
+        return query.executePageAsync(pageSize);
+    }
+
     // ========================================================================
     // Save Operations
     // ========================================================================
@@ -200,6 +282,9 @@ public interface Repository<T, ID> {
     /**
      * Saves multiple entities.
      *
+     * <p>Implementations should write all entities in one transaction with
+     * as few round trips as possible, for example through a {@link BulkWriter}.
+     *
      * <h2>Example</h2>
      * <pre>{@code
      * List<PlayerData> players = List.of(player1, player2, player3);
@@ -270,6 +355,9 @@ public interface Repository<T, ID> {
     /**
      * Deletes multiple entities.
      *
+     * <p>Implementations should delete in chunks rather than one statement
+     * per entity, for example through a {@link BulkWriter}.
+     *
      * @param entities the entities to delete
      * @return a future that completes when all deletions are done
      * @since 1.0.0
@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2025 Supatuck. All rights reserved.
+ * Licensed under the MIT License.
+ */
+package sh.pcx.unified.data.sql.query;
+
+import sh.pcx.unified.data.sql.ConnectionProvider;
+import sh.pcx.unified.data.sql.DatabaseConnection;
+import sh.pcx.unified.data.sql.orm.EntityMapper;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * A SELECT query that has been rendered once and can be executed many times.
+ *
+ * <p>Executing a compiled query skips the builder entirely: it only binds the
+ * parameters and maps the rows. Compile the queries a plugin issues
+ * repeatedly, such as lookups by ID, once and keep them in a field.
+ *
+ * <h2>Example Usage</h2>
+ * <pre>{@code
+ * // Once
+ * CompiledQuery<PlayerData> byName = repository.query()
+ *     .where("name", SqlTemplate.slot())
+ *     .compile();
+ * CompiledQuery<PlayerData> byId = CompiledQuery.byId(mapper, connectionProvider, executor);
+ *
+ * // Per lookup
+ * Optional<PlayerData> steve = byName.executeFirst("Steve");
+ * byId.executeFirstAsync(uuid).thenAccept(player -> ...);
+ * }</pre>
+ *
+ * <h2>Thread Safety</h2>
+ * <p>Compiled queries are immutable and can be shared between threads.
+ *
+ * @param <T> the entity type
+ * @since 1.0.0
+ * @author Supatuck
+ * @see SelectBuilder#compile()
+ * @see SqlTemplate
+ */
+public final class CompiledQuery<T> {
+
+    private final SqlTemplate template;
+    private final EntityMapper<T> entityMapper;
+    private final ConnectionProvider connectionProvider;
+    private final Executor asyncExecutor;
+
+    /**
+     * Creates a compiled query.
+     *
+     * @param template           the rendered SQL and parameter layout
+     * @param entityMapper       the entity mapper
+     * @param connectionProvider the connection provider
+     * @param asyncExecutor      the executor for async operations
+     * @since 1.0.0
+     */
+    public CompiledQuery(
+            @NotNull SqlTemplate template,
+            @NotNull EntityMapper<T> entityMapper,
+            @NotNull ConnectionProvider connectionProvider,
+            @NotNull Executor asyncExecutor
+    ) {
+        this.template = Objects.requireNonNull(template, "template cannot be null");
+        this.entityMapper = Objects.requireNonNull(entityMapper, "entityMapper cannot be null");
+        this.connectionProvider = Objects.requireNonNull(connectionProvider, "connectionProvider cannot be null");
+        this.asyncExecutor = Objects.requireNonNull(asyncExecutor, "asyncExecutor cannot be null");
+    }
+
+    /**
+     * Creates a query that loads an entity by its ID.
+     *
+     * <p>The SQL comes from {@link EntityMapper#getSelectByIdSql()}, which is
+     * rendered once per entity class. The ID is the only open parameter.
+     *
+     * @param entityMapper       the entity mapper
+     * @param connectionProvider the connection provider
+     * @param asyncExecutor      the executor for async operations
+     * @param <T>                the entity type
+     * @return the compiled query
+     * @since 1.0.0
+     */
+    @NotNull
+    public static <T> CompiledQuery<T> byId(
+            @NotNull EntityMapper<T> entityMapper,
+            @NotNull ConnectionProvider connectionProvider,
+            @NotNull Executor asyncExecutor
+    ) {
+        SqlTemplate template = SqlTemplate.of(entityMapper.getSelectByIdSql(), List.of(SqlTemplate.slot()));
+        return new CompiledQuery<>(template, entityMapper, connectionProvider, asyncExecutor);
+    }
+
+    // ========================================================================
+    // Execution
+    // ========================================================================
+
+    /**
+     * Executes the query and returns all results.
+     *
+     * @param values the values of the open parameters
+     * @return the list of mapped entities
+     * @throws SQLException if a database error occurs
+     * @since 1.0.0
+     * @see SqlTemplate#bind(Object...)
+     */
+    @NotNull
+    public List<T> execute(@Nullable Object... values) throws SQLException {
+        Object[] params = template.bind(values);
+        try (DatabaseConnection conn = connectionProvider.getConnection();
+             ResultSet rs = conn.executeQuery(template.getSql(), params)) {
+
+            List<T> results = new ArrayList<>();
+            while (rs.next()) {
+                results.add(entityMapper.mapRow(rs));
+            }
+            return results;
+        }
+    }
+
+    /**
+     * Executes the query asynchronously and returns all results.
+     *
+     * @param values the values of the open parameters
+     * @return a future that completes with the list of mapped entities
+     * @since 1.0.0
+     */
+    @NotNull
+    public CompletableFuture<List<T>> executeAsync(@Nullable Object... values) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return execute(values);
+            } catch (SQLException e) {
+                throw new RuntimeException("Failed to execute query", e);
+            }
+        }, asyncExecutor);
+    }
+
+    /**
+     * Executes the query and returns the first result.
+     *
+     * <p>Only the first row is read; add a LIMIT before compiling if the
+     * query can match many rows.
+     *
+     * @param values the values of the open parameters
+     * @return an Optional containing the first result, or empty if none
+     * @throws SQLException if a database error occurs
+     * @since 1.0.0
+     */
+    @NotNull
+    public Optional<T> executeFirst(@Nullable Object... values) throws SQLException {
+        Object[] params = template.bind(values);
+        try (DatabaseConnection conn = connectionProvider.getConnection();
+             ResultSet rs = conn.executeQuery(template.getSql(), params)) {
+
+            return rs.next() ? Optional.of(entityMapper.mapRow(rs)) : Optional.empty();
+        }
+    }
+
+    /**
+     * Executes the query asynchronously and returns the first result.
+     *
+     * @param values the values of the open parameters
+     * @return a future that completes with an Optional containing the first result
+     * @since 1.0.0
+     */
+    @NotNull
+    public CompletableFuture<Optional<T>> executeFirstAsync(@Nullable Object... values) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return executeFirst(values);
+            } catch (SQLException e) {
+                throw new RuntimeException("Failed to execute query", e);
+            }
+        }, asyncExecutor);
+    }
+
+    /**
+     * Returns the rendered SQL and parameter layout.
+     *
+     * @return the template
+     * @since 1.0.0
+     */
+    @NotNull
+    public SqlTemplate getTemplate() {
+        return template;
+    }
+
+    @Override
+    public String toString() {
+        return "CompiledQuery{sql='" + template.getSql() + "', slots=" + template.getSlotCount() + "}";
+    }
+}
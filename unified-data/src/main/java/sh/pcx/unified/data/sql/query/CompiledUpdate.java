@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2025 Supatuck. All rights reserved.
+ * Licensed under the MIT License.
+ */
+package sh.pcx.unified.data.sql.query;
+
+import sh.pcx.unified.data.sql.ConnectionProvider;
+import sh.pcx.unified.data.sql.DatabaseConnection;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * An INSERT, UPDATE or DELETE statement that has been rendered once and can
+ * be executed many times.
+ *
+ * <h2>Example Usage</h2>
+ * <pre>{@code
+ * CompiledUpdate setCoins = updateBuilder
+ *     .set("coins", SqlTemplate.slot())
+ *     .where("uuid", SqlTemplate.slot())
+ *     .compile();
+ *
+ * setCoins.executeAsync(50, uuid);
+ *
+ * // Many rows in one JDBC batch
+ * setCoins.executeBatch(List.of(new Object[]{50, uuid1}, new Object[]{25, uuid2}));
+ * }</pre>
+ *
+ * <h2>Thread Safety</h2>
+ * <p>Compiled statements are immutable and can be shared between threads.
+ *
+ * @since 1.0.0
+ * @author Supatuck
+ * @see UpdateBuilder#compile()
+ * @see DeleteBuilder#compile()
+ * @see InsertBuilder#compile()
+ * @see SqlTemplate
+ */
+public final class CompiledUpdate {
+
+    private final SqlTemplate template;
+    private final ConnectionProvider connectionProvider;
+    private final Executor asyncExecutor;
+
+    /**
+     * Creates a compiled statement.
+     *
+     * @param template           the rendered SQL and parameter layout
+     * @param connectionProvider the connection provider
+     * @param asyncExecutor      the executor for async operations
+     * @since 1.0.0
+     */
+    public CompiledUpdate(
+            @NotNull SqlTemplate template,
+            @NotNull ConnectionProvider connectionProvider,
+            @NotNull Executor asyncExecutor
+    ) {
+        this.template = Objects.requireNonNull(template, "template cannot be null");
+        this.connectionProvider = Objects.requireNonNull(connectionProvider, "connectionProvider cannot be null");
+        this.asyncExecutor = Objects.requireNonNull(asyncExecutor, "asyncExecutor cannot be null");
+    }
+
+    // ========================================================================
+    // Execution
+    // ========================================================================
+
+    /**
+     * Executes the statement.
+     *
+     * @param values the values of the open parameters
+     * @return the number of affected rows
+     * @throws SQLException if a database error occurs
+     * @since 1.0.0
+     * @see SqlTemplate#bind(Object...)
+     */
+    public int execute(@Nullable Object... values) throws SQLException {
+        Object[] params = template.bind(values);
+        try (DatabaseConnection conn = connectionProvider.getConnection()) {
+            return conn.executeUpdate(template.getSql(), params);
+        }
+    }
+
+    /**
+     * Executes the statement asynchronously.
+     *
+     * @param values the values of the open parameters
+     * @return a future that completes with the number of affected rows
+     * @since 1.0.0
+     */
+    @NotNull
+    public CompletableFuture<Integer> executeAsync(@Nullable Object... values) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return execute(values);
+            } catch (SQLException e) {
+                throw new RuntimeException("Failed to execute statement", e);
+            }
+        }, asyncExecutor);
+    }
+
+    /**
+     * Executes the statement once per set of values as one JDBC batch.
+     *
+     * @param batchValues the values of the open parameters for each execution
+     * @return the update counts, one per execution
+     * @throws SQLException if a database error occurs
+     * @since 1.0.0
+     */
+    public int[] executeBatch(@NotNull Iterable<Object[]> batchValues) throws SQLException {
+        Objects.requireNonNull(batchValues, "batchValues cannot be null");
+        List<Object[]> batch = new ArrayList<>();
+        for (Object[] values : batchValues) {
+            batch.add(template.bind(values));
+        }
+        if (batch.isEmpty()) {
+            return new int[0];
+        }
+        try (DatabaseConnection conn = connectionProvider.getConnection()) {
+            return conn.executeBatch(template.getSql(), batch);
+        }
+    }
+
+    /**
+     * Executes a batch asynchronously.
+     *
+     * @param batchValues the values of the open parameters for each execution
+     * @return a future that completes with the update counts
+     * @since 1.0.0
+     */
+    @NotNull
+    public CompletableFuture<int[]> executeBatchAsync(@NotNull Iterable<Object[]> batchValues) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return executeBatch(batchValues);
+            } catch (SQLException e) {
+                throw new RuntimeException("Failed to execute batch", e);
+            }
+        }, asyncExecutor);
+    }
+
+    /**
+     * Returns the rendered SQL and parameter layout.
+     *
+     * @return the template
+     * @since 1.0.0
+     */
+    @NotNull
+    public SqlTemplate getTemplate() {
+        return template;
+    }
+
+    @Override
+    public String toString() {
+        return "CompiledUpdate{sql='" + template.getSql() + "', slots=" + template.getSlotCount() + "}";
+    }
+}
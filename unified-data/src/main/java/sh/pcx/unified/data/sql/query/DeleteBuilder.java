@@ -397,6 +397,32 @@ public class DeleteBuilder {
         return whereClause.getParameterArray();
     }
 
+    /**
+     * Renders this delete once into a reusable statement.
+     *
+     * <p>Executing the result only binds parameters. Values passed to this
+     * builder as {@link SqlTemplate#slot()} are bound on each execution;
+     * all other values are fixed.
+     *
+     * <h2>Example</h2>
+     * <pre>{@code
+     * CompiledUpdate deleteHome = builder
+     *     .where("owner", SqlTemplate.slot())
+     *     .and("name", SqlTemplate.slot())
+     *     .compile();
+     *
+     * deleteHome.executeAsync(uuid, "base");
+     * }</pre>
+     *
+     * @return the compiled statement
+     * @since 1.0.0
+     * @see CompiledUpdate
+     */
+    @NotNull
+    public CompiledUpdate compile() {
+        return new CompiledUpdate(SqlTemplate.of(buildSql(), whereClause.getParameters()), connectionProvider, asyncExecutor);
+    }
+
     // ========================================================================
     // Execution
     // ========================================================================
@@ -422,6 +422,32 @@ public class InsertBuilder {
         return values.toArray();
     }
 
+    /**
+     * Renders this insert once into a reusable statement.
+     *
+     * <p>Executing the result only binds parameters. Values passed to this
+     * builder as {@link SqlTemplate#slot()} are bound on each execution;
+     * all other values are fixed.
+     *
+     * <h2>Example</h2>
+     * <pre>{@code
+     * CompiledUpdate logKill = builder
+     *     .columns("killer", "victim", "weapon")
+     *     .values(SqlTemplate.slot(), SqlTemplate.slot(), SqlTemplate.slot())
+     *     .compile();
+     *
+     * logKill.executeAsync(killer, victim, weapon);
+     * }</pre>
+     *
+     * @return the compiled statement
+     * @since 1.0.0
+     * @see CompiledUpdate
+     */
+    @NotNull
+    public CompiledUpdate compile() {
+        return new CompiledUpdate(SqlTemplate.of(buildSql(), values), connectionProvider, asyncExecutor);
+    }
+
     // ========================================================================
     // Execution
     // ========================================================================
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2025 Supatuck. All rights reserved.
+ * Licensed under the MIT License.
+ */
+package sh.pcx.unified.data.sql.query;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * One page of a keyset (seek) paginated query.
+ *
+ * <p>Instead of an offset, the next page is addressed by the ORDER BY values
+ * of the last row of this page, so fetching page {@code n} costs the same as
+ * fetching the first page and rows inserted or deleted between requests do
+ * not shift the pages.
+ *
+ * <h2>Example Usage</h2>
+ * <pre>{@code
+ * KeysetPage<PlayerData> page = repository.query()
+ *     .orderByDesc("kills")
+ *     .orderByAsc("id")
+ *     .executePage(50);
+ *
+ * while (page.hasNext()) {
+ *     page = repository.query()
+ *         .orderByDesc("kills")
+ *         .orderByAsc("id")
+ *         .seekAfter(page.getNextKey())
+ *         .executePage(50);
+ * }
+ * }</pre>
+ *
+ * @param <T> the entity type
+ * @since 1.0.0
+ * @author Supatuck
+ * @see SelectBuilder#executePage(int)
+ * @see SelectBuilder#seekAfter(Object...)
+ */
+public final class KeysetPage<T> {
+
+    private final List<T> items;
+    private final Object[] nextKey;
+
+    KeysetPage(@NotNull List<T> items, @Nullable Object[] nextKey) {
+        this.items = List.copyOf(items);
+        this.nextKey = nextKey;
+    }
+
+    /**
+     * Returns the rows of this page.
+     *
+     * @return an unmodifiable list of entities
+     * @since 1.0.0
+     */
+    @NotNull
+    public List<T> getItems() {
+        return items;
+    }
+
+    /**
+     * Checks whether more rows follow this page.
+     *
+     * @return true if there is a next page
+     * @since 1.0.0
+     */
+    public boolean hasNext() {
+        return nextKey != null;
+    }
+
+    /**
+     * Returns the key to pass to {@link SelectBuilder#seekAfter(Object...)}
+     * for the next page.
+     *
+     * @return the ORDER BY values of the last row, or null on the last page
+     * @since 1.0.0
+     */
+    @Nullable
+    public Object[] getNextKey() {
+        return nextKey == null ? null : nextKey.clone();
+    }
+
+    @Override
+    public String toString() {
+        return "KeysetPage{items=" + items.size() + ", hasNext=" + hasNext() + "}";
+    }
+}
@@ -7,6 +7,7 @@ package sh.pcx.unified.data.sql.query;
 import sh.pcx.unified.data.sql.ConnectionProvider;
 import sh.pcx.unified.data.sql.DatabaseConnection;
 import sh.pcx.unified.data.sql.DatabaseType;
+import sh.pcx.unified.data.sql.ResultSetPublisher;
 import sh.pcx.unified.data.sql.orm.EntityMapper;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -14,11 +15,14 @@ import org.jetbrains.annotations.Nullable;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
 import java.util.function.Consumer;
 
 /**
@@ -54,6 +58,18 @@ import java.util.function.Consumer;
  * Optional<PlayerData> player = selectBuilder
  *     .where("uuid", uuid)
  *     .executeFirst();
+ *
+ * // Stream a large result without loading it into memory
+ * long exported = selectBuilder
+ *     .fetchSize(1000)
+ *     .stream(player -> writer.write(player));
+ *
+ * // Keyset pagination: the next page starts after the last row's key
+ * KeysetPage<PlayerData> page = selectBuilder
+ *     .orderBy("kills", Order.DESC)
+ *     .orderBy("id", Order.ASC)
+ *     .seekAfter(lastKills, lastId)
+ *     .executePage(50);
  * }</pre>
  *
  * <h2>Thread Safety</h2>
@@ -84,6 +100,8 @@ public class SelectBuilder<T> {
     private Integer limit;
     private Integer offset;
     private boolean distinct;
+    private Object[] seekValues;
+    private int fetchSize;
 
     /**
      * Sort order specification.
@@ -132,6 +150,7 @@ public class SelectBuilder<T> {
         this.orderByClauses = new ArrayList<>();
         this.havingParams = new ArrayList<>();
         this.distinct = false;
+        this.fetchSize = ResultSetPublisher.DEFAULT_FETCH_SIZE;
     }
 
     // ========================================================================
@@ -572,6 +591,44 @@ public class SelectBuilder<T> {
         return this;
     }
 
+    /**
+     * Restricts the query to rows that sort after the given key.
+     *
+     * <p>This is keyset (seek) pagination: the values are the ORDER BY
+     * columns of the last row already seen, in the same order as the
+     * {@code orderBy} calls, and the query continues from there. Unlike
+     * {@link #offset(int)}, the database does not have to read and discard
+     * the skipped rows, so every page costs the same. The ORDER BY columns
+     * must be plain, non-null columns that together identify a row; add the
+     * primary key as the last column if needed.
+     *
+     * <h2>Example</h2>
+     * <pre>{@code
+     * // WHERE kills <= ? AND (kills < ? OR (kills = ? AND id > ?))
+     * builder.orderBy("kills", Order.DESC)
+     *     .orderBy("id", Order.ASC)
+     *     .seekAfter(lastKills, lastId)
+     *     .limit(50);
+     * }</pre>
+     *
+     * @param key the ORDER BY values of the last row seen
+     * @return this builder for chaining
+     * @since 1.0.0
+     * @see #executePage(int)
+     */
+    @NotNull
+    public SelectBuilder<T> seekAfter(@NotNull Object... key) {
+        Objects.requireNonNull(key, "key cannot be null");
+        if (key.length == 0) {
+            throw new IllegalArgumentException("key cannot be empty");
+        }
+        for (Object value : key) {
+            Objects.requireNonNull(value, "key values cannot be null");
+        }
+        this.seekValues = key.clone();
+        return this;
+    }
+
     // ========================================================================
     // Build SQL
     // ========================================================================
@@ -606,9 +663,7 @@ public class SelectBuilder<T> {
         }
 
         // WHERE clause
-        if (!whereClause.isEmpty()) {
-            sql.append(" ").append(whereClause.toSqlWithWhere());
-        }
+        appendWhere(sql);
 
         // GROUP BY clause
         if (groupBy != null) {
@@ -648,11 +703,98 @@ public class SelectBuilder<T> {
      */
     @NotNull
     public Object[] getParameters() {
-        List<Object> params = new ArrayList<>(whereClause.getParameters());
+        List<Object> params = whereParameters();
         params.addAll(havingParams);
         return params.toArray();
     }
 
+    /**
+     * Renders this query once into a reusable compiled query.
+     *
+     * <p>Executing the result skips this builder entirely and only binds
+     * parameters. Values passed to this builder as {@link SqlTemplate#slot()}
+     * are bound on each execution; all other values are fixed.
+     *
+     * <h2>Example</h2>
+     * <pre>{@code
+     * CompiledQuery<PlayerData> byName = builder
+     *     .where("name", SqlTemplate.slot())
+     *     .compile();
+     *
+     * Optional<PlayerData> player = byName.executeFirst("Steve");
+     * }</pre>
+     *
+     * @return the compiled query
+     * @since 1.0.0
+     * @see CompiledQuery
+     */
+    @NotNull
+    public CompiledQuery<T> compile() {
+        return new CompiledQuery<>(SqlTemplate.of(buildSql(), Arrays.asList(getParameters())),
+                entityMapper, connectionProvider, asyncExecutor);
+    }
+
+    private void appendWhere(StringBuilder sql) {
+        if (seekValues == null) {
+            if (!whereClause.isEmpty()) {
+                sql.append(" ").append(whereClause.toSqlWithWhere());
+            }
+            return;
+        }
+        sql.append(" WHERE ");
+        if (!whereClause.isEmpty()) {
+            sql.append("(").append(whereClause.toSql()).append(") AND ");
+        }
+        appendSeekPredicate(sql);
+    }
+
+    private List<Object> whereParameters() {
+        List<Object> params = new ArrayList<>(whereClause.getParameters());
+        if (seekValues != null && seekValues.length == 1) {
+            params.add(seekValues[0]);
+        } else if (seekValues != null) {
+            // Matches appendSeekPredicate: the bound on the first column, then each OR branch
+            params.add(seekValues[0]);
+            for (int i = 0; i < seekValues.length; i++) {
+                params.addAll(Arrays.asList(seekValues).subList(0, i + 1));
+            }
+        }
+        return params;
+    }
+
+    /**
+     * Appends {@code c1 > ?} for a single column, otherwise
+     * {@code c1 >= ? AND (c1 > ? OR (c1 = ? AND c2 > ?) OR ...)},
+     * with the comparisons flipped for descending columns. The leading bound
+     * lets the database use a range scan on an index over the first column.
+     */
+    private void appendSeekPredicate(StringBuilder sql) {
+        if (seekValues.length != orderByClauses.size()) {
+            throw new IllegalStateException("seekAfter needs one value per ORDER BY column: got "
+                    + seekValues.length + " values for " + orderByClauses.size() + " columns");
+        }
+        OrderBy first = orderByClauses.get(0);
+        if (orderByClauses.size() == 1) {
+            sql.append(first.column()).append(first.order() == Order.ASC ? " > ?" : " < ?");
+            return;
+        }
+        sql.append(first.column()).append(first.order() == Order.ASC ? " >= ?" : " <= ?");
+        sql.append(" AND (");
+        for (int i = 0; i < orderByClauses.size(); i++) {
+            if (i > 0) {
+                sql.append(" OR ");
+            }
+            sql.append("(");
+            for (int j = 0; j < i; j++) {
+                sql.append(orderByClauses.get(j).column()).append(" = ? AND ");
+            }
+            OrderBy current = orderByClauses.get(i);
+            sql.append(current.column()).append(current.order() == Order.ASC ? " > ?" : " < ?");
+            sql.append(")");
+        }
+        sql.append(")");
+    }
+
     // ========================================================================
     // Execution
     // ========================================================================
@@ -761,12 +903,10 @@ public class SelectBuilder<T> {
         }
 
         // WHERE clause
-        if (!whereClause.isEmpty()) {
-            sql.append(" ").append(whereClause.toSqlWithWhere());
-        }
+        appendWhere(sql);
 
         try (DatabaseConnection conn = connectionProvider.getConnection();
-             ResultSet rs = conn.executeQuery(sql.toString(), whereClause.getParameterArray())) {
+             ResultSet rs = conn.executeQuery(sql.toString(), whereParameters().toArray())) {
 
             if (rs.next()) {
                 return rs.getLong(1);
@@ -814,6 +954,187 @@ public class SelectBuilder<T> {
         return executeCountAsync().thenApply(count -> count > 0);
     }
 
+    /**
+     * Executes a keyset paginated query and returns one page.
+     *
+     * <p>Combine with {@link #seekAfter(Object...)} to fetch the pages after
+     * the first one. One extra row is fetched to find out whether another page
+     * follows; any LIMIT or OFFSET set on this builder is ignored.
+     *
+     * @param pageSize the maximum number of rows in the page
+     * @return the page, with the key of its last row if more rows follow
+     * @throws SQLException if a database error occurs
+     * @throws IllegalStateException if no ORDER BY columns are set
+     * @since 1.0.0
+     * @see KeysetPage
+     */
+    @NotNull
+    public KeysetPage<T> executePage(int pageSize) throws SQLException {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("pageSize must be at least 1");
+        }
+        if (orderByClauses.isEmpty()) {
+            throw new IllegalStateException("Keyset pagination needs at least one ORDER BY column");
+        }
+        Integer originalLimit = this.limit;
+        Integer originalOffset = this.offset;
+        this.limit = pageSize + 1;
+        this.offset = null;
+
+        try (DatabaseConnection conn = connectionProvider.getConnection();
+             ResultSet rs = conn.executeQuery(buildSql(), getParameters())) {
+
+            List<T> items = new ArrayList<>();
+            Object[] lastKey = null;
+            while (rs.next()) {
+                if (items.size() == pageSize) {
+                    return new KeysetPage<>(items, lastKey);
+                }
+                items.add(entityMapper.mapRow(rs));
+                if (items.size() == pageSize) {
+                    lastKey = readKey(rs);
+                }
+            }
+            return new KeysetPage<>(items, null);
+        } finally {
+            this.limit = originalLimit;
+            this.offset = originalOffset;
+        }
+    }
+
+    /**
+     * Executes a keyset paginated query asynchronously.
+     *
+     * @param pageSize the maximum number of rows in the page
+     * @return a future that completes with the page
+     * @since 1.0.0
+     * @see #executePage(int)
+     */
+    @NotNull
+    public CompletableFuture<KeysetPage<T>> executePageAsync(int pageSize) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return executePage(pageSize);
+            } catch (SQLException e) {
+                throw new RuntimeException("Failed to execute query", e);
+            }
+        }, asyncExecutor);
+    }
+
+    private Object[] readKey(ResultSet rs) throws SQLException {
+        Object[] key = new Object[orderByClauses.size()];
+        for (int i = 0; i < key.length; i++) {
+            String column = orderByClauses.get(i).column();
+            // Result labels are unqualified, so "p.kills" is read as "kills"
+            Object value = rs.getObject(column.substring(column.lastIndexOf('.') + 1));
+            if (value == null) {
+                throw new IllegalStateException("Keyset pagination column " + column + " is null");
+            }
+            key[i] = value;
+        }
+        return key;
+    }
+
+    // ========================================================================
+    // Streaming
+    // ========================================================================
+
+    /**
+     * Sets how many rows {@link #stream(Consumer)} and {@link #publisher()}
+     * fetch per round trip.
+     *
+     * <p>Larger values mean fewer round trips, smaller values less memory.
+     * MySQL ignores this and always streams row by row.
+     *
+     * @param fetchSize the number of rows per round trip
+     * @return this builder for chaining
+     * @since 1.0.0
+     */
+    @NotNull
+    public SelectBuilder<T> fetchSize(int fetchSize) {
+        if (fetchSize < 1) {
+            throw new IllegalArgumentException("fetchSize must be at least 1");
+        }
+        this.fetchSize = fetchSize;
+        return this;
+    }
+
+    /**
+     * Executes the query and passes each row to an action as it is read.
+     *
+     * <p>Rows are read from a forward-only cursor in batches of
+     * {@link #fetchSize(int)}, so the whole result is never held in memory.
+     * The connection stays checked out until every row has been consumed.
+     *
+     * <h2>Example</h2>
+     * <pre>{@code
+     * long exported = builder.where("active", true)
+     *     .fetchSize(1000)
+     *     .stream(player -> csv.writeRow(player));
+     * }</pre>
+     *
+     * @param action the action to run for each entity
+     * @return the number of rows processed
+     * @throws SQLException if a database error occurs
+     * @since 1.0.0
+     */
+    public long stream(@NotNull Consumer<? super T> action) throws SQLException {
+        Objects.requireNonNull(action, "action cannot be null");
+        String sql = buildSql();
+        Object[] params = getParameters();
+
+        try (DatabaseConnection conn = connectionProvider.getConnection();
+             ResultSet rs = conn.executeStreamingQuery(sql, fetchSize, params)) {
+
+            long rows = 0;
+            while (rs.next()) {
+                action.accept(entityMapper.mapRow(rs));
+                rows++;
+            }
+            return rows;
+        }
+    }
+
+    /**
+     * Executes the query asynchronously and passes each row to an action.
+     *
+     * <p>The action runs on the async executor.
+     *
+     * @param action the action to run for each entity
+     * @return a future that completes with the number of rows processed
+     * @since 1.0.0
+     * @see #stream(Consumer)
+     */
+    @NotNull
+    public CompletableFuture<Long> streamAsync(@NotNull Consumer<? super T> action) {
+        Objects.requireNonNull(action, "action cannot be null");
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return stream(action);
+            } catch (SQLException e) {
+                throw new RuntimeException("Failed to stream query", e);
+            }
+        }, asyncExecutor);
+    }
+
+    /**
+     * Returns a publisher that streams the rows of this query with
+     * backpressure.
+     *
+     * <p>The query is captured as it is now; each subscription runs it on its
+     * own connection and reads rows only as they are requested. Rows are
+     * delivered on the async executor.
+     *
+     * @return a publisher of mapped entities
+     * @since 1.0.0
+     * @see ResultSetPublisher
+     */
+    @NotNull
+    public Flow.Publisher<T> publisher() {
+        return new ResultSetPublisher<>(
+                connectionProvider, buildSql(), getParameters(), fetchSize, entityMapper::mapRow, asyncExecutor);
+    }
+
     @Override
     public String toString() {
         return "SelectBuilder{sql='" + buildSql() + "', parameters=" + List.of(getParameters()) + "}";
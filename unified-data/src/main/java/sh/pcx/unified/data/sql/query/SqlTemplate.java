@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2025 Supatuck. All rights reserved.
+ * Licensed under the MIT License.
+ */
+package sh.pcx.unified.data.sql.query;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Rendered SQL together with the layout of its parameters.
+ *
+ * <p>A template is produced once from a builder and then reused: the SQL is
+ * never rendered again and executing it only binds parameters. Parameters
+ * passed to the builder as {@link #slot()} are left open and filled in on
+ * every execution; all other parameters are fixed.
+ *
+ * <h2>Example Usage</h2>
+ * <pre>{@code
+ * CompiledQuery<PlayerData> byLevel = repository.query()
+ *     .where("level", ">=", SqlTemplate.slot())
+ *     .and("active", true)
+ *     .orderByDesc("kills")
+ *     .limit(10)
+ *     .compile();
+ *
+ * List<PlayerData> top = byLevel.execute(20);   // level >= 20, active = true
+ * }</pre>
+ *
+ * <h2>Thread Safety</h2>
+ * <p>Templates are immutable and can be shared between threads.
+ *
+ * @since 1.0.0
+ * @author Supatuck
+ * @see CompiledQuery
+ * @see CompiledUpdate
+ */
+public final class SqlTemplate {
+
+    private static final Object SLOT = new Object() {
+        @Override
+        public String toString() {
+            return "?";
+        }
+    };
+
+    private final String sql;
+    private final Object[] parameters;
+    private final int[] slots;
+
+    private SqlTemplate(String sql, Object[] parameters, int[] slots) {
+        this.sql = sql;
+        this.parameters = parameters;
+        this.slots = slots;
+    }
+
+    /**
+     * Returns the marker for a parameter that is bound at execution.
+     *
+     * <p>Pass it to a builder wherever a value would go, for example
+     * {@code where("uuid", SqlTemplate.slot())}.
+     *
+     * @return the slot marker
+     * @since 1.0.0
+     */
+    @NotNull
+    public static Object slot() {
+        return SLOT;
+    }
+
+    /**
+     * Creates a template from SQL and its parameters.
+     *
+     * <p>Parameters equal to {@link #slot()} become the open slots. If there
+     * are none, every parameter is open, and the given values are used when
+     * an execution binds nothing.
+     *
+     * @param sql        the SQL with {@code ?} placeholders
+     * @param parameters the parameters in placeholder order
+     * @return the template
+     * @since 1.0.0
+     */
+    @NotNull
+    public static SqlTemplate of(@NotNull String sql, @NotNull List<?> parameters) {
+        Objects.requireNonNull(sql, "sql cannot be null");
+        Objects.requireNonNull(parameters, "parameters cannot be null");
+        Object[] values = parameters.toArray();
+        List<Integer> open = new ArrayList<>();
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] == SLOT) {
+                open.add(i);
+            }
+        }
+        int[] slots = open.stream().mapToInt(Integer::intValue).toArray();
+        if (slots.length == 0) {
+            slots = new int[values.length];
+            Arrays.setAll(slots, i -> i);
+        }
+        return new SqlTemplate(sql, values, slots);
+    }
+
+    /**
+     * Returns the SQL.
+     *
+     * @return the SQL with {@code ?} placeholders
+     * @since 1.0.0
+     */
+    @NotNull
+    public String getSql() {
+        return sql;
+    }
+
+    /**
+     * Returns the number of placeholders in the SQL.
+     *
+     * @return the parameter count
+     * @since 1.0.0
+     */
+    public int getParameterCount() {
+        return parameters.length;
+    }
+
+    /**
+     * Returns the number of parameters bound at execution.
+     *
+     * @return the slot count
+     * @since 1.0.0
+     */
+    public int getSlotCount() {
+        return slots.length;
+    }
+
+    /**
+     * Returns the full parameter array for an execution.
+     *
+     * @param values the values of the open slots, in order; may be empty if
+     *               the template has no {@link #slot()} markers, to reuse the
+     *               values it was created with
+     * @return the parameters in placeholder order
+     * @throws IllegalArgumentException if the number of values does not match
+     * @since 1.0.0
+     */
+    @NotNull
+    public Object[] bind(@Nullable Object... values) {
+        if (values == null || values.length == 0) {
+            for (int slot : slots) {
+                if (parameters[slot] == SLOT) {
+                    throw new IllegalArgumentException(
+                            "Query has " + slots.length + " open parameters but none were given");
+                }
+            }
+            return parameters.clone();
+        }
+        if (values.length != slots.length) {
+            throw new IllegalArgumentException(
+                    "Query has " + slots.length + " open parameters but " + values.length + " were given");
+        }
+        Object[] bound = parameters.clone();
+        for (int i = 0; i < slots.length; i++) {
+            bound[slots[i]] = values[i];
+        }
+        return bound;
+    }
+
+    @Override
+    public String toString() {
+        return "SqlTemplate{sql='" + sql + "', slots=" + slots.length + "}";
+    }
+}
@@ -530,6 +530,32 @@ public class UpdateBuilder {
         return getParametersList().toArray();
     }
 
+    /**
+     * Renders this update once into a reusable statement.
+     *
+     * <p>Executing the result only binds parameters. Values passed to this
+     * builder as {@link SqlTemplate#slot()} are bound on each execution;
+     * all other values are fixed.
+     *
+     * <h2>Example</h2>
+     * <pre>{@code
+     * CompiledUpdate setBalance = builder
+     *     .set("balance", SqlTemplate.slot())
+     *     .where("uuid", SqlTemplate.slot())
+     *     .compile();
+     *
+     * setBalance.executeAsync(1500.0, uuid);
+     * }</pre>
+     *
+     * @return the compiled statement
+     * @since 1.0.0
+     * @see CompiledUpdate
+     */
+    @NotNull
+    public CompiledUpdate compile() {
+        return new CompiledUpdate(SqlTemplate.of(buildSql(), getParametersList()), connectionProvider, asyncExecutor);
+    }
+
     // ========================================================================
     // Execution
     // ========================================================================
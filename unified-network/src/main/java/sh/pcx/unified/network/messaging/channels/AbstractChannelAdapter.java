@@ -97,19 +97,40 @@ public abstract class AbstractChannelAdapter implements ChannelAdapter {
     /**
      * Dispatches a received message to handlers.
      *
+     * <p>Messages for channels without a handler are ignored; handler errors
+     * are logged.
+     *
      * @param message the received message
      */
     protected void dispatchMessage(@NotNull ReceivedMessage message) {
+        if (!handlers.containsKey(message.channel())) {
+            return;
+        }
+        deliverMessage(message).exceptionally(e -> {
+            logger.error("Error handling message on channel {}", message.channel(), e);
+            return null;
+        });
+    }
+
+    /**
+     * Dispatches a received message to handlers and reports when handling
+     * has finished.
+     *
+     * <p>The returned future completes exceptionally if no handler is
+     * subscribed to the channel or if the handler throws, so durable
+     * transports can keep the message for redelivery.
+     *
+     * @param message the received message
+     * @return future completing when the handler has returned
+     */
+    @NotNull
+    protected CompletableFuture<Void> deliverMessage(@NotNull ReceivedMessage message) {
         Consumer<ReceivedMessage> handler = handlers.get(message.channel());
-        if (handler != null) {
-            executor.execute(() -> {
-                try {
-                    handler.accept(message);
-                } catch (Exception e) {
-                    logger.error("Error handling message on channel {}", message.channel(), e);
-                }
-            });
+        if (handler == null) {
+            return CompletableFuture.failedFuture(
+                    new IllegalStateException("No handler subscribed to channel " + message.channel()));
         }
+        return CompletableFuture.runAsync(() -> handler.accept(message), executor);
     }
 
     /**
@@ -24,6 +24,7 @@ import java.util.function.Consumer;
  *   <li>{@link BungeeCordChannelAdapter} - BungeeCord plugin messaging</li>
  *   <li>{@link VelocityChannelAdapter} - Velocity plugin messaging</li>
  *   <li>{@link RedisChannelAdapter} - Redis pub/sub</li>
+ *   <li>{@link RedisStreamChannelAdapter} - Redis Streams with consumer groups</li>
  * </ul>
  *
  * @since 1.0.0
@@ -4,6 +4,7 @@
  */
 package sh.pcx.unified.network.messaging.channels;
 
+import sh.pcx.unified.data.redis.RedisService;
 import sh.pcx.unified.messaging.MessagingService.TransportType;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -13,12 +14,15 @@ import java.io.ByteArrayOutputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.Base64;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
@@ -26,6 +30,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 /**
  * Channel adapter using Redis pub/sub for messaging.
@@ -43,6 +48,19 @@ import java.util.concurrent.TimeUnit;
  * unified:pending:{requestId}    - Pending request data
  * </pre>
  *
+ * <h2>Wire Format</h2>
+ * <p>Messages are published as raw bytes, starting with a format version
+ * byte. Messages sent to a single server's inbox follow it with the channel
+ * name in {@link DataOutputStream#writeUTF modified UTF-8}, then the payload.
+ * Connections that only support text pub/sub fall back to Base64 through the
+ * default methods of {@link RedisConnection};
+ * {@link RedisConnection#of(RedisService)} is binary end to end.
+ *
+ * <p>Servers running an older version publish Base64 text, with inbox
+ * messages in the form {@code channel|base64}. The version byte is a control
+ * character that never starts such text, so those messages are still
+ * accepted during a rolling upgrade.
+ *
  * <h2>Features</h2>
  * <ul>
  *   <li>Message persistence for reliable delivery</li>
@@ -62,6 +80,11 @@ public class RedisChannelAdapter extends AbstractChannelAdapter {
     private static final long HEARTBEAT_INTERVAL_MS = 5000;
     private static final long SERVER_TIMEOUT_MS = 15000;
 
+    /**
+     * First byte of every message published by this adapter.
+     */
+    static final byte FRAME_VERSION = 1;
+
     private final RedisConnection redis;
     private final Map<String, CompletableFuture<?>> pendingRequests;
     private final ScheduledExecutorService scheduler;
@@ -149,7 +172,7 @@ public class RedisChannelAdapter extends AbstractChannelAdapter {
     protected CompletableFuture<Void> doRegisterChannel(@NotNull String channelName) {
         return CompletableFuture.runAsync(() -> {
             String redisChannel = KEY_PREFIX + "channel:" + channelName;
-            redis.subscribe(redisChannel, message -> handleChannelMessage(channelName, message));
+            redis.subscribeBinary(redisChannel, frame -> handleBroadcast(channelName, frame));
             logger.debug("Subscribed to Redis channel: {}", redisChannel);
         }, executor);
     }
@@ -170,8 +193,7 @@ public class RedisChannelAdapter extends AbstractChannelAdapter {
         ensureConnected();
         return CompletableFuture.runAsync(() -> {
             String redisChannel = KEY_PREFIX + "channel:" + channelName;
-            String encoded = encodeMessage(data);
-            redis.publish(redisChannel, encoded);
+            redis.publish(redisChannel, frame(data));
         }, executor);
     }
 
@@ -186,8 +208,16 @@ public class RedisChannelAdapter extends AbstractChannelAdapter {
         return CompletableFuture.runAsync(() -> {
             // Send to server-specific channel
             String serverChannel = KEY_PREFIX + "server:" + targetServer + ":inbox";
-            String message = channelName + "|" + encodeMessage(data);
-            redis.publish(serverChannel, message);
+            try {
+                ByteArrayOutputStream baos = new ByteArrayOutputStream(data.length + channelName.length() + 3);
+                DataOutputStream out = new DataOutputStream(baos);
+                out.writeByte(FRAME_VERSION);
+                out.writeUTF(channelName);
+                out.write(data);
+                redis.publish(serverChannel, baos.toByteArray());
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to frame message for " + targetServer, e);
+            }
         }, executor);
     }
 
@@ -243,7 +273,7 @@ public class RedisChannelAdapter extends AbstractChannelAdapter {
                 out.writeUTF(targetServer);
 
                 String channel = KEY_PREFIX + "control";
-                redis.publish(channel, encodeMessage(baos.toByteArray()));
+                redis.publish(channel, frame(baos.toByteArray()));
                 return true;
             } catch (IOException e) {
                 logger.error("Failed to send transfer request", e);
@@ -266,7 +296,7 @@ public class RedisChannelAdapter extends AbstractChannelAdapter {
                 out.writeUTF(reason != null ? reason : "Kicked from network");
 
                 String channel = KEY_PREFIX + "control";
-                redis.publish(channel, encodeMessage(baos.toByteArray()));
+                redis.publish(channel, frame(baos.toByteArray()));
             } catch (IOException e) {
                 logger.error("Failed to send kick request", e);
             }
@@ -370,26 +400,71 @@ public class RedisChannelAdapter extends AbstractChannelAdapter {
 
     private void subscribeToServerChannel() {
         String serverChannel = KEY_PREFIX + "server:" + serverId + ":inbox";
-        redis.subscribe(serverChannel, this::handleServerMessage);
+        redis.subscribeBinary(serverChannel, this::handleServerMessage);
     }
 
-    private void handleServerMessage(String message) {
+    private void handleServerMessage(byte[] frame) {
         try {
+            if (isFramed(frame)) {
+                DataInputStream in = new DataInputStream(new ByteArrayInputStream(frame, 1, frame.length - 1));
+                String channel = in.readUTF();
+                int headerLength = frame.length - in.available();
+                handleChannelMessage(channel, Arrays.copyOfRange(frame, headerLength, frame.length));
+                return;
+            }
+            // Legacy inbox message: channel|base64
+            String message = new String(frame, StandardCharsets.UTF_8);
             int separatorIndex = message.indexOf('|');
             if (separatorIndex > 0) {
-                String channel = message.substring(0, separatorIndex);
-                String encodedData = message.substring(separatorIndex + 1);
-                byte[] data = decodeMessage(encodedData);
-                handleChannelMessage(channel, encodedData);
+                handleChannelMessage(message.substring(0, separatorIndex),
+                        Base64.getDecoder().decode(message.substring(separatorIndex + 1)));
             }
         } catch (Exception e) {
             logger.error("Error handling server message", e);
         }
     }
 
-    private void handleChannelMessage(String channelName, String encodedMessage) {
+    private void handleBroadcast(String channelName, byte[] frame) {
+        byte[] data;
+        if (isFramed(frame)) {
+            data = Arrays.copyOfRange(frame, 1, frame.length);
+        } else {
+            data = legacyPayload(frame);
+        }
+        handleChannelMessage(channelName, data);
+    }
+
+    /**
+     * Wraps a payload in the current frame format.
+     *
+     * @param payload the payload
+     * @return the framed message
+     */
+    static byte[] frame(byte[] payload) {
+        byte[] frame = new byte[payload.length + 1];
+        frame[0] = FRAME_VERSION;
+        System.arraycopy(payload, 0, frame, 1, payload.length);
+        return frame;
+    }
+
+    private static boolean isFramed(byte[] frame) {
+        return frame.length > 0 && frame[0] == FRAME_VERSION;
+    }
+
+    /**
+     * Returns the payload of a message from an older server, which published
+     * Base64 text. Text connections have already decoded it.
+     */
+    private static byte[] legacyPayload(byte[] message) {
+        try {
+            return Base64.getDecoder().decode(new String(message, StandardCharsets.ISO_8859_1));
+        } catch (IllegalArgumentException e) {
+            return message;
+        }
+    }
+
+    private void handleChannelMessage(String channelName, byte[] data) {
         try {
-            byte[] data = decodeMessage(encodedMessage);
             String sourceServer = extractSourceServer(data);
             ReceivedMessage message = new SimpleReceivedMessage(channelName, sourceServer, data);
             dispatchMessage(message);
@@ -407,14 +482,6 @@ public class RedisChannelAdapter extends AbstractChannelAdapter {
         }
     }
 
-    private String encodeMessage(byte[] data) {
-        return Base64.getEncoder().encodeToString(data);
-    }
-
-    private byte[] decodeMessage(String encoded) {
-        return Base64.getDecoder().decode(encoded);
-    }
-
     /**
      * Interface for Redis operations.
      *
@@ -425,6 +492,22 @@ public class RedisChannelAdapter extends AbstractChannelAdapter {
      */
     public interface RedisConnection {
 
+        /**
+         * Creates a connection backed by a {@link RedisService}.
+         *
+         * <p>Messages are published and received as raw bytes. The service's
+         * lifecycle is not managed by the connection: {@link #connect()} does
+         * nothing and {@link #disconnect()} only cancels subscriptions.
+         *
+         * @param service the Redis service
+         * @return the connection
+         * @since 1.0.0
+         */
+        @NotNull
+        static RedisConnection of(@NotNull RedisService service) {
+            return new ServiceConnection(service);
+        }
+
         /**
          * Connects to Redis.
          */
@@ -443,13 +526,50 @@ public class RedisChannelAdapter extends AbstractChannelAdapter {
          */
         void publish(@NotNull String channel, @NotNull String message);
 
+        /**
+         * Publishes a binary message to a channel.
+         *
+         * <p>The default implementation Base64-encodes the message and
+         * publishes it as text. Implementations with binary pub/sub should
+         * override this together with {@link #subscribeBinary}.
+         *
+         * @param channel the channel
+         * @param message the message bytes
+         */
+        default void publish(@NotNull String channel, byte @NotNull [] message) {
+            publish(channel, Base64.getEncoder().encodeToString(message));
+        }
+
         /**
          * Subscribes to a channel.
          *
          * @param channel the channel
          * @param handler the message handler
          */
-        void subscribe(@NotNull String channel, @NotNull java.util.function.Consumer<String> handler);
+        void subscribe(@NotNull String channel, @NotNull Consumer<String> handler);
+
+        /**
+         * Subscribes to a channel and receives messages as bytes.
+         *
+         * <p>The default implementation subscribes as text and Base64-decodes
+         * each message, matching the default {@link #publish(String, byte[])}.
+         * Text that is not Base64, such as a legacy inbox message, is passed on
+         * as its UTF-8 bytes.
+         *
+         * @param channel the channel
+         * @param handler the message handler
+         */
+        default void subscribeBinary(@NotNull String channel, @NotNull Consumer<byte[]> handler) {
+            subscribe(channel, message -> {
+                byte[] data;
+                try {
+                    data = Base64.getDecoder().decode(message);
+                } catch (IllegalArgumentException e) {
+                    data = message.getBytes(StandardCharsets.UTF_8);
+                }
+                handler.accept(data);
+            });
+        }
 
         /**
          * Unsubscribes from a channel.
@@ -526,4 +646,104 @@ public class RedisChannelAdapter extends AbstractChannelAdapter {
          */
         void delete(@NotNull String key);
     }
+
+    /**
+     * {@link RedisConnection} backed by a {@link RedisService}.
+     */
+    private static final class ServiceConnection implements RedisConnection {
+        private final RedisService service;
+        private final Map<String, RedisService.PubSubSubscription> subscriptions = new ConcurrentHashMap<>();
+
+        ServiceConnection(RedisService service) {
+            this.service = Objects.requireNonNull(service, "service cannot be null");
+        }
+
+        @Override
+        public void connect() {
+        }
+
+        @Override
+        public void disconnect() {
+            subscriptions.values().forEach(RedisService.PubSubSubscription::unsubscribe);
+            subscriptions.clear();
+        }
+
+        @Override
+        public void publish(@NotNull String channel, @NotNull String message) {
+            service.publish(channel, message);
+        }
+
+        @Override
+        public void publish(@NotNull String channel, byte @NotNull [] message) {
+            service.publish(channel.getBytes(StandardCharsets.UTF_8), message);
+        }
+
+        @Override
+        public void subscribe(@NotNull String channel, @NotNull Consumer<String> handler) {
+            track(channel, service.subscribe(channel, handler));
+        }
+
+        @Override
+        public void subscribeBinary(@NotNull String channel, @NotNull Consumer<byte[]> handler) {
+            track(channel, service.subscribe(channel.getBytes(StandardCharsets.UTF_8), handler));
+        }
+
+        @Override
+        public void unsubscribe(@NotNull String channel) {
+            RedisService.PubSubSubscription subscription = subscriptions.remove(channel);
+            if (subscription != null) {
+                subscription.unsubscribe();
+            }
+        }
+
+        @Override
+        @Nullable
+        public String hashGet(@NotNull String key, @NotNull String field) {
+            return service.hget(key, field).orElse(null);
+        }
+
+        @Override
+        public void hashSet(@NotNull String key, @NotNull String field, @NotNull String value) {
+            service.hset(key, field, value);
+        }
+
+        @Override
+        public void hashSetAll(@NotNull String key, @NotNull Map<String, String> values) {
+            service.hmset(key, values);
+        }
+
+        @Override
+        @NotNull
+        public Map<String, String> hashGetAll(@NotNull String key) {
+            return service.hgetAll(key);
+        }
+
+        @Override
+        @NotNull
+        public Set<String> hashKeys(@NotNull String key) {
+            return service.hkeys(key);
+        }
+
+        @Override
+        public void hashRemove(@NotNull String key, @NotNull String field) {
+            service.hdel(key, field);
+        }
+
+        @Override
+        public long hashSize(@NotNull String key) {
+            return service.hlen(key);
+        }
+
+        @Override
+        public void delete(@NotNull String key) {
+            service.del(key);
+        }
+
+        private void track(String channel, RedisService.PubSubSubscription subscription) {
+            RedisService.PubSubSubscription previous = subscriptions.put(channel, subscription);
+            if (previous != null) {
+                previous.unsubscribe();
+            }
+        }
+    }
 }
@@ -0,0 +1,782 @@
+/*
+ * Copyright (c) 2025 Supatuck. All rights reserved.
+ * Licensed under the MIT License.
+ */
+package sh.pcx.unified.network.messaging.channels;
+
+import sh.pcx.unified.data.redis.RedisService;
+import sh.pcx.unified.data.redis.RedisService.StreamEntry;
+import sh.pcx.unified.messaging.MessagingService.TransportType;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Channel adapter using Redis Streams for durable messaging.
+ *
+ * <p>Unlike {@link RedisChannelAdapter}, messages are appended to streams
+ * instead of published, so a server that is restarting or falling behind
+ * picks up where it left off rather than losing what was sent meanwhile.
+ * Each server reads every stream through its own consumer group, named
+ * after its server ID.
+ *
+ * <h2>Redis Keys Used</h2>
+ * <pre>
+ * unified:servers                      - Hash of online servers
+ * unified:server:{id}                  - Server info hash
+ * unified:players                      - Hash of player to server mappings
+ * unified:stream:channel:{name}        - Broadcast stream per channel
+ * unified:stream:server:{id}:inbox     - Direct messages for one server
+ * unified:stream:dead-letter           - Entries that kept failing
+ * unified:control                      - Pub/sub channel for transfer and kick requests
+ * </pre>
+ *
+ * <h2>Delivery</h2>
+ * <ul>
+ *   <li>One reader thread fetches up to {@link Config#batchSize()} entries
+ *       per stream with a single blocking {@code XREADGROUP}</li>
+ *   <li>Handlers run on the adapter's executor; once every handler of a
+ *       batch has finished, the entries that were handled are acknowledged
+ *       with one {@code XACK} per stream, so delivery is at least once</li>
+ *   <li>Reading pauses while {@link Config#batchSize()} or more entries are
+ *       still being handled</li>
+ *   <li>Entries whose handler failed, or that have no handler, stay pending
+ *       and are delivered again after {@link Config#reclaimIdle()}; after
+ *       {@link Config#maxDeliveries()} failed attempts they are moved to the
+ *       dead-letter stream together with the last error</li>
+ *   <li>Entries left unacknowledged by a crash or a disconnect are claimed
+ *       back with {@code XAUTOCLAIM} on connect and after
+ *       {@link Config#reclaimIdle()}</li>
+ *   <li>Streams are capped with {@code MAXLEN ~}; a server that is offline
+ *       for longer than the cap covers misses the oldest entries</li>
+ *   <li>A new server's group starts at the end of the broadcast streams but
+ *       at the beginning of its inbox</li>
+ * </ul>
+ *
+ * <p>Server discovery and player tracking use the same hashes as
+ * {@link RedisChannelAdapter}, so both adapters see each other's servers.
+ *
+ * @since 1.0.0
+ * @author Supatuck
+ */
+public class RedisStreamChannelAdapter extends AbstractChannelAdapter {
+
+    private static final String KEY_PREFIX = "unified:";
+    private static final String SERVERS_KEY = KEY_PREFIX + "servers";
+    private static final String PLAYERS_KEY = KEY_PREFIX + "players";
+    private static final String STREAM_PREFIX = KEY_PREFIX + "stream:";
+    private static final String DEAD_LETTER_STREAM = STREAM_PREFIX + "dead-letter";
+    private static final byte[] CONTROL_CHANNEL = (KEY_PREFIX + "control").getBytes(StandardCharsets.UTF_8);
+    private static final String FIELD_SOURCE = "source";
+    private static final String FIELD_CHANNEL = "channel";
+    private static final String FIELD_DATA = "data";
+    private static final String FIELD_STREAM = "stream";
+    private static final String FIELD_ID = "id";
+    private static final String FIELD_ERROR = "error";
+    private static final long HEARTBEAT_INTERVAL_MS = 5000;
+    private static final long SERVER_TIMEOUT_MS = 15000;
+    private static final long RETRY_DELAY_MS = 1000;
+
+    private final RedisService redis;
+    private final Config config;
+    private final String inboxKey;
+    private final ScheduledExecutorService scheduler;
+    private final Map<String, Integer> attempts = new ConcurrentHashMap<>();
+    private final Object inFlightLock = new Object();
+    private int inFlight;
+    private volatile Thread reader;
+
+    /**
+     * Creates a new Redis Streams channel adapter with default settings.
+     *
+     * @param serverId the current server ID
+     * @param redis    the Redis service
+     */
+    public RedisStreamChannelAdapter(@NotNull String serverId, @NotNull RedisService redis) {
+        this(serverId, redis, Config.defaults());
+    }
+
+    /**
+     * Creates a new Redis Streams channel adapter.
+     *
+     * @param serverId the current server ID
+     * @param redis    the Redis service
+     * @param config   the stream settings
+     */
+    public RedisStreamChannelAdapter(@NotNull String serverId, @NotNull RedisService redis, @NotNull Config config) {
+        super(serverId);
+        this.redis = Objects.requireNonNull(redis, "redis cannot be null");
+        this.config = Objects.requireNonNull(config, "config cannot be null");
+        this.inboxKey = inboxKey(serverId);
+        // Two threads so a slow reclaim pass cannot delay heartbeats
+        this.scheduler = Executors.newScheduledThreadPool(2, r -> {
+            Thread t = new Thread(r, "Redis-Stream-Scheduler");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @Override
+    @NotNull
+    public TransportType transportType() {
+        return TransportType.REDIS_STREAMS;
+    }
+
+    /**
+     * Gets the stream settings.
+     *
+     * @return the settings
+     */
+    @NotNull
+    public Config config() {
+        return config;
+    }
+
+    @Override
+    @NotNull
+    public CompletableFuture<Void> connect() {
+        return CompletableFuture.runAsync(() -> {
+            try {
+                // Register this server
+                registerServer();
+
+                // The inbox keeps messages sent before this server first started
+                redis.xgroupCreate(inboxKey, serverId, "0");
+                for (String channelName : registeredChannels) {
+                    redis.xgroupCreate(channelKey(channelName), serverId, "$");
+                }
+
+                connected.set(true);
+
+                // Anything still pending was delivered to a previous run
+                reclaimPending(Duration.ZERO);
+
+                Thread thread = new Thread(this::readLoop, "Redis-Stream-Reader");
+                thread.setDaemon(true);
+                thread.start();
+                reader = thread;
+
+                // Start heartbeat and pending-entry reclaim
+                scheduler.scheduleAtFixedRate(
+                        this::sendHeartbeat,
+                        HEARTBEAT_INTERVAL_MS,
+                        HEARTBEAT_INTERVAL_MS,
+                        TimeUnit.MILLISECONDS
+                );
+                scheduler.scheduleWithFixedDelay(
+                        () -> reclaimPending(config.reclaimIdle()),
+                        config.reclaimInterval().toMillis(),
+                        config.reclaimInterval().toMillis(),
+                        TimeUnit.MILLISECONDS
+                );
+
+                logger.info("Connected to Redis stream messaging");
+            } catch (Exception e) {
+                connected.set(false);
+                logger.error("Failed to connect to Redis", e);
+                throw new RuntimeException("Failed to connect", e);
+            }
+        }, executor);
+    }
+
+    @Override
+    @NotNull
+    public CompletableFuture<Void> disconnect() {
+        return CompletableFuture.runAsync(() -> {
+            connected.set(false);
+            scheduler.shutdown();
+            synchronized (inFlightLock) {
+                inFlightLock.notifyAll();
+            }
+
+            Thread thread = reader;
+            reader = null;
+            if (thread != null) {
+                // A blocked read returns within the block timeout
+                try {
+                    thread.join(config.blockTimeout().toMillis() + RETRY_DELAY_MS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            attempts.clear();
+
+            try {
+                // Remove server registration; consumer groups are kept so
+                // the next run resumes where this one stopped
+                redis.hdel(SERVERS_KEY, serverId);
+                redis.del(KEY_PREFIX + "server:" + serverId);
+                logger.info("Disconnected from Redis stream messaging");
+            } catch (Exception e) {
+                logger.error("Error during disconnect", e);
+            }
+        }, executor);
+    }
+
+    @Override
+    @NotNull
+    protected CompletableFuture<Void> doRegisterChannel(@NotNull String channelName) {
+        return CompletableFuture.runAsync(() -> {
+            String streamKey = channelKey(channelName);
+            redis.xgroupCreate(streamKey, serverId, "$");
+            logger.debug("Reading Redis stream: {}", streamKey);
+        }, executor);
+    }
+
+    @Override
+    @NotNull
+    protected CompletableFuture<Void> doUnregisterChannel(@NotNull String channelName) {
+        // The reader drops the stream on its next read; the group is kept
+        logger.debug("Stopped reading Redis stream: {}", channelKey(channelName));
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    @NotNull
+    public CompletableFuture<Void> broadcast(@NotNull String channelName, byte @NotNull [] data) {
+        ensureConnected();
+        return append(channelKey(channelName), channelName, data);
+    }
+
+    @Override
+    @NotNull
+    public CompletableFuture<Void> sendTo(
+            @NotNull String channelName,
+            @NotNull String targetServer,
+            byte @NotNull [] data
+    ) {
+        ensureConnected();
+        return append(inboxKey(targetServer), channelName, data);
+    }
+
+    @Override
+    @NotNull
+    public CompletableFuture<Void> sendToPlayer(
+            @NotNull String channelName,
+            @NotNull UUID playerId,
+            byte @NotNull [] data
+    ) {
+        ensureConnected();
+        return findPlayerServer(playerId).thenCompose(server ->
+                sendTo(channelName, server, data)
+        );
+    }
+
+    @Override
+    @NotNull
+    public CompletableFuture<Collection<String>> serverIds() {
+        ensureConnected();
+        return CompletableFuture.supplyAsync(() -> redis.hgetAll(SERVERS_KEY).keySet(), executor);
+    }
+
+    @Override
+    @NotNull
+    public CompletableFuture<String> findPlayerServer(@NotNull UUID playerId) {
+        ensureConnected();
+        return CompletableFuture.supplyAsync(() ->
+                redis.hget(PLAYERS_KEY, playerId.toString())
+                        .orElseThrow(() -> new RuntimeException("Player not found: " + playerId)),
+                executor
+        );
+    }
+
+    @Override
+    @NotNull
+    public CompletableFuture<Boolean> transferPlayer(@NotNull UUID playerId, @NotNull String targetServer) {
+        ensureConnected();
+        // Player transfers need to go through the proxy, which listens on
+        // the same control channel as for RedisChannelAdapter
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                ByteArrayOutputStream baos = new ByteArrayOutputStream();
+                DataOutputStream out = new DataOutputStream(baos);
+                out.writeUTF("TRANSFER");
+                out.writeLong(playerId.getMostSignificantBits());
+                out.writeLong(playerId.getLeastSignificantBits());
+                out.writeUTF(targetServer);
+
+                redis.publish(CONTROL_CHANNEL, RedisChannelAdapter.frame(baos.toByteArray()));
+                return true;
+            } catch (IOException e) {
+                logger.error("Failed to send transfer request", e);
+                return false;
+            }
+        }, executor);
+    }
+
+    @Override
+    @NotNull
+    public CompletableFuture<Void> kickPlayer(@NotNull UUID playerId, String reason) {
+        ensureConnected();
+        return CompletableFuture.runAsync(() -> {
+            try {
+                ByteArrayOutputStream baos = new ByteArrayOutputStream();
+                DataOutputStream out = new DataOutputStream(baos);
+                out.writeUTF("KICK");
+                out.writeLong(playerId.getMostSignificantBits());
+                out.writeLong(playerId.getLeastSignificantBits());
+                out.writeUTF(reason != null ? reason : "Kicked from network");
+
+                redis.publish(CONTROL_CHANNEL, RedisChannelAdapter.frame(baos.toByteArray()));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to frame kick request", e);
+            }
+        }, executor);
+    }
+
+    @Override
+    @NotNull
+    public CompletableFuture<Integer> playerCount(@NotNull String serverId) {
+        ensureConnected();
+        return CompletableFuture.supplyAsync(() ->
+                redis.hget(KEY_PREFIX + "server:" + serverId, "players").map(Integer::parseInt).orElse(0),
+                executor
+        );
+    }
+
+    @Override
+    @NotNull
+    public CompletableFuture<Integer> networkPlayerCount() {
+        ensureConnected();
+        return CompletableFuture.supplyAsync(() -> redis.hgetAll(PLAYERS_KEY).size(), executor);
+    }
+
+    @Override
+    @NotNull
+    public CompletableFuture<Collection<UUID>> playersOn(@NotNull String serverId) {
+        ensureConnected();
+        return CompletableFuture.supplyAsync(() -> {
+            Map<String, String> allPlayers = redis.hgetAll(PLAYERS_KEY);
+            return allPlayers.entrySet().stream()
+                    .filter(e -> serverId.equals(e.getValue()))
+                    .map(e -> UUID.fromString(e.getKey()))
+                    .toList();
+        }, executor);
+    }
+
+    /**
+     * Registers a player's location.
+     *
+     * @param playerId the player UUID
+     */
+    public void registerPlayer(@NotNull UUID playerId) {
+        redis.hset(PLAYERS_KEY, playerId.toString(), serverId);
+    }
+
+    /**
+     * Unregisters a player.
+     *
+     * @param playerId the player UUID
+     */
+    public void unregisterPlayer(@NotNull UUID playerId) {
+        redis.hdel(PLAYERS_KEY, playerId.toString());
+    }
+
+    private CompletableFuture<Void> append(String streamKey, String channelName, byte[] data) {
+        Map<String, byte[]> fields = new LinkedHashMap<>();
+        fields.put(FIELD_SOURCE, serverId.getBytes(StandardCharsets.UTF_8));
+        fields.put(FIELD_CHANNEL, channelName.getBytes(StandardCharsets.UTF_8));
+        fields.put(FIELD_DATA, data);
+        return redis.xaddAsync(streamKey, fields, config.maxLength()).thenAccept(id -> { });
+    }
+
+    private void readLoop() {
+        while (connected.get()) {
+            try {
+                awaitCapacity();
+                if (!connected.get()) {
+                    break;
+                }
+                Map<String, List<StreamEntry>> batch = redis.xreadgroup(
+                        serverId, serverId, config.batchSize(), config.blockTimeout(), streamKeys()
+                );
+                if (!connected.get()) {
+                    // Left pending; the next connect reclaims them
+                    break;
+                }
+                batch.forEach(this::deliverBatch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                if (!connected.get()) {
+                    break;
+                }
+                logger.warn("Failed to read from Redis streams", e);
+                recreateGroups();
+                try {
+                    Thread.sleep(RETRY_DELAY_MS);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+    }
+
+    private void reclaimPending(Duration minIdle) {
+        for (String streamKey : streamKeys()) {
+            try {
+                List<StreamEntry> claimed = redis.xautoclaim(streamKey, serverId, serverId, minIdle, config.batchSize());
+                if (!claimed.isEmpty()) {
+                    logger.debug("Reclaimed {} pending entries from {}", claimed.size(), streamKey);
+                    deliverBatch(streamKey, claimed);
+                }
+            } catch (Exception e) {
+                logger.warn("Failed to reclaim pending entries from {}", streamKey, e);
+            }
+        }
+    }
+
+    private void awaitCapacity() throws InterruptedException {
+        synchronized (inFlightLock) {
+            while (inFlight >= config.batchSize() && connected.get()) {
+                inFlightLock.wait(config.blockTimeout().toMillis());
+            }
+        }
+    }
+
+    private void deliverBatch(String streamKey, List<StreamEntry> entries) {
+        List<StreamEntry> delivered = new ArrayList<>(entries.size());
+        List<CompletableFuture<Throwable>> outcomes = new ArrayList<>(entries.size());
+        for (StreamEntry entry : entries) {
+            byte[] channel = entry.field(FIELD_CHANNEL);
+            byte[] data = entry.field(FIELD_DATA);
+            if (channel == null || data == null) {
+                // Redelivering cannot fix a malformed entry
+                deadLetter(streamKey, entry, "Malformed entry");
+                continue;
+            }
+            byte[] source = entry.field(FIELD_SOURCE);
+            delivered.add(entry);
+            outcomes.add(deliverMessage(new SimpleReceivedMessage(
+                    new String(channel, StandardCharsets.UTF_8),
+                    source != null ? new String(source, StandardCharsets.UTF_8) : "unknown",
+                    data
+            )).handle((v, e) -> e));
+        }
+        if (delivered.isEmpty()) {
+            return;
+        }
+
+        synchronized (inFlightLock) {
+            inFlight += delivered.size();
+        }
+        // Settle once every handler in the batch has finished
+        CompletableFuture.allOf(outcomes.toArray(new CompletableFuture<?>[0])).whenCompleteAsync((v, e) -> {
+            try {
+                settle(streamKey, delivered, outcomes);
+            } finally {
+                synchronized (inFlightLock) {
+                    inFlight -= delivered.size();
+                    inFlightLock.notifyAll();
+                }
+            }
+        }, executor);
+    }
+
+    private void settle(String streamKey, List<StreamEntry> entries, List<CompletableFuture<Throwable>> outcomes) {
+        List<String> handled = new ArrayList<>(entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            StreamEntry entry = entries.get(i);
+            Throwable error = outcomes.get(i).join();
+            String attemptKey = streamKey + " " + entry.id();
+            if (error == null) {
+                attempts.remove(attemptKey);
+                handled.add(entry.id());
+                continue;
+            }
+
+            if (error instanceof CompletionException && error.getCause() != null) {
+                error = error.getCause();
+            }
+            int attempt = attempts.merge(attemptKey, 1, Integer::sum);
+            if (attempt >= config.maxDeliveries()) {
+                attempts.remove(attemptKey);
+                deadLetter(streamKey, entry, error.toString());
+            } else {
+                // Left pending; the next reclaim pass delivers it again
+                logger.warn("Failed to handle entry {} on {} (attempt {} of {})",
+                        entry.id(), streamKey, attempt, config.maxDeliveries(), error);
+            }
+        }
+
+        if (!handled.isEmpty()) {
+            try {
+                redis.xack(streamKey, serverId, handled.toArray(new String[0]));
+            } catch (Exception e) {
+                logger.warn("Failed to acknowledge entries on {}", streamKey, e);
+            }
+        }
+    }
+
+    private void deadLetter(String streamKey, StreamEntry entry, String error) {
+        Map<String, byte[]> fields = new LinkedHashMap<>();
+        fields.put(FIELD_STREAM, streamKey.getBytes(StandardCharsets.UTF_8));
+        fields.put(FIELD_ID, entry.id().getBytes(StandardCharsets.UTF_8));
+        for (String name : List.of(FIELD_SOURCE, FIELD_CHANNEL, FIELD_DATA)) {
+            byte[] value = entry.field(name);
+            if (value != null) {
+                fields.put(name, value);
+            }
+        }
+        fields.put(FIELD_ERROR, error.getBytes(StandardCharsets.UTF_8));
+
+        try {
+            redis.xadd(DEAD_LETTER_STREAM, fields, config.maxLength());
+            redis.xack(streamKey, serverId, entry.id());
+            logger.warn("Moved entry {} on {} to {}: {}", entry.id(), streamKey, DEAD_LETTER_STREAM, error);
+        } catch (Exception e) {
+            // Left pending so a later reclaim pass tries again
+            logger.warn("Failed to dead-letter entry {} on {}", entry.id(), streamKey, e);
+        }
+    }
+
+    private void recreateGroups() {
+        // Groups are lost if a stream is deleted, which fails reads with NOGROUP
+        try {
+            for (String streamKey : streamKeys()) {
+                redis.xgroupCreate(streamKey, serverId, streamKey.equals(inboxKey) ? "0" : "$");
+            }
+        } catch (Exception e) {
+            logger.debug("Failed to recreate consumer groups", e);
+        }
+    }
+
+    private String[] streamKeys() {
+        List<String> keys = new ArrayList<>(registeredChannels.size() + 1);
+        keys.add(inboxKey);
+        for (String channelName : registeredChannels) {
+            keys.add(channelKey(channelName));
+        }
+        return keys.toArray(new String[0]);
+    }
+
+    private void registerServer() {
+        Map<String, String> serverInfo = Map.of(
+                "id", serverId,
+                "online", "true",
+                "lastHeartbeat", String.valueOf(System.currentTimeMillis()),
+                "players", "0"
+        );
+        redis.hmset(KEY_PREFIX + "server:" + serverId, serverInfo);
+        redis.hset(SERVERS_KEY, serverId, String.valueOf(System.currentTimeMillis()));
+    }
+
+    private void sendHeartbeat() {
+        try {
+            redis.hset(KEY_PREFIX + "server:" + serverId, "lastHeartbeat",
+                    String.valueOf(System.currentTimeMillis()));
+            redis.hset(SERVERS_KEY, serverId, String.valueOf(System.currentTimeMillis()));
+
+            // Clean up stale servers
+            cleanupStaleServers();
+        } catch (Exception e) {
+            logger.warn("Failed to send heartbeat", e);
+        }
+    }
+
+    private void cleanupStaleServers() {
+        Map<String, String> servers = redis.hgetAll(SERVERS_KEY);
+        long now = System.currentTimeMillis();
+
+        servers.forEach((id, lastSeen) -> {
+            try {
+                long lastSeenMs = Long.parseLong(lastSeen);
+                if (now - lastSeenMs > SERVER_TIMEOUT_MS) {
+                    // The inbox stream stays so the server can catch up later
+                    logger.info("Removing stale server: {}", id);
+                    redis.hdel(SERVERS_KEY, id);
+                    redis.del(KEY_PREFIX + "server:" + id);
+                }
+            } catch (NumberFormatException e) {
+                // Invalid timestamp, remove the entry
+                redis.hdel(SERVERS_KEY, id);
+            }
+        });
+    }
+
+    private static String channelKey(String channelName) {
+        return STREAM_PREFIX + "channel:" + channelName;
+    }
+
+    private static String inboxKey(String serverId) {
+        return STREAM_PREFIX + "server:" + serverId + ":inbox";
+    }
+
+    /**
+     * Stream settings for {@link RedisStreamChannelAdapter}.
+     *
+     * @param batchSize       the maximum entries read or reclaimed per stream at once
+     * @param blockTimeout    how long a read waits for new entries; keep it
+     *                        below the Redis command timeout
+     * @param maxLength       the approximate maximum length of each stream,
+     *                        or 0 for no bound
+     * @param reclaimIdle     how long an entry may stay unacknowledged before
+     *                        it is delivered again
+     * @param reclaimInterval how often pending entries are checked
+     * @param maxDeliveries   how many failed deliveries an entry gets before
+     *                        it is moved to the dead-letter stream
+     * @since 1.0.0
+     */
+    public record Config(
+            int batchSize,
+            @NotNull Duration blockTimeout,
+            long maxLength,
+            @NotNull Duration reclaimIdle,
+            @NotNull Duration reclaimInterval,
+            int maxDeliveries
+    ) {
+
+        /**
+         * Default number of entries per read.
+         */
+        public static final int DEFAULT_BATCH_SIZE = 100;
+
+        /**
+         * Default read block timeout.
+         */
+        public static final Duration DEFAULT_BLOCK_TIMEOUT = Duration.ofSeconds(2);
+
+        /**
+         * Default approximate stream length.
+         */
+        public static final long DEFAULT_MAX_LENGTH = 10_000;
+
+        /**
+         * Default idle time before an entry is reclaimed.
+         */
+        public static final Duration DEFAULT_RECLAIM_IDLE = Duration.ofSeconds(60);
+
+        /**
+         * Default interval between reclaim passes.
+         */
+        public static final Duration DEFAULT_RECLAIM_INTERVAL = Duration.ofSeconds(30);
+
+        /**
+         * Default number of failed deliveries before an entry is dead-lettered.
+         */
+        public static final int DEFAULT_MAX_DELIVERIES = 5;
+
+        /**
+         * Creates new stream settings.
+         *
+         * @throws IllegalArgumentException if a size is out of range or a
+         *                                  duration is not positive
+         */
+        public Config {
+            Objects.requireNonNull(blockTimeout, "blockTimeout cannot be null");
+            Objects.requireNonNull(reclaimIdle, "reclaimIdle cannot be null");
+            Objects.requireNonNull(reclaimInterval, "reclaimInterval cannot be null");
+            if (batchSize <= 0) {
+                throw new IllegalArgumentException("batchSize must be positive");
+            }
+            if (maxDeliveries <= 0) {
+                throw new IllegalArgumentException("maxDeliveries must be positive");
+            }
+            if (maxLength < 0) {
+                throw new IllegalArgumentException("maxLength cannot be negative");
+            }
+            if (blockTimeout.isNegative() || blockTimeout.isZero()) {
+                throw new IllegalArgumentException("blockTimeout must be positive");
+            }
+            if (reclaimIdle.isNegative() || reclaimIdle.isZero()) {
+                throw new IllegalArgumentException("reclaimIdle must be positive");
+            }
+            if (reclaimInterval.isNegative() || reclaimInterval.isZero()) {
+                throw new IllegalArgumentException("reclaimInterval must be positive");
+            }
+        }
+
+        /**
+         * Gets the default settings.
+         *
+         * @return the default settings
+         */
+        @NotNull
+        public static Config defaults() {
+            return new Config(
+                    DEFAULT_BATCH_SIZE,
+                    DEFAULT_BLOCK_TIMEOUT,
+                    DEFAULT_MAX_LENGTH,
+                    DEFAULT_RECLAIM_IDLE,
+                    DEFAULT_RECLAIM_INTERVAL,
+                    DEFAULT_MAX_DELIVERIES
+            );
+        }
+
+        /**
+         * Returns a copy with a different batch size.
+         *
+         * @param batchSize the maximum entries per read
+         * @return the new settings
+         */
+        @NotNull
+        public Config withBatchSize(int batchSize) {
+            return new Config(batchSize, blockTimeout, maxLength, reclaimIdle, reclaimInterval, maxDeliveries);
+        }
+
+        /**
+         * Returns a copy with a different block timeout.
+         *
+         * @param blockTimeout how long a read waits for new entries
+         * @return the new settings
+         */
+        @NotNull
+        public Config withBlockTimeout(@NotNull Duration blockTimeout) {
+            return new Config(batchSize, blockTimeout, maxLength, reclaimIdle, reclaimInterval, maxDeliveries);
+        }
+
+        /**
+         * Returns a copy with a different stream length bound.
+         *
+         * @param maxLength the approximate maximum length, or 0 for no bound
+         * @return the new settings
+         */
+        @NotNull
+        public Config withMaxLength(long maxLength) {
+            return new Config(batchSize, blockTimeout, maxLength, reclaimIdle, reclaimInterval, maxDeliveries);
+        }
+
+        /**
+         * Returns a copy with different reclaim timing.
+         *
+         * @param reclaimIdle     how long an entry may stay unacknowledged
+         * @param reclaimInterval how often pending entries are checked
+         * @return the new settings
+         */
+        @NotNull
+        public Config withReclaim(@NotNull Duration reclaimIdle, @NotNull Duration reclaimInterval) {
+            return new Config(batchSize, blockTimeout, maxLength, reclaimIdle, reclaimInterval, maxDeliveries);
+        }
+
+        /**
+         * Returns a copy with a different delivery limit.
+         *
+         * @param maxDeliveries how many failed deliveries an entry gets
+         * @return the new settings
+         */
+        @NotNull
+        public Config withMaxDeliveries(int maxDeliveries) {
+            return new Config(batchSize, blockTimeout, maxLength, reclaimIdle, reclaimInterval, maxDeliveries);
+        }
+    }
+}
@@ -11,6 +11,7 @@
  *   <li>{@link sh.pcx.unified.network.messaging.channels.BungeeCordChannelAdapter} - BungeeCord plugin messaging</li>
  *   <li>{@link sh.pcx.unified.network.messaging.channels.VelocityChannelAdapter} - Velocity plugin messaging</li>
  *   <li>{@link sh.pcx.unified.network.messaging.channels.RedisChannelAdapter} - Redis pub/sub</li>
+ *   <li>{@link sh.pcx.unified.network.messaging.channels.RedisStreamChannelAdapter} - Redis Streams with consumer groups</li>
  * </ul>
  *
  * @since 1.0.0
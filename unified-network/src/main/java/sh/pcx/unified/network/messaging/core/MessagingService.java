@@ -35,6 +35,7 @@ import java.util.function.Consumer;
  *   <li><strong>BungeeCord</strong> - Plugin messaging via BungeeCord proxy</li>
  *   <li><strong>Velocity</strong> - Plugin messaging via Velocity proxy</li>
  *   <li><strong>Redis</strong> - Pub/sub messaging for custom networks</li>
+ *   <li><strong>Redis Streams</strong> - Durable messaging with consumer groups</li>
  * </ul>
  *
  * <h2>Example Usage</h2>
@@ -33,7 +33,8 @@ import java.util.function.Consumer;
  * Default implementation of {@link MessagingService}.
  *
  * <p>This implementation provides cross-server messaging using pluggable
- * channel adapters for different transports (BungeeCord, Velocity, Redis).
+ * channel adapters for different transports (BungeeCord, Velocity, Redis,
+ * Redis Streams).
  *
  * @since 1.0.0
  * @author Supatuck
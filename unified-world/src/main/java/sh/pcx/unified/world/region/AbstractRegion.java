@@ -32,6 +32,12 @@ public abstract class AbstractRegion implements Region {
     protected volatile Region parent;
     protected volatile boolean transient_;
 
+    // Notified when this region changes (set by the owning service)
+    private volatile ChangeListener changeListener;
+
+    // Set on every mutation, cleared once the region has been persisted
+    private volatile boolean dirty = true;
+
     protected final Map<RegionFlag<?>, Object> flags = new ConcurrentHashMap<>();
     protected final Set<UUID> owners = ConcurrentHashMap.newKeySet();
     protected final Set<UUID> members = ConcurrentHashMap.newKeySet();
@@ -87,6 +93,7 @@ public abstract class AbstractRegion implements Region {
     @Override
     public void setPriority(int priority) {
         this.priority = priority;
+        flagsChanged();
     }
 
     @Override
@@ -108,6 +115,7 @@ public abstract class AbstractRegion implements Region {
             }
         }
         this.parent = parent;
+        flagsChanged();
     }
 
     @Override
@@ -139,12 +147,15 @@ public abstract class AbstractRegion implements Region {
         } else {
             flags.put(flag, value);
         }
+        flagsChanged();
     }
 
     @Override
     public void removeFlag(@NotNull RegionFlag<?> flag) {
         Objects.requireNonNull(flag, "flag cannot be null");
-        flags.remove(flag);
+        if (flags.remove(flag) != null) {
+            flagsChanged();
+        }
     }
 
     @Override
@@ -168,13 +179,19 @@ public abstract class AbstractRegion implements Region {
     @Override
     public void addOwner(@NotNull UUID owner) {
         Objects.requireNonNull(owner, "owner cannot be null");
-        owners.add(owner);
+        if (owners.add(owner)) {
+            dirty = true;
+        }
     }
 
     @Override
     public boolean removeOwner(@NotNull UUID owner) {
         Objects.requireNonNull(owner, "owner cannot be null");
-        return owners.remove(owner);
+        if (owners.remove(owner)) {
+            dirty = true;
+            return true;
+        }
+        return false;
     }
 
     @Override
@@ -192,13 +209,19 @@ public abstract class AbstractRegion implements Region {
     @Override
     public void addMember(@NotNull UUID member) {
         Objects.requireNonNull(member, "member cannot be null");
-        members.add(member);
+        if (members.add(member)) {
+            dirty = true;
+        }
     }
 
     @Override
     public boolean removeMember(@NotNull UUID member) {
         Objects.requireNonNull(member, "member cannot be null");
-        return members.remove(member);
+        if (members.remove(member)) {
+            dirty = true;
+            return true;
+        }
+        return false;
     }
 
     @Override
@@ -215,6 +238,70 @@ public abstract class AbstractRegion implements Region {
     @Override
     public void setTransient(boolean transient_) {
         this.transient_ = transient_;
+        dirty = true;
+    }
+
+    /**
+     * Notifies the owning service that the bounding box of this region changed.
+     *
+     * <p>Subclasses must call this after every mutation that moves or resizes
+     * the region so that spatial indexes stay consistent.
+     */
+    protected void boundsChanged() {
+        dirty = true;
+        ChangeListener listener = changeListener;
+        if (listener != null) {
+            listener.boundsChanged(this);
+        }
+    }
+
+    /**
+     * Notifies the owning service that flag resolution for this region changed.
+     *
+     * <p>Called after a flag, the priority or the parent of this region is
+     * modified so that cached flag lookups are discarded.
+     */
+    protected void flagsChanged() {
+        dirty = true;
+        ChangeListener listener = changeListener;
+        if (listener != null) {
+            listener.flagsChanged(this);
+        }
+    }
+
+    /**
+     * Checks if this region changed since it was last persisted.
+     *
+     * @return true if the region has unsaved changes
+     */
+    boolean isDirty() {
+        return dirty;
+    }
+
+    /**
+     * Marks this region as persisted.
+     *
+     * <p>Storage clears the flag before encoding the region, so a mutation
+     * racing with the write marks it dirty again.
+     */
+    void markClean() {
+        this.dirty = false;
+    }
+
+    /**
+     * Marks this region as having unsaved changes.
+     */
+    void markDirty() {
+        this.dirty = true;
+    }
+
+    /**
+     * Sets the listener notified about changes to this region.
+     *
+     * @param listener the listener, or null to detach
+     */
+    void setChangeListener(@Nullable ChangeListener listener) {
+        this.changeListener = listener;
     }
 
     @Override
@@ -270,4 +357,24 @@ public abstract class AbstractRegion implements Region {
             ", priority=" + priority +
             ']';
     }
+
+    /**
+     * Receives change notifications from regions managed by a service.
+     */
+    interface ChangeListener {
+
+        /**
+         * Called after the bounding box of a region changed.
+         *
+         * @param region the region that moved or was resized
+         */
+        void boundsChanged(@NotNull AbstractRegion region);
+
+        /**
+         * Called after a flag, the priority or the parent of a region changed.
+         *
+         * @param region the region whose flag resolution changed
+         */
+        void flagsChanged(@NotNull AbstractRegion region);
+    }
 }
@@ -0,0 +1,663 @@
+/*
+ * Copyright (c) 2025 Supatuck. All rights reserved.
+ * Licensed under the MIT License.
+ */
+package sh.pcx.unified.world.region;
+
+import sh.pcx.unified.region.*;
+import sh.pcx.unified.world.UnifiedLocation;
+import sh.pcx.unified.world.UnifiedWorld;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import java.util.zip.CRC32;
+
+/**
+ * Compact binary encoding of regions used by {@link FileRegionStorage}.
+ *
+ * <h2>Block Layout</h2>
+ * <p>Regions are written in blocks. Each block starts with a string table
+ * holding every region name, parent name, flag name and string flag value
+ * once; records then refer to strings by table index.
+ * <pre>
+ * block   := stringCount:int (length:int utf8)* recordCount:int record*
+ * record  := id:long,long name:int type:byte priority:int transient:byte parent:int
+ *            geometryCount:byte double* pointCount:int int*
+ *            flagCount:short (name:int tag:byte value)*
+ *            ownerCount:int (long,long)* memberCount:int (long,long)*
+ * </pre>
+ *
+ * <h2>Files</h2>
+ * <p>A snapshot file is a header followed by a single block. A journal file is
+ * a header followed by entries, each an operation byte, a payload length, a
+ * CRC32 of the operation and payload, and the payload: a block for puts, a
+ * region id for deletes.
+ * <pre>
+ * entry   := op:byte length:int crc:int payload
+ * </pre>
+ *
+ * <h2>Flag Values</h2>
+ * <p>Boolean, int, long and double flag values are stored natively. Any
+ * other value is stored as a string produced by the flag's
+ * {@link RegionFlag.Codec} and decoded by the same codec on load.
+ *
+ * @since 1.0.0
+ * @author Supatuck
+ */
+final class BinaryRegionFormat {
+
+    static final int SNAPSHOT_MAGIC = 0x5552474E; // "URGN"
+    static final int JOURNAL_MAGIC = 0x55524A4C; // "URJL"
+    static final short VERSION = 1;
+
+    private static final int HEADER_SIZE = Integer.BYTES + Short.BYTES;
+
+    static final byte OP_PUT = 1;
+    static final byte OP_DELETE = 2;
+
+    private static final byte TAG_BOOLEAN = 0;
+    private static final byte TAG_INT = 1;
+    private static final byte TAG_LONG = 2;
+    private static final byte TAG_DOUBLE = 3;
+    private static final byte TAG_STRING = 4;
+
+    private static final Region.RegionType[] TYPES = Region.RegionType.values();
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BinaryRegionFormat.class);
+
+    private BinaryRegionFormat() {
+        // Utility class
+    }
+
+    /**
+     * A decoded region, independent of any world instance.
+     *
+     * <p>The meaning of {@code geometry} and {@code points} depends on the type:
+     * <ul>
+     *   <li>CUBOID: geometry = minX, minY, minZ, maxX, maxY, maxZ</li>
+     *   <li>SPHERE: geometry = centerX, centerY, centerZ, radius</li>
+     *   <li>CYLINDER: geometry = centerX, centerZ, radius; points = minY, maxY</li>
+     *   <li>POLYGON: points = minY, maxY, x0, z0, x1, z1, ...</li>
+     *   <li>GLOBAL: both empty</li>
+     * </ul>
+     *
+     * @param id         the region id
+     * @param name       the region name
+     * @param type       the region type
+     * @param priority   the priority
+     * @param transient_ the transient flag
+     * @param parent     the parent region name, or null
+     * @param geometry   the floating point shape data
+     * @param points     the integer shape data
+     * @param flags      flag values by flag name
+     * @param owners     owner ids as most/least significant bit pairs
+     * @param members    member ids as most/least significant bit pairs
+     */
+    record RegionRecord(
+            @NotNull UUID id,
+            @NotNull String name,
+            @NotNull Region.RegionType type,
+            int priority,
+            boolean transient_,
+            @Nullable String parent,
+            double @NotNull [] geometry,
+            int @NotNull [] points,
+            @NotNull Map<String, Object> flags,
+            long @NotNull [] owners,
+            long @NotNull [] members
+    ) {
+    }
+
+    // =========================================================================
+    // Region Conversion
+    // =========================================================================
+
+    /**
+     * Captures the persistent state of a region.
+     *
+     * @param region the region
+     * @return the record
+     */
+    @NotNull
+    static RegionRecord toRecord(@NotNull Region region) {
+        double[] geometry;
+        int[] points;
+
+        switch (region) {
+            case CuboidRegion cuboid -> {
+                UnifiedLocation min = cuboid.getMinimumPoint();
+                UnifiedLocation max = cuboid.getMaximumPoint();
+                geometry = new double[]{min.x(), min.y(), min.z(), max.x(), max.y(), max.z()};
+                points = new int[0];
+            }
+            case SphereRegion sphere -> {
+                UnifiedLocation center = sphere.getCenter();
+                geometry = new double[]{center.x(), center.y(), center.z(), sphere.getRadius()};
+                points = new int[0];
+            }
+            case CylinderRegion cylinder -> {
+                UnifiedLocation center = cylinder.getCenter();
+                geometry = new double[]{center.x(), center.z(), cylinder.getRadius()};
+                points = new int[]{cylinder.getMinY(), cylinder.getMaxY()};
+            }
+            case PolygonRegion polygon -> {
+                List<int[]> vertices = polygon.getPoints();
+                geometry = new double[0];
+                points = new int[2 + vertices.size() * 2];
+                points[0] = polygon.getMinY();
+                points[1] = polygon.getMaxY();
+                for (int i = 0; i < vertices.size(); i++) {
+                    points[2 + i * 2] = vertices.get(i)[0];
+                    points[3 + i * 2] = vertices.get(i)[1];
+                }
+            }
+            default -> {
+                geometry = new double[0];
+                points = new int[0];
+            }
+        }
+
+        Map<String, Object> flags = new LinkedHashMap<>();
+        for (Map.Entry<RegionFlag<?>, Object> entry : region.getFlags().entrySet()) {
+            flags.put(entry.getKey().getName(), storedValue(entry.getKey(), entry.getValue()));
+        }
+
+        return new RegionRecord(
+            region.getId(),
+            region.getName(),
+            region.getType(),
+            region.getPriority(),
+            region.isTransient(),
+            region.getParent().map(Region::getName).orElse(null),
+            geometry,
+            points,
+            flags,
+            packIds(region.getOwners()),
+            packIds(region.getMembers())
+        );
+    }
+
+    /**
+     * Creates a region from a record.
+     *
+     * <p>The parent is not resolved; callers link parents once every region
+     * of the world has been created.
+     *
+     * @param record the record
+     * @param world  the world the region belongs to
+     * @return the region
+     */
+    @NotNull
+    static AbstractRegion toRegion(@NotNull RegionRecord record, @NotNull UnifiedWorld world) {
+        double[] g = record.geometry();
+        int[] p = record.points();
+
+        AbstractRegion region = switch (record.type()) {
+            case CUBOID -> new CuboidRegionImpl(record.id(), record.name(), world,
+                new UnifiedLocation(world, g[0], g[1], g[2]),
+                new UnifiedLocation(world, g[3], g[4], g[5]));
+            case SPHERE -> new SphereRegionImpl(record.id(), record.name(), world,
+                new UnifiedLocation(world, g[0], g[1], g[2]), g[3]);
+            case CYLINDER -> new CylinderRegionImpl(record.id(), record.name(), world,
+                new UnifiedLocation(world, g[0], p[0], g[1]), g[2], p[0], p[1]);
+            case POLYGON -> {
+                List<int[]> vertices = new ArrayList<>((p.length - 2) / 2);
+                for (int i = 2; i + 1 < p.length; i += 2) {
+                    vertices.add(new int[]{p[i], p[i + 1]});
+                }
+                yield new PolygonRegionImpl(record.id(), record.name(), world, vertices, p[0], p[1]);
+            }
+            case GLOBAL -> new GlobalRegionImpl(record.id(), world);
+        };
+
+        if (record.type() != Region.RegionType.GLOBAL) {
+            region.setPriority(record.priority());
+        }
+        region.setTransient(record.transient_());
+
+        for (Map.Entry<String, Object> entry : record.flags().entrySet()) {
+            RegionFlag<?> flag = RegionFlag.getByName(entry.getKey());
+            if (flag != null) {
+                setFlag(region, flag, entry.getValue());
+            }
+        }
+        for (int i = 0; i + 1 < record.owners().length; i += 2) {
+            region.addOwner(new UUID(record.owners()[i], record.owners()[i + 1]));
+        }
+        for (int i = 0; i + 1 < record.members().length; i += 2) {
+            region.addMember(new UUID(record.members()[i], record.members()[i + 1]));
+        }
+        return region;
+    }
+
+    /**
+     * Converts a flag value to a natively stored value, or to a string through
+     * the flag's codec.
+     */
+    private static <T> Object storedValue(RegionFlag<T> flag, Object value) {
+        if (value instanceof Boolean || value instanceof Integer || value instanceof Long || value instanceof Double) {
+            return value;
+        }
+        return flag.encode(flag.getType().cast(value));
+    }
+
+    private static <T> void setFlag(AbstractRegion region, RegionFlag<T> flag, Object value) {
+        T typedValue = value instanceof String encoded ? flag.decode(encoded) : flag.cast(value);
+        if (typedValue != null) {
+            region.setFlag(flag, typedValue);
+        }
+    }
+
+    private static long[] packIds(Set<UUID> ids) {
+        long[] packed = new long[ids.size() * 2];
+        int i = 0;
+        for (UUID id : ids) {
+            packed[i++] = id.getMostSignificantBits();
+            packed[i++] = id.getLeastSignificantBits();
+        }
+        return packed;
+    }
+
+    // =========================================================================
+    // Blocks
+    // =========================================================================
+
+    /**
+     * Encodes records into a block.
+     *
+     * @param records the records
+     * @return the encoded block
+     */
+    static byte @NotNull [] encodeBlock(@NotNull Collection<RegionRecord> records) {
+        Map<String, Integer> strings = new LinkedHashMap<>();
+        for (RegionRecord record : records) {
+            intern(strings, record.name());
+            if (record.parent() != null) {
+                intern(strings, record.parent());
+            }
+            for (Map.Entry<String, Object> flag : record.flags().entrySet()) {
+                intern(strings, flag.getKey());
+                if (tagOf(flag.getValue()) == TAG_STRING) {
+                    intern(strings, (String) flag.getValue());
+                }
+            }
+        }
+
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + records.size() * 96);
+            DataOutputStream out = new DataOutputStream(bytes);
+
+            out.writeInt(strings.size());
+            for (String string : strings.keySet()) {
+                byte[] utf8 = string.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(utf8.length);
+                out.write(utf8);
+            }
+
+            out.writeInt(records.size());
+            for (RegionRecord record : records) {
+                writeRecord(out, record, strings);
+            }
+            out.flush();
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            // ByteArrayOutputStream never throws
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Decodes a block, reading from the buffer's current position.
+     *
+     * @param buffer the buffer positioned at the start of a block
+     * @return the decoded records
+     * @throws IllegalArgumentException if the block is malformed
+     */
+    @NotNull
+    static List<RegionRecord> decodeBlock(@NotNull ByteBuffer buffer) {
+        try {
+            int stringCount = buffer.getInt();
+            String[] strings = new String[stringCount];
+            for (int i = 0; i < stringCount; i++) {
+                byte[] utf8 = new byte[buffer.getInt()];
+                buffer.get(utf8);
+                strings[i] = new String(utf8, StandardCharsets.UTF_8);
+            }
+
+            int recordCount = buffer.getInt();
+            List<RegionRecord> records = new ArrayList<>(recordCount);
+            for (int i = 0; i < recordCount; i++) {
+                records.add(readRecord(buffer, strings));
+            }
+            return records;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | NegativeArraySizeException e) {
+            throw new IllegalArgumentException("Malformed region block", e);
+        }
+    }
+
+    private static void intern(Map<String, Integer> strings, String value) {
+        strings.putIfAbsent(value, strings.size());
+    }
+
+    private static void writeRecord(DataOutputStream out, RegionRecord record, Map<String, Integer> strings)
+            throws IOException {
+        out.writeLong(record.id().getMostSignificantBits());
+        out.writeLong(record.id().getLeastSignificantBits());
+        out.writeInt(strings.get(record.name()));
+        out.writeByte(record.type().ordinal());
+        out.writeInt(record.priority());
+        out.writeBoolean(record.transient_());
+        out.writeInt(record.parent() == null ? -1 : strings.get(record.parent()));
+
+        out.writeByte(record.geometry().length);
+        for (double value : record.geometry()) {
+            out.writeDouble(value);
+        }
+        out.writeInt(record.points().length);
+        for (int value : record.points()) {
+            out.writeInt(value);
+        }
+
+        out.writeShort(record.flags().size());
+        for (Map.Entry<String, Object> flag : record.flags().entrySet()) {
+            out.writeInt(strings.get(flag.getKey()));
+            Object value = flag.getValue();
+            byte tag = tagOf(value);
+            out.writeByte(tag);
+            switch (tag) {
+                case TAG_BOOLEAN -> out.writeBoolean((Boolean) value);
+                case TAG_INT -> out.writeInt((Integer) value);
+                case TAG_LONG -> out.writeLong((Long) value);
+                case TAG_DOUBLE -> out.writeDouble(((Number) value).doubleValue());
+                default -> out.writeInt(strings.get((String) value));
+            }
+        }
+
+        writeIds(out, record.owners());
+        writeIds(out, record.members());
+    }
+
+    private static RegionRecord readRecord(ByteBuffer buffer, String[] strings) {
+        UUID id = new UUID(buffer.getLong(), buffer.getLong());
+        String name = strings[buffer.getInt()];
+        Region.RegionType type = TYPES[buffer.get()];
+        int priority = buffer.getInt();
+        boolean transient_ = buffer.get() != 0;
+        int parentIndex = buffer.getInt();
+        String parent = parentIndex < 0 ? null : strings[parentIndex];
+
+        double[] geometry = new double[buffer.get()];
+        for (int i = 0; i < geometry.length; i++) {
+            geometry[i] = buffer.getDouble();
+        }
+        int[] points = new int[buffer.getInt()];
+        buffer.asIntBuffer().get(points);
+        buffer.position(buffer.position() + points.length * Integer.BYTES);
+
+        int flagCount = buffer.getShort() & 0xFFFF;
+        Map<String, Object> flags = new LinkedHashMap<>(flagCount * 2);
+        for (int i = 0; i < flagCount; i++) {
+            String flagName = strings[buffer.getInt()];
+            Object value = switch (buffer.get()) {
+                case TAG_BOOLEAN -> buffer.get() != 0;
+                case TAG_INT -> buffer.getInt();
+                case TAG_LONG -> buffer.getLong();
+                case TAG_DOUBLE -> buffer.getDouble();
+                default -> strings[buffer.getInt()];
+            };
+            flags.put(flagName, value);
+        }
+
+        long[] owners = readIds(buffer);
+        long[] members = readIds(buffer);
+        return new RegionRecord(id, name, type, priority, transient_, parent, geometry, points, flags, owners, members);
+    }
+
+    private static byte tagOf(Object value) {
+        if (value instanceof Boolean) {
+            return TAG_BOOLEAN;
+        }
+        if (value instanceof Integer) {
+            return TAG_INT;
+        }
+        if (value instanceof Long) {
+            return TAG_LONG;
+        }
+        if (value instanceof Double) {
+            return TAG_DOUBLE;
+        }
+        if (value instanceof String) {
+            return TAG_STRING;
+        }
+        // toRecord encodes every other value through the flag's codec
+        throw new IllegalArgumentException("Unsupported flag value type: " + value.getClass().getName());
+    }
+
+    private static void writeIds(DataOutputStream out, long[] ids) throws IOException {
+        out.writeInt(ids.length / 2);
+        for (long value : ids) {
+            out.writeLong(value);
+        }
+    }
+
+    private static long[] readIds(ByteBuffer buffer) {
+        long[] ids = new long[buffer.getInt() * 2];
+        buffer.asLongBuffer().get(ids);
+        buffer.position(buffer.position() + ids.length * Long.BYTES);
+        return ids;
+    }
+
+    // =========================================================================
+    // Files
+    // =========================================================================
+
+    /**
+     * Reads the current state of a world from its snapshot and journal.
+     *
+     * <p>Journal entries are replayed in order on top of the snapshot. Replay
+     * stops at the first entry that is truncated, fails its checksum or
+     * cannot be decoded, such as one left by an interrupted write; the
+     * journal is then truncated to its last intact entry so that later
+     * appends are not hidden behind the damaged one. Callers must hold the
+     * world's lock.
+     *
+     * @param snapshot the snapshot file
+     * @param journal  the journal file
+     * @return the records by region id, in file order
+     * @throws IOException if a file cannot be read or is not a region file
+     */
+    @NotNull
+    static Map<UUID, RegionRecord> read(@NotNull Path snapshot, @NotNull Path journal) throws IOException {
+        Map<UUID, RegionRecord> records = new LinkedHashMap<>();
+
+        ByteBuffer snapshotBuffer = readFile(snapshot);
+        if (snapshotBuffer != null) {
+            checkHeader(snapshotBuffer, SNAPSHOT_MAGIC, snapshot, VERSION);
+            for (RegionRecord record : decodeBlock(snapshotBuffer)) {
+                records.put(record.id(), record);
+            }
+        }
+
+        ByteBuffer journalBuffer = readFile(journal);
+        if (journalBuffer != null) {
+            checkHeader(journalBuffer, JOURNAL_MAGIC, journal, VERSION);
+            int entryHeader = Byte.BYTES + Integer.BYTES * 2;
+
+            int valid = journalBuffer.position();
+            while (journalBuffer.remaining() >= entryHeader) {
+                byte op = journalBuffer.get();
+                int length = journalBuffer.getInt();
+                int crc = journalBuffer.getInt();
+                if (length < 0 || length > journalBuffer.remaining()) {
+                    break;
+                }
+                ByteBuffer payload = journalBuffer.slice(journalBuffer.position(), length);
+                journalBuffer.position(journalBuffer.position() + length);
+                if (crc != checksum(op, payload.duplicate())) {
+                    break;
+                }
+                if (!replay(records, op, payload)) {
+                    break;
+                }
+                valid = journalBuffer.position();
+            }
+
+            if (valid < journalBuffer.limit()) {
+                LOGGER.warn("Discarding {} bytes of damaged journal after offset {}: {}",
+                    journalBuffer.limit() - valid, valid, journal);
+                try (FileChannel channel = FileChannel.open(journal, StandardOpenOption.WRITE)) {
+                    channel.truncate(valid);
+                    channel.force(false);
+                }
+            }
+        }
+
+        return records;
+    }
+
+    /**
+     * Applies one journal entry.
+     *
+     * @return false if the entry is malformed
+     */
+    private static boolean replay(Map<UUID, RegionRecord> records, byte op, ByteBuffer payload) {
+        try {
+            if (op == OP_PUT) {
+                for (RegionRecord record : decodeBlock(payload)) {
+                    records.put(record.id(), record);
+                }
+                return true;
+            }
+            if (op == OP_DELETE && payload.remaining() == Long.BYTES * 2) {
+                records.remove(new UUID(payload.getLong(), payload.getLong()));
+                return true;
+            }
+            return false;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Writes a snapshot file atomically.
+     *
+     * @param snapshot the snapshot file
+     * @param records  the records to write
+     * @throws IOException if writing fails
+     */
+    static void writeSnapshot(@NotNull Path snapshot, @NotNull Collection<RegionRecord> records) throws IOException {
+        byte[] block = encodeBlock(records);
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + block.length);
+        buffer.putInt(SNAPSHOT_MAGIC).putShort(VERSION).put(block).flip();
+
+        Path temp = snapshot.resolveSibling(snapshot.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+
+        try {
+            Files.move(temp, snapshot, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, snapshot, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Appends an entry to a journal file, creating it if needed.
+     *
+     * @param journal the journal file
+     * @param op      the operation
+     * @param payload the entry payload
+     * @return the journal size after the append
+     * @throws IOException if writing fails
+     */
+    static long append(@NotNull Path journal, byte op, byte @NotNull [] payload) throws IOException {
+        try (FileChannel channel = FileChannel.open(journal,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            boolean fresh = channel.size() == 0;
+            ByteBuffer buffer = ByteBuffer.allocate(
+                (fresh ? HEADER_SIZE : 0) + Byte.BYTES + Integer.BYTES * 2 + payload.length);
+            if (fresh) {
+                buffer.putInt(JOURNAL_MAGIC).putShort(VERSION);
+            }
+            buffer.put(op)
+                .putInt(payload.length)
+                .putInt(checksum(op, ByteBuffer.wrap(payload)))
+                .put(payload)
+                .flip();
+
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+            return channel.size();
+        }
+    }
+
+    /**
+     * Encodes the payload of a delete entry.
+     *
+     * @param id the deleted region id
+     * @return the payload
+     */
+    static byte @NotNull [] deletePayload(@NotNull UUID id) {
+        return ByteBuffer.allocate(Long.BYTES * 2)
+            .putLong(id.getMostSignificantBits())
+            .putLong(id.getLeastSignificantBits())
+            .array();
+    }
+
+    private static int checksum(byte op, ByteBuffer payload) {
+        CRC32 crc = new CRC32();
+        crc.update(op);
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+
+    @Nullable
+    private static ByteBuffer readFile(Path file) throws IOException {
+        if (!Files.exists(file)) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size == 0) {
+                return null;
+            }
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Region file too large: " + file);
+            }
+            ByteBuffer buffer = ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // Keep reading until the buffer is full or the file ends
+            }
+            return buffer.flip();
+        }
+    }
+
+    private static void checkHeader(ByteBuffer buffer, int magic, Path file, short version) throws IOException {
+        if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != magic) {
+            throw new IOException("Not a region file: " + file);
+        }
+        short found = buffer.getShort();
+        if (found != version) {
+            throw new IOException("Unsupported region file version " + found + ": " + file);
+        }
+    }
+}
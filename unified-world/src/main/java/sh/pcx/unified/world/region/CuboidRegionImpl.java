@@ -100,6 +100,7 @@ public class CuboidRegionImpl extends AbstractRegion implements CuboidRegion {
         maxX += x;
         maxY += y;
         maxZ += z;
+        boundsChanged();
     }
 
     @Override
@@ -122,6 +123,7 @@ public class CuboidRegionImpl extends AbstractRegion implements CuboidRegion {
         maxX = newMaxX;
         maxY = newMaxY;
         maxZ = newMaxZ;
+        boundsChanged();
     }
 
     @Override
@@ -132,6 +134,7 @@ public class CuboidRegionImpl extends AbstractRegion implements CuboidRegion {
         maxX += x;
         maxY += y;
         maxZ += z;
+        boundsChanged();
     }
 
     @Override
@@ -139,6 +142,7 @@ public class CuboidRegionImpl extends AbstractRegion implements CuboidRegion {
         Objects.requireNonNull(min, "min cannot be null");
         Objects.requireNonNull(max, "max cannot be null");
         setBoundsInternal(min, max);
+        boundsChanged();
     }
 
     private void setBoundsInternal(@NotNull UnifiedLocation min, @NotNull UnifiedLocation max) {
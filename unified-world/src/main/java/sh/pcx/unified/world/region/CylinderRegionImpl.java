@@ -89,6 +89,7 @@ public class CylinderRegionImpl extends AbstractRegion implements CylinderRegion
         }
         this.radius = radius;
         this.radiusSquared = radius * radius;
+        boundsChanged();
     }
 
     @Override
@@ -102,6 +103,7 @@ public class CylinderRegionImpl extends AbstractRegion implements CylinderRegion
             throw new IllegalArgumentException("minY cannot be greater than maxY");
         }
         this.minY = minY;
+        boundsChanged();
     }
 
     @Override
@@ -115,6 +117,7 @@ public class CylinderRegionImpl extends AbstractRegion implements CylinderRegion
             throw new IllegalArgumentException("maxY cannot be less than minY");
         }
         this.maxY = maxY;
+        boundsChanged();
     }
 
     @Override
@@ -128,6 +131,7 @@ public class CylinderRegionImpl extends AbstractRegion implements CylinderRegion
         Objects.requireNonNull(center, "center cannot be null");
         this.centerX = center.x();
         this.centerZ = center.z();
+        boundsChanged();
     }
 
     @Override
@@ -4,32 +4,42 @@
  */
 package sh.pcx.unified.world.region;
 
+import sh.pcx.unified.UnifiedAPI;
 import sh.pcx.unified.region.Region;
 import sh.pcx.unified.region.RegionStorage;
 import sh.pcx.unified.world.UnifiedWorld;
+import sh.pcx.unified.world.region.BinaryRegionFormat.RegionRecord;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
-import java.util.Collection;
-import java.util.Collections;
-import java.util.Optional;
-import java.util.UUID;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 /**
  * File-based implementation of {@link RegionStorage}.
  *
- * <p>Stores regions in YAML or JSON files organized by world.
- * This is a placeholder implementation that should be extended
- * with actual file I/O operations.
+ * <p>Stores regions in a compact binary format with one snapshot file and one
+ * append-only journal per world. Saves only append the regions that changed
+ * since they were last written; the journal is folded back into the snapshot
+ * once it grows larger than the snapshot itself, and on {@link #close()}.
+ * Deletions append a tombstone to the journal. See {@link BinaryRegionFormat}
+ * for the encoding.
  *
  * <p>File structure:
  * <pre>
  * plugins/YourPlugin/regions/
- *   world/
- *     spawn.yml
- *     arena.yml
- *   world_nether/
- *     portal.yml
+ *   world.regions
+ *   world.journal
+ *   world_nether.regions
  * </pre>
  *
  * @since 1.0.0
@@ -37,78 +47,208 @@ import java.util.concurrent.CompletableFuture;
  */
 public class FileRegionStorage implements RegionStorage {
 
-    // TODO: Implement actual file I/O with proper serialization
+    private static final Logger LOGGER = LoggerFactory.getLogger(FileRegionStorage.class);
+
+    private static final String SNAPSHOT_EXTENSION = ".regions";
+    private static final String JOURNAL_EXTENSION = ".journal";
+
+    /**
+     * Journals smaller than this are never compacted, regardless of snapshot size.
+     */
+    private static final long MIN_COMPACTION_SIZE = 64 * 1024;
+
+    private final Path directory;
+    private final Function<String, UnifiedWorld> worldLookup;
+
+    // Serializes file access per world
+    private final Map<String, Object> worldLocks = new ConcurrentHashMap<>();
+
+    // Last known world of each stored region, used for lookups by ID
+    private final Map<UUID, String> worldById = new ConcurrentHashMap<>();
+
+    // Journal size per world after its last verified read or append by this storage
+    private final Map<String, Long> journalEnds = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a file storage in the {@code regions} directory of the working
+     * directory.
+     *
+     * <p>Worlds are resolved by name through {@link UnifiedAPI#getServer()}
+     * when regions are loaded; regions of worlds that are not loaded at that
+     * time are skipped.
+     */
+    public FileRegionStorage() {
+        this(Path.of("regions"), FileRegionStorage::serverWorld);
+    }
+
+    /**
+     * Creates a file storage in the given directory.
+     *
+     * @param directory   the directory holding the region files
+     * @param worldLookup resolves a world by name, returning null if it is not loaded
+     */
+    public FileRegionStorage(@NotNull Path directory, @NotNull Function<String, UnifiedWorld> worldLookup) {
+        this.directory = Objects.requireNonNull(directory, "directory cannot be null");
+        this.worldLookup = Objects.requireNonNull(worldLookup, "worldLookup cannot be null");
+    }
+
+    /**
+     * Gets the directory holding the region files.
+     *
+     * @return the storage directory
+     * @since 1.0.0
+     */
+    @NotNull
+    public Path getDirectory() {
+        return directory;
+    }
+
+    // =========================================================================
+    // Loading
+    // =========================================================================
 
     @Override
     @NotNull
     public CompletableFuture<Collection<Region>> loadAll(@NotNull UnifiedWorld world) {
-        // TODO: Load regions from file
-        return CompletableFuture.completedFuture(Collections.emptyList());
+        return CompletableFuture.supplyAsync(() ->
+            toRegions(read(world.getName()).values(), world));
     }
 
     @Override
     @NotNull
     public CompletableFuture<Collection<Region>> loadAll() {
-        // TODO: Load all regions from all world directories
-        return CompletableFuture.completedFuture(Collections.emptyList());
+        return CompletableFuture.supplyAsync(() -> {
+            List<Region> regions = new ArrayList<>();
+            for (String worldName : storedWorlds()) {
+                UnifiedWorld world = worldLookup.apply(worldName);
+                if (world == null) {
+                    LOGGER.debug("Skipping regions of unloaded world {}", worldName);
+                    continue;
+                }
+                regions.addAll(toRegions(read(worldName).values(), world));
+            }
+            return regions;
+        });
     }
 
     @Override
     @NotNull
     public CompletableFuture<Optional<Region>> load(@NotNull UUID id) {
-        // TODO: Search for region by ID
-        return CompletableFuture.completedFuture(Optional.empty());
+        return CompletableFuture.supplyAsync(() -> {
+            String worldName = findWorld(id);
+            UnifiedWorld world = worldName == null ? null : worldLookup.apply(worldName);
+            if (world == null) {
+                return Optional.empty();
+            }
+            return toRegions(read(worldName).values(), world).stream()
+                .filter(region -> region.getId().equals(id))
+                .findFirst();
+        });
     }
 
     @Override
     @NotNull
     public CompletableFuture<Optional<Region>> load(@NotNull UnifiedWorld world, @NotNull String name) {
-        // TODO: Load specific region file
-        return CompletableFuture.completedFuture(Optional.empty());
+        return CompletableFuture.supplyAsync(() ->
+            toRegions(read(world.getName()).values(), world).stream()
+                .filter(region -> region.getName().equalsIgnoreCase(name))
+                .findFirst());
     }
 
+    // =========================================================================
+    // Saving
+    // =========================================================================
+
     @Override
     @NotNull
     public CompletableFuture<Void> save(@NotNull Region region) {
-        return CompletableFuture.runAsync(() -> {
-            // TODO: Serialize region to file
-        });
+        return saveAll(List.of(region));
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Regions that have not changed since they were last loaded or saved
+     * are skipped. Changed regions are appended to their world's journal.
+     */
     @Override
     @NotNull
     public CompletableFuture<Void> saveAll(@NotNull Collection<Region> regions) {
         return CompletableFuture.runAsync(() -> {
+            Map<String, List<Region>> byWorld = new LinkedHashMap<>();
             for (Region region : regions) {
-                // TODO: Serialize each region
+                if (region instanceof AbstractRegion abstractRegion && !abstractRegion.isDirty()) {
+                    continue;
+                }
+                byWorld.computeIfAbsent(region.getWorld().getName(), k -> new ArrayList<>()).add(region);
             }
+            byWorld.forEach(this::append);
         });
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>This replaces the stored regions of the world with exactly the given
+     * regions, rewriting the snapshot and discarding the journal.
+     */
     @Override
     @NotNull
     public CompletableFuture<Void> saveWorld(
             @NotNull UnifiedWorld world,
             @NotNull Collection<Region> regions
     ) {
-        return saveAll(regions);
+        return CompletableFuture.runAsync(() -> {
+            String worldName = world.getName();
+            synchronized (lock(worldName)) {
+                List<RegionRecord> records = encode(regions);
+                try {
+                    BinaryRegionFormat.writeSnapshot(snapshotFile(worldName), records);
+                    Files.deleteIfExists(journalFile(worldName));
+                    journalEnds.put(worldName, 0L);
+                } catch (IOException e) {
+                    regions.forEach(FileRegionStorage::markDirty);
+                    throw new UncheckedIOException("Failed to save regions of world " + worldName, e);
+                }
+                worldById.values().removeIf(worldName::equals);
+                records.forEach(record -> worldById.put(record.id(), worldName));
+            }
+        });
     }
 
+    /**
+     * Compacts the journal of a world into its snapshot.
+     *
+     * @param worldName the world name
+     * @return a future that completes when compaction is done
+     * @since 1.0.0
+     */
+    @NotNull
+    public CompletableFuture<Void> compact(@NotNull String worldName) {
+        return CompletableFuture.runAsync(() -> {
+            synchronized (lock(worldName)) {
+                compactLocked(worldName);
+            }
+        });
+    }
+
+    // =========================================================================
+    // Deletion
+    // =========================================================================
+
     @Override
     @NotNull
     public CompletableFuture<Boolean> delete(@NotNull Region region) {
-        return CompletableFuture.supplyAsync(() -> {
-            // TODO: Delete region file
-            return true;
-        });
+        return CompletableFuture.supplyAsync(() ->
+            deleteFrom(region.getWorld().getName(), region.getId()));
     }
 
     @Override
     @NotNull
     public CompletableFuture<Boolean> delete(@NotNull UUID id) {
         return CompletableFuture.supplyAsync(() -> {
-            // TODO: Find and delete region file by ID
-            return true;
+            String worldName = findWorld(id);
+            return worldName != null && deleteFrom(worldName, id);
         });
     }
 
@@ -116,59 +256,91 @@ public class FileRegionStorage implements RegionStorage {
     @NotNull
     public CompletableFuture<Integer> deleteAll(@NotNull UnifiedWorld world) {
         return CompletableFuture.supplyAsync(() -> {
-            // TODO: Delete all region files for world
-            return 0;
+            String worldName = world.getName();
+            synchronized (lock(worldName)) {
+                int count = read(worldName).size();
+                try {
+                    Files.deleteIfExists(snapshotFile(worldName));
+                    Files.deleteIfExists(journalFile(worldName));
+                    journalEnds.put(worldName, 0L);
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Failed to delete regions of world " + worldName, e);
+                }
+                worldById.values().removeIf(worldName::equals);
+                return count;
+            }
         });
     }
 
+    // =========================================================================
+    // Queries
+    // =========================================================================
+
     @Override
     @NotNull
     public CompletableFuture<Boolean> exists(@NotNull UUID id) {
-        return CompletableFuture.supplyAsync(() -> {
-            // TODO: Check if region file exists
-            return false;
-        });
+        return CompletableFuture.supplyAsync(() -> findWorld(id) != null);
     }
 
     @Override
     @NotNull
     public CompletableFuture<Boolean> exists(@NotNull UnifiedWorld world, @NotNull String name) {
-        return CompletableFuture.supplyAsync(() -> {
-            // TODO: Check if region file exists
-            return false;
-        });
+        return CompletableFuture.supplyAsync(() ->
+            read(world.getName()).values().stream()
+                .anyMatch(record -> record.name().equalsIgnoreCase(name)));
     }
 
     @Override
     @NotNull
     public CompletableFuture<Integer> count(@NotNull UnifiedWorld world) {
-        return CompletableFuture.supplyAsync(() -> {
-            // TODO: Count region files in world directory
-            return 0;
-        });
+        return CompletableFuture.supplyAsync(() -> read(world.getName()).size());
     }
 
     @Override
     @NotNull
     public CompletableFuture<Integer> count() {
         return CompletableFuture.supplyAsync(() -> {
-            // TODO: Count all region files
-            return 0;
+            int count = 0;
+            for (String worldName : storedWorlds()) {
+                count += read(worldName).size();
+            }
+            return count;
         });
     }
 
+    // =========================================================================
+    // Lifecycle
+    // =========================================================================
+
     @Override
     @NotNull
     public CompletableFuture<Void> initialize() {
         return CompletableFuture.runAsync(() -> {
-            // TODO: Create directories if needed
+            try {
+                Files.createDirectories(directory);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to create region directory " + directory, e);
+            }
         });
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Compacts every world that has a pending journal.
+     */
     @Override
     @NotNull
     public CompletableFuture<Void> close() {
-        return CompletableFuture.completedFuture(null);
+        return CompletableFuture.runAsync(() -> {
+            for (String worldName : storedWorlds()) {
+                if (Files.exists(journalFile(worldName))) {
+                    synchronized (lock(worldName)) {
+                        compactLocked(worldName);
+                    }
+                }
+            }
+        });
     }
 
     @Override
@@ -176,4 +348,214 @@ public class FileRegionStorage implements RegionStorage {
     public String getName() {
         return "FileStorage";
     }
+
+    // =========================================================================
+    // Internal
+    // =========================================================================
+
+    private void append(String worldName, List<Region> regions) {
+        synchronized (lock(worldName)) {
+            List<RegionRecord> records = encode(regions);
+
+            long journalSize;
+            try {
+                ensureDirectory();
+                prepareJournal(worldName);
+                journalSize = BinaryRegionFormat.append(journalFile(worldName),
+                    BinaryRegionFormat.OP_PUT, BinaryRegionFormat.encodeBlock(records));
+            } catch (IOException e) {
+                regions.forEach(FileRegionStorage::markDirty);
+                throw new UncheckedIOException("Failed to save regions of world " + worldName, e);
+            }
+            journalEnds.put(worldName, journalSize);
+            records.forEach(record -> worldById.put(record.id(), worldName));
+
+            maybeCompact(worldName, journalSize);
+        }
+    }
+
+    private static List<RegionRecord> encode(Collection<Region> regions) {
+        List<RegionRecord> records = new ArrayList<>(regions.size());
+        try {
+            for (Region region : regions) {
+                // Cleared before encoding so concurrent changes re-mark the region
+                markClean(region);
+                records.add(BinaryRegionFormat.toRecord(region));
+            }
+        } catch (RuntimeException e) {
+            // Nothing of the batch is written, so none of it may stay clean
+            regions.forEach(FileRegionStorage::markDirty);
+            throw e;
+        }
+        return records;
+    }
+
+    private boolean deleteFrom(String worldName, UUID id) {
+        synchronized (lock(worldName)) {
+            if (!read(worldName).containsKey(id)) {
+                return false;
+            }
+            try {
+                prepareJournal(worldName);
+                long journalSize = BinaryRegionFormat.append(journalFile(worldName),
+                    BinaryRegionFormat.OP_DELETE, BinaryRegionFormat.deletePayload(id));
+                journalEnds.put(worldName, journalSize);
+                worldById.remove(id);
+                maybeCompact(worldName, journalSize);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to delete region " + id, e);
+            }
+            return true;
+        }
+    }
+
+    private void maybeCompact(String worldName, long journalSize) {
+        try {
+            Path snapshot = snapshotFile(worldName);
+            long snapshotSize = Files.exists(snapshot) ? Files.size(snapshot) : 0;
+            if (journalSize > Math.max(MIN_COMPACTION_SIZE, snapshotSize)) {
+                compactLocked(worldName);
+            }
+        } catch (IOException | UncheckedIOException e) {
+            // The journal is still intact, so compaction can be retried later
+            LOGGER.warn("Failed to compact regions of world {}", worldName, e);
+        }
+    }
+
+    /**
+     * Makes a journal safe to append to.
+     *
+     * <p>A journal this storage did not write last (left by a crash or
+     * another process) is read first, which truncates any damaged tail so new
+     * entries are not appended behind it.
+     */
+    private void prepareJournal(String worldName) throws IOException {
+        Path journal = journalFile(worldName);
+        long size = Files.exists(journal) ? Files.size(journal) : 0;
+        Long known = journalEnds.get(worldName);
+        if (known == null || known != size) {
+            read(worldName);
+        }
+    }
+
+    private void compactLocked(String worldName) {
+        Map<UUID, RegionRecord> records = read(worldName);
+        try {
+            BinaryRegionFormat.writeSnapshot(snapshotFile(worldName), records.values());
+            Files.deleteIfExists(journalFile(worldName));
+            journalEnds.put(worldName, 0L);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to compact regions of world " + worldName, e);
+        }
+    }
+
+    private Map<UUID, RegionRecord> read(String worldName) {
+        synchronized (lock(worldName)) {
+            Map<UUID, RegionRecord> records;
+            try {
+                Path journal = journalFile(worldName);
+                records = BinaryRegionFormat.read(snapshotFile(worldName), journal);
+                journalEnds.put(worldName, Files.exists(journal) ? Files.size(journal) : 0L);
+            } catch (IOException | IllegalArgumentException e) {
+                throw new UncheckedIOException("Failed to read regions of world " + worldName,
+                    e instanceof IOException io ? io : new IOException(e));
+            }
+            records.keySet().forEach(id -> worldById.put(id, worldName));
+            return records;
+        }
+    }
+
+    private List<Region> toRegions(Collection<RegionRecord> records, UnifiedWorld world) {
+        Map<String, AbstractRegion> byName = new HashMap<>();
+        List<Region> regions = new ArrayList<>(records.size());
+        for (RegionRecord record : records) {
+            AbstractRegion region = BinaryRegionFormat.toRegion(record, world);
+            byName.put(region.getName().toLowerCase(), region);
+            regions.add(region);
+        }
+
+        // Parents are linked by name once every region of the world exists
+        for (RegionRecord record : records) {
+            if (record.parent() != null) {
+                AbstractRegion parent = byName.get(record.parent().toLowerCase());
+                if (parent != null) {
+                    byName.get(record.name().toLowerCase()).setParent(parent);
+                }
+            }
+        }
+
+        for (Region region : regions) {
+            markClean(region);
+        }
+        return regions;
+    }
+
+    @Nullable
+    private String findWorld(UUID id) {
+        String known = worldById.get(id);
+        if (known != null && read(known).containsKey(id)) {
+            return known;
+        }
+        for (String worldName : storedWorlds()) {
+            if (read(worldName).containsKey(id)) {
+                return worldName;
+            }
+        }
+        return null;
+    }
+
+    private List<String> storedWorlds() {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        Set<String> worlds = new LinkedHashSet<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+            for (Path file : stream) {
+                String fileName = file.getFileName().toString();
+                if (fileName.endsWith(SNAPSHOT_EXTENSION)) {
+                    worlds.add(fileName.substring(0, fileName.length() - SNAPSHOT_EXTENSION.length()));
+                } else if (fileName.endsWith(JOURNAL_EXTENSION)) {
+                    worlds.add(fileName.substring(0, fileName.length() - JOURNAL_EXTENSION.length()));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to list region directory " + directory, e);
+        }
+        return new ArrayList<>(worlds);
+    }
+
+    private void ensureDirectory() throws IOException {
+        if (!Files.isDirectory(directory)) {
+            Files.createDirectories(directory);
+        }
+    }
+
+    private Object lock(String worldName) {
+        return worldLocks.computeIfAbsent(worldName, k -> new Object());
+    }
+
+    private Path snapshotFile(String worldName) {
+        return directory.resolve(worldName + SNAPSHOT_EXTENSION);
+    }
+
+    private Path journalFile(String worldName) {
+        return directory.resolve(worldName + JOURNAL_EXTENSION);
+    }
+
+    @Nullable
+    private static UnifiedWorld serverWorld(String worldName) {
+        return UnifiedAPI.isInitialized() ? UnifiedAPI.getServer().getWorld(worldName).orElse(null) : null;
+    }
+
+    private static void markClean(Region region) {
+        if (region instanceof AbstractRegion abstractRegion) {
+            abstractRegion.markClean();
+        }
+    }
+
+    private static void markDirty(Region region) {
+        if (region instanceof AbstractRegion abstractRegion) {
+            abstractRegion.markDirty();
+        }
+    }
 }
@@ -0,0 +1,360 @@
+/*
+ * Copyright (c) 2025 Supatuck. All rights reserved.
+ * Licensed under the MIT License.
+ */
+package sh.pcx.unified.world.region;
+
+import sh.pcx.unified.event.Cancellable;
+import sh.pcx.unified.event.EventBus;
+import sh.pcx.unified.event.UnifiedEvent;
+import sh.pcx.unified.player.UnifiedPlayer;
+import sh.pcx.unified.region.GlobalRegion;
+import sh.pcx.unified.region.Region;
+import sh.pcx.unified.region.event.RegionEnterEvent;
+import sh.pcx.unified.region.event.RegionExitEvent;
+import sh.pcx.unified.world.UnifiedLocation;
+import sh.pcx.unified.world.UnifiedWorld;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Incremental tracker of the regions each player is in.
+ *
+ * <p>Each update is skipped entirely while the player stays in the same block
+ * and no region was added, removed or resized since the last evaluation.
+ * Otherwise only two groups of regions are tested: the regions the player is
+ * currently in (to detect exits) and the chunk candidates of the new position
+ * that the player is not yet in (to detect entries).
+ *
+ * <p>A reverse index from region to occupants is maintained alongside, so
+ * occupant lookups and counts do not scan the world's players.
+ *
+ * @since 1.0.0
+ * @author Supatuck
+ */
+final class PlayerRegionTracker {
+
+    private final Function<String, RegionIndex> indexes;
+    private final Function<String, GlobalRegion> globalRegions;
+    private final Predicate<Region> registered;
+
+    private final Map<UUID, TrackedPlayer> players = new ConcurrentHashMap<>();
+    private final Map<UUID, Map<UUID, UnifiedPlayer>> occupants = new ConcurrentHashMap<>();
+
+    // Bumped whenever region geometry changes so stationary players are re-evaluated
+    private final AtomicLong generation = new AtomicLong();
+
+    private volatile EventBus eventBus;
+
+    /**
+     * Creates a new tracker.
+     *
+     * @param indexes       resolves the spatial index of a world by name
+     * @param globalRegions resolves the global region of a world by name
+     * @param registered    tests whether a region is still registered
+     */
+    PlayerRegionTracker(
+            @NotNull Function<String, RegionIndex> indexes,
+            @NotNull Function<String, GlobalRegion> globalRegions,
+            @NotNull Predicate<Region> registered
+    ) {
+        this.indexes = indexes;
+        this.globalRegions = globalRegions;
+        this.registered = registered;
+    }
+
+    /**
+     * Sets the event bus receiving enter and exit events.
+     *
+     * @param eventBus the event bus, or null to disable events
+     */
+    void setEventBus(@Nullable EventBus eventBus) {
+        this.eventBus = eventBus;
+    }
+
+    /**
+     * Returns the event bus receiving enter and exit events.
+     *
+     * @return the event bus, or null if events are disabled
+     */
+    @Nullable
+    EventBus getEventBus() {
+        return eventBus;
+    }
+
+    // =========================================================================
+    // Tracking
+    // =========================================================================
+
+    /**
+     * Re-evaluates the regions of a player at their current location.
+     *
+     * <p>Enter and exit events are fired for every transition except on the
+     * first evaluation of a player. A cancelled event leaves the transition
+     * unapplied, so it is attempted again on the next evaluation.
+     *
+     * @param player the player
+     * @return the regions the player is in, sorted by priority
+     */
+    @NotNull
+    Set<Region> update(@NotNull UnifiedPlayer player) {
+        TrackedPlayer tracked = players.computeIfAbsent(player.getUniqueId(), k -> new TrackedPlayer());
+        UnifiedLocation to = player.getLocation();
+
+        synchronized (tracked) {
+            long currentGeneration = generation.get();
+            if (tracked.location != null
+                    && tracked.generation == currentGeneration
+                    && tracked.isAt(to)) {
+                return tracked.snapshot;
+            }
+
+            UnifiedLocation from = tracked.location;
+            UnifiedWorld world = to.world();
+            String worldName = world == null ? null : world.getName();
+            double x = to.x();
+            double y = to.y();
+            double z = to.z();
+
+            // Leaving: only the regions the player is currently in
+            List<Region> exited = new ArrayList<>();
+            for (Region region : tracked.regions) {
+                if (!registered.test(region)
+                        || !region.getWorld().getName().equals(worldName)
+                        || !region.contains(x, y, z)) {
+                    exited.add(region);
+                }
+            }
+
+            // Entering: only the candidates of the new chunk column
+            List<Region> entered = new ArrayList<>();
+            if (worldName != null) {
+                RegionIndex index = indexes.apply(worldName);
+                if (index != null) {
+                    Region[] candidates = index.candidates(
+                        RegionIndex.blockToChunk(x), RegionIndex.blockToChunk(z));
+                    for (Region region : candidates) {
+                        if (!tracked.regions.contains(region) && region.contains(x, y, z)) {
+                            entered.add(region);
+                        }
+                    }
+                }
+                GlobalRegion global = globalRegions.apply(worldName);
+                if (global != null && !tracked.regions.contains(global)) {
+                    entered.add(global);
+                }
+            }
+
+            boolean changed = false;
+            for (Region region : exited) {
+                if (from == null || fire(new RegionExitEvent(region, player, from, to))) {
+                    tracked.regions.remove(region);
+                    removeOccupant(region, player.getUniqueId());
+                    changed = true;
+                }
+            }
+            for (Region region : entered) {
+                if (from == null || fire(new RegionEnterEvent(region, player, from, to))) {
+                    tracked.regions.add(region);
+                    occupants.computeIfAbsent(region.getId(), k -> new ConcurrentHashMap<>())
+                        .put(player.getUniqueId(), player);
+                    changed = true;
+                }
+            }
+
+            if (changed || from == null) {
+                List<Region> sorted = new ArrayList<>(tracked.regions);
+                sorted.sort(null);
+                tracked.snapshot = Collections.unmodifiableSet(new LinkedHashSet<>(sorted));
+            }
+            tracked.moveTo(to, currentGeneration);
+            return tracked.snapshot;
+        }
+    }
+
+    /**
+     * Returns the tracked regions of a player, evaluating them if the player
+     * is not tracked yet.
+     *
+     * @param player the player
+     * @return the regions the player is in, sorted by priority
+     */
+    @NotNull
+    Set<Region> current(@NotNull UnifiedPlayer player) {
+        TrackedPlayer tracked = players.get(player.getUniqueId());
+        if (tracked != null) {
+            return tracked.snapshot;
+        }
+        return update(player);
+    }
+
+    /**
+     * Stops tracking a player.
+     *
+     * @param playerId the player UUID
+     */
+    void remove(@NotNull UUID playerId) {
+        TrackedPlayer tracked = players.remove(playerId);
+        if (tracked == null) {
+            return;
+        }
+        synchronized (tracked) {
+            for (Region region : tracked.regions) {
+                removeOccupant(region, playerId);
+            }
+        }
+    }
+
+    /**
+     * Stops tracking every player.
+     */
+    void clear() {
+        players.clear();
+        occupants.clear();
+        generation.incrementAndGet();
+    }
+
+    // =========================================================================
+    // Region Changes
+    // =========================================================================
+
+    /**
+     * Marks every tracked player for re-evaluation after a region was added
+     * or resized.
+     */
+    void regionsChanged() {
+        generation.incrementAndGet();
+    }
+
+    /**
+     * Removes a region from every occupant's tracked set.
+     *
+     * @param region the removed region
+     */
+    void regionRemoved(@NotNull Region region) {
+        generation.incrementAndGet();
+
+        Map<UUID, UnifiedPlayer> regionOccupants = occupants.remove(region.getId());
+        if (regionOccupants == null) {
+            return;
+        }
+        for (UUID playerId : regionOccupants.keySet()) {
+            TrackedPlayer tracked = players.get(playerId);
+            if (tracked == null) {
+                continue;
+            }
+            synchronized (tracked) {
+                if (tracked.regions.remove(region)) {
+                    List<Region> sorted = new ArrayList<>(tracked.regions);
+                    sorted.sort(null);
+                    tracked.snapshot = Collections.unmodifiableSet(new LinkedHashSet<>(sorted));
+                }
+            }
+        }
+    }
+
+    // =========================================================================
+    // Occupants
+    // =========================================================================
+
+    /**
+     * Checks if any player is being tracked.
+     *
+     * @return true if at least one player is tracked
+     */
+    boolean isTracking() {
+        return !players.isEmpty();
+    }
+
+    /**
+     * Checks if a player is being tracked.
+     *
+     * @param playerId the player UUID
+     * @return true if the player has been evaluated and not removed since
+     */
+    boolean isTracked(@NotNull UUID playerId) {
+        return players.containsKey(playerId);
+    }
+
+    /**
+     * Returns the tracked players inside a region.
+     *
+     * @param region the region
+     * @return the occupants
+     */
+    @NotNull
+    Collection<UnifiedPlayer> occupants(@NotNull Region region) {
+        Map<UUID, UnifiedPlayer> regionOccupants = occupants.get(region.getId());
+        return regionOccupants == null ? List.of() : List.copyOf(regionOccupants.values());
+    }
+
+    /**
+     * Returns the number of tracked players inside a region.
+     *
+     * @param region the region
+     * @return the occupant count
+     */
+    int occupantCount(@NotNull Region region) {
+        Map<UUID, UnifiedPlayer> regionOccupants = occupants.get(region.getId());
+        return regionOccupants == null ? 0 : regionOccupants.size();
+    }
+
+    private void removeOccupant(Region region, UUID playerId) {
+        Map<UUID, UnifiedPlayer> regionOccupants = occupants.get(region.getId());
+        if (regionOccupants != null) {
+            regionOccupants.remove(playerId);
+        }
+    }
+
+    /**
+     * Fires an event if an event bus is configured.
+     *
+     * @return true if the transition should be applied
+     */
+    private boolean fire(@NotNull UnifiedEvent event) {
+        EventBus bus = eventBus;
+        if (bus == null) {
+            return true;
+        }
+        bus.fire(event);
+        return !(event instanceof Cancellable cancellable) || !cancellable.isCancelled();
+    }
+
+    /**
+     * Tracking state of a single player, guarded by its own monitor.
+     */
+    private static final class TrackedPlayer {
+        final Set<Region> regions = new HashSet<>();
+        volatile Set<Region> snapshot = Collections.emptySet();
+        UnifiedLocation location;
+        String worldName;
+        int blockX;
+        int blockY;
+        int blockZ;
+        long generation;
+
+        boolean isAt(UnifiedLocation to) {
+            UnifiedWorld world = to.world();
+            return to.getBlockX() == blockX
+                && to.getBlockY() == blockY
+                && to.getBlockZ() == blockZ
+                && Objects.equals(world == null ? null : world.getName(), worldName);
+        }
+
+        void moveTo(UnifiedLocation to, long generation) {
+            UnifiedWorld world = to.world();
+            this.location = to;
+            this.worldName = world == null ? null : world.getName();
+            this.blockX = to.getBlockX();
+            this.blockY = to.getBlockY();
+            this.blockZ = to.getBlockZ();
+            this.generation = generation;
+        }
+    }
+}
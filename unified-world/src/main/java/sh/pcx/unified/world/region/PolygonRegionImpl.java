@@ -84,6 +84,7 @@ public class PolygonRegionImpl extends AbstractRegion implements PolygonRegion {
     public void addPoint(int x, int z) {
         points.add(new int[]{x, z});
         invalidateCache();
+        boundsChanged();
     }
 
     @Override
@@ -96,12 +97,14 @@ public class PolygonRegionImpl extends AbstractRegion implements PolygonRegion {
         }
         points.remove(index);
         invalidateCache();
+        boundsChanged();
     }
 
     @Override
     public void clearPoints() {
         points.clear();
         invalidateCache();
+        boundsChanged();
     }
 
     @Override
@@ -119,6 +122,7 @@ public class PolygonRegionImpl extends AbstractRegion implements PolygonRegion {
             points.add(new int[]{point[0], point[1]});
         }
         invalidateCache();
+        boundsChanged();
     }
 
     @Override
@@ -132,6 +136,7 @@ public class PolygonRegionImpl extends AbstractRegion implements PolygonRegion {
             throw new IllegalArgumentException("minY cannot be greater than maxY");
         }
         this.minY = minY;
+        boundsChanged();
     }
 
     @Override
@@ -145,6 +150,7 @@ public class PolygonRegionImpl extends AbstractRegion implements PolygonRegion {
             throw new IllegalArgumentException("maxY cannot be less than minY");
         }
         this.maxY = maxY;
+        boundsChanged();
     }
 
     @Override
@@ -0,0 +1,919 @@
+/*
+ * Copyright (c) 2025 Supatuck. All rights reserved.
+ * Licensed under the MIT License.
+ */
+package sh.pcx.unified.world.region;
+
+import sh.pcx.unified.region.*;
+import sh.pcx.unified.world.UnifiedLocation;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Per-world spatial index over region bounding boxes.
+ *
+ * <p>Regions are stored in a dynamic R-tree (quadratic split) keyed by their
+ * axis-aligned bounding boxes, so inserts, removals and box queries cost
+ * O(log n). Point lookups are answered through a chunk-column pre-filter: the
+ * regions whose bounds overlap a 16x16 column are resolved from the tree once
+ * and reused until a region overlapping that column is added, removed or
+ * resized.
+ *
+ * <p>Flag queries are served from a second cache of 4x4x4 block sub-cells. A
+ * cell is cached when every region touching it covers the whole cell, so a
+ * single region set applies to every point inside; the cell then memoizes the
+ * resolved value of each flag queried in it. Cells are discarded when a region
+ * overlapping them is added, removed or resized, or when its flags, priority
+ * or parent change.
+ *
+ * <p>Global regions are never stored in the tree; they contain every
+ * coordinate and only take part in flag resolution.
+ *
+ * <h2>Thread Safety</h2>
+ * <p>The tree is guarded by a read-write lock. The chunk cache is a concurrent
+ * map, so the common lookup path does not take any lock.
+ *
+ * @since 1.0.0
+ * @author Supatuck
+ */
+final class RegionIndex {
+
+    private static final int MAX_ENTRIES = 16;
+    private static final int MIN_ENTRIES = 6;
+    private static final int MAX_CACHED_CHUNKS = 16_384;
+    private static final int MAX_CACHED_CELLS = 65_536;
+    private static final int CELL_SHIFT = 2;
+    private static final int CELL_SIZE = 1 << CELL_SHIFT;
+    private static final int MIN_CELL_Y = -512;
+    private static final int MAX_CELL_Y = 511;
+    private static final double MAX_EXTENT = 1.0e9;
+    private static final Region[] NO_REGIONS = new Region[0];
+    private static final Object UNSET = new Object();
+    private static final FlagCell NON_UNIFORM = new FlagCell(null);
+
+    /**
+     * Returned by {@link #resolveFlag} when the location cannot be answered
+     * from the cell cache.
+     */
+    static final Object NOT_CACHED = new Object();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Guarded by lock
+    private final Map<UUID, Entry> entries = new HashMap<>();
+    private Node root = new Node(true);
+
+    // Regions whose bounds overlap a chunk column, keyed by chunk key
+    private final Map<Long, Region[]> chunkCandidates = new ConcurrentHashMap<>();
+
+    // Resolved region sets of 4x4x4 sub-cells, keyed by cell key
+    private final Map<Long, FlagCell> flagCells = new ConcurrentHashMap<>();
+
+    // The world's global region, appended to every cell's region set
+    private volatile GlobalRegion globalRegion;
+
+    // =========================================================================
+    // Mutation
+    // =========================================================================
+
+    /**
+     * Adds a region to the index, replacing any previous entry for it.
+     *
+     * @param region the region to index
+     */
+    void insert(@NotNull Region region) {
+        Objects.requireNonNull(region, "region cannot be null");
+
+        lock.writeLock().lock();
+        try {
+            Entry previous = entries.remove(region.getId());
+            if (previous != null) {
+                removeEntry(previous);
+                invalidate(previous.box);
+            }
+
+            Entry entry = new Entry(region, boundsOf(region));
+            entries.put(region.getId(), entry);
+            insertEntry(entry);
+            invalidate(entry.box);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a region from the index.
+     *
+     * @param region the region to remove
+     * @return true if the region was indexed
+     */
+    boolean remove(@NotNull Region region) {
+        Objects.requireNonNull(region, "region cannot be null");
+
+        lock.writeLock().lock();
+        try {
+            Entry entry = entries.remove(region.getId());
+            if (entry == null) {
+                return false;
+            }
+            removeEntry(entry);
+            invalidate(entry.box);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Re-indexes a region after its bounds changed.
+     *
+     * <p>Does nothing if the region is not part of this index.
+     *
+     * @param region the region whose geometry changed
+     */
+    void update(@NotNull Region region) {
+        lock.writeLock().lock();
+        try {
+            if (entries.containsKey(region.getId())) {
+                insert(region);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Discards cached flag resolution for a region.
+     *
+     * <p>Called when a flag, the priority or the parent of the region changed.
+     * Regions that are not indexed (other than the global region) are ignored.
+     *
+     * @param region the region whose flag resolution changed
+     */
+    void invalidateFlags(@NotNull Region region) {
+        lock.writeLock().lock();
+        try {
+            if (region instanceof GlobalRegion) {
+                flagCells.clear();
+                return;
+            }
+            Entry entry = entries.get(region.getId());
+            if (entry != null) {
+                invalidateCells(entry.box);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Sets the global region taking part in flag resolution.
+     *
+     * @param global the global region, or null to remove it
+     */
+    void setGlobalRegion(@Nullable GlobalRegion global) {
+        lock.writeLock().lock();
+        try {
+            this.globalRegion = global;
+            flagCells.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes every region from the index.
+     */
+    void clear() {
+        lock.writeLock().lock();
+        try {
+            entries.clear();
+            root = new Node(true);
+            chunkCandidates.clear();
+            flagCells.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // =========================================================================
+    // Queries
+    // =========================================================================
+
+    /**
+     * Collects the indexed regions containing the given point.
+     *
+     * <p>Results are appended in no particular order.
+     *
+     * @param x   the x coordinate
+     * @param y   the y coordinate
+     * @param z   the z coordinate
+     * @param out the collection receiving matching regions
+     */
+    void regionsAt(double x, double y, double z, @NotNull Collection<Region> out) {
+        for (Region region : candidates(blockToChunk(x), blockToChunk(z))) {
+            if (region.contains(x, y, z)) {
+                out.add(region);
+            }
+        }
+    }
+
+    /**
+     * Returns the regions whose bounding boxes overlap a chunk column.
+     *
+     * <p>The returned array is shared and must not be modified.
+     *
+     * @param chunkX the chunk x coordinate
+     * @param chunkZ the chunk z coordinate
+     * @return the candidate regions for the column
+     */
+    @NotNull
+    Region[] candidates(int chunkX, int chunkZ) {
+        long key = chunkKey(chunkX, chunkZ);
+        Region[] cached = chunkCandidates.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        // Resolved under the read lock so a concurrent writer cannot
+        // invalidate the column between the tree walk and the cache fill
+        lock.readLock().lock();
+        try {
+            double minX = (double) chunkX * 16;
+            double minZ = (double) chunkZ * 16;
+            double[] column = {
+                minX, Double.NEGATIVE_INFINITY, minZ,
+                minX + 16, Double.POSITIVE_INFINITY, minZ + 16
+            };
+
+            List<Region> found = new ArrayList<>();
+            search(root, column, found);
+            Region[] result = found.isEmpty() ? NO_REGIONS : found.toArray(NO_REGIONS);
+
+            if (chunkCandidates.size() >= MAX_CACHED_CHUNKS) {
+                chunkCandidates.clear();
+            }
+            chunkCandidates.put(key, result);
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Collects the indexed regions whose bounding boxes overlap a box.
+     *
+     * @param min the minimum corner
+     * @param max the maximum corner
+     * @param out the collection receiving matching regions
+     */
+    void intersecting(@NotNull UnifiedLocation min, @NotNull UnifiedLocation max, @NotNull Collection<Region> out) {
+        double[] box = {
+            Math.min(min.x(), max.x()), Math.min(min.y(), max.y()), Math.min(min.z(), max.z()),
+            Math.max(min.x(), max.x()), Math.max(min.y(), max.y()), Math.max(min.z(), max.z())
+        };
+
+        lock.readLock().lock();
+        try {
+            search(root, box, out);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Resolves a flag at a point from the sub-cell cache.
+     *
+     * <p>Regions are consulted in priority order, global region last, exactly
+     * like an uncached lookup. When regions only partially cover the cell
+     * around the point, {@link #NOT_CACHED} is returned and the caller must
+     * resolve the flag itself.
+     *
+     * @param x    the x coordinate
+     * @param y    the y coordinate
+     * @param z    the z coordinate
+     * @param flag the flag to resolve
+     * @return the flag value, null if no region sets it, or {@link #NOT_CACHED}
+     */
+    @Nullable
+    Object resolveFlag(double x, double y, double z, @NotNull RegionFlag<?> flag) {
+        int cellX = ((int) Math.floor(x)) >> CELL_SHIFT;
+        int cellY = ((int) Math.floor(y)) >> CELL_SHIFT;
+        int cellZ = ((int) Math.floor(z)) >> CELL_SHIFT;
+        if (cellY < MIN_CELL_Y || cellY > MAX_CELL_Y) {
+            return NOT_CACHED;
+        }
+
+        long key = cellKey(cellX, cellY, cellZ);
+        FlagCell cell = flagCells.get(key);
+        if (cell == null) {
+            cell = loadCell(cellX, cellY, cellZ, key);
+        }
+        return cell.regions == null ? NOT_CACHED : cell.resolve(flag);
+    }
+
+    /**
+     * Returns the number of indexed regions.
+     *
+     * @return the region count
+     */
+    int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Converts a block coordinate to a chunk coordinate.
+     *
+     * @param coordinate the block coordinate
+     * @return the chunk coordinate
+     */
+    static int blockToChunk(double coordinate) {
+        return ((int) Math.floor(coordinate)) >> 4;
+    }
+
+    /**
+     * Packs chunk coordinates into a single map key.
+     *
+     * @param chunkX the chunk x coordinate
+     * @param chunkZ the chunk z coordinate
+     * @return the chunk key
+     */
+    static long chunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Packs sub-cell coordinates into a single map key (27/10/27 bits).
+     *
+     * @param cellX the cell x coordinate
+     * @param cellY the cell y coordinate
+     * @param cellZ the cell z coordinate
+     * @return the cell key
+     */
+    static long cellKey(int cellX, int cellY, int cellZ) {
+        return ((long) (cellX & 0x7FFFFFF) << 37)
+            | ((long) (cellY & 0x3FF) << 27)
+            | (cellZ & 0x7FFFFFFL);
+    }
+
+    // =========================================================================
+    // Flag Cells
+    // =========================================================================
+
+    private FlagCell loadCell(int cellX, int cellY, int cellZ, long key) {
+        // Resolved under the read lock, see candidates()
+        lock.readLock().lock();
+        try {
+            double[] cellBox = {
+                (double) cellX * CELL_SIZE, (double) cellY * CELL_SIZE, (double) cellZ * CELL_SIZE,
+                (double) cellX * CELL_SIZE + CELL_SIZE,
+                (double) cellY * CELL_SIZE + CELL_SIZE,
+                (double) cellZ * CELL_SIZE + CELL_SIZE
+            };
+
+            List<Region> touching = new ArrayList<>();
+            search(root, cellBox, touching);
+
+            FlagCell cell;
+            List<Region> covering = new ArrayList<>(touching.size() + 1);
+            boolean uniform = true;
+            for (Region region : touching) {
+                Coverage coverage = coverage(region, cellBox);
+                if (coverage == Coverage.FULL) {
+                    covering.add(region);
+                } else if (coverage == Coverage.PARTIAL) {
+                    uniform = false;
+                    break;
+                }
+            }
+
+            if (uniform) {
+                GlobalRegion global = globalRegion;
+                if (global != null) {
+                    covering.add(global);
+                }
+                covering.sort(null);
+                cell = new FlagCell(covering.toArray(NO_REGIONS));
+            } else {
+                cell = NON_UNIFORM;
+            }
+
+            if (flagCells.size() >= MAX_CACHED_CELLS) {
+                flagCells.clear();
+            }
+            flagCells.put(key, cell);
+            return cell;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Classifies how a region covers a cell.
+     *
+     * <p>Convex shapes cover a cell exactly when all eight corners are inside.
+     * Polygons only depend on the block column and the Y range, so each of
+     * the cell's columns is tested directly. Anything that cannot be proven
+     * to cover or miss the cell is reported as partial.
+     */
+    private static Coverage coverage(Region region, double[] cell) {
+        if (region instanceof PolygonRegion polygon) {
+            return polygonCoverage(polygon, cell);
+        }
+        if (region instanceof CuboidRegion || region instanceof SphereRegion || region instanceof CylinderRegion) {
+            if (containsCorners(region, cell)) {
+                return Coverage.FULL;
+            }
+            return isDisjoint(region, cell) ? Coverage.NONE : Coverage.PARTIAL;
+        }
+        return Coverage.PARTIAL;
+    }
+
+    private static boolean containsCorners(Region region, double[] cell) {
+        for (int corner = 0; corner < 8; corner++) {
+            double x = (corner & 1) == 0 ? cell[0] : cell[3];
+            double y = (corner & 2) == 0 ? cell[1] : cell[4];
+            double z = (corner & 4) == 0 ? cell[2] : cell[5];
+            if (!region.contains(x, y, z)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isDisjoint(Region region, double[] cell) {
+        if (region instanceof SphereRegion sphere) {
+            UnifiedLocation center = sphere.getCenter();
+            double dx = distanceToRange(center.x(), cell[0], cell[3]);
+            double dy = distanceToRange(center.y(), cell[1], cell[4]);
+            double dz = distanceToRange(center.z(), cell[2], cell[5]);
+            double radius = sphere.getRadius();
+            return dx * dx + dy * dy + dz * dz > radius * radius;
+        }
+        if (region instanceof CylinderRegion cylinder) {
+            if (cylinder.getMaxY() < cell[1] || cylinder.getMinY() > cell[4]) {
+                return true;
+            }
+            UnifiedLocation center = cylinder.getCenter();
+            double dx = distanceToRange(center.x(), cell[0], cell[3]);
+            double dz = distanceToRange(center.z(), cell[2], cell[5]);
+            double radius = cylinder.getRadius();
+            return dx * dx + dz * dz > radius * radius;
+        }
+        return false;
+    }
+
+    private static Coverage polygonCoverage(PolygonRegion polygon, double[] cell) {
+        // Containment floors X and Z, so the cell's block columns are exhaustive
+        boolean yInside = polygon.getMinY() <= cell[1] && polygon.getMaxY() >= cell[4];
+        boolean yOutside = polygon.getMaxY() < cell[1] || polygon.getMinY() >= cell[4];
+        if (yOutside) {
+            return Coverage.NONE;
+        }
+
+        double y = Math.max(cell[1], polygon.getMinY());
+        int inside = 0;
+        for (int dx = 0; dx < CELL_SIZE; dx++) {
+            for (int dz = 0; dz < CELL_SIZE; dz++) {
+                if (polygon.contains(cell[0] + dx, y, cell[2] + dz)) {
+                    inside++;
+                }
+            }
+        }
+
+        if (inside == 0) {
+            return Coverage.NONE;
+        }
+        return inside == CELL_SIZE * CELL_SIZE && yInside ? Coverage.FULL : Coverage.PARTIAL;
+    }
+
+    private static double distanceToRange(double value, double min, double max) {
+        if (value < min) {
+            return min - value;
+        }
+        return value > max ? value - max : 0;
+    }
+
+    // =========================================================================
+    // Cache Invalidation
+    // =========================================================================
+
+    private void invalidate(double[] box) {
+        invalidateCells(box);
+        if (chunkCandidates.isEmpty()) {
+            return;
+        }
+
+        int minCX = blockToChunk(box[0]);
+        int minCZ = blockToChunk(box[2]);
+        int maxCX = blockToChunk(box[3]);
+        int maxCZ = blockToChunk(box[5]);
+        long columns = ((long) maxCX - minCX + 1) * ((long) maxCZ - minCZ + 1);
+
+        if (columns > chunkCandidates.size()) {
+            // Large region: cheaper to walk the cached columns
+            chunkCandidates.keySet().removeIf(key -> {
+                int cx = (int) (key >> 32);
+                int cz = (int) (long) key;
+                return cx >= minCX && cx <= maxCX && cz >= minCZ && cz <= maxCZ;
+            });
+            return;
+        }
+
+        for (int cx = minCX; cx <= maxCX; cx++) {
+            for (int cz = minCZ; cz <= maxCZ; cz++) {
+                chunkCandidates.remove(chunkKey(cx, cz));
+            }
+        }
+    }
+
+    private void invalidateCells(double[] box) {
+        if (flagCells.isEmpty()) {
+            return;
+        }
+
+        int minCX = ((int) Math.floor(box[0])) >> CELL_SHIFT;
+        int minCY = Math.max(((int) Math.floor(box[1])) >> CELL_SHIFT, MIN_CELL_Y);
+        int minCZ = ((int) Math.floor(box[2])) >> CELL_SHIFT;
+        int maxCX = ((int) Math.floor(box[3])) >> CELL_SHIFT;
+        int maxCY = Math.min(((int) Math.floor(box[4])) >> CELL_SHIFT, MAX_CELL_Y);
+        int maxCZ = ((int) Math.floor(box[5])) >> CELL_SHIFT;
+        if (minCY > maxCY) {
+            return;
+        }
+        long cells = ((long) maxCX - minCX + 1) * ((long) maxCY - minCY + 1) * ((long) maxCZ - minCZ + 1);
+
+        if (cells > flagCells.size()) {
+            flagCells.keySet().removeIf(key -> {
+                int cx = (int) (key >> 37);
+                int cy = (int) ((key << 27) >> 54);
+                int cz = (int) ((key << 37) >> 37);
+                return cx >= minCX && cx <= maxCX
+                    && cy >= minCY && cy <= maxCY
+                    && cz >= minCZ && cz <= maxCZ;
+            });
+            return;
+        }
+
+        for (int cx = minCX; cx <= maxCX; cx++) {
+            for (int cy = minCY; cy <= maxCY; cy++) {
+                for (int cz = minCZ; cz <= maxCZ; cz++) {
+                    flagCells.remove(cellKey(cx, cy, cz));
+                }
+            }
+        }
+    }
+
+    // =========================================================================
+    // R-Tree
+    // =========================================================================
+
+    private void insertEntry(Entry entry) {
+        Node leaf = root;
+        while (!leaf.leaf) {
+            leaf = chooseSubtree(leaf, entry.box);
+        }
+        leaf.add(entry);
+        adjust(leaf);
+    }
+
+    private Node chooseSubtree(Node node, double[] box) {
+        Node best = null;
+        double bestEnlargement = Double.POSITIVE_INFINITY;
+        double bestVolume = Double.POSITIVE_INFINITY;
+
+        for (int i = 0; i < node.size; i++) {
+            Node child = (Node) node.children[i];
+            double volume = volume(child.box);
+            double enlargement = unionVolume(child.box, box) - volume;
+            if (enlargement < bestEnlargement
+                    || (enlargement == bestEnlargement && volume < bestVolume)) {
+                best = child;
+                bestEnlargement = enlargement;
+                bestVolume = volume;
+            }
+        }
+        return best;
+    }
+
+    private void adjust(Node node) {
+        while (node != null) {
+            Node sibling = node.size > MAX_ENTRIES ? split(node) : null;
+            node.recomputeBox();
+
+            Node parent = node.parent;
+            if (sibling != null) {
+                if (parent == null) {
+                    Node newRoot = new Node(false);
+                    newRoot.add(node);
+                    newRoot.add(sibling);
+                    newRoot.recomputeBox();
+                    root = newRoot;
+                    return;
+                }
+                parent.add(sibling);
+            }
+            node = parent;
+        }
+    }
+
+    private Node split(Node node) {
+        Object[] items = Arrays.copyOf(node.children, node.size);
+        int count = items.length;
+
+        // Quadratic seed selection: the pair wasting the most volume
+        int seedA = 0;
+        int seedB = 1;
+        double worst = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < count; i++) {
+            double[] a = boxOf(items[i]);
+            for (int j = i + 1; j < count; j++) {
+                double[] b = boxOf(items[j]);
+                double waste = unionVolume(a, b) - volume(a) - volume(b);
+                if (waste > worst) {
+                    worst = waste;
+                    seedA = i;
+                    seedB = j;
+                }
+            }
+        }
+
+        Node sibling = new Node(node.leaf);
+        node.clear();
+        node.add(items[seedA]);
+        sibling.add(items[seedB]);
+
+        double[] boxA = boxOf(items[seedA]).clone();
+        double[] boxB = boxOf(items[seedB]).clone();
+        boolean[] assigned = new boolean[count];
+        assigned[seedA] = true;
+        assigned[seedB] = true;
+        int remaining = count - 2;
+
+        while (remaining > 0) {
+            if (node.size + remaining == MIN_ENTRIES || sibling.size + remaining == MIN_ENTRIES) {
+                Node target = node.size + remaining == MIN_ENTRIES ? node : sibling;
+                for (int i = 0; i < count; i++) {
+                    if (!assigned[i]) {
+                        target.add(items[i]);
+                    }
+                }
+                break;
+            }
+
+            // Pick the item with the strongest preference for one group
+            int next = -1;
+            double nextA = 0;
+            double nextB = 0;
+            double strongest = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < count; i++) {
+                if (assigned[i]) {
+                    continue;
+                }
+                double[] box = boxOf(items[i]);
+                double growA = unionVolume(boxA, box) - volume(boxA);
+                double growB = unionVolume(boxB, box) - volume(boxB);
+                double preference = Math.abs(growA - growB);
+                if (preference > strongest) {
+                    strongest = preference;
+                    next = i;
+                    nextA = growA;
+                    nextB = growB;
+                }
+            }
+
+            boolean toA;
+            if (nextA != nextB) {
+                toA = nextA < nextB;
+            } else if (volume(boxA) != volume(boxB)) {
+                toA = volume(boxA) < volume(boxB);
+            } else {
+                toA = node.size <= sibling.size;
+            }
+
+            double[] box = boxOf(items[next]);
+            if (toA) {
+                node.add(items[next]);
+                expand(boxA, box);
+            } else {
+                sibling.add(items[next]);
+                expand(boxB, box);
+            }
+            assigned[next] = true;
+            remaining--;
+        }
+
+        sibling.recomputeBox();
+        return sibling;
+    }
+
+    private void removeEntry(Entry entry) {
+        Node leaf = entry.leaf;
+        leaf.remove(entry);
+        entry.leaf = null;
+
+        // Condense: dissolve underfull nodes and reinsert their entries
+        List<Entry> orphans = new ArrayList<>();
+        Node node = leaf;
+        while (node.parent != null) {
+            Node parent = node.parent;
+            if (node.size < MIN_ENTRIES) {
+                parent.remove(node);
+                collectEntries(node, orphans);
+            } else {
+                node.recomputeBox();
+            }
+            node = parent;
+        }
+        root.recomputeBox();
+
+        while (!root.leaf && root.size == 1) {
+            root = (Node) root.children[0];
+            root.parent = null;
+        }
+        if (!root.leaf && root.size == 0) {
+            root = new Node(true);
+        }
+
+        for (Entry orphan : orphans) {
+            insertEntry(orphan);
+        }
+    }
+
+    private static void collectEntries(Node node, List<Entry> out) {
+        for (int i = 0; i < node.size; i++) {
+            Object child = node.children[i];
+            if (child instanceof Entry entry) {
+                out.add(entry);
+            } else {
+                collectEntries((Node) child, out);
+            }
+        }
+    }
+
+    private static void search(Node node, double[] box, Collection<Region> out) {
+        for (int i = 0; i < node.size; i++) {
+            Object child = node.children[i];
+            if (!intersects(boxOf(child), box)) {
+                continue;
+            }
+            if (child instanceof Entry entry) {
+                out.add(entry.region);
+            } else {
+                search((Node) child, box, out);
+            }
+        }
+    }
+
+    // =========================================================================
+    // Geometry
+    // =========================================================================
+
+    private static double[] boundsOf(Region region) {
+        UnifiedLocation min = region.getMinimumPoint();
+        UnifiedLocation max = region.getMaximumPoint();
+        return new double[]{
+            Math.min(min.x(), max.x()), Math.min(min.y(), max.y()), Math.min(min.z(), max.z()),
+            Math.max(min.x(), max.x()), Math.max(min.y(), max.y()), Math.max(min.z(), max.z())
+        };
+    }
+
+    private static double[] boxOf(Object child) {
+        return child instanceof Entry entry ? entry.box : ((Node) child).box;
+    }
+
+    private static boolean intersects(double[] a, double[] b) {
+        return a[0] <= b[3] && a[3] >= b[0]
+            && a[1] <= b[4] && a[4] >= b[1]
+            && a[2] <= b[5] && a[5] >= b[2];
+    }
+
+    private static double volume(double[] box) {
+        // Extents are clamped so huge regions never produce infinite volumes
+        return Math.min(box[3] - box[0], MAX_EXTENT)
+            * Math.min(box[4] - box[1], MAX_EXTENT)
+            * Math.min(box[5] - box[2], MAX_EXTENT);
+    }
+
+    private static double unionVolume(double[] a, double[] b) {
+        return Math.min(Math.max(a[3], b[3]) - Math.min(a[0], b[0]), MAX_EXTENT)
+            * Math.min(Math.max(a[4], b[4]) - Math.min(a[1], b[1]), MAX_EXTENT)
+            * Math.min(Math.max(a[5], b[5]) - Math.min(a[2], b[2]), MAX_EXTENT);
+    }
+
+    private static void expand(double[] target, double[] box) {
+        for (int i = 0; i < 3; i++) {
+            target[i] = Math.min(target[i], box[i]);
+            target[i + 3] = Math.max(target[i + 3], box[i + 3]);
+        }
+    }
+
+    /**
+     * How a region overlaps a sub-cell.
+     */
+    private enum Coverage {
+        NONE,
+        PARTIAL,
+        FULL
+    }
+
+    /**
+     * A sub-cell covered by a single region set, with memoized flag values.
+     */
+    private static final class FlagCell {
+        final Region[] regions;
+        final Map<RegionFlag<?>, Object> resolved = new ConcurrentHashMap<>();
+
+        FlagCell(Region[] regions) {
+            this.regions = regions;
+        }
+
+        Object resolve(RegionFlag<?> flag) {
+            Object value = resolved.get(flag);
+            if (value == null) {
+                value = UNSET;
+                for (Region region : regions) {
+                    Optional<?> regionValue = region.getFlag(flag);
+                    if (regionValue.isPresent()) {
+                        value = regionValue.get();
+                        break;
+                    }
+                }
+                resolved.put(flag, value);
+            }
+            return value == UNSET ? null : value;
+        }
+    }
+
+    /**
+     * An indexed region with a snapshot of its bounds at insertion time.
+     */
+    private static final class Entry {
+        final Region region;
+        final double[] box;
+        Node leaf;
+
+        Entry(Region region, double[] box) {
+            this.region = region;
+            this.box = box;
+        }
+    }
+
+    /**
+     * An R-tree node holding either entries (leaf) or child nodes.
+     */
+    private static final class Node {
+        final boolean leaf;
+        final double[] box = new double[6];
+        final Object[] children = new Object[MAX_ENTRIES + 1];
+        int size;
+        Node parent;
+
+        Node(boolean leaf) {
+            this.leaf = leaf;
+            recomputeBox();
+        }
+
+        void add(Object child) {
+            children[size++] = child;
+            if (child instanceof Entry entry) {
+                entry.leaf = this;
+            } else {
+                ((Node) child).parent = this;
+            }
+        }
+
+        void remove(Object child) {
+            for (int i = 0; i < size; i++) {
+                if (children[i] == child) {
+                    children[i] = children[--size];
+                    children[size] = null;
+                    return;
+                }
+            }
+        }
+
+        void clear() {
+            Arrays.fill(children, null);
+            size = 0;
+        }
+
+        void recomputeBox() {
+            box[0] = box[1] = box[2] = Double.POSITIVE_INFINITY;
+            box[3] = box[4] = box[5] = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < size; i++) {
+                expand(box, boxOf(children[i]));
+            }
+        }
+    }
+}
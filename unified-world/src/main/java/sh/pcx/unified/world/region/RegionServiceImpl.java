@@ -4,17 +4,19 @@
  */
 package sh.pcx.unified.world.region;
 
+import sh.pcx.unified.event.EventBus;
 import sh.pcx.unified.player.UnifiedPlayer;
 import sh.pcx.unified.region.*;
 import sh.pcx.unified.world.UnifiedLocation;
 import sh.pcx.unified.world.UnifiedWorld;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
 
 /**
  * Default implementation of {@link RegionService}.
@@ -22,9 +24,9 @@ import java.util.stream.Collectors;
  * <p>This implementation provides:
  * <ul>
  *   <li>Thread-safe region management</li>
- *   <li>Efficient spatial queries using world-based indexing</li>
- *   <li>Priority-based flag resolution</li>
- *   <li>Player tracking for entry/exit events</li>
+ *   <li>Spatial queries through a per-world R-tree with a chunk pre-filter</li>
+ *   <li>Priority-based flag resolution with a per-cell result cache</li>
+ *   <li>Incremental player tracking with entry/exit events</li>
  * </ul>
  *
  * @since 1.0.0
@@ -32,6 +34,8 @@ import java.util.stream.Collectors;
  */
 public class RegionServiceImpl implements RegionService {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(RegionServiceImpl.class);
+
     // Regions indexed by world and name
     private final Map<String, Map<String, Region>> regionsByWorld = new ConcurrentHashMap<>();
 
@@ -41,8 +45,32 @@ public class RegionServiceImpl implements RegionService {
     // Global regions per world
     private final Map<String, GlobalRegion> globalRegions = new ConcurrentHashMap<>();
 
+    // Spatial index per world (global regions are not indexed)
+    private final Map<String, RegionIndex> spatialIndexes = new ConcurrentHashMap<>();
+
+    // Child region ids by parent id, so flag changes only reach the subtree
+    private final Map<UUID, Set<UUID>> childrenByParent = new ConcurrentHashMap<>();
+
+    // Parent id each child is currently filed under in childrenByParent
+    private final Map<UUID, UUID> parentLinks = new ConcurrentHashMap<>();
+
     // Player region tracking
-    private final Map<UUID, Set<Region>> playerRegions = new ConcurrentHashMap<>();
+    private final PlayerRegionTracker playerTracker = new PlayerRegionTracker(
+        spatialIndexes::get, globalRegions::get, region -> regionsById.containsKey(region.getId())
+    );
+
+    // Keeps the spatial index and flag cache in sync with region changes
+    private final AbstractRegion.ChangeListener changeListener = new AbstractRegion.ChangeListener() {
+        @Override
+        public void boundsChanged(@NotNull AbstractRegion region) {
+            onBoundsChanged(region);
+        }
+
+        @Override
+        public void flagsChanged(@NotNull AbstractRegion region) {
+            invalidateFlags(region);
+        }
+    };
 
     // Bypass permissions per flag
     private final Map<RegionFlag<?>, String> bypassPermissions = new ConcurrentHashMap<>();
@@ -159,15 +187,25 @@ public class RegionServiceImpl implements RegionService {
             return Collections.emptySet();
         }
 
-        Map<String, Region> worldRegions = regionsByWorld.get(world.getName());
-        if (worldRegions == null) {
+        String worldName = world.getName();
+        if (!regionsByWorld.containsKey(worldName)) {
             return Collections.emptySet();
         }
 
-        return worldRegions.values().stream()
-            .filter(region -> region.contains(location))
-            .sorted() // Sort by priority (descending)
-            .collect(Collectors.toCollection(LinkedHashSet::new));
+        List<Region> matches = new ArrayList<>(4);
+        RegionIndex index = spatialIndexes.get(worldName);
+        if (index != null) {
+            index.regionsAt(location.x(), location.y(), location.z(), matches);
+        }
+
+        GlobalRegion global = globalRegions.get(worldName);
+        if (global != null) {
+            matches.add(global);
+        }
+
+        // Sort by priority (descending)
+        matches.sort(null);
+        return new LinkedHashSet<>(matches);
     }
 
     @Override
@@ -225,6 +263,7 @@ public class RegionServiceImpl implements RegionService {
     // =========================================================================
 
     @Override
+    @SuppressWarnings("unchecked")
     public <T> T queryFlag(
             @NotNull UnifiedLocation location,
             @NotNull RegionFlag<T> flag,
@@ -234,6 +273,16 @@ public class RegionServiceImpl implements RegionService {
         Objects.requireNonNull(flag, "flag cannot be null");
         Objects.requireNonNull(defaultValue, "defaultValue cannot be null");
 
+        // Common case: the cell around the location is covered by one region set
+        UnifiedWorld world = location.world();
+        RegionIndex index = world == null ? null : spatialIndexes.get(world.getName());
+        if (index != null) {
+            Object cached = index.resolveFlag(location.x(), location.y(), location.z(), flag);
+            if (cached != RegionIndex.NOT_CACHED) {
+                return cached == null ? defaultValue : (T) cached;
+            }
+        }
+
         Set<Region> regions = getRegions(location);
 
         // Check regions in priority order
@@ -291,6 +340,10 @@ public class RegionServiceImpl implements RegionService {
         }
 
         regionsById.put(region.getId(), region);
+        if (region instanceof GlobalRegion global) {
+            globalRegions.putIfAbsent(worldName, global);
+        }
+        indexRegion(region);
     }
 
     private void registerRegionInternal(@NotNull Region region) {
@@ -300,10 +353,143 @@ public class RegionServiceImpl implements RegionService {
         Map<String, Region> worldRegions = regionsByWorld.computeIfAbsent(
             worldName, k -> new ConcurrentHashMap<>()
         );
-        worldRegions.put(regionName, region);
+        Region previous = worldRegions.put(regionName, region);
+        if (previous != null && !previous.getId().equals(region.getId())) {
+            unindexRegion(previous);
+        }
         regionsById.put(region.getId(), region);
+        indexRegion(region);
     }
 
+    private void indexRegion(@NotNull Region region) {
+        RegionIndex index = spatialIndexes.computeIfAbsent(region.getWorld().getName(), k -> new RegionIndex());
+        if (region instanceof AbstractRegion abstractRegion) {
+            abstractRegion.setChangeListener(changeListener);
+        }
+        linkParent(region);
+
+        if (region instanceof GlobalRegion global) {
+            index.setGlobalRegion(global);
+        } else {
+            index.insert(region);
+        }
+        playerTracker.regionsChanged();
+    }
+
+    private void unindexRegion(@NotNull Region region) {
+        if (region instanceof AbstractRegion abstractRegion) {
+            abstractRegion.setChangeListener(null);
+        }
+        unlinkParent(region);
+        playerTracker.regionRemoved(region);
+
+        RegionIndex index = spatialIndexes.get(region.getWorld().getName());
+        if (region instanceof GlobalRegion global) {
+            if (globalRegions.remove(region.getWorld().getName(), global) && index != null) {
+                index.setGlobalRegion(null);
+            }
+            return;
+        }
+        if (index != null) {
+            index.remove(region);
+        }
+    }
+
+    private void onBoundsChanged(@NotNull AbstractRegion region) {
+        RegionIndex index = spatialIndexes.get(region.getWorld().getName());
+        if (index != null) {
+            index.update(region);
+        }
+        playerTracker.regionsChanged();
+    }
+
+    /**
+     * Discards cached flag resolution for a region and every region inheriting from it.
+     *
+     * <p>Regions derived from {@link AbstractRegion} report flag, priority and
+     * parent changes automatically. This method must be called after such
+     * changes on other region implementations, or from a
+     * {@link sh.pcx.unified.region.event.RegionFlagChangeEvent} listener.
+     *
+     * @param region the region whose flag resolution changed
+     */
+    public void invalidateFlags(@NotNull Region region) {
+        Objects.requireNonNull(region, "region cannot be null");
+
+        // A parent change is reported as a flag change, so refile the region first
+        if (regionsById.containsKey(region.getId())) {
+            linkParent(region);
+        }
+
+        RegionIndex index = spatialIndexes.get(region.getWorld().getName());
+        if (index != null) {
+            index.invalidateFlags(region);
+        }
+
+        // Children inherit unset flags from their parents
+        Deque<UUID> pending = new ArrayDeque<>();
+        Set<UUID> visited = new HashSet<>();
+        pending.add(region.getId());
+        visited.add(region.getId());
+        while (!pending.isEmpty()) {
+            Set<UUID> children = childrenByParent.get(pending.poll());
+            if (children == null) {
+                continue;
+            }
+            for (UUID childId : children) {
+                if (!visited.add(childId)) {
+                    continue;
+                }
+                Region child = regionsById.get(childId);
+                if (child != null) {
+                    RegionIndex childIndex = spatialIndexes.get(child.getWorld().getName());
+                    if (childIndex != null) {
+                        childIndex.invalidateFlags(child);
+                    }
+                }
+                pending.add(childId);
+            }
+        }
+    }
+
+    private void linkParent(@NotNull Region region) {
+        UUID childId = region.getId();
+        UUID parentId = region.getParent().map(Region::getId).orElse(null);
+        UUID previous = parentId == null ? parentLinks.remove(childId) : parentLinks.put(childId, parentId);
+        if (Objects.equals(previous, parentId)) {
+            return;
+        }
+        if (previous != null) {
+            removeChild(previous, childId);
+        }
+        if (parentId != null) {
+            childrenByParent.compute(parentId, (k, children) -> {
+                Set<UUID> result = children == null ? ConcurrentHashMap.newKeySet() : children;
+                result.add(childId);
+                return result;
+            });
+        }
+    }
+
+    private void unlinkParent(@NotNull Region region) {
+        UUID previous = parentLinks.remove(region.getId());
+        if (previous != null) {
+            removeChild(previous, region.getId());
+        }
+    }
+
+    private void removeChild(@NotNull UUID parentId, @NotNull UUID childId) {
+        childrenByParent.computeIfPresent(parentId, (k, children) -> {
+            children.remove(childId);
+            return children.isEmpty() ? null : children;
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Persistent regions are also deleted from storage asynchronously.
+     */
     @Override
     public boolean unregisterRegion(@NotNull Region region) {
         Objects.requireNonNull(region, "region cannot be null");
@@ -315,8 +501,18 @@ public class RegionServiceImpl implements RegionService {
         if (worldRegions != null) {
             worldRegions.remove(regionName);
         }
+        unindexRegion(region);
 
-        return regionsById.remove(region.getId()) != null;
+        if (regionsById.remove(region.getId()) == null) {
+            return false;
+        }
+        if (!region.isTransient()) {
+            storage.delete(region).exceptionally(e -> {
+                LOGGER.warn("Failed to delete region {} from storage", region.getName(), e);
+                return false;
+            });
+        }
+        return true;
     }
 
     @Override
@@ -331,6 +527,11 @@ public class RegionServiceImpl implements RegionService {
         return region.map(this::unregisterRegion).orElse(false);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The stored regions of the world are also deleted asynchronously.
+     */
     @Override
     public int clearRegions(@NotNull UnifiedWorld world) {
         Objects.requireNonNull(world, "world cannot be null");
@@ -343,7 +544,13 @@ public class RegionServiceImpl implements RegionService {
         int count = worldRegions.size();
         for (Region region : worldRegions.values()) {
             regionsById.remove(region.getId());
+            if (region instanceof AbstractRegion abstractRegion) {
+                abstractRegion.setChangeListener(null);
+            }
+            unlinkParent(region);
+            playerTracker.regionRemoved(region);
         }
+        spatialIndexes.remove(world.getName());
 
         // Also remove global region
         GlobalRegion global = globalRegions.remove(world.getName());
@@ -352,6 +559,10 @@ public class RegionServiceImpl implements RegionService {
             count--;
         }
 
+        storage.deleteAll(world).exceptionally(e -> {
+            LOGGER.warn("Failed to delete regions of world {} from storage", world.getName(), e);
+            return 0;
+        });
         return count;
     }
 
@@ -382,9 +593,18 @@ public class RegionServiceImpl implements RegionService {
     @NotNull
     public CompletableFuture<Void> reload() {
         // Clear all regions
+        for (Region region : regionsById.values()) {
+            if (region instanceof AbstractRegion abstractRegion) {
+                abstractRegion.setChangeListener(null);
+            }
+        }
         regionsByWorld.clear();
         regionsById.clear();
         globalRegions.clear();
+        spatialIndexes.clear();
+        childrenByParent.clear();
+        parentLinks.clear();
+        playerTracker.clear();
 
         // Load from storage
         return storage.loadAll().thenAccept(regions -> {
@@ -454,40 +674,78 @@ public class RegionServiceImpl implements RegionService {
     @NotNull
     public Set<Region> getPlayerRegions(@NotNull UnifiedPlayer player) {
         Objects.requireNonNull(player, "player cannot be null");
-
-        Set<Region> cached = playerRegions.get(player.getUniqueId());
-        if (cached != null) {
-            return Collections.unmodifiableSet(new HashSet<>(cached));
-        }
-
-        // Calculate current regions
-        Set<Region> current = getRegions(player.getLocation());
-        playerRegions.put(player.getUniqueId(), ConcurrentHashMap.newKeySet());
-        playerRegions.get(player.getUniqueId()).addAll(current);
-        return Collections.unmodifiableSet(current);
+        return playerTracker.current(player);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>While players are tracked through {@link #updatePlayerRegions}, the
+     * occupants recorded at their last update are used for tracked players;
+     * only players that are not tracked are tested against the region.
+     */
     @Override
     @NotNull
     public Collection<UnifiedPlayer> getPlayersInRegion(@NotNull Region region) {
         Objects.requireNonNull(region, "region cannot be null");
 
-        return region.getWorld().getPlayers().stream()
-            .filter(player -> region.contains(player.getLocation()))
-            .toList();
+        if (!playerTracker.isTracking()) {
+            return region.getWorld().getPlayers().stream()
+                .filter(player -> region.contains(player.getLocation()))
+                .toList();
+        }
+
+        List<UnifiedPlayer> players = new ArrayList<>(playerTracker.occupants(region));
+        for (UnifiedPlayer player : region.getWorld().getPlayers()) {
+            if (isUntrackedOccupant(region, player)) {
+                players.add(player);
+            }
+        }
+        return Collections.unmodifiableList(players);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>While players are tracked through {@link #updatePlayerRegions}, the
+     * recorded occupant count is used for tracked players; only players that
+     * are not tracked are tested against the region.
+     */
     @Override
     public int getPlayerCount(@NotNull Region region) {
-        return (int) region.getWorld().getPlayers().stream()
-            .filter(player -> region.contains(player.getLocation()))
-            .count();
+        Objects.requireNonNull(region, "region cannot be null");
+
+        if (!playerTracker.isTracking()) {
+            return (int) region.getWorld().getPlayers().stream()
+                .filter(player -> region.contains(player.getLocation()))
+                .count();
+        }
+
+        int count = playerTracker.occupantCount(region);
+        for (UnifiedPlayer player : region.getWorld().getPlayers()) {
+            if (isUntrackedOccupant(region, player)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private boolean isUntrackedOccupant(@NotNull Region region, @NotNull UnifiedPlayer player) {
+        return !playerTracker.isTracked(player.getUniqueId()) && region.contains(player.getLocation());
     }
 
     /**
      * Updates player region tracking.
      *
-     * <p>Should be called on player movement to detect entry/exit events.
+     * <p>Should be called on player movement to detect entry/exit events. The
+     * call returns immediately while the player stays within the same block
+     * and no region changed; otherwise only the player's current regions and
+     * the candidates of the new chunk are tested.
+     *
+     * <p>If an event bus is set, a {@link sh.pcx.unified.region.event.RegionEnterEvent}
+     * or {@link sh.pcx.unified.region.event.RegionExitEvent} is fired for each
+     * transition (not for a player's first update). Cancelled transitions are
+     * not applied and are retried on the next update.
      *
      * @param player the player
      * @return the regions the player is now in
@@ -495,17 +753,7 @@ public class RegionServiceImpl implements RegionService {
     @NotNull
     public Set<Region> updatePlayerRegions(@NotNull UnifiedPlayer player) {
         Objects.requireNonNull(player, "player cannot be null");
-
-        Set<Region> current = getRegions(player.getLocation());
-        Set<Region> previous = playerRegions.put(player.getUniqueId(),
-            ConcurrentHashMap.newKeySet());
-
-        if (previous == null) {
-            previous = Collections.emptySet();
-        }
-
-        playerRegions.get(player.getUniqueId()).addAll(current);
-        return current;
+        return playerTracker.update(player);
     }
 
     /**
@@ -517,7 +765,26 @@ public class RegionServiceImpl implements RegionService {
      */
     public void clearPlayerRegions(@NotNull UUID player) {
         Objects.requireNonNull(player, "player cannot be null");
-        playerRegions.remove(player);
+        playerTracker.remove(player);
+    }
+
+    /**
+     * Sets the event bus used to fire region enter and exit events.
+     *
+     * @param eventBus the event bus, or null to disable events
+     */
+    public void setEventBus(@Nullable EventBus eventBus) {
+        playerTracker.setEventBus(eventBus);
+    }
+
+    /**
+     * Returns the event bus used to fire region enter and exit events.
+     *
+     * @return the event bus, or null if events are disabled
+     */
+    @Nullable
+    public EventBus getEventBus() {
+        return playerTracker.getEventBus();
     }
 
     // =========================================================================
@@ -79,6 +79,7 @@ public class SphereRegionImpl extends AbstractRegion implements SphereRegion {
         }
         this.radius = radius;
         this.radiusSquared = radius * radius;
+        boundsChanged();
     }
 
     @Override
@@ -93,6 +94,7 @@ public class SphereRegionImpl extends AbstractRegion implements SphereRegion {
         this.centerX = center.x();
         this.centerY = center.y();
         this.centerZ = center.z();
+        boundsChanged();
     }
 
     @Override